@@ -0,0 +1,94 @@
+package com.csse3200.game.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prints the change in score of each benchmark between two JMH JSON result files. Changes smaller
+ * than the combined error of the two runs are marked as noise.
+ *
+ * <pre>
+ * BenchmarkComparison &lt;baseline.json&gt; &lt;current.json&gt;
+ * </pre>
+ */
+public class BenchmarkComparison {
+  private BenchmarkComparison() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json>");
+      System.exit(1);
+    }
+    Map<String, Score> baseline = read(Path.of(args[0]));
+    Map<String, Score> current = read(Path.of(args[1]));
+
+    System.out.printf(Locale.ROOT, "%-70s %12s %12s %9s %s%n",
+        "Benchmark", "Baseline", "Current", "Change", "Unit");
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      Score now = entry.getValue();
+      Score before = baseline.get(entry.getKey());
+      if (before == null) {
+        System.out.printf(Locale.ROOT, "%-70s %12s %12.3f %9s %s%n",
+            entry.getKey(), "-", now.score, "new", now.unit);
+        continue;
+      }
+      double change = (now.score - before.score) / before.score * 100.0;
+      boolean noise = Math.abs(now.score - before.score) <= now.error + before.error;
+      System.out.printf(Locale.ROOT, "%-70s %12.3f %12.3f %+8.1f%% %s%s%n",
+          entry.getKey(), before.score, now.score, change, now.unit, noise ? " (noise)" : "");
+    }
+    for (String name : baseline.keySet()) {
+      if (!current.containsKey(name)) {
+        System.out.printf(Locale.ROOT, "%-70s %12s%n", name, "removed");
+      }
+    }
+  }
+
+  private static Map<String, Score> read(Path path) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    try (Reader reader = Files.newBufferedReader(path)) {
+      JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+      for (JsonElement element : results) {
+        JsonObject result = element.getAsJsonObject();
+        JsonObject metric = result.getAsJsonObject("primaryMetric");
+        double error = metric.get("scoreError").getAsDouble();
+        scores.put(name(result), new Score(
+            metric.get("score").getAsDouble(),
+            Double.isNaN(error) ? 0.0 : error,
+            metric.get("scoreUnit").getAsString()));
+      }
+    }
+    return scores;
+  }
+
+  /** Benchmark method name without the package, followed by its parameters. */
+  private static String name(JsonObject result) {
+    String benchmark = result.get("benchmark").getAsString();
+    String[] parts = benchmark.split("\\.");
+    StringBuilder name = new StringBuilder();
+    name.append(parts[parts.length - 2]).append('.').append(parts[parts.length - 1]);
+    if (result.has("params")) {
+      Map<String, String> params = new TreeMap<>();
+      for (Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+        params.put(param.getKey(), param.getValue().getAsString());
+      }
+      name.append(params);
+    }
+    return name.toString();
+  }
+
+  private record Score(double score, double error, String unit) {}
+}
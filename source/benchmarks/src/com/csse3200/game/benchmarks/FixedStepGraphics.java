@@ -0,0 +1,46 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+
+/**
+ * Headless graphics which report a fixed frame time and a nominal screen size. Some components
+ * read the frame time straight from {@code Gdx.graphics}, so this keeps them in step with a
+ * {@link com.csse3200.game.services.FixedStepGameTime}.
+ */
+public class FixedStepGraphics extends MockGraphics {
+  private static final int WIDTH = 1280;
+  private static final int HEIGHT = 720;
+  private final float step;
+
+  /**
+   * @param step seconds reported for every frame
+   */
+  public FixedStepGraphics(float step) {
+    this.step = step;
+  }
+
+  @Override
+  public float getDeltaTime() {
+    return step;
+  }
+
+  @Override
+  public int getWidth() {
+    return WIDTH;
+  }
+
+  @Override
+  public int getHeight() {
+    return HEIGHT;
+  }
+
+  @Override
+  public int getBackBufferWidth() {
+    return WIDTH;
+  }
+
+  @Override
+  public int getBackBufferHeight() {
+    return HEIGHT;
+  }
+}
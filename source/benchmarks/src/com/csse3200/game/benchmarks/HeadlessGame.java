@@ -0,0 +1,31 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+/**
+ * Starts libGDX on the headless backend so benchmarks can use file handles and native libraries
+ * without a window. Nothing is rendered, so no GL context is available.
+ */
+public final class HeadlessGame {
+  private static HeadlessApplication application;
+
+  private HeadlessGame() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /** Start the headless application if it has not been started in this JVM. */
+  public static synchronized void start() {
+    if (application == null) {
+      application = new HeadlessApplication(new ApplicationAdapter() {});
+    }
+  }
+
+  /**
+   * @return true if game assets can be loaded, i.e. the benchmark is running from core/assets
+   */
+  public static boolean hasAssets() {
+    return Gdx.files.internal("configs").exists();
+  }
+}
@@ -0,0 +1,118 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.csse3200.game.simulation.LevelSimulation;
+import com.csse3200.game.simulation.SimulationReport;
+
+/**
+ * Runs a level on the headless backend for a number of fixed-step ticks and prints throughput,
+ * allocation rate and entity counts. Must be run from core/assets, which the soak task does.
+ *
+ * <pre>
+ * LevelSoakTest [level] [ticks] [minimum ticks per second]
+ * </pre>
+ *
+ * <p>Ticks are run in batches, one batch per headless frame, so runnables posted to the
+ * application still run during the soak. A progress line is printed after each batch. If a
+ * minimum throughput is given and the whole run is slower, the process exits with status 1.
+ */
+public class LevelSoakTest extends ApplicationAdapter {
+  private static final String DEFAULT_LEVEL = "level-two";
+  private static final long DEFAULT_TICKS = 36_000L;
+  private static final long BATCH_TICKS = 600L;
+
+  private final String level;
+  private final long ticks;
+  private final double minTicksPerSecond;
+  private LevelSimulation simulation;
+  private long ticksRun = 0L;
+  private long elapsedNanos = 0L;
+  private long allocatedBytes = 0L;
+  private int startEntities;
+  private SimulationReport lastBatch;
+  private boolean failed = false;
+
+  LevelSoakTest(String level, long ticks, double minTicksPerSecond) {
+    this.level = level;
+    this.ticks = ticks;
+    this.minTicksPerSecond = minTicksPerSecond;
+  }
+
+  public static void main(String[] args) {
+    String level = args.length > 0 ? args[0] : DEFAULT_LEVEL;
+    long ticks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TICKS;
+    double minTicksPerSecond = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+
+    LevelSoakTest soakTest = new LevelSoakTest(level, ticks, minTicksPerSecond);
+    // The application loop runs on its own thread, so make sure a crash fails the run
+    Thread.setDefaultUncaughtExceptionHandler((thread, e) -> {
+      e.printStackTrace();
+      System.exit(1);
+    });
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // Zero runs frames back to back; a negative value would not run any frames
+    config.updatesPerSecond = 0;
+    new HeadlessApplication(soakTest, config);
+  }
+
+  @Override
+  public void create() {
+    Gdx.graphics = new FixedStepGraphics(LevelSimulation.DEFAULT_STEP);
+    Gdx.gl20 = NoOpGL20.create();
+    Gdx.gl = Gdx.gl20;
+
+    simulation = new LevelSimulation(level);
+    simulation.create();
+  }
+
+  @Override
+  public void render() {
+    if (ticksRun >= ticks) {
+      return;
+    }
+    SimulationReport batch = simulation.run(Math.min(BATCH_TICKS, ticks - ticksRun));
+    if (ticksRun == 0L) {
+      startEntities = batch.startEntities();
+    }
+    ticksRun += batch.ticks();
+    elapsedNanos += batch.elapsedNanos();
+    allocatedBytes = batch.allocatedBytes() < 0L || allocatedBytes < 0L
+        ? -1L : allocatedBytes + batch.allocatedBytes();
+    lastBatch = batch;
+    System.out.println(batch);
+
+    if (ticksRun >= ticks) {
+      finish();
+    }
+  }
+
+  private void finish() {
+    SimulationReport total = new SimulationReport(
+        level,
+        ticksRun,
+        elapsedNanos,
+        allocatedBytes,
+        startEntities,
+        lastBatch.endEntities(),
+        lastBatch.bodies());
+    System.out.println("Total " + total);
+    if (minTicksPerSecond > 0.0 && total.getTicksPerSecond() < minTicksPerSecond) {
+      System.err.printf("Throughput below minimum of %.1f ticks/s%n", minTicksPerSecond);
+      failed = true;
+    }
+    Gdx.app.exit();
+  }
+
+  @Override
+  public void dispose() {
+    if (simulation != null) {
+      simulation.dispose();
+    }
+    if (failed) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link GL20} which does nothing, so textures, shaders and frame buffers can be created on the
+ * headless backend. Object creation returns new non-zero names and status queries report success,
+ * so that shader compilation and frame buffer checks pass; every other call returns zero, false or
+ * an empty string.
+ */
+public final class NoOpGL20 {
+  private static final int MAX_TEXTURE_SIZE = 4096;
+
+  private NoOpGL20() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  public static GL20 create() {
+    AtomicInteger names = new AtomicInteger();
+    return (GL20) Proxy.newProxyInstance(
+        GL20.class.getClassLoader(),
+        new Class<?>[] {GL20.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "glCheckFramebufferStatus" -> GL20.GL_FRAMEBUFFER_COMPLETE;
+          case "glCreateShader", "glCreateProgram", "glGenTexture", "glGenBuffer",
+              "glGenFramebuffer", "glGenRenderbuffer" -> names.incrementAndGet();
+          case "glGenTextures", "glGenBuffers", "glGenFramebuffers", "glGenRenderbuffers" -> {
+            IntBuffer buffer = (IntBuffer) args[1];
+            for (int i = 0; i < (int) args[0]; i++) {
+              buffer.put(buffer.position() + i, names.incrementAndGet());
+            }
+            yield null;
+          }
+          case "glGetShaderiv", "glGetProgramiv" -> {
+            int pname = (int) args[1];
+            if (pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS) {
+              put((IntBuffer) args[2], 1);
+            }
+            yield null;
+          }
+          case "glGetIntegerv" -> {
+            if ((int) args[0] == GL20.GL_MAX_TEXTURE_SIZE) {
+              put((IntBuffer) args[1], MAX_TEXTURE_SIZE);
+            }
+            yield null;
+          }
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          case "toString" -> "NoOpGL20";
+          default -> defaultValue(method.getReturnType());
+        });
+  }
+
+  private static void put(IntBuffer buffer, int value) {
+    buffer.put(buffer.position(), value);
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (type == int.class) {
+      return 0;
+    } else if (type == boolean.class) {
+      return false;
+    } else if (type == float.class) {
+      return 0f;
+    } else if (type == String.class) {
+      return "";
+    }
+    return null;
+  }
+}
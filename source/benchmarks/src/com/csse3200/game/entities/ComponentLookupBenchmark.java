@@ -0,0 +1,94 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of looking up every component type on a thousand entities, comparing
+ * {@link Entity#getComponent(Class)} against the previous lookup path, which resolved the type
+ * through a static ObjectMap and then read the component from an IntMap. Each entity has a
+ * different subset of the types, like real entities, so lookups both hit and miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComponentLookupBenchmark {
+  private static final int ENTITIES = 1_000;
+
+  private static final List<Class<? extends Component>> TYPES = List.of(
+      C0.class, C1.class, C2.class, C3.class, C4.class, C5.class, C6.class, C7.class);
+
+  private Entity[] entities;
+  private List<IntMap<Component>> legacyMaps;
+  private ObjectMap<Class<? extends Component>, ComponentType> legacyTypes;
+
+  @Setup(Level.Trial)
+  public void setUp() throws ReflectiveOperationException {
+    entities = new Entity[ENTITIES];
+    legacyMaps = new ArrayList<>(ENTITIES);
+    for (int i = 0; i < ENTITIES; i++) {
+      entities[i] = new Entity();
+      IntMap<Component> legacyMap = new IntMap<>(4);
+      legacyMaps.add(legacyMap);
+      for (int t = 0; t < TYPES.size(); t++) {
+        Class<? extends Component> type = TYPES.get(t);
+        if ((i + t) % 3 != 0) {
+          Component component = type.getDeclaredConstructor().newInstance();
+          entities[i].addComponent(component);
+          legacyMap.put(ComponentType.getFrom(type).getId(), component);
+        }
+      }
+    }
+
+    legacyTypes = new ObjectMap<>();
+    for (Class<? extends Component> type : TYPES) {
+      legacyTypes.put(type, ComponentType.getFrom(type));
+    }
+  }
+
+  @Benchmark
+  public int objectMapAndIntMap() {
+    int hits = 0;
+    for (int i = 0; i < ENTITIES; i++) {
+      IntMap<Component> map = legacyMaps.get(i);
+      for (int t = 0; t < TYPES.size(); t++) {
+        if (map.get(legacyTypes.get(TYPES.get(t)).getId()) != null) {
+          hits++;
+        }
+      }
+    }
+    return hits;
+  }
+
+  @Benchmark
+  public int getComponent() {
+    int hits = 0;
+    for (Entity entity : entities) {
+      for (int t = 0; t < TYPES.size(); t++) {
+        if (entity.getComponent(TYPES.get(t)) != null) {
+          hits++;
+        }
+      }
+    }
+    return hits;
+  }
+
+  public static class C0 extends Component {}
+  public static class C1 extends Component {}
+  public static class C2 extends Component {}
+  public static class C3 extends Component {}
+  public static class C4 extends Component {}
+  public static class C5 extends Component {}
+  public static class C6 extends Component {}
+  public static class C7 extends Component {}
+}
@@ -0,0 +1,100 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.benchmarks.HeadlessGame;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.FrameProfiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one frame of entity updates for different numbers of entities. Each entity has a
+ * component which moves it, one which triggers an event, and one which does nothing, so the
+ * benchmark covers component dispatch, position access and event delivery.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityUpdateBenchmark {
+  private static final EventKey TICK = EventKey.of("benchmarkTick");
+
+  @Param({"100", "1000", "10000"})
+  public int entityCount;
+
+  private EntityService entityService;
+  private Entity[] entities;
+  private int received = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    entities = new Entity[entityCount];
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity()
+          .addComponent(new MoveComponent())
+          .addComponent(new TickComponent())
+          .addComponent(new IdleComponent());
+      entity.setPosition(i, 0f);
+      entity.getEvents().addListener(TICK, (Integer tick) -> received++);
+      entityService.register(entity);
+      entities[i] = entity;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (received == 0) {
+      throw new IllegalStateException("No tick events were delivered");
+    }
+    FrameProfiler.setEnabled(false);
+    entityService.dispose();
+    ServiceLocator.clear();
+  }
+
+  @Benchmark
+  public void entityServiceUpdate() {
+    entityService.update();
+  }
+
+  @Benchmark
+  public void entityUpdate() {
+    for (Entity entity : entities) {
+      entity.update();
+    }
+  }
+
+  @Benchmark
+  public void entityServiceUpdateProfiled() {
+    FrameProfiler.setEnabled(true);
+    FrameProfiler.beginFrame();
+    entityService.update();
+    FrameProfiler.endFrame();
+  }
+
+  static class MoveComponent extends Component {
+    @Override
+    public void update() {
+      Vector2 position = entity.getPosition();
+      entity.setPosition(position.x + 0.01f, position.y);
+    }
+  }
+
+  static class TickComponent extends Component {
+    private int ticks = 0;
+
+    @Override
+    public void update() {
+      entity.getEvents().trigger(TICK, ticks++);
+    }
+  }
+
+  static class IdleComponent extends Component {}
+}
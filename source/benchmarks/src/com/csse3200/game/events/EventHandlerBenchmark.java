@@ -0,0 +1,70 @@
+package com.csse3200.game.events;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of triggering events by name and by interned {@link EventKey}, with and without listeners.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventHandlerBenchmark {
+  private static final String EVENT = "benchmarkEvent";
+  private static final EventKey EVENT_KEY = EventKey.of(EVENT);
+  private static final EventKey ONE_ARG_KEY = EventKey.of("benchmarkOneArg");
+  private static final EventKey TWO_ARG_KEY = EventKey.of("benchmarkTwoArgs");
+  private static final EventKey UNHEARD_KEY = EventKey.of("benchmarkUnheard");
+
+  @Param({"1", "4"})
+  public int listenerCount;
+
+  private EventHandler events;
+  private int received = 0;
+  private final Integer arg0 = 7;
+  private final Float arg1 = 1.5f;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    events = new EventHandler();
+    for (int i = 0; i < listenerCount; i++) {
+      events.addListener(EVENT_KEY, () -> received++);
+      events.addListener(ONE_ARG_KEY, (Integer value) -> received += value);
+      events.addListener(TWO_ARG_KEY, (Integer value, Float scale) -> received += value);
+    }
+  }
+
+  @Benchmark
+  public int triggerByName() {
+    events.trigger(EVENT);
+    return received;
+  }
+
+  @Benchmark
+  public int triggerByKey() {
+    events.trigger(EVENT_KEY);
+    return received;
+  }
+
+  @Benchmark
+  public int triggerOneArg() {
+    events.trigger(ONE_ARG_KEY, arg0);
+    return received;
+  }
+
+  @Benchmark
+  public int triggerTwoArgs() {
+    events.trigger(TWO_ARG_KEY, arg0, arg1);
+    return received;
+  }
+
+  @Benchmark
+  public int triggerWithoutListeners() {
+    events.trigger(UNHEARD_KEY);
+    return received;
+  }
+}
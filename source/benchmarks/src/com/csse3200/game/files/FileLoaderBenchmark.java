@@ -0,0 +1,53 @@
+package com.csse3200.game.files;
+
+import com.csse3200.game.benchmarks.HeadlessGame;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.configs.LevelConfig;
+import com.csse3200.game.entities.configs.ParallaxConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading a level's config files, as done each time a level is loaded. Must be run from
+ * core/assets, which the jmh task does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FileLoaderBenchmark {
+  @Param({"tutorial", "level-one", "level-two", "level-three", "boss-level"})
+  public String level;
+
+  private String configPath;
+  private String assetsPath;
+  private String parallaxPath;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    if (!HeadlessGame.hasAssets()) {
+      throw new IllegalStateException("Level configs not found, run from core/assets");
+    }
+    configPath = "levels/" + level + "/config.json";
+    assetsPath = "levels/" + level + "/assets.json";
+    parallaxPath = "levels/" + level + "/parallax.json";
+  }
+
+  @Benchmark
+  public LevelConfig readLevelConfig() {
+    return FileLoader.readClass(LevelConfig.class, configPath);
+  }
+
+  @Benchmark
+  public Object[] readAllLevelConfigs() {
+    return new Object[] {
+        FileLoader.readClass(LevelConfig.class, configPath),
+        FileLoader.readClass(LevelAssetsConfig.class, assetsPath),
+        FileLoader.readClass(ParallaxConfig.class, parallaxPath)
+    };
+  }
+}
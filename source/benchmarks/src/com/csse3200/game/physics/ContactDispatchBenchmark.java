@@ -0,0 +1,141 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.benchmarks.HeadlessGame;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of handling contacts in {@link ObjectContactListener}. The dispatch benchmarks time the
+ * interaction lookup for a single pair of bodies; the step benchmarks sweep a sensor across a row
+ * of bodies so Box2D reports real begin and end contacts every frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContactDispatchBenchmark {
+  private static final int ROW_LENGTH = 200;
+
+  private BodyUserData target;
+  private BodyUserData other;
+  private BodyUserData plain;
+  private int interactions = 0;
+
+  private World listenerWorld;
+  private World plainWorld;
+  private Body listenerSweeper;
+  private Body plainSweeper;
+  private int frame = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    // Loading the listener registers the built-in interactions, so lookups see a full registry
+    new ObjectContactListener();
+    ContactInteractionRegistry.register(
+        TargetComponent.class, OtherComponent.class, (t, entity, begin) -> interactions++);
+
+    target = userData(new TargetComponent());
+    other = userData(new OtherComponent());
+    plain = userData(new PlainComponent());
+
+    listenerWorld = new World(Vector2.Zero, true);
+    listenerWorld.setContactListener(new ObjectContactListener());
+    listenerSweeper = createRow(listenerWorld);
+    plainWorld = new World(Vector2.Zero, true);
+    plainSweeper = createRow(plainWorld);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    listenerWorld.dispose();
+    plainWorld.dispose();
+  }
+
+  @Benchmark
+  public boolean dispatchInteraction() {
+    return ContactInteractionRegistry.dispatch(other, target, true);
+  }
+
+  @Benchmark
+  public boolean dispatchUnmatchedOther() {
+    return ContactInteractionRegistry.dispatch(target, plain, true);
+  }
+
+  @Benchmark
+  public boolean dispatchRejected() {
+    return ContactInteractionRegistry.dispatch(plain, plain, true);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void stepWithListener() {
+    sweep(listenerWorld, listenerSweeper);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void stepWithoutListener() {
+    sweep(plainWorld, plainSweeper);
+  }
+
+  private void sweep(World world, Body sweeper) {
+    frame++;
+    sweeper.setTransform((frame % ROW_LENGTH) * 2f, 0f, 0f);
+    world.step(0.016f, 6, 2);
+  }
+
+  /**
+   * Create a row of bodies alternating between interacting and plain entities, and a sensor which
+   * is moved along it.
+   *
+   * @return the sensor body
+   */
+  private Body createRow(World world) {
+    for (int i = 0; i < ROW_LENGTH; i++) {
+      BodyUserData data = userData(i % 2 == 0 ? new TargetComponent() : new PlainComponent());
+      createBox(world, BodyDef.BodyType.StaticBody, i * 2f, data, false);
+    }
+    return createBox(world, BodyDef.BodyType.KinematicBody, 0f, userData(new OtherComponent()), true);
+  }
+
+  private static Body createBox(
+      World world, BodyDef.BodyType type, float x, BodyUserData data, boolean sensor) {
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.type = type;
+    bodyDef.position.set(x, 0f);
+    Body body = world.createBody(bodyDef);
+    body.setUserData(data);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(0.5f, 0.5f);
+    FixtureDef fixtureDef = new FixtureDef();
+    fixtureDef.shape = shape;
+    fixtureDef.isSensor = sensor;
+    body.createFixture(fixtureDef);
+    shape.dispose();
+    return body;
+  }
+
+  private static BodyUserData userData(Component component) {
+    BodyUserData data = new BodyUserData();
+    data.entity = new Entity().addComponent(component);
+    return data;
+  }
+
+  static class TargetComponent extends Component {}
+
+  static class OtherComponent extends Component {}
+
+  static class PlainComponent extends Component {}
+}
@@ -0,0 +1,113 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.benchmarks.HeadlessGame;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.services.GameTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one physics frame followed by the raycasts lasers and cone detectors make. The level is
+ * a grid of static platforms with a few moving bodies; each ray is cast twice a frame, as happens
+ * when an emitter and its detector both check the same beam.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RaycastBenchmark {
+  private static final int GRID = 20;
+  private static final int MOVING_BODIES = 8;
+
+  @Param({"16", "256"})
+  public int rayCount;
+
+  @Param({"true", "false"})
+  public boolean caching;
+
+  private PhysicsEngine engine;
+  private Body[] movingBodies;
+  private Vector2[] rayStarts;
+  private Vector2[] rayEnds;
+  private final RaycastHit hit = new RaycastHit();
+  private int frame = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    MathUtils.random.setSeed(3200L);
+    engine = new PhysicsEngine(new World(Vector2.Zero, true), new FixedTime());
+    engine.setRaycastCaching(caching);
+
+    for (int x = 0; x < GRID; x++) {
+      for (int y = 0; y < GRID; y++) {
+        createBox(BodyDef.BodyType.StaticBody, x * 5f, y * 5f);
+      }
+    }
+    movingBodies = new Body[MOVING_BODIES];
+    for (int i = 0; i < MOVING_BODIES; i++) {
+      movingBodies[i] = createBox(BodyDef.BodyType.KinematicBody, i * 12f + 2.5f, 2.5f);
+    }
+
+    rayStarts = new Vector2[rayCount];
+    rayEnds = new Vector2[rayCount];
+    for (int i = 0; i < rayCount; i++) {
+      rayStarts[i] = new Vector2(MathUtils.random(GRID * 5f), MathUtils.random(GRID * 5f));
+      rayEnds[i] = new Vector2(rayStarts[i]).add(
+          new Vector2(15f, 0f).rotateDeg(MathUtils.random(360f)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    engine.dispose();
+  }
+
+  @Benchmark
+  public int physicsFrame() {
+    frame++;
+    for (int i = 0; i < MOVING_BODIES; i++) {
+      movingBodies[i].setLinearVelocity(0f, (frame / 120) % 2 == 0 ? 2f : -2f);
+    }
+    engine.update();
+
+    int hits = 0;
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < rayCount; i++) {
+        if (engine.raycast(rayStarts[i], rayEnds[i], PhysicsLayer.ALL, hit)) {
+          hits++;
+        }
+      }
+    }
+    return hits;
+  }
+
+  private Body createBox(BodyDef.BodyType type, float x, float y) {
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.type = type;
+    bodyDef.position.set(x, y);
+    Body body = engine.createBody(bodyDef);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(0.5f, 0.5f);
+    body.createFixture(shape, 1f);
+    shape.dispose();
+    return body;
+  }
+
+  /** Time source which always reports one physics step per frame. */
+  private static class FixedTime extends GameTime {
+    @Override
+    public float getDeltaTime() {
+      return 1f / 60f;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.csse3200.game.benchmarks.HeadlessGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of ordering and submitting renderables for one frame. A tenth of the renderables move each
+ * frame, changing their Z index, the way walking enemies and projectiles do in a level. Nothing is
+ * drawn; the renderables only count how often they are submitted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderServiceBenchmark {
+  private static final int LAYERS = 3;
+  private static final float WORLD_SIZE = 200f;
+
+  @Param({"100", "1000", "10000"})
+  public int renderableCount;
+
+  @Param({"true", "false"})
+  public boolean incrementalSorting;
+
+  @Param({"true", "false"})
+  public boolean culling;
+
+  private RenderService renderService;
+  private OrthographicCamera camera;
+  private BenchmarkRenderable[] renderables;
+  private int frame = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    MathUtils.random.setSeed(3200L);
+    renderService = new RenderService();
+    renderService.setIncrementalSorting(incrementalSorting);
+    renderService.setCullingEnabled(culling);
+    renderService.setWorldBounds(0f, 0f, WORLD_SIZE, WORLD_SIZE);
+
+    camera = new OrthographicCamera(30f, 20f);
+    camera.position.set(WORLD_SIZE / 2f, WORLD_SIZE / 2f, 0f);
+    camera.update();
+
+    renderables = new BenchmarkRenderable[renderableCount];
+    for (int i = 0; i < renderableCount; i++) {
+      BenchmarkRenderable renderable = new BenchmarkRenderable(
+          i % LAYERS, MathUtils.random(WORLD_SIZE), MathUtils.random(WORLD_SIZE));
+      renderables[i] = renderable;
+      renderService.register(renderable);
+    }
+  }
+
+  @Benchmark
+  public int renderFrame() {
+    frame++;
+    for (int i = frame % 10; i < renderables.length; i += 10) {
+      renderables[i].move(MathUtils.random(-0.5f, 0.5f));
+    }
+    renderService.prepareFrame(camera);
+    renderService.render(null);
+    return renderService.getSubmittedCount();
+  }
+
+  static class BenchmarkRenderable implements Renderable {
+    private final int layer;
+    private final float x;
+    private float y;
+    private int renderCount = 0;
+
+    BenchmarkRenderable(int layer, float x, float y) {
+      this.layer = layer;
+      this.x = x;
+      this.y = y;
+    }
+
+    void move(float dy) {
+      y = MathUtils.clamp(y + dy, 0f, WORLD_SIZE);
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      renderCount++;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+
+    @Override
+    public float getZIndex() {
+      return -y;
+    }
+
+    @Override
+    public boolean getBounds(Rectangle out) {
+      out.set(x, y, 1f, 1f);
+      return true;
+    }
+
+    @Override
+    public int getLayer() {
+      return layer;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.csse3200.game.ui.terminal;
+
+import com.csse3200.game.benchmarks.HeadlessGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of parsing and evaluating terminal commands. The game's {@link Initializer} script needs the
+ * terminal service, which needs a GL context, so the shell here defines its own globals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShellBenchmark {
+  private Shell shell;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessGame.start();
+    shell = new Shell(new SilentConsole());
+    shell.eval("x = 10;");
+    shell.eval("larger = (a, b) { globalThis.ReturnValueClass(.java.lang.Math.max(a, b)); };");
+  }
+
+  @Benchmark
+  public Object evalAssignment() {
+    return shell.eval("y = x;");
+  }
+
+  @Benchmark
+  public Object evalJavaCall() {
+    return shell.eval(".java.lang.Math.max(x, 5);");
+  }
+
+  @Benchmark
+  public Object evalFunctionCall() {
+    return shell.eval("larger(x, 5);");
+  }
+
+  @Benchmark
+  public Object evalBranch() {
+    return shell.eval("globalThis.ifElse(x, "
+        + "() { globalThis.ReturnValueClass(1); }, () { globalThis.ReturnValueClass(2); });");
+  }
+
+  /** Console which discards output, so printing does not affect the timings. */
+  private static class SilentConsole implements Shell.Console {
+    @Override
+    public void print(Object obj) {
+      // Output is not needed
+    }
+
+    @Override
+    public String next() {
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to close
+    }
+  }
+}
@@ -0,0 +1,485 @@
+package com.csse3200.game.ai.navigation;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.GridComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsLayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Shared pathfinding for entities chasing one target, usually the player. The level's
+ * {@link GridComponent} tiles are marked blocked where static obstacle colliders cover them, and a
+ * flow field is built outwards from the target's tile with Dijkstra's algorithm. Every chaser then
+ * reads its next step from the same field, so N chasers cost one field instead of N path searches.
+ *
+ * <p>The field is only rebuilt when the target moves to another tile, and the search is spread
+ * over ticks, expanding at most {@link #EXPANSIONS_PER_TICK} tiles each. Chasers keep using the last
+ * complete field until the new one is done.
+ *
+ * <p>Obstacles are scanned again when the number of bodies in the world changes, at most every
+ * {@link #RESCAN_TICKS} ticks. Only orthogonal grids are supported.
+ */
+public class NavigationService {
+  private static final Logger logger = LoggerFactory.getLogger(NavigationService.class);
+  /** Most tiles expanded by the search each tick. */
+  static final int EXPANSIONS_PER_TICK = 2048;
+  /** Fewest ticks between obstacle scans. */
+  static final int RESCAN_TICKS = 30;
+  /** Space kept between paths and obstacles, in world units. */
+  private static final float CLEARANCE = 0.25f;
+  /** Tiles searched around a blocked target tile for a free one to start from. */
+  private static final int SEED_RADIUS = 2;
+  private static final float DIAGONAL_COST = (float) Math.sqrt(2);
+  private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+
+  private final World world;
+  private final Array<Body> bodies = new Array<>(false, 64, Body.class);
+  private final Vector2 vertex = new Vector2();
+
+  private GridComponent grid;
+  private int width;
+  private int height;
+  private float tileSize;
+  private boolean[] blocked = new boolean[0];
+  private boolean[] scanned = new boolean[0];
+  /** Cost to reach the target from each tile in the last complete field */
+  private float[] field = new float[0];
+  /** Field being built */
+  private float[] building = new float[0];
+  private final TileHeap open = new TileHeap();
+
+  private Entity target;
+  private int fieldTarget = -1;
+  private int buildTarget = -1;
+  private boolean searching = false;
+  private boolean obstaclesDirty = true;
+  private int bodyCount = -1;
+  private long tick = 0;
+  private long lastScanTick = Long.MIN_VALUE / 2;
+
+  private int buildCount = 0;
+  private int expandedCount = 0;
+
+  /**
+   * @param world physics world holding the level's static colliders
+   */
+  public NavigationService(World world) {
+    this.world = world;
+  }
+
+  /**
+   * Use a level's grid. Clears the field, which is built again on the next tick.
+   *
+   * @param grid level grid, or null to stop navigating
+   */
+  public void setGrid(GridComponent grid) {
+    if (grid != null && grid.getOrientation() != GridComponent.GridOrientation.ORTHOGONAL) {
+      logger.warn("Navigation only supports orthogonal grids, not {}", grid.getOrientation());
+      grid = null;
+    }
+    this.grid = grid;
+    if (grid == null) {
+      width = 0;
+      height = 0;
+    } else {
+      GridPoint2 size = grid.getMapBounds();
+      width = size.x;
+      height = size.y;
+      tileSize = grid.getTileSize();
+    }
+    int tiles = width * height;
+    blocked = new boolean[tiles];
+    scanned = new boolean[tiles];
+    field = new float[tiles];
+    building = new float[tiles];
+    Arrays.fill(field, Float.POSITIVE_INFINITY);
+    fieldTarget = -1;
+    buildTarget = -1;
+    searching = false;
+    obstaclesDirty = true;
+  }
+
+  /**
+   * Advance the flow field towards the target. Called once per tick after physics.
+   *
+   * @param target entity to build paths to, or null to keep the current field
+   */
+  public void update(Entity target) {
+    tick++;
+    if (grid == null) {
+      return;
+    }
+    if (target != this.target) {
+      this.target = target;
+      fieldTarget = -1;
+      Arrays.fill(field, Float.POSITIVE_INFINITY);
+      searching = false;
+    }
+    if (target == null) {
+      return;
+    }
+
+    if (world.getBodyCount() != bodyCount) {
+      obstaclesDirty = true;
+    }
+    if (obstaclesDirty && tick - lastScanTick >= RESCAN_TICKS) {
+      scanObstacles();
+    }
+
+    if (!searching) {
+      int targetTile = findSeed(target);
+      if (targetTile >= 0 && targetTile != fieldTarget) {
+        startSearch(targetTile);
+      }
+    }
+    if (searching) {
+      expand(EXPANSIONS_PER_TICK);
+    }
+  }
+
+  /**
+   * Get the next point to steer to from a position, following the flow field to the target.
+   *
+   * @param from current position, usually an entity's centre
+   * @param out set to the centre of the next tile on the path
+   * @return false if there is no path from the position, or it is already on the target's tile
+   */
+  public boolean getWaypoint(Vector2 from, Vector2 out) {
+    int x = tileX(from.x);
+    int y = tileY(from.y);
+    if (!isInside(x, y)) {
+      return false;
+    }
+    float cost = field[index(x, y)];
+    if (cost == 0f || cost == Float.POSITIVE_INFINITY) {
+      return false;
+    }
+
+    int best = -1;
+    float bestCost = cost;
+    for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+      int nx = x + NEIGHBOUR_X[i];
+      int ny = y + NEIGHBOUR_Y[i];
+      if (!canStep(x, y, nx, ny)) {
+        continue;
+      }
+      float neighbourCost = field[index(nx, ny)];
+      if (neighbourCost < bestCost) {
+        bestCost = neighbourCost;
+        best = i;
+      }
+    }
+    if (best < 0) {
+      return false;
+    }
+    out.set((x + NEIGHBOUR_X[best] + 0.5f) * tileSize, (y + NEIGHBOUR_Y[best] + 0.5f) * tileSize);
+    return true;
+  }
+
+  /**
+   * @return entity the field leads to
+   */
+  public Entity getTarget() {
+    return target;
+  }
+
+  /**
+   * Scan static obstacles again on the next tick, for example after a wall was removed.
+   */
+  public void invalidateObstacles() {
+    obstaclesDirty = true;
+    lastScanTick = Long.MIN_VALUE / 2;
+  }
+
+  /**
+   * @param x tile x
+   * @param y tile y
+   * @return true if the tile is covered by a static obstacle
+   */
+  public boolean isBlocked(int x, int y) {
+    return !isInside(x, y) || blocked[index(x, y)];
+  }
+
+  /**
+   * @return true while a new field is being built
+   */
+  public boolean isSearching() {
+    return searching;
+  }
+
+  /**
+   * @return fields completed since the grid was set
+   */
+  public int getBuildCount() {
+    return buildCount;
+  }
+
+  /**
+   * @return tiles expanded by the search in the last tick
+   */
+  public int getExpandedCount() {
+    return expandedCount;
+  }
+
+  /**
+   * @return one line summary for the debug overlay
+   */
+  public String getSummary() {
+    return String.format("Flow field: %s builds: %d expanded: %d%n",
+        searching ? "building" : "ready", buildCount, expandedCount);
+  }
+
+  private void startSearch(int targetTile) {
+    Arrays.fill(building, Float.POSITIVE_INFINITY);
+    open.clear();
+    building[targetTile] = 0f;
+    open.push(targetTile, 0f);
+    buildTarget = targetTile;
+    searching = true;
+  }
+
+  private void expand(int budget) {
+    expandedCount = 0;
+    while (open.size > 0 && expandedCount < budget) {
+      float cost = open.peekCost();
+      int tile = open.pop();
+      if (cost > building[tile]) {
+        continue; // Stale entry, a cheaper route was found after it was queued
+      }
+      expandedCount++;
+      int x = tile % width;
+      int y = tile / width;
+      for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+        int nx = x + NEIGHBOUR_X[i];
+        int ny = y + NEIGHBOUR_Y[i];
+        if (!canStep(x, y, nx, ny)) {
+          continue;
+        }
+        int neighbour = index(nx, ny);
+        float next = cost + (i < 4 ? 1f : DIAGONAL_COST);
+        if (next < building[neighbour]) {
+          building[neighbour] = next;
+          open.push(neighbour, next);
+        }
+      }
+    }
+    if (open.size == 0) {
+      float[] done = building;
+      building = field;
+      field = done;
+      fieldTarget = buildTarget;
+      searching = false;
+      buildCount++;
+    }
+  }
+
+  /**
+   * Whether an entity can move from a tile to a neighbouring one. Diagonal steps may not cut past
+   * the corner of a blocked tile.
+   */
+  private boolean canStep(int x, int y, int nx, int ny) {
+    if (isBlocked(nx, ny)) {
+      return false;
+    }
+    if (nx != x && ny != y) {
+      return !isBlocked(nx, y) && !isBlocked(x, ny);
+    }
+    return true;
+  }
+
+  /**
+   * Find the tile to build the field from. If the target is standing in a blocked tile, such as
+   * one next to the floor, the nearest free tile is used.
+   */
+  private int findSeed(Entity target) {
+    Vector2 center = target.getCenterPosition(vertex);
+    int x = tileX(center.x);
+    int y = tileY(center.y);
+    for (int radius = 0; radius <= SEED_RADIUS; radius++) {
+      for (int dy = -radius; dy <= radius; dy++) {
+        for (int dx = -radius; dx <= radius; dx++) {
+          if (Math.max(Math.abs(dx), Math.abs(dy)) == radius && !isBlocked(x + dx, y + dy)) {
+            return index(x + dx, y + dy);
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  /** Mark every tile covered by a static, solid obstacle fixture. */
+  private void scanObstacles() {
+    obstaclesDirty = false;
+    lastScanTick = tick;
+    bodyCount = world.getBodyCount();
+    Arrays.fill(scanned, false);
+
+    world.getBodies(bodies);
+    for (Body body : bodies) {
+      if (body.getType() != BodyType.StaticBody) {
+        continue;
+      }
+      for (Fixture fixture : body.getFixtureList()) {
+        if (!fixture.isSensor()
+            && (fixture.getFilterData().categoryBits & PhysicsLayer.OBSTACLE) != 0) {
+          markFixture(body, fixture.getShape());
+        }
+      }
+    }
+    bodies.clear();
+
+    if (!Arrays.equals(blocked, scanned)) {
+      boolean[] previous = blocked;
+      blocked = scanned;
+      scanned = previous;
+      // Paths may now cross or avoid the changed tiles, so build the field again
+      fieldTarget = -1;
+      searching = false;
+    }
+  }
+
+  private void markFixture(Body body, Shape shape) {
+    float minX = Float.POSITIVE_INFINITY;
+    float minY = Float.POSITIVE_INFINITY;
+    float maxX = Float.NEGATIVE_INFINITY;
+    float maxY = Float.NEGATIVE_INFINITY;
+    float radius = 0f;
+    int count;
+    if (shape instanceof CircleShape circle) {
+      count = 1;
+      radius = circle.getRadius();
+    } else if (shape instanceof PolygonShape polygon) {
+      count = polygon.getVertexCount();
+    } else if (shape instanceof EdgeShape) {
+      count = 2;
+    } else if (shape instanceof ChainShape chain) {
+      count = chain.getVertexCount();
+    } else {
+      return;
+    }
+
+    for (int i = 0; i < count; i++) {
+      if (shape instanceof CircleShape circle) {
+        vertex.set(circle.getPosition());
+      } else if (shape instanceof PolygonShape polygon) {
+        polygon.getVertex(i, vertex);
+      } else if (shape instanceof EdgeShape edge) {
+        if (i == 0) {
+          edge.getVertex1(vertex);
+        } else {
+          edge.getVertex2(vertex);
+        }
+      } else {
+        ((ChainShape) shape).getVertex(i, vertex);
+      }
+      Vector2 point = body.getWorldPoint(vertex);
+      minX = Math.min(minX, point.x);
+      minY = Math.min(minY, point.y);
+      maxX = Math.max(maxX, point.x);
+      maxY = Math.max(maxY, point.y);
+    }
+
+    float margin = radius + CLEARANCE;
+    int fromX = Math.max(0, tileX(minX - margin));
+    int fromY = Math.max(0, tileY(minY - margin));
+    // Shrink slightly so obstacles ending exactly on a tile edge do not block the next tile
+    int toX = Math.min(width - 1, tileX(maxX + margin - 0.001f));
+    int toY = Math.min(height - 1, tileY(maxY + margin - 0.001f));
+    for (int y = fromY; y <= toY; y++) {
+      for (int x = fromX; x <= toX; x++) {
+        scanned[index(x, y)] = true;
+      }
+    }
+  }
+
+  private int tileX(float worldX) {
+    return (int) Math.floor(worldX / tileSize);
+  }
+
+  private int tileY(float worldY) {
+    return (int) Math.floor(worldY / tileSize);
+  }
+
+  private boolean isInside(int x, int y) {
+    return x >= 0 && x < width && y >= 0 && y < height;
+  }
+
+  private int index(int x, int y) {
+    return y * width + x;
+  }
+
+  /** Binary min-heap of tile indices by cost, without boxing. Duplicates are allowed. */
+  private static class TileHeap {
+    private int[] tiles = new int[64];
+    private float[] costs = new float[64];
+    private int size = 0;
+
+    void clear() {
+      size = 0;
+    }
+
+    void push(int tile, float cost) {
+      if (size == tiles.length) {
+        tiles = Arrays.copyOf(tiles, size * 2);
+        costs = Arrays.copyOf(costs, size * 2);
+      }
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (costs[parent] <= cost) {
+          break;
+        }
+        tiles[i] = tiles[parent];
+        costs[i] = costs[parent];
+        i = parent;
+      }
+      tiles[i] = tile;
+      costs[i] = cost;
+    }
+
+    float peekCost() {
+      return costs[0];
+    }
+
+    int pop() {
+      int top = tiles[0];
+      size--;
+      int lastTile = tiles[size];
+      float lastCost = costs[size];
+      int i = 0;
+      while (true) {
+        int child = i * 2 + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && costs[child + 1] < costs[child]) {
+          child++;
+        }
+        if (costs[child] >= lastCost) {
+          break;
+        }
+        tiles[i] = tiles[child];
+        costs[i] = costs[child];
+        i = child;
+      }
+      tiles[i] = lastTile;
+      costs[i] = lastCost;
+      return top;
+    }
+  }
+}
@@ -13,6 +13,10 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>Choosing a task can be costly, for example chase tasks raycast to the target, so the AI of
+ * far away entities updates less often. Use {@link #setUpdateLod(boolean)} to keep an entity's AI
+ * updating every frame.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
@@ -20,6 +24,10 @@ public class AITaskComponent extends Component implements TaskRunner {
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
   private PriorityTask currentTask;
 
+  public AITaskComponent() {
+    updateLod = true;
+  }
+
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
    * priority, and can be stopped to run a higher priority task.
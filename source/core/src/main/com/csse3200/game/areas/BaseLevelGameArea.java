@@ -1,10 +1,14 @@
 package com.csse3200.game.areas;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.achievements.AchievementProgression;
 import com.csse3200.game.areas.terrain.GridComponent;
@@ -17,7 +21,7 @@ import com.csse3200.game.entities.configs.ParallaxConfig;
 import com.csse3200.game.entities.factories.*;
 import com.csse3200.game.entities.spawn.SpawnRegistry;
 import com.csse3200.game.entities.spawn.Spawners;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.LevelFiles;
 import com.csse3200.game.files.UserSettings;
 import com.csse3200.game.rendering.parallax.ParallaxBackgroundComponent;
 import com.csse3200.game.screens.MainGameScreen;
@@ -29,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Base game area for standardised JSON-driven levels. This class is responsible for:
@@ -59,6 +64,12 @@ public abstract class BaseLevelGameArea extends GameArea {
     protected float WALL_THICKNESS;
 
     boolean hasLaser = false;
+    /** Laser shower bursts which have not been switched off yet */
+    private final Array<LaserShowerBurst> laserShowerBursts = new Array<>();
+    private boolean assetsRetained = false;
+    private String packedAtlas;
+    /** Level textures which were not packed into its atlas, and so are retained loose */
+    private String[] looseTextures;
 
     /**
      * Create a new base level area.
@@ -74,21 +85,85 @@ public abstract class BaseLevelGameArea extends GameArea {
     protected abstract String parallaxPath();
 
     /**
-     * Load all assets declared in {@link LevelAssetsConfig}.
+     * Retain all assets declared in {@link LevelAssetsConfig}. Assets already retained, e.g. by the
+     * previous level or a prefetch, are not loaded again, and nothing is loaded when the level is
+     * reset because its assets are kept until it is disposed. Textures packed into the level's
+     * atlas are drawn from its pages, so their loose files are not retained.
      */
     @Override protected void loadAssets() {
-        assets = Objects.requireNonNull(FileLoader.readClass(LevelAssetsConfig.class, assetsPath()));
-
-        rs.loadTextures(assets.textures.toArray(new String[0]));
-        rs.loadTextureAtlases(assets.atlases.toArray(new String[0]));
-        rs.loadSounds(assets.sounds.toArray(new String[0]));
-        rs.loadMusic(assets.music.toArray(new String[0]));
+        if (assetsRetained) return;
+        assets = Objects.requireNonNull(LevelFiles.readAssets(assetsPath()));
+        packedAtlas = findPackedAtlas(assetsPath());
+        looseTextures = findLooseTextures(assets.textures, packedAtlas);
+
+        rs.retainAssets(looseTextures, Texture.class);
+        rs.retainAssets(assets.atlases.toArray(new String[0]), TextureAtlas.class);
+        rs.retainAssets(assets.sounds.toArray(new String[0]), Sound.class);
+        rs.retainAssets(assets.music.toArray(new String[0]), Music.class);
+        if (packedAtlas != null) {
+            rs.retainAssets(new String[] {packedAtlas}, TextureAtlas.class);
+        }
+        assetsRetained = true;
 
         while (!rs.loadForMillis(10)) {
             logger.info("Loading level assets... {}%", rs.getProgress());
         }
     }
 
+    /**
+     * Start loading a level's assets in the background so they are resident when it is created.
+     *
+     * @param assetsPath path to the level's {@link LevelAssetsConfig}
+     * @see ResourceService#prefetchAssets(String[], Class)
+     */
+    public static void prefetchAssets(String assetsPath) {
+        LevelAssetsConfig levelAssets = LevelFiles.readAssets(assetsPath);
+        if (levelAssets == null) {
+            logger.warn("Could not prefetch assets from {}", assetsPath);
+            return;
+        }
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        String packed = findPackedAtlas(assetsPath);
+        resourceService.prefetchAssets(findLooseTextures(levelAssets.textures, packed), Texture.class);
+        resourceService.prefetchAssets(levelAssets.atlases.toArray(new String[0]), TextureAtlas.class);
+        resourceService.prefetchAssets(levelAssets.sounds.toArray(new String[0]), Sound.class);
+        resourceService.prefetchAssets(levelAssets.music.toArray(new String[0]), Music.class);
+        if (packed != null) {
+            resourceService.prefetchAssets(new String[] {packed}, TextureAtlas.class);
+        }
+    }
+
+    /**
+     * Find the atlas the level's loose textures were packed into by the packLevelAtlases task,
+     * named after the level's directory, e.g. packed/level-two.atlas for levels/level-two.
+     * Textures drawn by {@link com.csse3200.game.rendering.TextureRenderComponent} are drawn from
+     * its pages when it is loaded.
+     *
+     * @param assetsPath path to the level's {@link LevelAssetsConfig}
+     * @return path to the packed atlas, or null if the level has not been packed
+     */
+    static String findPackedAtlas(String assetsPath) {
+        String[] parts = assetsPath.split("/");
+        if (parts.length < 2) return null;
+        String path = "packed/" + parts[parts.length - 2] + ".atlas";
+        return Gdx.files.internal(path).exists() ? path : null;
+    }
+
+    /**
+     * Find the level textures which must be loaded loose: those not packed into its atlas, such as
+     * images too large to pack. Packed textures are only loaded loose if something asks for the
+     * texture itself; see {@link ResourceService#getAsset(String, Class)}.
+     *
+     * @param textures textures declared by the level
+     * @param packedAtlas path to the level's packed atlas, or null if it has not been packed
+     * @return textures to retain
+     */
+    static String[] findLooseTextures(List<String> textures, String packedAtlas) {
+        if (packedAtlas == null) return textures.toArray(new String[0]);
+        Set<String> packed = ServiceLocator.getResourceService().readRegionNames(packedAtlas);
+        return textures.stream().filter(texture -> !packed.contains(texture)).toArray(String[]::new);
+    }
+
     /**
      * Read level configs, construct grid, spawn walls/HUD/minimap, and start music.
      *
@@ -96,9 +171,9 @@ public abstract class BaseLevelGameArea extends GameArea {
      */
     @Override
     protected void loadPrerequisites() {
-        cfg = Objects.requireNonNull(FileLoader.readClass(LevelConfig.class, configPath()));
-        assets = Objects.requireNonNull(FileLoader.readClass(LevelAssetsConfig.class, assetsPath()));
-        parallax  = Objects.requireNonNull(FileLoader.readClass(ParallaxConfig.class, parallaxPath()));
+        cfg = Objects.requireNonNull(LevelFiles.readConfig(configPath()));
+        assets = Objects.requireNonNull(LevelFiles.readAssets(assetsPath()));
+        parallax  = Objects.requireNonNull(LevelFiles.readParallax(parallaxPath()));
 
         WALL_THICKNESS = cfg.walls.thickness;
         MAP_SIZE.set(cfg.mapSize[0], cfg.mapSize[1]);
@@ -107,6 +182,8 @@ public abstract class BaseLevelGameArea extends GameArea {
         grid = buildTerrain(MAP_SIZE);
         spawnEntity(new Entity().addComponent(grid));
         spawnBoundaryWalls();
+        Vector2 worldBounds = grid.getWorldBounds();
+        ServiceLocator.getRenderService().setWorldBounds(0f, 0f, worldBounds.x, worldBounds.y);
 
         spawnEntity(HeadsUpDisplayFactory.createHeadsUpDisplay(cfg.name));
         Texture mini = rs.getAsset(cfg.miniMap, Texture.class);
@@ -118,7 +195,7 @@ public abstract class BaseLevelGameArea extends GameArea {
 
     /**
      * Spawn parallax (if configured) and all entities declared in {@link LevelConfig#entities},
-     * then add a ground floor.
+     * then add a ground floor and bake the static level geometry.
      *
      * @throws IllegalStateException if {@link #cfg} has not been loaded
      * @throws IllegalArgumentException if the config has no {@code entities} array
@@ -137,6 +214,9 @@ public abstract class BaseLevelGameArea extends GameArea {
 
         Entity floor = FloorFactory.createGroundFloor();
         spawnEntityAt(floor, new GridPoint2(-10, -20), false, false);
+
+        // Level geometry is all in place, so the tiles which never move can be baked
+        ServiceLocator.getRenderService().bakeStaticGeometry();
     }
 
     /**
@@ -163,17 +243,29 @@ public abstract class BaseLevelGameArea extends GameArea {
     }
 
     /**
-     * Dispose of area resources and unload all assets declared in the asset manifest.
+     * Dispose of area resources and release all assets declared in the asset manifest.
      *
-     * <p>Calls {@link GameArea#dispose()} to dispose entities, then unloads textures/atlases/sounds/music</p>
+     * <p>Calls {@link GameArea#dispose()} to dispose entities, then releases textures/atlases/sounds/music.
+     * Assets are kept while the level is being reset, and any still retained by something else,
+     * such as a prefetch of the next level, stay loaded. Laser showers still firing go back to their
+     * pool, and pooled entities are disposed unless the level is being reset.</p>
      */
     @Override public void dispose() {
+        releaseLaserShowers();
         super.dispose();
-        if (assets != null) {
-            rs.unloadAssets(assets.atlases.toArray(new String[0]));
-            rs.unloadAssets(assets.sounds.toArray(new String[0]));
-            rs.unloadAssets(assets.textures.toArray(new String[0]));
-            rs.unloadAssets(assets.music.toArray(new String[0]));
+        if (!isResetting) {
+            // Pooled entities keep the textures they were built with
+            ServiceLocator.getEntityService().clearPools();
+        }
+        if (assetsRetained && !isResetting) {
+            rs.releaseAssets(assets.atlases.toArray(new String[0]));
+            rs.releaseAssets(assets.sounds.toArray(new String[0]));
+            rs.releaseAssets(looseTextures);
+            rs.releaseAssets(assets.music.toArray(new String[0]));
+            if (packedAtlas != null) {
+                rs.releaseAssets(new String[] {packedAtlas});
+            }
+            assetsRetained = false;
         }
     }
 
@@ -280,36 +372,62 @@ public abstract class BaseLevelGameArea extends GameArea {
     public void spawnLaserShower(float x , float y, float delay) {
         if (player == null) return; // safety check
 
+        LaserShowerBurst burst = new LaserShowerBurst();
+
         // Spawn lasers behind of the player
         for (int i = 0; i <= 5; i++) {
-            Entity laser = LaserFactory.createLaserShower(-90f); // Create another downward laser
             float xBehind = x - ((i + 1) * 7.5f); // offset left
-            spawnEntityAt(laser, new GridPoint2(Math.round(xBehind+10f), Math.round(y+15f)), true, true);
-            laser.getEvents().trigger("shootLaser");
-
-            // Remove laser after 5 seconds
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    laser.dispose();
-                }
-            }, delay);
+            burst.lasers.add(spawnShowerLaser(Math.round(xBehind+10f), Math.round(y+15f)));
         }
 
         // Spawn lasers ahead of the player
         for (int i = 0; i <= 5; i++) {
-            Entity laser = LaserFactory.createLaserShower(-90f); // Create another downward laser
             float xAhead = x + ((i + 1) * 7.5f); // offset right
-            spawnEntityAt(laser, new GridPoint2(Math.round(xAhead+10f), Math.round(y+15f)), true, true);
-            laser.getEvents().trigger("shootLaser");
+            burst.lasers.add(spawnShowerLaser(Math.round(xAhead+10f), Math.round(y+15f)));
+        }
 
-            // Schedule disposal after 5 seconds
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    laser.dispose();
-                }
-            }, delay);
+        // Return the lasers to their pool after the delay
+        laserShowerBursts.add(burst);
+        Timer.schedule(burst, delay);
+    }
+
+    /**
+     * Spawns a downward laser from the laser shower pool and starts it firing.
+     */
+    private Entity spawnShowerLaser(int tileX, int tileY) {
+        Entity laser = LaserFactory.obtainLaserShower();
+        // Placing is relative to the entity's centre, so a reused laser starts from the origin
+        laser.setPosition(Vector2.Zero, false);
+        placeEntityAt(laser, new GridPoint2(tileX, tileY), true, true);
+        ServiceLocator.getEntityService().register(laser);
+        laser.getEvents().trigger("shootLaser");
+        return laser;
+    }
+
+    /** Releases every laser shower which is still firing, e.g. when the level is reset. */
+    private void releaseLaserShowers() {
+        for (LaserShowerBurst burst : laserShowerBursts) {
+            burst.cancel();
+            burst.release();
+        }
+        laserShowerBursts.clear();
+    }
+
+    /** The lasers of one laser shower, released together when the burst ends. */
+    private class LaserShowerBurst extends Timer.Task {
+        private final Array<Entity> lasers = new Array<>(12);
+
+        @Override
+        public void run() {
+            release();
+            laserShowerBursts.removeValue(this, true);
+        }
+
+        private void release() {
+            for (Entity laser : lasers) {
+                laser.release();
+            }
+            lasers.clear();
         }
     }
 
@@ -11,9 +11,12 @@ import com.csse3200.game.entities.spawn.SpawnRegistry;
  * </p>
  */
 public class BossLevelGameArea extends BaseLevelGameArea {
+    /** Asset manifest of this level, also used to prefetch it */
+    public static final String ASSETS_PATH = "levels/boss-level/assets.json";
+
     public BossLevelGameArea(GridFactory tf) { super(tf); }
     @Override protected String configPath() { return "levels/boss-level/config.json"; }
-    @Override protected String assetsPath() { return "levels/boss-level/assets.json"; }
+    @Override protected String assetsPath() { return ASSETS_PATH; }
     @Override protected String parallaxPath() { return "levels/boss-level/parallax.json"; }
 
 }
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.ai.navigation.NavigationService;
 import com.csse3200.game.areas.terrain.GridComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
@@ -173,11 +174,12 @@ public abstract class GameArea implements Disposable {
   public void reset() {
     isResetting = true;
     final int oldEntityCount = ServiceLocator.getEntityService().getEntities().size;
-    // Delete all entities within the room
-    // Note: Using GameArea's dispose() instead of the specific area's as this does not unload assets (in theory).
+    // Delete all entities within the room. While resetting, areas keep the assets they retained,
+    // so BaseLevelGameArea's dispose() leaves them loaded and keeps its entity pools.
     dispose();
 
-    loadAssets(); // As we also dispose of animation components we have to reload assets
+    // The assets are still retained, so this returns without loading anything
+    loadAssets();
     loadPrerequisites();
 
     // Components such as health, upgrades and items we want to revert to how they were at
@@ -262,6 +264,11 @@ public abstract class GameArea implements Disposable {
     // Clear list of entities.
     areaEntities.clear();
 
+    NavigationService navigation = ServiceLocator.getNavigationService();
+    if (navigation != null && grid != null) {
+      navigation.setGrid(null);
+    }
+
     if (deathMarkerTexture != null) {
       deathMarkerTexture.dispose();
       deathMarkerTexture = null;
@@ -285,6 +292,11 @@ public abstract class GameArea implements Disposable {
     GridComponent gridComponent = entity.getComponent(GridComponent.class);
     if (gridComponent != null) {
       this.grid = gridComponent;
+      ServiceLocator.getEntityService().getProximityIndex().setGrid(gridComponent);
+      NavigationService navigation = ServiceLocator.getNavigationService();
+      if (navigation != null) {
+        navigation.setGrid(gridComponent);
+      }
     }
   }
 
@@ -298,6 +310,20 @@ public abstract class GameArea implements Disposable {
    */
   protected void spawnEntityAt(
       Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
+    placeEntityAt(entity, tilePos, centerX, centerY);
+    spawnEntity(entity);
+  }
+
+  /**
+   * Move an entity to a grid position without spawning it
+   *
+   * @param entity Entity
+   * @param tilePos tile position to place the entity at
+   * @param centerX true to center entity X on the tile, false to align the bottom left corner
+   * @param centerY true to center entity Y on the tile, false to align the bottom left corner
+   */
+  protected void placeEntityAt(
+      Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
     Vector2 worldPos = grid.tileToWorldPosition(tilePos);
     float tileSize = grid.getTileSize();
 
@@ -309,7 +335,6 @@ public abstract class GameArea implements Disposable {
     }
 
     entity.setPosition(worldPos);
-    spawnEntity(entity);
   }
 
   /**
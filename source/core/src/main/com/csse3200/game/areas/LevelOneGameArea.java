@@ -12,9 +12,12 @@ import com.csse3200.game.entities.spawn.SpawnRegistry;
  */
 public final class LevelOneGameArea extends BaseLevelGameArea {
 
+    /** Asset manifest of this level, also used to prefetch it */
+    public static final String ASSETS_PATH = "levels/level-one/assets.json";
+
     public LevelOneGameArea(GridFactory tf) { super(tf); }
 
     @Override protected String configPath() { return "levels/level-one/config.json"; }
-    @Override protected String assetsPath() { return "levels/level-one/assets.json"; }
+    @Override protected String assetsPath() { return ASSETS_PATH; }
     @Override protected String parallaxPath() { return "levels/level-one/parallax.json"; }
 }
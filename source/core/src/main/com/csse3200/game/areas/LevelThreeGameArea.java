@@ -12,9 +12,12 @@ import com.csse3200.game.entities.spawn.SpawnRegistry;
  */
 public final class LevelThreeGameArea extends BaseLevelGameArea {
 
+    /** Asset manifest of this level, also used to prefetch it */
+    public static final String ASSETS_PATH = "levels/level-three/assets.json";
+
     public LevelThreeGameArea(GridFactory tf) { super(tf); }
 
     @Override protected String configPath() { return "levels/level-three/config.json"; }
-    @Override protected String assetsPath() { return "levels/level-three/assets.json"; }
+    @Override protected String assetsPath() { return ASSETS_PATH; }
     @Override protected String parallaxPath() { return "levels/level-three/parallax.json"; }
 }
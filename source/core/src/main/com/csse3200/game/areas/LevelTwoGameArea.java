@@ -11,9 +11,12 @@ import com.csse3200.game.entities.spawn.SpawnRegistry;
  * </p>
  */
 public final class LevelTwoGameArea extends BaseLevelGameArea {
+    /** Asset manifest of this level, also used to prefetch it */
+    public static final String ASSETS_PATH = "levels/level-two/assets.json";
+
     public LevelTwoGameArea(GridFactory tf) { super(tf); }
 
     @Override protected String configPath() { return "levels/level-two/config.json"; }
-    @Override protected String assetsPath() { return "levels/level-two/assets.json"; }
+    @Override protected String assetsPath() { return ASSETS_PATH; }
     @Override protected String parallaxPath() { return "levels/level-two/parallax.json"; }
 }
@@ -11,9 +11,12 @@ import com.csse3200.game.entities.spawn.SpawnRegistry;
  * </p>
  */
 public final class TutorialGameArea extends BaseLevelGameArea {
+  /** Asset manifest of this level, also used to prefetch it */
+  public static final String ASSETS_PATH = "levels/tutorial/assets.json";
+
   public TutorialGameArea(GridFactory tf) { super(tf); }
 
   @Override protected String configPath() { return "levels/tutorial/config.json"; }
-  @Override protected String assetsPath() { return "levels/tutorial/assets.json"; }
+  @Override protected String assetsPath() { return ASSETS_PATH; }
   @Override protected String parallaxPath() { return "levels/tutorial/parallax.json"; }
 }
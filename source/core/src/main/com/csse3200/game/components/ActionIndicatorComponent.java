@@ -2,9 +2,10 @@ package com.csse3200.game.components;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.input.Keymap;
@@ -17,6 +18,7 @@ public class ActionIndicatorComponent extends TextureRenderComponent {
   private final String keyText;
   private Skin skin;
   private BitmapFont font;
+  private final Rectangle textBounds = new Rectangle();
   /**
    * @param imagePath Path to the texture for the action's image.
    * @param keyText The text for the action being performed (used to get the keymap)
@@ -38,18 +40,42 @@ public class ActionIndicatorComponent extends TextureRenderComponent {
   protected void draw(SpriteBatch batch) {
     super.draw(batch);
     if (null == font) return;
-    Vector2 scale = entity.getScale();
-    Vector2 pos = entity.getPosition();
+    float width = entity.getScaleX();
 
-    font.getData().setScale(scale.x / 40);
+    font.getData().setScale(width / 40);
     font.draw(batch,
         Input.Keys.toString(Keymap.getActionKeyCode(keyText)),
-        pos.x - scale.x / 2, pos.y - 0.2f,
-        scale.x * 2, Align.center,
+        entity.getX() - width / 2, entity.getY() - 0.2f,
+        width * 2, Align.center,
         false
     );
   }
 
+  /** The key text is drawn below and to either side of the image, so it is bounded as well. */
+  @Override
+  public boolean getBounds(Rectangle out) {
+    super.getBounds(out);
+    if (null == font) return true;
+    float width = entity.getScaleX();
+    // Line height at the scale the text is drawn with
+    BitmapFont.BitmapFontData data = font.getData();
+    float textHeight = Math.abs(data.lineHeight / data.scaleY * width / 40);
+    float textTop = entity.getY() - 0.2f;
+    textBounds.set(entity.getX() - width / 2, textTop - textHeight, width * 2, textHeight);
+    if (width < 0) {
+      textBounds.x += width * 2;
+      textBounds.width = -width * 2;
+    }
+    out.merge(textBounds);
+    return true;
+  }
+
+  @Override
+  public Texture getBatchTexture() {
+    // The key text is drawn from the font's texture as well as the image
+    return null;
+  }
+
   @Override
   public void dispose() {
     super.dispose();
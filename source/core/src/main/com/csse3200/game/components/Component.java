@@ -14,6 +14,7 @@ public class Component {
   protected Entity entity;
   protected boolean enabled = true;
   protected ComponentPriority prio = ComponentPriority.LOW;
+  protected boolean updateLod = false;
 
   /**
    * Called when the entity is created and registered. Initial logic such as calls to GetComponent
@@ -44,6 +45,23 @@ public class Component {
     // No action by default.
   }
 
+  /**
+   * Called when the entity is returned to an {@link com.csse3200.game.entities.EntityPool} instead
+   * of being disposed. Anything which acts on the world outside of update(), such as physics bodies,
+   * lights and renderables, should be switched off here but kept for when the entity is reused.
+   */
+  public void deactivate() {
+    // No action by default.
+  }
+
+  /**
+   * Called instead of create() when a pooled entity is registered again. The entity has already
+   * been set up for its new use, so state left over from its last use should be reset here.
+   */
+  public void reactivate() {
+    // No action by default.
+  }
+
   /**
    * Set the entity to which this component belongs. This is called by the Entity, and should not be
    * set manually.
@@ -71,6 +89,25 @@ public class Component {
       return prio;
   }
 
+  /**
+   * Let the {@link com.csse3200.game.entities.UpdateScheduler} run this component's updates less
+   * often while its entity is far from the camera, or pin it to updating every frame. While it
+   * skips frames, the time source reports the time since its last update as the delta time. This
+   * should be set before the entity is created.
+   *
+   * @param updateLod true to opt in to reduced update rates, false to update every frame
+   */
+  public void setUpdateLod(boolean updateLod) {
+    this.updateLod = updateLod;
+  }
+
+  /**
+   * @return true if this component's updates may be skipped while its entity is far away
+   */
+  public boolean isUpdateLod() {
+    return updateLod;
+  }
+
   /**
    * Enable or disable the component. While disabled, a component does not run update() or
    * earlyUpdate(). Other events inside the component may still fire. The component can still be
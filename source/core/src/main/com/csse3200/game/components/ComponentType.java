@@ -1,25 +1,38 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.utils.ObjectMap;
-
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
  * runtime, allowing entities to get components by type.
+ *
+ * <p>Types are cached per class in a {@link ClassValue}, so resolving a component class to its
+ * type after the first lookup is a field read on the class rather than a map lookup.
  */
 public class ComponentType {
-  private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
-      new ObjectMap<>();
+  private static final ClassValue<ComponentType> componentTypes =
+      new ClassValue<>() {
+        @Override
+        protected ComponentType computeValue(Class<?> type) {
+          return new ComponentType();
+        }
+      };
   private static int nextId = 0;
 
   private final int id;
 
   public static ComponentType getFrom(Class<? extends Component> type) {
-    ComponentType componentType = componentTypes.get(type);
-    if (componentType == null) {
-      componentType = new ComponentType();
-      componentTypes.put(type, componentType);
+    return componentTypes.get(type);
+  }
+
+  /**
+   * Get the number of component types created so far. All type ids are less than this value, so it
+   * can be used to size arrays indexed by type id.
+   *
+   * @return number of component types
+   */
+  public static int getTypeCount() {
+    synchronized (ComponentType.class) {
+      return nextId;
     }
-    return componentType;
   }
 
   public int getId() {
@@ -27,7 +40,9 @@ public class ComponentType {
   }
 
   private ComponentType() {
-    id = nextId;
-    nextId++;
+    synchronized (ComponentType.class) {
+      id = nextId;
+      nextId++;
+    }
   }
 }
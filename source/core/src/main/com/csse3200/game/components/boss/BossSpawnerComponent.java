@@ -121,12 +121,8 @@ public class BossSpawnerComponent extends Component {
 	 * Find the player entity in the entity service
 	 */
 	private void findPlayer() {
-		for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
-			if (entity.getComponent(com.csse3200.game.components.player.PlayerActions.class) != null) {
-				player = entity;
-				return;
-			}
-		}
+		player = ServiceLocator.getEntityService()
+				.getFirstEntityWith(com.csse3200.game.components.player.PlayerActions.class);
 	}
 
 	@Override
@@ -287,7 +283,7 @@ public class BossSpawnerComponent extends Component {
 	private int getActiveDroneCount() {
 		int activeCount = 0;
 		for (Entity drone : spawnedDrones) {
-			if (drone != null && ServiceLocator.getEntityService().getEntities().contains(drone, true)) {
+			if (ServiceLocator.getEntityService().isRegistered(drone)) {
 				activeCount++;
 			}
 		}
@@ -299,7 +295,7 @@ public class BossSpawnerComponent extends Component {
 	 */
 	private void cleanupDeadDrones() {
 		spawnedDrones.removeIf(drone ->
-				drone == null || !ServiceLocator.getEntityService().getEntities().contains(drone, true)
+				!ServiceLocator.getEntityService().isRegistered(drone)
 		);
 	}
 
@@ -338,7 +334,7 @@ public class BossSpawnerComponent extends Component {
 	public void cleanupDrones() {
 		logger.info("Cleaning up {} spawned drones", spawnedDrones.size());
 		for (Entity drone : spawnedDrones) {
-			if (drone != null && ServiceLocator.getEntityService().getEntities().contains(drone, true)) {
+			if (ServiceLocator.getEntityService().isRegistered(drone)) {
 				drone.dispose();
 			}
 		}
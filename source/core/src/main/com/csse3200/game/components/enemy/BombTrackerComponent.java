@@ -12,6 +12,7 @@ import com.csse3200.game.entities.Entity;
  * Bombs must emit two events:
  * - "bomb:disposeRequested": The bomb is scheduled for disposal on next update
  * - "bomb:disposed": Fired by the bomb during its own disposal, the tracker removes it from the active list.
+ * Bombs are released rather than disposed, so pooled bombs go back to their pool.
  */
 public class BombTrackerComponent extends Component {
     private final Array<Entity> activeBombs = new Array<>();
@@ -48,7 +49,7 @@ public class BombTrackerComponent extends Component {
         pendingDisposals.clear();
         for (Entity bomb : toDispose) {
             if (bomb != null && activeBombs.contains(bomb, true)) {
-                bomb.dispose();
+                bomb.release();
             }
         }
     }
@@ -60,7 +61,7 @@ public class BombTrackerComponent extends Component {
     public void dispose() {
         Array<Entity> active = new Array<>(activeBombs);
         for (Entity bomb : active) {
-            if (bomb != null) bomb.dispose();
+            if (bomb != null) bomb.release();
         }
         activeBombs.clear();
         pendingDisposals.clear();
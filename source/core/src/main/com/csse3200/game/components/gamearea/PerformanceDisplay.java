@@ -3,8 +3,18 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.ai.navigation.NavigationService;
+import com.csse3200.game.lighting.LightingService;
+import com.csse3200.game.lighting.SecurityCamRetrievalService;
+import com.csse3200.game.physics.raycast.RaycastQueryService;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.AssetMemoryStats;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
+import com.csse3200.game.utils.FrameProfiler;
+
+import java.util.Map;
 
 /**
  * Displays performance stats about the game for debugging purposes.
@@ -40,14 +50,63 @@ public class PerformanceDisplay extends UIComponent {
   }
 
   private String getStats() {
+    RenderService renderService = ServiceLocator.getRenderService();
+    RaycastQueryService raycasts = ServiceLocator.getPhysicsService().getPhysics().getRaycastQueries();
     String message = "Debug\n";
     message =
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000))
+            .concat(String.format("Rendered: %d culled: %d%n",
+                renderService.getSubmittedCount(), renderService.getCulledCount()))
+            .concat(String.format("Raycasts: %d cast: %d%n",
+                raycasts.getQueryCount(), raycasts.getCastCount()))
+            .concat(renderService.getStats() == null ? "" : renderService.getStats().getSummary())
+            .concat(renderService.getStaticGeometrySummary())
+            .concat(getLightStats())
+            .concat(getVisionStats())
+            .concat(getNavigationStats())
+            .concat(ServiceLocator.getEntityService().getUpdateScheduler().getSummary())
+            .concat(getAssetStats())
+            .concat(FrameProfiler.getReport());
     return message;
   }
 
+  private String getLightStats() {
+    LightingService lighting = ServiceLocator.getLightingService();
+    if (lighting == null || lighting.getEngine() == null
+        || lighting.getEngine().getLightManager() == null) {
+      return "";
+    }
+    return lighting.getEngine().getLightManager().getSummary();
+  }
+
+  private String getVisionStats() {
+    SecurityCamRetrievalService cameras = ServiceLocator.getSecurityCamRetrievalService();
+    if (cameras == null || cameras.getVisionSystem() == null) {
+      return "";
+    }
+    return cameras.getVisionSystem().getSummary();
+  }
+
+  private String getNavigationStats() {
+    NavigationService navigation = ServiceLocator.getNavigationService();
+    return navigation == null ? "" : navigation.getSummary();
+  }
+
+  private String getAssetStats() {
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService == null) {
+      return "";
+    }
+    StringBuilder stats = new StringBuilder();
+    for (Map.Entry<Class<?>, AssetMemoryStats> entry : resourceService.getMemoryStats().entrySet()) {
+      stats.append(String.format("%s: %d, %.1f MB%n", entry.getKey().getSimpleName(),
+          entry.getValue().count(), entry.getValue().bytes() / 1000000f));
+    }
+    return stats.toString();
+  }
+
   @Override
   public float getZIndex() {
     return Z_INDEX;
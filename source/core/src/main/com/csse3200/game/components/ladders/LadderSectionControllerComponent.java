@@ -113,7 +113,7 @@ public class LadderSectionControllerComponent extends Component {
 
     private List<LadderRungComponent> findExtendableRungs() {
         rungs.clear();
-        for (Entity e : ServiceLocator.getEntityService().getEntities()) {
+        for (Entity e : ServiceLocator.getEntityService().getEntitiesWith(LadderRungComponent.class)) {
             LadderRungComponent rung = e.getComponent(LadderRungComponent.class);
             if (rung != null && id.equals(rung.getId()) && rung.getRungIdx() < extendCount) {
                 rungs.add(rung);
@@ -53,11 +53,19 @@ public class LaserEmitterComponent extends Component {
                     | detectorOccluder);
 
     private final List<Vector2> positions = new ArrayList<>();
+    // Points handed out through positions are reused between frames instead of reallocated
+    private final List<Vector2> positionPool = new ArrayList<>();
+    private final RaycastHit hit = new RaycastHit();
+    private final Vector2 start = new Vector2();
+    private final Vector2 end = new Vector2();
+    private final Vector2 dirVec = new Vector2();
+    private final Vector2 normal = new Vector2();
     private float dir = 90f;
     private PhysicsEngine physicsEngine;
     private CombatStatsComponent combatStats;
 
     private List<Entity> lastReflectorsHit = new ArrayList<>();
+    private List<Entity> reflectorsHit = new ArrayList<>();
     private Entity hitLight = null;
     private Entity lastDetectorHit = null;
 
@@ -125,34 +133,31 @@ public class LaserEmitterComponent extends Component {
         positions.clear();
 
         // add initial point
-        Vector2 start = entity.getPosition().cpy().add(entity.getScale().x / 2f, entity.getScale().y / 2f); // offset to centre
-        positions.add(start.cpy());
+        start.set(entity.getCenterX(), entity.getCenterY()); // offset to centre
+        addPosition(start);
 
-        Vector2 dirVec = new Vector2(1f, 0f).rotateDeg(dir).nor();
+        dirVec.set(1f, 0f).rotateDeg(dir).nor();
 
         float remaining = MAX_DISTANCE;
         int rebounds = 0;
-        List<Entity> reflectorsHit = new ArrayList<>();
+        reflectorsHit.clear();
 
         while (rebounds <= MAX_REBOUNDS && remaining > 0f) {
-            Vector2 end = start.cpy().mulAdd(dirVec, remaining);
+            end.set(start).mulAdd(dirVec, remaining);
 
-            RaycastHit hit = new RaycastHit();
             boolean hitSomething = physicsEngine.raycast(start, end, hitMask, hit);
 
             // if no hit on block and rebound laser reaches max dist hitting nothing
             if (!hitSomething) {
-                positions.add(end);
-                RaycastHit endHit = new RaycastHit();
-                endHit.point = end.cpy();
-                updateHitLight(endHit);
+                addPosition(end);
+                updateHitLight(end);
                 break;
             }
 
             // travel to first hit
             float travelled = start.dst(hit.point);
             remaining -= travelled;
-            positions.add(hit.point.cpy());
+            addPosition(hit.point);
             if (remaining <= 0f) break;
 
             // classify reflector or blocker
@@ -163,8 +168,8 @@ public class LaserEmitterComponent extends Component {
 
             if (isReflector) {
                 // reflect r = d -2(d.n) n
-                Vector2 n = hit.normal.cpy().nor();
-                dirVec = reflect(dirVec, n).nor();
+                normal.set(hit.normal).nor();
+                reflect(dirVec, normal).nor();
 
                 // continue from just past the hit to avoid re-hit
                 start.set(hit.point).mulAdd(dirVec, 1e-4f);
@@ -185,7 +190,7 @@ public class LaserEmitterComponent extends Component {
                     setLightVisibility(true);
                 }
 
-                updateHitLight(hit);
+                updateHitLight(hit.point);
 
                 if (isPlayer) {
                     damagePlayer(hit);
@@ -216,7 +221,23 @@ public class LaserEmitterComponent extends Component {
                 e.getEvents().trigger("laserOff", false);
             }
         }
+        List<Entity> previous = lastReflectorsHit;
         lastReflectorsHit = reflectorsHit;
+        reflectorsHit = previous;
+    }
+
+    /**
+     * Appends a copy of a point to the positions list, reusing a point from a previous frame when
+     * one is available.
+     *
+     * @param point the point to add
+     */
+    private void addPosition(Vector2 point) {
+        int index = positions.size();
+        if (index == positionPool.size()) {
+            positionPool.add(new Vector2());
+        }
+        positions.add(positionPool.get(index).set(point));
     }
 
     private static Entity createPointLight() {
@@ -263,14 +284,13 @@ public class LaserEmitterComponent extends Component {
         }
     }
 
-    private void updateHitLight(RaycastHit hit) {
+    private void updateHitLight(Vector2 p) {
         if (hitLight == null) return;
 
-        Vector2 p = hit.point.cpy();
         ConeLightComponent coneLight = hitLight.getComponent(ConeLightComponent.class);
 
         coneLight.getLight().setPosition(p);
-        hitLight.setPosition(p.x - hitLight.getScale().x / 2f, p.y - hitLight.getScale().y / 2f);
+        hitLight.setPosition(p.x - hitLight.getScaleX() / 2f, p.y - hitLight.getScaleY() / 2f);
     }
 
     /**
@@ -289,15 +309,15 @@ public class LaserEmitterComponent extends Component {
 
     /**
      * Calculates the reflected angle based off the impact vector {@code d}, and
-     * the normal vector of the hit surface {@code n}.
+     * the normal vector of the hit surface {@code n}. The result is stored in {@code d}.
      *
      * @param d impact direction hit vector
      * @param n surface normal vector
-     * @return reflected vector
+     * @return d, set to the reflected vector
      */
     private static Vector2 reflect(Vector2 d, Vector2 n) {
         float dot = d.dot(n);
-        return new Vector2(
+        return d.set(
                 d.x - 2f * dot * n.x,
                 d.y - 2f * dot * n.y
         );
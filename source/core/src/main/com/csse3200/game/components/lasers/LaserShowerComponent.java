@@ -111,6 +111,29 @@ public class LaserShowerComponent extends Component {
         lastReflectorsHit.clear();
     }
 
+    /**
+     * Switches off a pooled laser. Its hit light is kept with it, but taken out of the world until
+     * the laser is used again.
+     */
+    @Override
+    public void deactivate() {
+        stopLaser();
+        if (lastDetectorHit != null) {
+            lastDetectorHit.getEvents().trigger("updateDetection", false);
+            lastDetectorHit = null;
+        }
+        if (hitLight != null) {
+            hitLight.deactivate();
+        }
+    }
+
+    @Override
+    public void reactivate() {
+        if (hitLight != null) {
+            ServiceLocator.getEntityService().register(hitLight);
+        }
+    }
+
     @Override
     public void update() {
         // Only fire if laser is active AND cooldown expired
@@ -6,6 +6,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentPriority;
+import com.csse3200.game.lighting.LightManager;
+import com.csse3200.game.lighting.LightingService;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.services.ServiceLocator;
 
@@ -24,6 +26,9 @@ public class ConeLightComponent extends Component {
     private float directionDeg;
     private float coneDegree;
     private boolean isActive = true;
+    private boolean culled = false;
+    private float lightX = Float.NaN;
+    private float lightY = Float.NaN;
 
     // Movement/rotation
     private Vector2 velocity = new Vector2(0f, 0f);
@@ -61,6 +66,13 @@ public class ConeLightComponent extends Component {
         short maskBits = (short)~PhysicsLayer.COLLECTABLE;
         short groupIndex = 0;
         coneLight.setContactFilter(categoryBits, groupIndex, maskBits);
+        lightX = p.x;
+        lightY = p.y;
+
+        LightManager manager = getLightManager();
+        if (manager != null) {
+            manager.register(this);
+        }
 
         // only here for testing
         entity.getEvents().addListener("walk", this::setVelocity);
@@ -71,9 +83,7 @@ public class ConeLightComponent extends Component {
     @Override
     public void update() {
         if (coneLight == null) return;
-        if (coneLight.isActive() != isActive) {
-            coneLight.setActive(isActive);
-        }
+        applyActive();
 
         // get the amount of time passed
         float dt = ServiceLocator.getTimeSource().getDeltaTime();
@@ -97,18 +107,71 @@ public class ConeLightComponent extends Component {
         }
 
         // keep light synced to entity position if following
+        // static lights recast their rays whenever they are moved, so only move them if needed
         Vector2 c = entity.getCenterPosition();
-        coneLight.setPosition(c.x, c.y);
+        if (!coneLight.isStaticLight() || c.x != lightX || c.y != lightY) {
+            coneLight.setPosition(c.x, c.y);
+            lightX = c.x;
+            lightY = c.y;
+        }
+    }
+
+    private void applyActive() {
+        boolean on = isActive && !culled;
+        if (coneLight.isActive() != on) {
+            coneLight.setActive(on);
+        }
+    }
+
+    private static LightManager getLightManager() {
+        LightingService lighting = ServiceLocator.getLightingService();
+        if (lighting == null || lighting.getEngine() == null) {
+            return null;
+        }
+        return lighting.getEngine().getLightManager();
     }
 
     @Override
     public void dispose() {
+        LightManager manager = getLightManager();
+        if (manager != null) {
+            manager.unregister(this);
+        }
         if (coneLight != null) {
             coneLight.remove();
             coneLight = null;
         }
     }
 
+    /** The light is kept for reuse, only switched off. */
+    @Override
+    public void deactivate() {
+        LightManager manager = getLightManager();
+        if (manager != null) {
+            manager.unregister(this);
+        }
+        if (coneLight != null) {
+            coneLight.setActive(false);
+        }
+    }
+
+    @Override
+    public void reactivate() {
+        if (coneLight != null) {
+            Vector2 c = entity.getCenterPosition();
+            coneLight.setPosition(c.x, c.y);
+            lightX = c.x;
+            lightY = c.y;
+            culled = false;
+            coneLight.setActive(isActive);
+
+            LightManager manager = getLightManager();
+            if (manager != null) {
+                manager.register(this);
+            }
+        }
+    }
+
     public ConeLightComponent setVelocityZero() {
         this.velocity = new Vector2(0f, 0f);
         return this;
@@ -165,6 +228,30 @@ public class ConeLightComponent extends Component {
         return this.isActive;
     }
 
+    /**
+     * Switch the light off while it is out of view, without changing whether it is active. Set by
+     * the {@link LightManager} each frame.
+     *
+     * @param culled true if the light cannot reach the camera view
+     */
+    public void setCulled(boolean culled) {
+        this.culled = culled;
+        if (coneLight != null) {
+            applyActive();
+        }
+    }
+
+    public boolean isCulled() {
+        return culled;
+    }
+
+    /**
+     * @return ray count the light was created with, before any lowering by the light manager
+     */
+    public int getRays() {
+        return rays;
+    }
+
     public ConeLight getLight() {
         return coneLight;
     }
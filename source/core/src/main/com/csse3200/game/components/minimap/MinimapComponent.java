@@ -2,7 +2,7 @@ package com.csse3200.game.components.minimap;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -55,7 +55,8 @@ public class MinimapComponent extends Component {
 
     MARKER_SCALE.set(tileBounds.x * BOUNDS_SCALAR * scaleX * ratio, tileBounds.y * BOUNDS_SCALAR * scaleY * ratio);
 
-    Texture asset = ServiceLocator.getResourceService().getAsset(markerAsset, Texture.class);
+    // Markers are packed into the level atlas, so draw them from it rather than loading them loose
+    TextureRegion asset = ServiceLocator.getResourceService().getRegion(markerAsset);
     if (asset == null) return;
     marker = new Image(asset);
 
@@ -66,9 +67,13 @@ public class MinimapComponent extends Component {
     rescaleMarker();
   }
 
-  @Override
-  public void update() {
-    float ratio = (float) Gdx.graphics.getWidth() / Gdx.graphics.getHeight();
+  /**
+   * Resizes the marker for a new screen aspect ratio. Called by the minimap display when the screen
+   * is resized, rather than checking every frame.
+   *
+   * @param ratio screen width divided by height
+   */
+  void setScreenRatio(float ratio) {
     if (Math.abs(ratio - lastScreenRatio) > 1e-4) {
       MARKER_SCALE.set(tileBounds.x * BOUNDS_SCALAR * scaleX * ratio, tileBounds.y * BOUNDS_SCALAR * scaleY * ratio);
       rescaleMarker();
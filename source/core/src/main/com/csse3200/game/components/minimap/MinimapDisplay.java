@@ -1,26 +1,43 @@
 package com.csse3200.game.components.minimap;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.MinimapService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
-import java.util.Map;
-
 /**
  * A UI component for displaying a minimap.
+ *
+ * <p>The minimap texture and every marker sit on one map layer, positioned in map coordinates.
+ * Following the camera only moves that layer, so the cost per frame does not grow with the number
+ * of markers:
+ * <ul>
+ *   <li>Static markers, for entities without a moving physics body, are placed when added and again
+ *   only when their entity is moved with {@link Entity#setPosition(float, float)}.</li>
+ *   <li>Moving markers are refreshed at {@link #setMarkerUpdateRate(float)}, and only if their
+ *   entity has moved since.</li>
+ *   <li>The player's marker is refreshed every frame, as the camera follows the player.</li>
+ * </ul>
  */
 public class MinimapDisplay extends UIComponent {
   private final Camera camera;
@@ -34,6 +51,49 @@ public class MinimapDisplay extends UIComponent {
   private Table rootTable;
   private Image minimapImage;
   private final Group markers = new Group();
+  /** Minimap texture and markers, in map coordinates. Moved to follow the camera. */
+  private final Group mapLayer = new Group();
+  // Scratch vectors reused every update to avoid per-frame allocations
+  private final Vector2 cameraMinimapOrigin = new Vector2();
+  private final Vector2 minimapCoords = new Vector2();
+
+  private static final float DEFAULT_MARKER_UPDATE_RATE = 30f;
+  private final ObjectMap<Image, TrackedMarker> trackedMarkers = new ObjectMap<>();
+  private final Array<TrackedMarker> movingMarkers = new Array<>(false, 16, TrackedMarker.class);
+  private final Array<TrackedMarker> dirtyMarkers = new Array<>(false, 16, TrackedMarker.class);
+  private float markerInterval = 1f / DEFAULT_MARKER_UPDATE_RATE;
+  private float markerTimer = 0f;
+  private float screenRatio = -1f;
+
+  /** A marker following an entity. */
+  private static class TrackedMarker {
+    private final Entity entity;
+    private final Image image;
+    /** Player markers are drawn half a unit right */
+    private final float offsetX;
+    private final boolean player;
+    private final boolean moving;
+    private boolean tracked = true;
+    /** Listener for the entity's setPosition event, or null if the marker is refreshed anyway. */
+    private EventListener1<Vector2> moveListener;
+    private boolean dirty = false;
+    private float lastX = Float.NaN;
+    private float lastY = Float.NaN;
+
+    private TrackedMarker(Entity entity, Image image) {
+      this.entity = entity;
+      this.image = image;
+      player = entity.getComponent(InventoryComponent.class) != null;
+      offsetX = player ? 0.5f : 0f;
+      moving = !player && hasMovingBody(entity);
+    }
+
+    private static boolean hasMovingBody(Entity entity) {
+      PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+      Body body = physics == null ? null : physics.getBody();
+      return body != null && body.getType() != BodyType.StaticBody;
+    }
+  }
 
   /**
    * Dictate where the Minimap will be drawn
@@ -70,12 +130,33 @@ public class MinimapDisplay extends UIComponent {
   }
 
   /**
-   * Adds the given marker to the markers group.
+   * Adds the given marker to the markers group, at its current position in map coordinates.
    *
    * @param marker the marker image to be added to the group.
    */
   public void addMarker(Image marker) {
-    markers.addActor(marker);
+    mapLayer.addActor(marker);
+  }
+
+  /**
+   * Adds a marker which follows an entity.
+   *
+   * @param entity the entity the marker shows.
+   * @param marker the marker image to be added to the group.
+   */
+  public void addMarker(Entity entity, Image marker) {
+    removeMarker(marker);
+    mapLayer.addActor(marker);
+    TrackedMarker tracked = new TrackedMarker(entity, marker);
+    trackedMarkers.put(marker, tracked);
+    if (tracked.moving || tracked.player) {
+      movingMarkers.add(tracked);
+    } else {
+      // Moves outside of physics are announced, so static markers only need placing again then
+      tracked.moveListener = position -> markDirty(tracked);
+      entity.getEvents().addListener("setPosition", tracked.moveListener);
+    }
+    markDirty(tracked);
   }
 
   /**
@@ -84,7 +165,41 @@ public class MinimapDisplay extends UIComponent {
    * @param marker the marker image to removed.
    */
   public void removeMarker(Image marker) {
-    markers.removeActor(marker);
+    mapLayer.removeActor(marker);
+    TrackedMarker tracked = trackedMarkers.remove(marker);
+    if (tracked != null) {
+      tracked.tracked = false;
+      movingMarkers.removeValue(tracked, true);
+      dirtyMarkers.removeValue(tracked, true);
+      if (tracked.moveListener != null) {
+        tracked.entity.getEvents().removeListener("setPosition", tracked.moveListener);
+        tracked.moveListener = null;
+      }
+    }
+  }
+
+  /**
+   * Refresh moving markers at the given rate, rather than every frame. The player's marker is always
+   * refreshed every frame.
+   *
+   * @param updatesPerSecond refreshes per second, or 0 to refresh every frame
+   */
+  public void setMarkerUpdateRate(float updatesPerSecond) {
+    markerInterval = updatesPerSecond > 0f ? 1f / updatesPerSecond : 0f;
+  }
+
+  /**
+   * @return moving marker refreshes per second, or 0 if they are refreshed every frame
+   */
+  public float getMarkerUpdateRate() {
+    return markerInterval > 0f ? 1f / markerInterval : 0f;
+  }
+
+  private void markDirty(TrackedMarker tracked) {
+    if (tracked.tracked && !tracked.dirty) {
+      tracked.dirty = true;
+      dirtyMarkers.add(tracked);
+    }
   }
 
   @Override
@@ -122,7 +237,9 @@ public class MinimapDisplay extends UIComponent {
     stack.add(markers);
     stack.clipBegin();
 
-    markers.addActor(minimapImage);
+    mapLayer.setTransform(false);
+    mapLayer.addActorAt(0, minimapImage);
+    markers.addActor(mapLayer);
 
     Table content = new Table();
     contentCell = content.add(stack).size(displaySize);
@@ -134,30 +251,75 @@ public class MinimapDisplay extends UIComponent {
   public void update() {
     if (!rootTable.isVisible()) return;
 
-    minimapScaleFactor = displaySize / camera.viewportHeight;
-    minimapImage.setSize(fullMapSize.x * minimapScaleFactor, fullMapSize.y * minimapScaleFactor);
-    final float width = minimapScaleFactor * camera.viewportWidth;
-    rootCell.width(width);
-    contentCell.width(width);
-
-    final Vector2 cameraOrigin =
-        new Vector2(camera.viewportWidth / 2 - camera.position.x, camera.viewportHeight / 2 - camera.position.y);
-    final Vector2 cameraMinimapOrigin = worldToMinimapCoordinates(cameraOrigin);
-    minimapImage.setPosition(cameraMinimapOrigin.x, cameraMinimapOrigin.y);
-
-    for (Map.Entry<Entity, Image> entry : ServiceLocator.getMinimapService().getTrackedEntities().entrySet()) {
-      Vector2 pos = entry.getKey().getComponent(InventoryComponent.class) == null ?
-              entry.getKey().getPosition() : entry.getKey().getPosition().cpy().add(0.5f, 0f);
-      final Vector2 minimapCoords = worldToMinimapCoordinates(pos);
-      Image marker = entry.getValue();
-      marker.setPosition(cameraMinimapOrigin.x + minimapCoords.x, cameraMinimapOrigin.y + minimapCoords.y);
+    float scaleFactor = displaySize / camera.viewportHeight;
+    if (scaleFactor != minimapScaleFactor) {
+      minimapScaleFactor = scaleFactor;
+      minimapImage.setSize(fullMapSize.x * minimapScaleFactor, fullMapSize.y * minimapScaleFactor);
+      final float width = minimapScaleFactor * camera.viewportWidth;
+      rootCell.width(width);
+      contentCell.width(width);
+      // Every marker moves when the scale changes
+      for (TrackedMarker tracked : trackedMarkers.values()) {
+        markDirty(tracked);
+      }
+    }
+    updateScreenRatio();
+
+    worldToMinimapCoordinates(
+        camera.viewportWidth / 2 - camera.position.x,
+        camera.viewportHeight / 2 - camera.position.y,
+        cameraMinimapOrigin);
+    mapLayer.setPosition(cameraMinimapOrigin.x, cameraMinimapOrigin.y);
+
+    for (int i = 0; i < dirtyMarkers.size; i++) {
+      TrackedMarker tracked = dirtyMarkers.get(i);
+      tracked.dirty = false;
+      placeMarker(tracked);
+    }
+    dirtyMarkers.clear();
+
+    GameTime time = ServiceLocator.getTimeSource();
+    markerTimer += time == null ? 0f : time.getDeltaTime();
+    boolean refresh = markerTimer >= markerInterval;
+    if (refresh) {
+      // Do not build up a backlog of refreshes after a long frame
+      markerTimer = Math.min(markerTimer - markerInterval, markerInterval);
+    }
+    for (int i = 0; i < movingMarkers.size; i++) {
+      TrackedMarker tracked = movingMarkers.get(i);
+      if ((refresh || tracked.player)
+          && (tracked.entity.getX() != tracked.lastX || tracked.entity.getY() != tracked.lastY)) {
+        placeMarker(tracked);
+      }
+    }
+  }
+
+  private void placeMarker(TrackedMarker tracked) {
+    Entity entity = tracked.entity;
+    tracked.lastX = entity.getX();
+    tracked.lastY = entity.getY();
+    worldToMinimapCoordinates(tracked.lastX + tracked.offsetX, tracked.lastY, minimapCoords);
+    tracked.image.setPosition(minimapCoords.x, minimapCoords.y);
+  }
+
+  /** Resize markers once when the screen's aspect ratio changes. */
+  private void updateScreenRatio() {
+    if (Gdx.graphics == null || Gdx.graphics.getHeight() == 0) return;
+    float ratio = (float) Gdx.graphics.getWidth() / Gdx.graphics.getHeight();
+    if (Math.abs(ratio - screenRatio) <= 1e-4) return;
+    screenRatio = ratio;
+    for (TrackedMarker tracked : trackedMarkers.values()) {
+      MinimapComponent component = tracked.entity.getComponent(MinimapComponent.class);
+      if (component != null) {
+        component.setScreenRatio(ratio);
+      }
     }
   }
 
-  private Vector2 worldToMinimapCoordinates(Vector2 worldPos) {
-    float mapX = (worldPos.x - textureBottomLeft.x) * minimapScaleFactor;
-    float mapY = (worldPos.y - textureBottomLeft.y) * minimapScaleFactor;
-    return new Vector2(mapX, mapY);
+  private Vector2 worldToMinimapCoordinates(float worldX, float worldY, Vector2 out) {
+    float mapX = (worldX - textureBottomLeft.x) * minimapScaleFactor;
+    float mapY = (worldY - textureBottomLeft.y) * minimapScaleFactor;
+    return out.set(mapX, mapY);
   }
 
   @Override
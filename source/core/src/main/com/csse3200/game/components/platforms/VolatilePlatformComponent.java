@@ -88,8 +88,8 @@ public class VolatilePlatformComponent extends Component {
             }
 
             if (!platePressed && !disappeared) {
-                if (collider != null && collider.getFixture() != null) {
-                    collider.getFixture().getBody().destroyFixture(collider.getFixture());
+                if (collider != null) {
+                    collider.destroyFixture();
                 }
                 if (texture != null) texture.setTexture(hiddenTexture);
                 disappeared = true;
@@ -143,8 +143,8 @@ public class VolatilePlatformComponent extends Component {
         disappeared = true;
         disappearTime = timeSource.getTime();
 
-        if (collider != null && collider.getFixture() != null) {
-            collider.getFixture().getBody().destroyFixture(collider.getFixture());
+        if (collider != null) {
+            collider.destroyFixture();
         }
 
         if (texture != null) texture.setTexture(hiddenTexture);
@@ -32,7 +32,10 @@ public class KeyboardPlayerInputComponent extends InputComponent {
 
     private HashMap<Integer, Boolean> pressedKeys = new HashMap<>();
 
-    private Array<Entity> ladders = null;
+    /** Ladders near the player, reused between checks */
+    private final Array<Entity> ladders = new Array<>();
+    /** Horizontal margin for detecting a ladder nearby */
+    private static final float LADDER_MARGIN = 0.1f;
 
     private Boolean onLadder = false;
     private boolean acquiredTriggered = false;
@@ -59,11 +62,6 @@ public class KeyboardPlayerInputComponent extends InputComponent {
             return false;
         }
 
-        //gets all the ladder in the level if not already done so.
-        if (this.ladders == null) {
-            this.ladders = findLadders();
-        }
-
         if (keycode == Keymap.getActionKeyCode("PlayerJump")) {
             //takes player off ladder if they are on one.
             this.onLadder = false;
@@ -128,7 +126,7 @@ public class KeyboardPlayerInputComponent extends InputComponent {
             cheatPosition++;
 
             //Only moves the player down if they are in front of a ladder.
-            if (inFrontOfLadder(this.ladders)) {
+            if (inFrontOfLadder(findLadders())) {
                 this.onLadder = true;
                 walkDirection.add(Vector2Utils.DOWN);
                 triggerWalkEvent();
@@ -167,13 +165,8 @@ public class KeyboardPlayerInputComponent extends InputComponent {
             return false;
         }
 
-        //gets all the ladder in the level if not already done so.
-        if (this.ladders == null) {
-            this.ladders = findLadders();
-        }
-
         if (this.onLadder) {
-            this.onLadder = inFrontOfLadder(this.ladders);
+            this.onLadder = inFrontOfLadder(findLadders());
         }
 
         if (keycode == Keymap.getActionKeyCode("PlayerLeft")) {
@@ -199,7 +192,7 @@ public class KeyboardPlayerInputComponent extends InputComponent {
                 }
             }
         } else if (keycode == Keymap.getActionKeyCode(PLAYER_DOWN)) {
-            if (inFrontOfLadder(this.ladders)) {
+            if (inFrontOfLadder(findLadders())) {
                 walkDirection.sub(Vector2Utils.DOWN);
                 triggerWalkEvent();
                 entity.getEvents().trigger("walkStop");
@@ -349,19 +342,17 @@ public class KeyboardPlayerInputComponent extends InputComponent {
     }
 
     /**
-     * Checks every entity currently in the game and finds all the ones that are ladders.
+     * Finds the ladders the player could be in front of, using the entity service's proximity index
+     * rather than checking every ladder in the level.
      *
-     * @return Array of Entities that are ladders.
+     * @return Array of ladder entities overlapping the player's height within the horizontal margin.
+     * Reused between calls.
      */
     private Array<Entity> findLadders() {
-        Array<Entity> ladd = new Array<>();
-        Array<Entity> bobs = ServiceLocator.getEntityService().getEntities();
-        for (Entity bob : bobs) {
-            if (bob.getComponent(LadderComponent.class) != null) {
-                ladd.add(bob);
-            }
-        }
-        return ladd;
+        ladders.clear();
+        return ServiceLocator.getEntityService().getProximityIndex().queryArea(
+                LadderComponent.class, entity.getCenterX() - LADDER_MARGIN, entity.getY(),
+                LADDER_MARGIN * 2, entity.getScaleY(), ladders);
     }
 
     /**
@@ -383,8 +374,6 @@ public class KeyboardPlayerInputComponent extends InputComponent {
         float playerBottom = entity.getPosition().y;
         float playerTop = playerBottom + entity.getScale().y;
 
-        // Horizontal margin for detecting ladder nearby
-        float horizontalMargin = 0.1f;
         boolean inFront = false;
 
         for (Entity ladder : ladders) {
@@ -394,7 +383,7 @@ public class KeyboardPlayerInputComponent extends InputComponent {
             float ladderTop = ladderBottom + ladder.getScale().y;
 
             // Check horizontal and vertical overlap
-            float allowedDistance = ladder.getScale().x / 2f + horizontalMargin;
+            float allowedDistance = ladder.getScale().x / 2f + LADDER_MARGIN;
             boolean xOverlap = Math.abs(playerCentreX - ladderCentreX) <= allowedDistance;
             boolean yOverlap = playerTop >= ladderBottom && playerBottom <= ladderTop;
 
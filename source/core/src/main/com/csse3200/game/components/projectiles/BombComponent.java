@@ -26,14 +26,19 @@ public class BombComponent extends Component {
     private static final Logger logger = LoggerFactory.getLogger(BombComponent.class);
 
     private GameTime timeSource;
-    private final float explosionDelay;
-    private final float explosionRadius;
+    private static final String DISPOSE_REQUESTED = "bomb:disposeRequested";
+    private static final String DISPOSED = "bomb:disposed";
+
+    private float explosionDelay;
+    private float explosionRadius;
     private final short targetLayer;
     private long dropTime;
     private boolean hasExploded;
     private boolean hasLanded;
     private float blinkTimer;
     private boolean isVisible = true;
+    /** Collider layer before the explosion cleared it */
+    private short colliderLayer = PhysicsLayer.NONE;
 
     /**
      * Create a new bomb component
@@ -122,10 +127,11 @@ public class BombComponent extends Component {
 
         // Disable component and trigger events BEFORE anything that might fail
         this.setEnabled(false);
-        entity.getEvents().trigger("bomb:disposeRequested");
+        entity.getEvents().trigger(DISPOSE_REQUESTED);
 
         ColliderComponent col = entity.getComponent(ColliderComponent.class);
         if (null != col) {
+            colliderLayer = col.getLayer();
             col.setSensor(true);
             col.setLayer(PhysicsLayer.NONE);
         }
@@ -227,9 +233,47 @@ public class BombComponent extends Component {
         return hasExploded;
     }
 
+    /**
+     * Set the fuse and blast of a pooled bomb before it is dropped again.
+     * @param explosionDelay Seconds until explosion after being dropped
+     * @param explosionRadius Radius of the explosion
+     */
+    public void reset(float explosionDelay, float explosionRadius) {
+        this.explosionDelay = explosionDelay;
+        this.explosionRadius = explosionRadius;
+    }
+
+    /**
+     * A pooled bomb is finished with, so tell the tracker as if it was disposed. The tracker's
+     * listeners are dropped, as the next bomber to use this bomb adds its own.
+     */
+    @Override
+    public void deactivate() {
+        entity.getEvents().trigger(DISPOSED);
+        entity.getEvents().removeListeners(DISPOSE_REQUESTED);
+        entity.getEvents().removeListeners(DISPOSED);
+    }
+
+    /** Undo the explosion so the bomb can be dropped again. */
+    @Override
+    public void reactivate() {
+        hasExploded = false;
+        hasLanded = false;
+        blinkTimer = 0f;
+        isVisible = true;
+        dropTime = timeSource.getTime();
+        setEnabled(true);
+
+        ColliderComponent col = entity.getComponent(ColliderComponent.class);
+        if (null != col && colliderLayer != PhysicsLayer.NONE) {
+            col.setSensor(false);
+            col.setLayer(colliderLayer);
+        }
+    }
+
     @Override
     public void dispose() {
-        entity.getEvents().trigger("bomb:disposed");
+        entity.getEvents().trigger(DISPOSED);
         super.dispose();
     }
 }
\ No newline at end of file
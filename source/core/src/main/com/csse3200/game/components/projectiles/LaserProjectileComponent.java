@@ -31,8 +31,8 @@ public class LaserProjectileComponent extends Component {
     private static final float HIT_EFFECT_DURATION = 0.3f; // Duration of hit effect
 
     private final Vector2 direction;
-    private final float speed;
-    private final Entity source;
+    private float speed;
+    private Entity source;
     private final Vector2 startPosition;
 
     private boolean hasHit = false;
@@ -57,16 +57,45 @@ public class LaserProjectileComponent extends Component {
         physicsComponent = entity.getComponent(PhysicsComponent.class);
 
         // Store starting position from physics body (already set correctly in factory)
+        start();
+
+        // Physics is already fully configured in the factory
+        // No need to modify it here - just register collision listener
+        entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    }
+
+    /**
+     * Point a pooled projectile in a new direction before it is fired again.
+     * @param direction Normalized direction vector
+     * @param speed Movement speed
+     * @param source The entity that created this projectile (boss)
+     */
+    public void reset(Vector2 direction, float speed, Entity source) {
+        this.direction.set(direction).nor();
+        this.speed = speed;
+        this.source = source;
+    }
+
+    @Override
+    public void reactivate() {
+        hasHit = false;
+        entity.setEnabled(true);
+        start();
+    }
+
+    /**
+     * Turn the body to face the direction of travel, which also turns the collider, and remember
+     * where the projectile started.
+     */
+    private void start() {
         if (physicsComponent != null && physicsComponent.getBody() != null) {
+            physicsComponent.getBody().setTransform(
+                    physicsComponent.getBody().getPosition(), direction.angleRad());
             startPosition.set(physicsComponent.getBody().getPosition());
 
-            logger.debug("Laser projectile created at position {} with direction {} and speed {}",
+            logger.debug("Laser projectile started at position {} with direction {} and speed {}",
                     startPosition, direction, speed);
         }
-
-        // Physics is already fully configured in the factory
-        // No need to modify it here - just register collision listener
-        entity.getEvents().addListener("collisionStart", this::onCollisionStart);
     }
 
     @Override
@@ -255,7 +284,7 @@ public class LaserProjectileComponent extends Component {
     }
 
     /**
-     * Safely disposes the projectile entity.
+     * Safely disposes the projectile entity, or returns it to its pool if it has one.
      * Defers disposal to next frame to avoid physics world lock issues.
      */
     private void disposeProjectile() {
@@ -266,8 +295,8 @@ public class LaserProjectileComponent extends Component {
             // Defer disposal to next frame (safe from physics callbacks)
             Gdx.app.postRunnable(() -> {
                 if (entity != null) {
-                    entity.dispose();
-                    logger.debug("Laser projectile disposed");
+                    entity.release();
+                    logger.debug("Laser projectile released");
                 }
             });
         }
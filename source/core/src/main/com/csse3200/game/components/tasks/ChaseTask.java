@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.navigation.NavigationService;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -20,6 +21,8 @@ import com.csse3200.game.services.ServiceLocator;
  *  To prevent the task from finishing immediately if the entity starts far away/out of LOS, these end conditions
  *  are only applicable after an initial active grace period ends.
  *  Re-activate chase via new calls to activate() only.
+ *  While the target is out of sight, the entity follows the shared {@link NavigationService} flow field
+ *  around obstacles instead of moving straight at the target.
  **/
 public class ChaseTask extends DefaultTask implements PriorityTask {
     private final Entity target;
@@ -30,6 +33,12 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     private final PhysicsEngine physics;
     private final DebugRenderer debugRenderer;
     private final RaycastHit hit = new RaycastHit();
+    // Reused every frame so chasing and line-of-sight checks do not allocate
+    private final Vector2 targetPos = new Vector2();
+    private final Vector2 rayFrom = new Vector2();
+    private final Vector2 rayTo = new Vector2();
+    private final Vector2 selfCenter = new Vector2();
+    private final Vector2 waypoint = new Vector2();
     private final GameTime timeSource;
 
     // Activation
@@ -41,6 +50,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     private static final long LOS_GRACE_MS  = 250L;
     private long lastVisibleAt = 0L;
     private boolean hasSeenTarget = false;
+    private boolean targetVisible = true;
 
 
     /**
@@ -87,11 +97,12 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
         super.start();
         if (!active) return;
 
+        target.getPosition(targetPos);
         if (movementTask == null) {
-            movementTask = new MovementTask(target.getPosition());
+            movementTask = new MovementTask(targetPos);
             movementTask.create(owner);
         } else {
-            movementTask.setTarget(target.getPosition());
+            movementTask.setTarget(targetPos);
         }
         movementTask.start();
 
@@ -105,7 +116,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     public void update() {
         if (!active || movementTask == null) return;
 
-        movementTask.setTarget(target.getPosition());
+        movementTask.setTarget(getChasePosition());
         movementTask.update();
         if (movementTask.getStatus() != Status.ACTIVE) {
             movementTask.start();
@@ -134,7 +145,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
         long now = timeSource.getTime();
 
-        if (isTargetVisible()) {
+        targetVisible = isTargetVisible();
+        if (targetVisible) {
             hasSeenTarget = true;
             lastVisibleAt = now;
         }
@@ -148,12 +160,32 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
         return 10;
     }
 
+    /**
+     * Get the position to move to this frame. With the target in sight, that is the target itself.
+     * Otherwise, the next tile on the shared flow field, if the field leads to the target.
+     * @return position for the owner to move to
+     */
+    private Vector2 getChasePosition() {
+        target.getPosition(targetPos);
+        if (targetVisible) return targetPos;
+
+        NavigationService navigation = ServiceLocator.getNavigationService();
+        if (navigation == null || navigation.getTarget() != target) return targetPos;
+
+        Entity self = owner.getEntity();
+        self.getCenterPosition(selfCenter);
+        if (!navigation.getWaypoint(selfCenter, waypoint)) return targetPos;
+        // Movement is towards the entity's position, so offset the tile centre by the centre offset
+        return targetPos.set(waypoint).sub(selfCenter).add(self.getX(), self.getY());
+    }
+
     /**
      * Get the distance from owner to target
      * @return (float) distance in world units
      */
     private float getDistanceToTarget() {
-        return owner.getEntity().getPosition().dst(target.getPosition());
+        Entity self = owner.getEntity();
+        return Vector2.dst(self.getX(), self.getY(), target.getX(), target.getY());
     }
 
     /**
@@ -161,8 +193,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
      * @return true if there is a LOS between the owner and target. Otherwise, false.
      */
     private boolean isTargetVisible() {
-        Vector2 from = owner.getEntity().getCenterPosition();
-        Vector2 to = target.getCenterPosition();
+        Vector2 from = owner.getEntity().getCenterPosition(rayFrom);
+        Vector2 to = target.getCenterPosition(rayTo);
 
         if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
             debugRenderer.drawLine(from, hit.point);
@@ -2,6 +2,7 @@ package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -19,7 +20,7 @@ public class MovementTask extends DefaultTask {
   private Vector2 target;
   private float stopDistance = 0.01f;
   private long lastTimeMoved;
-  private Vector2 lastPos;
+  private final Vector2 lastPos = new Vector2();
   private PhysicsMovementComponent movementComponent;
 
   public MovementTask(Vector2 target) {
@@ -40,7 +41,7 @@ public class MovementTask extends DefaultTask {
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
     lastTimeMoved = gameTime.getTime();
-    lastPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(lastPos);
   }
 
   @Override
@@ -67,13 +68,14 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean isAtTarget() {
-    return owner.getEntity().getPosition().dst(target) <= stopDistance;
+    Entity entity = owner.getEntity();
+    return target.dst(entity.getX(), entity.getY()) <= stopDistance;
   }
 
   private void checkIfStuck() {
     if (didMove()) {
       lastTimeMoved = gameTime.getTime();
-      lastPos = owner.getEntity().getPosition();
+      owner.getEntity().getPosition(lastPos);
     } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
       movementComponent.setMoving(false);
       status = Status.FAILED;
@@ -82,6 +84,7 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean didMove() {
-    return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+    Entity entity = owner.getEntity();
+    return lastPos.dst2(entity.getX(), entity.getY()) > 0.001f;
   }
 }
@@ -7,10 +7,14 @@ import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentPriority;
 import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.FrameProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 /**
@@ -30,16 +34,38 @@ import java.util.Comparator;
 public class Entity {
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
+  private static final EventKey EVT_NAME_POS = EventKey.of("setPosition");
+  /** Running total of vectors handed out by the copying transform getters, for GC diagnostics. */
+  private static long vectorCopies = 0;
+  private static final Component[] NO_COMPONENTS = new Component[0];
 
   private final int id;
   private final IntMap<Component> components;
+  /** Dense copy of components indexed by type id, so getComponent is a single array read. */
+  private Component[] componentsByType = NO_COMPONENTS;
   private final EventHandler eventHandler;
   private boolean enabled = true;
   private boolean created = false;
-  private Vector2 position = Vector2.Zero.cpy();
-  private Vector2 scale = new Vector2(1, 1);
+  /** False while the entity is waiting in a pool */
+  private boolean active = true;
+  /** Pool the entity was created by, if any */
+  private EntityPool pool;
+  /** Set by the {@link UpdateScheduler} for components which opted in to reduced update rates */
+  private boolean hasUpdateLod = false;
+  private boolean updateDue = true;
+  private float updateDelta = -1f;
+  private float updateTime = 0f;
+  /** Set by the entity service's proximity index while registered */
+  ProximityIndex.Entry proximityEntry;
+  /** Told about position and scale changes, or null if there are none */
+  private Array<MoveListener> moveListeners;
+  private final Vector2 position = Vector2.Zero.cpy();
+  private final Vector2 scale = new Vector2(1, 1);
+  /** Scratch vector passed to setPosition listeners so they cannot mutate the entity's position. */
+  private final Vector2 eventPosition = new Vector2();
   private Array<Component> createdComponents;
+  /** Type id of each created component, for profiling */
+  private int[] createdTypeIds;
 
   public Entity() {
     id = nextId;
@@ -61,22 +87,47 @@ public class Entity {
   }
 
   /**
-   * Get the entity's game position.
+   * Get the entity's game position. This allocates a copy, so per-frame code should prefer
+   * {@link #getPosition(Vector2)}, {@link #getX()} or {@link #getY()}.
    *
    * @return position
    */
   public Vector2 getPosition() {
+    vectorCopies++;
     return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's game position into the given vector without allocating.
+   *
+   * @param out vector to write the position into
+   * @return out, for chaining
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
+  /**
+   * @return x coordinate of the entity's game position
+   */
+  public float getX() {
+    return position.x;
+  }
+
+  /**
+   * @return y coordinate of the entity's game position
+   */
+  public float getY() {
+    return position.y;
+  }
+
   /**
    * Set the entity's game position.
    *
    * @param position new position.
    */
   public void setPosition(Vector2 position) {
-    this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    setPosition(position.x, position.y);
   }
 
   /**
@@ -86,9 +137,9 @@ public class Entity {
    * @param y new y position
    */
   public void setPosition(float x, float y) {
-    this.position.x = x;
-    this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    this.position.set(x, y);
+    moved();
+    notifyPosition();
   }
 
   /**
@@ -98,9 +149,55 @@ public class Entity {
    * @param notify true to notify (default), false otherwise
    */
   public void setPosition(Vector2 position, boolean notify) {
-    this.position = position;
+    this.position.set(position);
+    moved();
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      notifyPosition();
+    }
+  }
+
+  /**
+   * Trigger the setPosition event. Listeners receive a vector that is reused between calls, so
+   * they must copy it if they need to keep it.
+   */
+  private void notifyPosition() {
+    getEvents().trigger(EVT_NAME_POS, eventPosition.set(position));
+  }
+
+  /** Keep the proximity index and move listeners up to date after a position or scale change. */
+  private void moved() {
+    if (proximityEntry != null) {
+      proximityEntry.refresh();
+    }
+    if (moveListeners != null) {
+      MoveListener[] listeners = moveListeners.items;
+      for (int i = 0; i < moveListeners.size; i++) {
+        listeners[i].entityMoved(this);
+      }
+    }
+  }
+
+  /**
+   * Listen for changes to the entity's position or scale. Unlike the setPosition event, listeners
+   * are also told about moves which do not notify, such as physics updates.
+   *
+   * @param listener listener to add
+   */
+  public void addMoveListener(MoveListener listener) {
+    if (moveListeners == null) {
+      moveListeners = new Array<>(false, 2, MoveListener.class);
+    }
+    moveListeners.add(listener);
+  }
+
+  /**
+   * Stop a listener added with {@link #addMoveListener(MoveListener)} from being told about moves.
+   *
+   * @param listener listener to remove
+   */
+  public void removeMoveListener(MoveListener listener) {
+    if (moveListeners != null) {
+      moveListeners.removeValue(listener, true);
     }
   }
 
@@ -110,16 +207,42 @@ public class Entity {
    * @return Scale in x and y directions. 1 = 1 metre.
    */
   public Vector2 getScale() {
+    vectorCopies++;
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's scale into the given vector without allocating.
+   *
+   * @param out vector to write the scale into
+   * @return out, for chaining
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(scale);
+  }
+
+  /**
+   * @return width of the entity in metres
+   */
+  public float getScaleX() {
+    return scale.x;
+  }
+
+  /**
+   * @return height of the entity in metres
+   */
+  public float getScaleY() {
+    return scale.y;
+  }
+
   /**
    * Set the entity's scale.
    *
    * @param scale new scale in metres
    */
   public void setScale(Vector2 scale) {
-    this.scale = scale.cpy();
+    this.scale.set(scale);
+    moved();
   }
 
   /**
@@ -131,6 +254,7 @@ public class Entity {
   public void setScale(float x, float y) {
     this.scale.x = x;
     this.scale.y = y;
+    moved();
   }
 
   /**
@@ -141,6 +265,7 @@ public class Entity {
   public void scaleWidth(float x) {
     this.scale.y = this.scale.y / this.scale.x * x;
     this.scale.x = x;
+    moved();
   }
 
   /**
@@ -151,6 +276,7 @@ public class Entity {
   public void scaleHeight(float y) {
     this.scale.x = this.scale.x / this.scale.y * y;
     this.scale.y = y;
+    moved();
   }
 
   /**
@@ -159,7 +285,32 @@ public class Entity {
    * @return center position
    */
   public Vector2 getCenterPosition() {
-    return getPosition().mulAdd(getScale(), 0.5f);
+    vectorCopies++;
+    return getCenterPosition(new Vector2());
+  }
+
+  /**
+   * Copy the entity's center position into the given vector without allocating.
+   *
+   * @param out vector to write the center position into
+   * @return out, for chaining
+   */
+  public Vector2 getCenterPosition(Vector2 out) {
+    return out.set(getCenterX(), getCenterY());
+  }
+
+  /**
+   * @return x coordinate of the entity's center
+   */
+  public float getCenterX() {
+    return position.x + scale.x * 0.5f;
+  }
+
+  /**
+   * @return y coordinate of the entity's center
+   */
+  public float getCenterY() {
+    return position.y + scale.y * 0.5f;
   }
 
   /**
@@ -171,8 +322,18 @@ public class Entity {
    */
   @SuppressWarnings("unchecked")
   public <T extends Component> T getComponent(Class<T> type) {
-    ComponentType componentType = ComponentType.getFrom(type);
-    return (T) components.get(componentType.getId());
+    int typeId = ComponentType.getFrom(type).getId();
+    return typeId < componentsByType.length ? (T) componentsByType[typeId] : null;
+  }
+
+  /**
+   * Get a component by its {@link ComponentType} id.
+   *
+   * @param typeId component type id
+   * @return The entity component, or null if nonexistent.
+   */
+  Component getComponent(int typeId) {
+    return typeId < componentsByType.length ? componentsByType[typeId] : null;
   }
 
   /**
@@ -196,7 +357,12 @@ public class Entity {
           this);
       return this;
     }
-    components.put(componentType.getId(), component);
+    int typeId = componentType.getId();
+    components.put(typeId, component);
+    if (typeId >= componentsByType.length) {
+      componentsByType = Arrays.copyOf(componentsByType, typeId + 1);
+    }
+    componentsByType[typeId] = component;
     component.setEntity(this);
 
     return this;
@@ -222,6 +388,7 @@ public class Entity {
     }
 
     components.remove(componentType.getId()); // Hopefully no extra steps have to be taken
+    componentsByType[componentType.getId()] = null;
 
     return this;
   }
@@ -246,6 +413,63 @@ public class Entity {
     ServiceLocator.getEntityService().unregister(this);
   }
 
+  /**
+   * Finish with the entity. Entities from an {@link EntityPool} are deactivated and returned to
+   * their pool for reuse, others are disposed.
+   */
+  public void release() {
+    if (pool != null) {
+      pool.free(this);
+    } else {
+      dispose();
+    }
+  }
+
+  /**
+   * Stop the entity and remove it from the world without disposing of its components, so it can be
+   * registered again later. This is called by {@link EntityPool} and should not be called manually.
+   *
+   * @return true if the entity was deactivated, false if it was not created or already inactive
+   */
+  public boolean deactivate() {
+    if (!created || !active) {
+      return false;
+    }
+    active = false;
+    for (Component component : createdComponents) {
+      component.deactivate();
+    }
+    ServiceLocator.getEntityService().unregister(this);
+    return true;
+  }
+
+  /**
+   * Start a deactivated entity again. This is called when the entity is registered in the world,
+   * and should not be called manually.
+   */
+  public void reactivate() {
+    active = true;
+    updateTime = 0f;
+    for (Component component : createdComponents) {
+      component.reactivate();
+    }
+  }
+
+  /**
+   * @return true if the entity has been created and is waiting in a pool to be reused
+   */
+  public boolean isDeactivated() {
+    return created && !active;
+  }
+
+  EntityPool getPool() {
+    return pool;
+  }
+
+  void setPool(EntityPool pool) {
+    this.pool = pool;
+  }
+
   /**
    * Create the entity and start running. This is called when the entity is registered in the world,
    * and should not be called manually.
@@ -267,6 +491,12 @@ public class Entity {
                     })
             )
     );
+    createdTypeIds = new int[createdComponents.size];
+    for (int i = 0; i < createdComponents.size; i++) {
+      Component component = createdComponents.get(i);
+      createdTypeIds[i] = component == null ? 0 : ComponentType.getFrom(component.getClass()).getId();
+      hasUpdateLod |= component != null && component.isUpdateLod();
+    }
     for (Component component : createdComponents) {
       component.create();
     }
@@ -281,6 +511,14 @@ public class Entity {
     if (!enabled) {
       return;
     }
+    if (FrameProfiler.isEnabled()) {
+      profileUpdate(true);
+      return;
+    }
+    if (isUpdateScheduled()) {
+      scheduledUpdate(true);
+      return;
+    }
     for (Component component : createdComponents) {
       component.triggerEarlyUpdate();
     }
@@ -294,9 +532,115 @@ public class Entity {
     if (!enabled) {
       return;
     }
+    if (FrameProfiler.isEnabled()) {
+      profileUpdate(false);
+      return;
+    }
+    if (isUpdateScheduled()) {
+      scheduledUpdate(false);
+      return;
+    }
+    for (Component component : createdComponents) {
+      component.triggerUpdate();
+    }
+  }
+
+  /**
+   * @return true if opted in components skip this frame or are given a different delta time
+   */
+  private boolean isUpdateScheduled() {
+    return hasUpdateLod && (!updateDue || updateDelta >= 0f);
+  }
+
+  /**
+   * Update all components, skipping those which opted in to reduced update rates if they are not
+   * due this frame.
+   *
+   * @param early true for an early update
+   */
+  private void scheduledUpdate(boolean early) {
     for (Component component : createdComponents) {
+      if (!skipsUpdate(component)) {
+        triggerScheduled(component, early);
+      }
+    }
+  }
+
+  private boolean skipsUpdate(Component component) {
+    return !updateDue && component.isUpdateLod();
+  }
+
+  private void triggerScheduled(Component component, boolean early) {
+    GameTime time = null;
+    if (updateDelta >= 0f && component.isUpdateLod()) {
+      time = ServiceLocator.getTimeSource();
+    }
+    if (time != null) {
+      time.setDeltaOverride(updateDelta);
+    }
+    if (early) {
+      component.triggerEarlyUpdate();
+    } else {
       component.triggerUpdate();
     }
+    if (time != null) {
+      time.clearDeltaOverride();
+    }
+  }
+
+  /**
+   * @return true if a component has opted in to reduced update rates
+   */
+  boolean hasUpdateLod() {
+    return hasUpdateLod;
+  }
+
+  /**
+   * Set whether opted in components update this frame. Called by the {@link UpdateScheduler}.
+   *
+   * @param due true if they update
+   * @param delta delta time to report to them, or -1 for the frame's delta time
+   */
+  void setUpdateDue(boolean due, float delta) {
+    updateDue = due;
+    updateDelta = delta;
+  }
+
+  void addUpdateTime(float delta) {
+    updateTime += delta;
+  }
+
+  /**
+   * @return time waiting to be handed to opted in components, which is then reset
+   */
+  float takeUpdateTime() {
+    float time = updateTime;
+    updateTime = 0f;
+    return time;
+  }
+
+  /**
+   * Update all components, recording the time taken by each component type.
+   *
+   * @param early true for an early update
+   */
+  private void profileUpdate(boolean early) {
+    boolean scheduled = isUpdateScheduled();
+    for (int i = 0; i < createdComponents.size; i++) {
+      Component component = createdComponents.get(i);
+      if (scheduled && skipsUpdate(component)) {
+        continue;
+      }
+      long start = System.nanoTime();
+      if (scheduled) {
+        triggerScheduled(component, early);
+      } else if (early) {
+        component.triggerEarlyUpdate();
+      } else {
+        component.triggerUpdate();
+      }
+      FrameProfiler.recordComponent(createdTypeIds[i], component, System.nanoTime() - start);
+    }
   }
 
   /**
@@ -336,4 +680,25 @@ public class Entity {
   public boolean isEnabled() {
     return  enabled;
   }
+
+  /**
+   * Total number of vectors allocated by the copying transform getters ({@link #getPosition()},
+   * {@link #getScale()} and {@link #getCenterPosition()}) across all entities. Sample this once per
+   * frame and compare against the previous sample to measure per-frame transform garbage.
+   *
+   * @return running count of transform vector copies
+   */
+  public static long getVectorCopyCount() {
+    return vectorCopies;
+  }
+
+  /** Told when an entity's position or scale changes. */
+  public interface MoveListener {
+    /**
+     * Called after the entity's position or scale has changed.
+     *
+     * @param entity entity which moved
+     */
+    void entityMoved(Entity entity);
+  }
 }
@@ -0,0 +1,135 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps finished entities of one archetype, such as a projectile, so they can be reused instead of
+ * built again. Building an entity with physics creates a Box2D body and fixtures, and a light creates
+ * a new set of rays, which causes frame spikes when many are spawned at once.
+ *
+ * <p>Entities are taken with {@link #obtain()}, set up for their new use, then registered with the
+ * entity service as usual. {@link Entity#release()} returns them here: they are unregistered, and
+ * their components are deactivated rather than disposed, so bodies are made inactive and lights
+ * switched off. When a pooled entity is registered again its components are reactivated instead of
+ * created. If the pool already holds its maximum, released entities are disposed.
+ *
+ * <p>Pools are owned by the {@link EntityService} and are closed with it, see
+ * {@link EntityService#getPool(String, Supplier, int)}. Entities still out when their pool is
+ * closed are disposed when released, since nothing will reuse them.
+ */
+public class EntityPool {
+  private static final Logger logger = LoggerFactory.getLogger(EntityPool.class);
+
+  private final String name;
+  private final Supplier<Entity> factory;
+  private final int max;
+  private final Array<Entity> free;
+  private int created = 0;
+  private boolean closed = false;
+
+  /**
+   * @param name name of the archetype, for logging
+   * @param factory builds a new entity when the pool is empty
+   * @param max most entities to keep for reuse
+   */
+  public EntityPool(String name, Supplier<Entity> factory, int max) {
+    this.name = name;
+    this.factory = factory;
+    this.max = max;
+    this.free = new Array<>(false, max, Entity.class);
+  }
+
+  /**
+   * Take an entity from the pool, or build a new one if the pool is empty. The entity is not
+   * registered, and keeps the position and component state of its last use.
+   *
+   * @return unregistered entity
+   */
+  public Entity obtain() {
+    if (free.notEmpty()) {
+      return free.pop();
+    }
+    Entity entity = factory.get();
+    entity.setPool(this);
+    created++;
+    return entity;
+  }
+
+  /**
+   * Deactivate an entity and keep it for reuse. Prefer {@link Entity#release()}, which also handles
+   * entities that are not pooled.
+   *
+   * @param entity entity obtained from this pool
+   */
+  public void free(Entity entity) {
+    if (entity.getPool() != this) {
+      logger.error("{} was freed to pool {} which did not create it", entity, name);
+      return;
+    }
+    if (closed) {
+      if (entity.deactivate()) {
+        entity.dispose();
+      }
+      return;
+    }
+    boolean deactivated = entity.deactivate();
+    if (!deactivated && entity.isDeactivated()) {
+      // Already released
+      return;
+    }
+    if (free.size < max) {
+      free.add(entity);
+    } else if (deactivated) {
+      entity.dispose();
+    }
+  }
+
+  /** Dispose of every entity waiting in the pool. */
+  public void clear() {
+    for (Entity entity : free) {
+      if (entity.isDeactivated()) {
+        entity.dispose();
+      }
+    }
+    free.clear();
+  }
+
+  /**
+   * Dispose of every entity waiting in the pool and stop keeping entities. Entities still out are
+   * disposed when released instead of being kept.
+   */
+  public void close() {
+    clear();
+    closed = true;
+  }
+
+  /**
+   * @return true if the pool has been closed and no longer keeps released entities
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * @return number of entities waiting to be reused
+   */
+  public int getFree() {
+    return free.size;
+  }
+
+  /**
+   * @return number of entities the pool has built
+   */
+  public int getCreated() {
+    return created;
+  }
+
+  @Override
+  public String toString() {
+    return "EntityPool{" + name + ", free=" + free.size + ", created=" + created + "}";
+  }
+}
@@ -1,31 +1,63 @@
 package com.csse3200.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.components.IdentifierComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
  *
- * Avoid adding additional state here! Global access is often the easy but incorrect answer to
- * sharing data.
+ * Only keep state here which concerns the registered entities as a whole: the lookup indexes,
+ * entity pools, update scheduler and proximity index. Global access is often the easy but
+ * incorrect answer to sharing data between entities.
+ *
+ * <p>Registered entities are indexed by entity id and by {@link IdentifierComponent} id. Entities
+ * can also be looked up by component type; the index for a type is built the first time it is
+ * requested and kept up to date from then on. Components cannot change once an entity is
+ * registered, so the indexes only change on register and unregister. Entities are also indexed by
+ * where they are, see {@link #getProximityIndex()}.
  */
 public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
 
   private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  private final IntMap<Entity> entitiesById = new IntMap<>();
+  private final Map<String, Entity> entitiesByIdentifier = new HashMap<>();
+  /** Identifiers shared by more than one registered entity */
+  private final Set<String> duplicateIdentifiers = new HashSet<>();
+  /** Entities by component type id, only for types which have been requested */
+  private final IntMap<Array<Entity>> entitiesByType = new IntMap<>();
+  private final ObjectMap<String, EntityPool> pools = new ObjectMap<>();
+  private final UpdateScheduler updateScheduler = new UpdateScheduler();
+  private final ProximityIndex proximityIndex = new ProximityIndex();
 
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
+   * An entity reused from an {@link EntityPool} is reactivated instead of created again.
    * @param entity new entity.
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
     entities.add(entity);
-    entity.create();
+    if (entity.isDeactivated()) {
+      entity.reactivate();
+    } else {
+      entity.create();
+    }
+    addToIndexes(entity);
   }
 
   /**
@@ -34,26 +66,86 @@ public class EntityService {
    */
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    if (entities.removeValue(entity, true)) {
+      removeFromIndexes(entity);
+    }
   }
 
   /**
-   * Update all registered entities. Should only be called from the main game loop.
+   * Update all registered entities. Should only be called from the main game loop. Far away
+   * entities may skip updates of some components, see {@link #getUpdateScheduler()}.
    */
   public void update() {
+    updateScheduler.beginFrame();
     for (Entity entity : entities) {
+      updateScheduler.schedule(entity);
       entity.earlyUpdate();
       entity.update();
     }
   }
 
   /**
-   * Dispose all entities.
+   * @return scheduler which lowers the update rate of far away entities
+   */
+  public UpdateScheduler getUpdateScheduler() {
+    return updateScheduler;
+  }
+
+  /**
+   * @return index of registered entities by position
+   */
+  public ProximityIndex getProximityIndex() {
+    return proximityIndex;
+  }
+
+  /**
+   * Check whether an entity is registered, without searching the list of entities.
+   *
+   * @param entity entity to check
+   * @return true if the entity is registered and has not been unregistered since
+   */
+  public boolean isRegistered(Entity entity) {
+    return entity != null && entitiesById.get(entity.getId()) == entity;
+  }
+
+  /**
+   * Dispose all entities, including those waiting in pools.
    */
   public void dispose() {
     for (Entity entity : entities) {
       entity.dispose();
     }
+    clearPools();
+  }
+
+  /**
+   * Dispose of every entity waiting in a pool and close the pools. Pooled entities hold on to the
+   * assets they were built with, so this should be called before those assets are unloaded.
+   * Entities still out are disposed when released, rather than returned to a pool nothing uses.
+   */
+  public void clearPools() {
+    for (EntityPool pool : pools.values()) {
+      pool.close();
+    }
+    pools.clear();
+  }
+
+  /**
+   * Get the pool for an entity archetype, creating it the first time it is requested. Pools last as
+   * long as this service, so entities in them are reused across level resets.
+   *
+   * @param name archetype name
+   * @param factory builds a new entity of the archetype
+   * @param max most entities to keep for reuse
+   * @return the archetype's pool
+   */
+  public EntityPool getPool(String name, Supplier<Entity> factory, int max) {
+    EntityPool pool = pools.get(name);
+    if (pool == null) {
+      pool = new EntityPool(name, factory, max);
+      pools.put(name, pool);
+    }
+    return pool;
   }
 
     /**
@@ -62,13 +154,106 @@ public class EntityService {
      * @return the entity associated with id, otherwise null
      */
   public Entity getEntityById(String id) {
-      for (Entity entity : entities) {
-          IdentifierComponent identity = entity.getComponent(IdentifierComponent.class);
-          if (identity != null && identity.getId().equals(id)) {
-              return entity;
-          }
+      return entitiesByIdentifier.get(id);
+  }
+
+  /**
+   * Return the registered entity with the given entity id.
+   * @param id entity id, see {@link Entity#getId()}
+   * @return the entity with the id, otherwise null
+   */
+  public Entity getEntity(int id) {
+    return entitiesById.get(id);
+  }
+
+  /**
+   * Return all registered entities which have a component of the given type. The first call for a
+   * type scans every entity; later calls are a lookup.
+   *
+   * @param type component class
+   * @return entities with the component. Must not be modified.
+   */
+  public Array<Entity> getEntitiesWith(Class<? extends Component> type) {
+    int typeId = ComponentType.getFrom(type).getId();
+    Array<Entity> indexed = entitiesByType.get(typeId);
+    if (indexed == null) {
+      indexed = new Array<>(false, INITIAL_CAPACITY, Entity.class);
+      for (int i = 0; i < entities.size; i++) {
+        if (entities.get(i).getComponent(typeId) != null) {
+          indexed.add(entities.get(i));
+        }
+      }
+      entitiesByType.put(typeId, indexed);
+    }
+    return indexed;
+  }
+
+  /**
+   * Return the first registered entity with a component of the given type.
+   *
+   * @param type component class
+   * @return an entity with the component, otherwise null
+   */
+  public Entity getFirstEntityWith(Class<? extends Component> type) {
+    Array<Entity> indexed = getEntitiesWith(type);
+    return indexed.isEmpty() ? null : indexed.first();
+  }
+
+  private void addToIndexes(Entity entity) {
+    entitiesById.put(entity.getId(), entity);
+    proximityIndex.add(entity);
+
+    IdentifierComponent identity = entity.getComponent(IdentifierComponent.class);
+    if (identity != null && identity.getId() != null) {
+      Entity existing = entitiesByIdentifier.putIfAbsent(identity.getId(), entity);
+      if (existing != null && existing != entity) {
+        duplicateIdentifiers.add(identity.getId());
       }
-      return null;
+    }
+
+    for (IntMap.Entry<Array<Entity>> entry : entitiesByType) {
+      if (entity.getComponent(entry.key) != null) {
+        entry.value.add(entity);
+      }
+    }
+  }
+
+  private void removeFromIndexes(Entity entity) {
+    if (entitiesById.get(entity.getId()) == entity) {
+      entitiesById.remove(entity.getId());
+    }
+    proximityIndex.remove(entity);
+
+    for (IntMap.Entry<Array<Entity>> entry : entitiesByType) {
+      entry.value.removeValue(entity, true);
+    }
+
+    IdentifierComponent identity = entity.getComponent(IdentifierComponent.class);
+    if (identity != null && identity.getId() != null
+        && entitiesByIdentifier.get(identity.getId()) == entity) {
+      entitiesByIdentifier.remove(identity.getId());
+      if (duplicateIdentifiers.contains(identity.getId())) {
+        reindexIdentifier(identity.getId());
+      }
+    }
+  }
+
+  /**
+   * Point an identifier shared by several entities at the next registered entity which has it.
+   */
+  private void reindexIdentifier(String id) {
+    int count = 0;
+    Array<Entity> identified = getEntitiesWith(IdentifierComponent.class);
+    for (int i = 0; i < identified.size; i++) {
+      Entity entity = identified.get(i);
+      if (id.equals(entity.getComponent(IdentifierComponent.class).getId())) {
+        entitiesByIdentifier.putIfAbsent(id, entity);
+        count++;
+      }
+    }
+    if (count <= 1) {
+      duplicateIdentifiers.remove(id);
+    }
   }
 
   /**
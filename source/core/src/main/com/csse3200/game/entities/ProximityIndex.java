@@ -0,0 +1,261 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.GridComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.utils.SpatialGrid;
+
+/**
+ * Finds registered entities near a point or inside an area without visiting every entity. Each
+ * entity's bounds (position to position + scale) are kept in a {@link SpatialGrid} whose cells are
+ * a block of {@link #TILES_PER_CELL} x {@link #TILES_PER_CELL} level grid tiles. Entities are added
+ * when registered and moved between cells when their position or scale changes.
+ *
+ * <p>Queries can be limited to entities with a component type, e.g. every ladder within 2 units of
+ * the player.
+ */
+public class ProximityIndex {
+  /** Level grid tiles along each side of a cell */
+  static final int TILES_PER_CELL = 8;
+  private static final float DEFAULT_CELL_SIZE = 4f;
+  private static final float DEFAULT_WORLD_SIZE = 64f;
+
+  private SpatialGrid<Entry> grid;
+  private int gridVersion = 0;
+  private final Array<Entry> entries = new Array<>(false, 64, Entry.class);
+  private final Array<Entry> candidates = new Array<>(false, 64, Entry.class);
+  private int queryStamp = 0;
+
+  /** Cell span of one indexed entity. */
+  static final class Entry {
+    private final ProximityIndex owner;
+    private final Entity entity;
+    private int index;
+    private int gridVersion = -1;
+    private int minCellX;
+    private int minCellY;
+    private int maxCellX;
+    private int maxCellY;
+    private int queryStamp;
+
+    private Entry(ProximityIndex owner, Entity entity) {
+      this.owner = owner;
+      this.entity = entity;
+    }
+
+    /** Move the entity between cells if needed, after its position or scale changed. */
+    void refresh() {
+      owner.refresh(this);
+    }
+  }
+
+  ProximityIndex() {
+    setWorldBounds(0f, 0f, DEFAULT_WORLD_SIZE, DEFAULT_WORLD_SIZE, DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * Cover a level's grid, using cells of {@link #TILES_PER_CELL} tiles. Indexed entities are moved
+   * to the new cells. Grids without a size are ignored.
+   *
+   * @param levelGrid level grid
+   */
+  public void setGrid(GridComponent levelGrid) {
+    Vector2 bounds = levelGrid.getWorldBounds();
+    if (bounds == null || levelGrid.getTileSize() <= 0f) {
+      return;
+    }
+    setWorldBounds(0f, 0f, bounds.x, bounds.y, levelGrid.getTileSize() * TILES_PER_CELL);
+  }
+
+  /**
+   * Cover the given world area. Entities outside it are still found, but less efficiently.
+   *
+   * @param x x of the bottom left corner
+   * @param y y of the bottom left corner
+   * @param width width in world units
+   * @param height height in world units
+   * @param cellSize width and height of each cell
+   */
+  public void setWorldBounds(float x, float y, float width, float height, float cellSize) {
+    grid = new SpatialGrid<>(x, y, width, height, cellSize);
+    gridVersion++;
+    for (int i = 0; i < entries.size; i++) {
+      refresh(entries.get(i));
+    }
+  }
+
+  /**
+   * Add a registered entity. Called by the entity service.
+   *
+   * @param entity registered entity
+   */
+  void add(Entity entity) {
+    if (entity.proximityEntry != null) {
+      return;
+    }
+    Entry entry = new Entry(this, entity);
+    entry.index = entries.size;
+    entries.add(entry);
+    entity.proximityEntry = entry;
+    refresh(entry);
+  }
+
+  /**
+   * Remove an unregistered entity. Called by the entity service.
+   *
+   * @param entity unregistered entity
+   */
+  void remove(Entity entity) {
+    Entry entry = entity.proximityEntry;
+    if (entry == null) {
+      return;
+    }
+    if (entry.gridVersion == gridVersion) {
+      grid.remove(entry, entry.minCellX, entry.minCellY, entry.maxCellX, entry.maxCellY);
+    }
+    // Swap the last entry into the removed slot
+    Entry last = entries.pop();
+    if (last != entry) {
+      entries.set(entry.index, last);
+      last.index = entry.index;
+    }
+    entity.proximityEntry = null;
+  }
+
+  /**
+   * Move an entity between cells if its bounds changed cells.
+   *
+   * @param entry entity's entry
+   */
+  private void refresh(Entry entry) {
+    Entity entity = entry.entity;
+    float x = entity.getX();
+    float y = entity.getY();
+    int minX = grid.cellX(Math.min(x, x + entity.getScaleX()));
+    int minY = grid.cellY(Math.min(y, y + entity.getScaleY()));
+    int maxX = grid.cellX(Math.max(x, x + entity.getScaleX()));
+    int maxY = grid.cellY(Math.max(y, y + entity.getScaleY()));
+    if (entry.gridVersion == gridVersion
+        && entry.minCellX == minX && entry.minCellY == minY
+        && entry.maxCellX == maxX && entry.maxCellY == maxY) {
+      return;
+    }
+    if (entry.gridVersion == gridVersion) {
+      grid.remove(entry, entry.minCellX, entry.minCellY, entry.maxCellX, entry.maxCellY);
+    }
+    grid.insert(entry, minX, minY, maxX, maxY);
+    entry.gridVersion = gridVersion;
+    entry.minCellX = minX;
+    entry.minCellY = minY;
+    entry.maxCellX = maxX;
+    entry.maxCellY = maxY;
+  }
+
+  /**
+   * Find entities whose bounds come within a distance of a point.
+   *
+   * @param type component the entities must have, or null for any entity
+   * @param x point x
+   * @param y point y
+   * @param radius greatest distance from the point to an entity's bounds
+   * @param out array the entities are appended to
+   * @return out, for chaining
+   */
+  public Array<Entity> queryRadius(
+      Class<? extends Component> type, float x, float y, float radius, Array<Entity> out) {
+    int typeId = type == null ? -1 : ComponentType.getFrom(type).getId();
+    float radius2 = radius * radius;
+    collect(x - radius, y - radius, x + radius, y + radius);
+    Entry[] items = candidates.items;
+    for (int i = 0; i < candidates.size; i++) {
+      Entity entity = items[i].entity;
+      if (!matches(entity, typeId)) {
+        continue;
+      }
+      // Distance from the point to the closest point of the bounds
+      float dx = Math.max(Math.max(minX(entity) - x, x - maxX(entity)), 0f);
+      float dy = Math.max(Math.max(minY(entity) - y, y - maxY(entity)), 0f);
+      if (dx * dx + dy * dy <= radius2) {
+        out.add(entity);
+      }
+    }
+    candidates.clear();
+    return out;
+  }
+
+  /**
+   * Find entities whose bounds overlap or touch an area.
+   *
+   * @param type component the entities must have, or null for any entity
+   * @param x x of the bottom left corner
+   * @param y y of the bottom left corner
+   * @param width width of the area
+   * @param height height of the area
+   * @param out array the entities are appended to
+   * @return out, for chaining
+   */
+  public Array<Entity> queryArea(
+      Class<? extends Component> type, float x, float y, float width, float height,
+      Array<Entity> out) {
+    int typeId = type == null ? -1 : ComponentType.getFrom(type).getId();
+    collect(x, y, x + width, y + height);
+    Entry[] items = candidates.items;
+    for (int i = 0; i < candidates.size; i++) {
+      Entity entity = items[i].entity;
+      if (matches(entity, typeId)
+          && minX(entity) <= x + width && maxX(entity) >= x
+          && minY(entity) <= y + height && maxY(entity) >= y) {
+        out.add(entity);
+      }
+    }
+    candidates.clear();
+    return out;
+  }
+
+  /**
+   * @return number of indexed entities
+   */
+  public int size() {
+    return entries.size;
+  }
+
+  /** Collect each entry in the cells under an area once. */
+  private void collect(float minX, float minY, float maxX, float maxY) {
+    queryStamp++;
+    candidates.clear();
+    grid.query(grid.cellX(minX), grid.cellY(minY), grid.cellX(maxX), grid.cellY(maxY), candidates);
+    // Entities spanning several cells are returned once per cell
+    int kept = 0;
+    Entry[] items = candidates.items;
+    for (int i = 0; i < candidates.size; i++) {
+      Entry entry = items[i];
+      if (entry.queryStamp != queryStamp) {
+        entry.queryStamp = queryStamp;
+        items[kept++] = entry;
+      }
+    }
+    candidates.truncate(kept);
+  }
+
+  private static boolean matches(Entity entity, int typeId) {
+    return typeId < 0 || entity.getComponent(typeId) != null;
+  }
+
+  private static float minX(Entity entity) {
+    return Math.min(entity.getX(), entity.getX() + entity.getScaleX());
+  }
+
+  private static float maxX(Entity entity) {
+    return Math.max(entity.getX(), entity.getX() + entity.getScaleX());
+  }
+
+  private static float minY(Entity entity) {
+    return Math.min(entity.getY(), entity.getY() + entity.getScaleY());
+  }
+
+  private static float maxY(Entity entity) {
+    return Math.max(entity.getY(), entity.getY() + entity.getScaleY());
+  }
+}
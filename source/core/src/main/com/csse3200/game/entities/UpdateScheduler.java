@@ -0,0 +1,205 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Lowers how often far away entities update. Each frame, entities with a component which has opted
+ * in with {@link com.csse3200.game.components.Component#setUpdateLod(boolean)} are put in a tier by
+ * their distance to the focus point, usually the camera:
+ *
+ * <ul>
+ *   <li>{@link Tier#FULL}: every frame</li>
+ *   <li>{@link Tier#QUARTER}: every 4th frame</li>
+ *   <li>{@link Tier#SIXTEENTH}: every 16th frame</li>
+ *   <li>{@link Tier#SLEEP}: not at all, until the entity is nearer again</li>
+ * </ul>
+ *
+ * <p>Only the opted in components skip frames; the rest of the entity updates as usual. When they do
+ * update, the time source reports the time since their last update as the delta time, so timers
+ * and movement keep their pace. Time spent asleep is not handed over. Entities in the same tier are
+ * spread across frames by id so they do not all update together.
+ *
+ * <p>Until a focus is set, every entity updates every frame.
+ */
+public class UpdateScheduler {
+  /** Update rates, from nearest to furthest. */
+  public enum Tier {
+    FULL(1),
+    QUARTER(4),
+    SIXTEENTH(16),
+    SLEEP(0);
+
+    private final int interval;
+
+    Tier(int interval) {
+      this.interval = interval;
+    }
+
+    /**
+     * @return frames between updates, or 0 if entities in this tier do not update
+     */
+    public int getInterval() {
+      return interval;
+    }
+  }
+
+  /** Distances in world units at which each tier ends. A screen is roughly 20 x 11 units. */
+  private static final float DEFAULT_FULL_DISTANCE = 16f;
+  private static final float DEFAULT_QUARTER_DISTANCE = 32f;
+  private static final float DEFAULT_SIXTEENTH_DISTANCE = 64f;
+
+  private final Vector2 focus = new Vector2();
+  private final Vector2 center = new Vector2();
+  private boolean hasFocus = false;
+  private boolean enabled = true;
+  private float fullDistance2;
+  private float quarterDistance2;
+  private float sixteenthDistance2;
+
+  private long frame = 0;
+  private float frameDelta = 0f;
+  private final int[] tierCounts = new int[Tier.values().length];
+  private int skippedCount = 0;
+
+  public UpdateScheduler() {
+    setTierDistances(DEFAULT_FULL_DISTANCE, DEFAULT_QUARTER_DISTANCE, DEFAULT_SIXTEENTH_DISTANCE);
+  }
+
+  /**
+   * Set the point entities are measured from, usually the camera position.
+   *
+   * @param x focus x in world units
+   * @param y focus y in world units
+   */
+  public void setFocus(float x, float y) {
+    focus.set(x, y);
+    hasFocus = true;
+  }
+
+  /** Forget the focus, so every entity updates every frame. */
+  public void clearFocus() {
+    hasFocus = false;
+  }
+
+  /**
+   * Turn reduced update rates on or off. While off, every entity updates every frame.
+   *
+   * @param enabled true to lower the update rate of far entities
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Set the distances from the focus at which each tier ends. Entities beyond the last distance
+   * sleep.
+   *
+   * @param full distance updated every frame
+   * @param quarter distance updated every 4th frame
+   * @param sixteenth distance updated every 16th frame
+   */
+  public final void setTierDistances(float full, float quarter, float sixteenth) {
+    if (full > quarter || quarter > sixteenth) {
+      throw new IllegalArgumentException("Tier distances must increase");
+    }
+    fullDistance2 = full * full;
+    quarterDistance2 = quarter * quarter;
+    sixteenthDistance2 = sixteenth * sixteenth;
+  }
+
+  /**
+   * Get the tier an entity at a position would be in.
+   *
+   * @param position world position
+   * @return update tier
+   */
+  public Tier getTier(Vector2 position) {
+    float distance2 = position.dst2(focus);
+    if (distance2 <= fullDistance2) {
+      return Tier.FULL;
+    } else if (distance2 <= quarterDistance2) {
+      return Tier.QUARTER;
+    } else if (distance2 <= sixteenthDistance2) {
+      return Tier.SIXTEENTH;
+    }
+    return Tier.SLEEP;
+  }
+
+  /** Start a new frame. Called by the entity service before entities update. */
+  void beginFrame() {
+    frame++;
+    GameTime time = ServiceLocator.getTimeSource();
+    frameDelta = time == null ? 0f : time.getDeltaTime();
+    for (int i = 0; i < tierCounts.length; i++) {
+      tierCounts[i] = 0;
+    }
+    skippedCount = 0;
+  }
+
+  /**
+   * Decide whether the entity's opted in components update this frame. Called by the entity service
+   * before the entity updates.
+   *
+   * @param entity entity about to update
+   */
+  void schedule(Entity entity) {
+    if (!enabled || !hasFocus || !entity.hasUpdateLod()) {
+      entity.setUpdateDue(true, -1f);
+      return;
+    }
+
+    Tier tier = getTier(entity.getCenterPosition(center));
+    tierCounts[tier.ordinal()]++;
+    switch (tier) {
+      case FULL -> {
+        // Hand over time left from a slower tier
+        float waiting = entity.takeUpdateTime();
+        entity.setUpdateDue(true, waiting > 0f ? waiting + frameDelta : -1f);
+      }
+      case SLEEP -> {
+        entity.takeUpdateTime();
+        entity.setUpdateDue(false, -1f);
+        skippedCount++;
+      }
+      default -> {
+        entity.addUpdateTime(frameDelta);
+        if ((frame + entity.getId()) % tier.getInterval() == 0) {
+          entity.setUpdateDue(true, entity.takeUpdateTime());
+        } else {
+          entity.setUpdateDue(false, -1f);
+          skippedCount++;
+        }
+      }
+    }
+  }
+
+  /**
+   * @param tier update tier
+   * @return entities with opted in components in the tier this frame
+   */
+  public int getTierCount(Tier tier) {
+    return tierCounts[tier.ordinal()];
+  }
+
+  /**
+   * @return entities whose opted in components skipped this frame
+   */
+  public int getSkippedCount() {
+    return skippedCount;
+  }
+
+  /**
+   * @return one line summary for the debug overlay
+   */
+  public String getSummary() {
+    return String.format("Update LOD: %d / %d / %d / %d asleep, skipped: %d%n",
+        tierCounts[Tier.FULL.ordinal()], tierCounts[Tier.QUARTER.ordinal()],
+        tierCounts[Tier.SIXTEENTH.ordinal()], tierCounts[Tier.SLEEP.ordinal()], skippedCount);
+  }
+}
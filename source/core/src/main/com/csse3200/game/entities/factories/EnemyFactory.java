@@ -522,6 +522,9 @@ public class EnemyFactory {
                 .addComponent(new BossLaserAttackComponent(target))
                 .addComponent(new BossTouchKillComponent(PhysicsLayer.PLAYER));
 
+        // The boss drives the level, so its AI always runs at full rate
+        boss.getComponent(AITaskComponent.class).setUpdateLod(false);
+
         // Physics
         boss.getComponent(PhysicsComponent.class).getBody().setGravityScale(0f);
         boss.getComponent(PhysicsMovementComponent.class).setMaxSpeed(3f);
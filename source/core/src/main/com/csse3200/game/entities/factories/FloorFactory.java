@@ -1,6 +1,5 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.components.minimap.MinimapComponent;
@@ -10,34 +9,24 @@ import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.TiledFloorComponent;
 import com.csse3200.game.rendering.TiledGroundFloorComponent;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
- * Factory to create Floor entities using individual PNG textures.
+ * Factory to create Floor entities using individual PNG textures, which must be loaded by the area.
  *
  * <p>Each Floor entity type should have a creation method that returns a corresponding entity.
  */
 public class FloorFactory {
-    // Load individual PNG files for each tile position
-    private static final Texture tile000Texture = new Texture("images/cavelevel/tile000.png"); // Top-left corner
-    private static final Texture tile001Texture = new Texture("images/cavelevel/tile001.png"); // Top edge
-    private static final Texture tile002Texture = new Texture("images/cavelevel/tile002.png"); // Top-right corner
-    private static final Texture tile014Texture = new Texture("images/cavelevel/tile014.png"); // Left edge
-    private static final Texture tile015Texture = new Texture("images/cavelevel/tile015.png"); // Middle tile
-    private static final Texture tile016Texture = new Texture("images/cavelevel/tile016.png"); // Right edge
-    private static final Texture tile028Texture = new Texture("images/cavelevel/tile028.png"); // Bottom-left corner
-    private static final Texture tile029Texture = new Texture("images/cavelevel/tile029.png"); // Bottom edge
-    private static final Texture tile030Texture = new Texture("images/cavelevel/tile030.png"); // Bottom-right corner
-
-    // Create TextureRegions from the loaded textures
-    private static final TextureRegion topLeftCorner = new TextureRegion(tile000Texture);
-    private static final TextureRegion topEdge = new TextureRegion(tile001Texture);
-    private static final TextureRegion topRightCorner = new TextureRegion(tile002Texture);
-    private static final TextureRegion leftEdge = new TextureRegion(tile014Texture);
-    private static final TextureRegion middleTile = new TextureRegion(tile015Texture);
-    private static final TextureRegion rightEdge = new TextureRegion(tile016Texture);
-    private static final TextureRegion bottomLeftCorner = new TextureRegion(tile028Texture);
-    private static final TextureRegion bottomEdge = new TextureRegion(tile029Texture);
-    private static final TextureRegion bottomRightCorner = new TextureRegion(tile030Texture);
+    // Individual PNG files for each tile position, loaded with the level's assets
+    private static final String TOP_LEFT_CORNER = "images/cavelevel/tile000.png";
+    private static final String TOP_EDGE = "images/cavelevel/tile001.png";
+    private static final String TOP_RIGHT_CORNER = "images/cavelevel/tile002.png";
+    private static final String LEFT_EDGE = "images/cavelevel/tile014.png";
+    private static final String MIDDLE_TILE = "images/cavelevel/tile015.png";
+    private static final String RIGHT_EDGE = "images/cavelevel/tile016.png";
+    private static final String BOTTOM_LEFT_CORNER = "images/cavelevel/tile028.png";
+    private static final String BOTTOM_EDGE = "images/cavelevel/tile029.png";
+    private static final String BOTTOM_RIGHT_CORNER = "images/cavelevel/tile030.png";
 
     private FloorFactory() {
         throw new IllegalStateException("Instantiating static util class");
@@ -51,8 +40,10 @@ public class FloorFactory {
     public static Entity createStaticFloor() {
         Entity floor = new Entity()
             .addComponent(new TiledFloorComponent(
-                topLeftCorner, topRightCorner, bottomLeftCorner, bottomRightCorner,
-                topEdge, bottomEdge, leftEdge, rightEdge, middleTile))
+                tile(TOP_LEFT_CORNER), tile(TOP_RIGHT_CORNER),
+                tile(BOTTOM_LEFT_CORNER), tile(BOTTOM_RIGHT_CORNER),
+                tile(TOP_EDGE), tile(BOTTOM_EDGE), tile(LEFT_EDGE), tile(RIGHT_EDGE),
+                tile(MIDDLE_TILE)))
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
 
@@ -67,7 +58,8 @@ public class FloorFactory {
     public static Entity createGroundFloor() {
         Entity floor = new Entity()
             .addComponent(new TiledGroundFloorComponent(
-                topLeftCorner, topRightCorner, topEdge, leftEdge, rightEdge, middleTile))
+                tile(TOP_LEFT_CORNER), tile(TOP_RIGHT_CORNER), tile(TOP_EDGE),
+                tile(LEFT_EDGE), tile(RIGHT_EDGE), tile(MIDDLE_TILE)))
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
 
@@ -84,9 +76,19 @@ public class FloorFactory {
     public static Entity createDecorativeFloor() {
         Entity floor = new Entity()
             .addComponent(new TiledFloorComponent(
-                topLeftCorner, topRightCorner, bottomLeftCorner, bottomRightCorner,
-                topEdge, bottomEdge, leftEdge, rightEdge, middleTile));
+                tile(TOP_LEFT_CORNER), tile(TOP_RIGHT_CORNER),
+                tile(BOTTOM_LEFT_CORNER), tile(BOTTOM_RIGHT_CORNER),
+                tile(TOP_EDGE), tile(BOTTOM_EDGE), tile(LEFT_EDGE), tile(RIGHT_EDGE),
+                tile(MIDDLE_TILE)));
         floor.addComponent(new MinimapComponent("images/floor-map-1.png"));
         return floor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Tiles are drawn from the level's packed atlas when it has one, so a floor does not switch
+     * texture between each tile.
+     */
+    private static TextureRegion tile(String path) {
+        return ServiceLocator.getResourceService().getRegion(path);
+    }
+}
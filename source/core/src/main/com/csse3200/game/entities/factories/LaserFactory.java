@@ -23,6 +23,9 @@ public class LaserFactory {
     }
 
     private static final int ATTACK_DAMAGE = 20;
+    private static final String LASER_SHOWER_POOL = "laserShower";
+    /** Enough for one laser shower burst */
+    private static final int LASER_SHOWER_POOL_SIZE = 12;
 
     /**
      * Creates a new laser emitter entity which is rotated by {@code dir} degrees.
@@ -74,4 +77,17 @@ public class LaserFactory {
     public static Entity createLaserShower(float dir) {
         return createLaser(dir, Color.BLUE, new LaserShowerComponent(dir));
     }
+
+    /**
+     * Takes a downward laser shower from the entity service's pool, creating one if none are free.
+     * The laser keeps its lights and hit light between uses. Release it with
+     * {@link Entity#release()} rather than disposing it.
+     *
+     * @return unregistered laser shower entity
+     */
+    public static Entity obtainLaserShower() {
+        return ServiceLocator.getEntityService()
+                .getPool(LASER_SHOWER_POOL, () -> createLaserShower(-90f), LASER_SHOWER_POOL_SIZE)
+                .obtain();
+    }
 }
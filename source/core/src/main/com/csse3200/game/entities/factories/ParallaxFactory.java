@@ -7,7 +7,7 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.math.GridPoint2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.ParallaxConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.LevelFiles;
 import com.csse3200.game.rendering.parallax.ParallaxBackgroundComponent;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -19,7 +19,7 @@ public final class ParallaxFactory {
     private ParallaxFactory() {}
 
     public static Entity createParallax(String configPath, Camera camera, GridPoint2 mapSize) {
-        ParallaxConfig cfg = FileLoader.readClass(ParallaxConfig.class, configPath);
+        ParallaxConfig cfg = LevelFiles.readParallax(configPath);
         ResourceService rs = ServiceLocator.getResourceService();
 
         ParallaxBackgroundComponent pbg = new ParallaxBackgroundComponent(camera, mapSize.x, mapSize.y);
@@ -23,8 +23,20 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public class ProjectileFactory {
 
+    private static final String BOMB_POOL = "bomb";
+    private static final String LASER_PROJECTILE_POOL = "laserProjectile";
+    private static final int POOL_SIZE = 16;
+
+    private static final float BOMB_SIZE = 0.5f;
+
+    // shootEffect sprite is 285x96 pixels (not 640x640 like other boss sprites)
+    // Base size in world units (assuming 640 pixels = 1 unit for boss sprites)
+    private static final float SHOOT_EFFECT_WIDTH = 285f / 640f;   // ~0.445 units
+    private static final float SHOOT_EFFECT_HEIGHT = 96f / 640f;   // ~0.15 units
+
     /**
-     * Creates a bomb entity that falls from source position toward target
+     * Creates a bomb entity that falls from source position toward target. Bombs are taken from a
+     * pool, so should be finished with using {@link Entity#release()}.
      * @param source The entity that created the bomb (drone)
      * @param spawnCenter Position where bomb spawns (drone's position)
      * @param targetPosition Position where bomb should land (player's position)
@@ -35,30 +47,46 @@ public class ProjectileFactory {
      */
     public static Entity createBomb(Entity source, Vector2 spawnCenter, Vector2 targetPosition,
                                     float explosionDelay, float explosionRadius, int damage) {
+        Entity bomb = ServiceLocator.getEntityService()
+                .getPool(BOMB_POOL, ProjectileFactory::buildBomb, POOL_SIZE)
+                .obtain();
+        bomb.getComponent(BombComponent.class).reset(explosionDelay, explosionRadius);
+        bomb.getComponent(CombatStatsComponent.class).setBaseAttack(damage);
+
+        // A bomb which exploded was hidden by scaling it to nothing
+        bomb.setScale(BOMB_SIZE, BOMB_SIZE);
+
+        Vector2 bottomLeft = new Vector2(spawnCenter.x - BOMB_SIZE * 0.5f, spawnCenter.y - BOMB_SIZE * 0.5f);
+        bomb.setPosition(bottomLeft);
+
+        // Set up physics for falling
+        PhysicsComponent physics = bomb.getComponent(PhysicsComponent.class);
+        physics.getBody().setTransform(spawnCenter, 0f);
+        physics.getBody().setLinearVelocity(0f, 0f);
+
+        return bomb;
+    }
+
+    /**
+     * Builds the parts of a bomb which do not change between drops.
+     * @return Bomb entity
+     */
+    private static Entity buildBomb() {
         Entity bomb = new Entity()
                 .addComponent(new PhysicsComponent())
                 .addComponent(new ColliderComponent().setLayer(PhysicsLayer.NPC))
-                .addComponent(new CombatStatsComponent(1, damage))
-                .addComponent(new BombComponent(explosionDelay, explosionRadius, PhysicsLayer.PLAYER));
-
-        // Bomb size
-        final float SIZE_W = 0.5f, SIZE_H = 0.5f;
+                .addComponent(new CombatStatsComponent(1, 0))
+                .addComponent(new BombComponent(0f, 0f, PhysicsLayer.PLAYER));
 
         bomb.addComponent(new TextureRenderComponent("images/bomb.png"));
-        bomb.setScale(SIZE_W, SIZE_H);
+        bomb.setScale(BOMB_SIZE, BOMB_SIZE);
 
         // Physics collider
-        PhysicsUtils.setScaledCollider(bomb, SIZE_W, SIZE_H);
+        PhysicsUtils.setScaledCollider(bomb, BOMB_SIZE, BOMB_SIZE);
 
-        Vector2 bottomLeft = new Vector2(spawnCenter.x - SIZE_W * 0.5f, spawnCenter.y - SIZE_H * 0.5f);
-        bomb.setPosition(bottomLeft);
-
-        // Set up physics for falling
         PhysicsComponent physics = bomb.getComponent(PhysicsComponent.class);
         physics.setBodyType(BodyDef.BodyType.DynamicBody);
-        physics.getBody().setTransform(spawnCenter, 0f);
         physics.getBody().setGravityScale(1f);
-        physics.getBody().setLinearVelocity(0f, 0f);
 
         // Set collision properties
         bomb.getComponent(ColliderComponent.class)
@@ -70,7 +98,8 @@ public class ProjectileFactory {
     }
 
     /**
-     * Creates a laser pulse projectile entity
+     * Creates a laser pulse projectile entity. Projectiles are taken from a pool, and return to it
+     * once they hit something or travel too far.
      * @param source The entity that created the projectile (boss)
      * @param spawnPos Position where projectile spawns (CENTER position)
      * @param direction Direction the projectile should travel (normalized)
@@ -80,6 +109,46 @@ public class ProjectileFactory {
      */
     public static Entity createLaserProjectile(Entity source, Vector2 spawnPos,
                                                Vector2 direction, float speed, int damage) {
+        Entity laserProjectile = ServiceLocator.getEntityService()
+                .getPool(LASER_PROJECTILE_POOL, ProjectileFactory::buildLaserProjectile, POOL_SIZE)
+                .obtain();
+        laserProjectile.getComponent(LaserProjectileComponent.class).reset(direction, speed, source);
+        laserProjectile.getComponent(CombatStatsComponent.class).setBaseAttack(damage);
+
+        // Set rotation to match movement direction
+        AnimationRenderComponent animator = laserProjectile.getComponent(AnimationRenderComponent.class);
+        animator.setRotation(direction.angleDeg());
+
+        // Offset spawn position to the left to align with boss's visual attack point
+        Vector2 adjustedSpawnPos = spawnPos.cpy();
+        adjustedSpawnPos.x += 0.5f;  // Move 3 units to the left
+
+        // CRITICAL: adjustedSpawnPos is CENTER position, but setPosition() expects BOTTOM-LEFT
+        // Convert center to bottom-left based on ACTUAL sprite dimensions
+        Vector2 bottomLeftPos = new Vector2(
+                adjustedSpawnPos.x - SHOOT_EFFECT_WIDTH * 0.5f,
+                adjustedSpawnPos.y - SHOOT_EFFECT_HEIGHT * 0.5f
+        );
+        laserProjectile.setPosition(bottomLeftPos);
+
+        // Set velocity based on direction and speed (reduced from original)
+        PhysicsComponent physics = laserProjectile.getComponent(PhysicsComponent.class);
+        Vector2 velocity = direction.cpy().nor().scl(speed * 0.4f);  // Reduce speed to 40% of original
+        physics.getBody().setLinearVelocity(velocity);
+
+        // Start shootEffect animation
+        animator.startAnimation("shootEffect");
+
+        return laserProjectile;
+    }
+
+    /**
+     * Builds the parts of a laser projectile which do not change between shots. The collider is
+     * built pointing right; {@link LaserProjectileComponent} turns the body to face the direction
+     * of travel.
+     * @return Laser projectile entity
+     */
+    private static Entity buildLaserProjectile() {
         // Load boss atlas for shootEffect animation
         TextureAtlas bossAtlas = ServiceLocator.getResourceService()
                 .getAsset("images/boss.atlas", TextureAtlas.class);
@@ -88,26 +157,14 @@ public class ProjectileFactory {
             throw new RuntimeException("boss.atlas not loaded - required for laser projectile");
         }
 
-        // Calculate rotation angle from direction vector
-        float rotationAngle = direction.angleDeg();
-        // Convert to radians for Box2D
-        float rotationRadians = (float) Math.toRadians(rotationAngle);
-
         // Setup animation component with shootEffect
         AnimationRenderComponent animator = new AnimationRenderComponent(bossAtlas);
         animator.addAnimation("shootEffect", 0.1f, Animation.PlayMode.LOOP);
         animator.addAnimation("touchKillEffect", 0.2f, Animation.PlayMode.NORMAL);
 
-        // Set rotation to match movement direction
-        animator.setRotation(rotationAngle);
-
         // Set origin to center for proper rotation
         animator.setOrigin(0.5f, 0.5f);
-
-        // CRITICAL: shootEffect sprite is 285x96 pixels (not 640x640 like other boss sprites)
-        // Base size in world units (assuming 640 pixels = 1 unit for boss sprites)
-        float shootEffectBaseWidth = 285f / 640f;   // ~0.445 units
-        float shootEffectBaseHeight = 96f / 640f;   // ~0.15 units
+        animator.setLayer(3); // Render above most entities
 
         // Scale up the visual size
         float visualScale = 1f;
@@ -116,28 +173,16 @@ public class ProjectileFactory {
         Entity laserProjectile = new Entity()
                 .addComponent(new PhysicsComponent())
                 .addComponent(new ColliderComponent().setLayer(PhysicsLayer.NPC))
-                .addComponent(new CombatStatsComponent(1, damage))
+                .addComponent(new CombatStatsComponent(1, 0))
                 .addComponent(animator)
-                .addComponent(new LaserProjectileComponent(direction, speed, source));
+                .addComponent(new LaserProjectileComponent(Vector2.X, 0f, null));
 
         // Set scale - this affects rendering size
         laserProjectile.setScale(visualScale+3f, visualScale+0.3f);
 
         // Calculate actual rendered size after scaling
-        float renderedWidth = shootEffectBaseWidth * visualScale;
-        float renderedHeight = shootEffectBaseHeight * visualScale;
-
-        // Offset spawn position to the left to align with boss's visual attack point
-        Vector2 adjustedSpawnPos = spawnPos.cpy();
-        adjustedSpawnPos.x += 0.5f;  // Move 3 units to the left
-
-        // CRITICAL: adjustedSpawnPos is CENTER position, but setPosition() expects BOTTOM-LEFT
-        // Convert center to bottom-left based on ACTUAL sprite dimensions
-        Vector2 bottomLeftPos = new Vector2(
-                adjustedSpawnPos.x - renderedWidth * 0.5f,
-                adjustedSpawnPos.y - renderedHeight * 0.5f
-        );
-        laserProjectile.setPosition(bottomLeftPos);
+        float renderedWidth = SHOOT_EFFECT_WIDTH * visualScale;
+        float renderedHeight = SHOOT_EFFECT_HEIGHT * visualScale;
 
         // Set collider size to match the visual sprite (slightly smaller for better gameplay)
         float colliderWidth = renderedWidth + 2.9f;
@@ -150,49 +195,27 @@ public class ProjectileFactory {
         float baseOffsetX = 2f;  // Shifts collider forward along projectile direction
         float baseOffsetY = 0.6f;  // Shifts collider perpendicular to projectile direction
 
-        // Calculate the collider center that rotates around the body origin
-        // As rotationRadians changes, this point moves in a circle
-        float colliderCenterX = (float)(baseOffsetX * Math.cos(rotationRadians) - baseOffsetY * Math.sin(rotationRadians));
-        float colliderCenterY = (float)(baseOffsetX * Math.sin(rotationRadians) + baseOffsetY * Math.cos(rotationRadians));
-        Vector2 colliderCenter = new Vector2(colliderCenterX, colliderCenterY);
-
-        // Create the rotated polygon shape
-        PolygonShape rotatedBox = new PolygonShape();
-        rotatedBox.setAsBox(
+        // The body is rotated to the projectile's direction, which turns this box around the body origin
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(
                 colliderWidth / 2f,      // half-width
                 colliderHeight / 2f,     // half-height
-                colliderCenter,          // center rotates in a circle as angle changes
-                rotationRadians                       // no additional rotation (body itself is rotated)
+                new Vector2(baseOffsetX, baseOffsetY),
+                0f
         );
+        laserProjectile.getComponent(ColliderComponent.class).setShape(box);
 
-        // Set the rotated shape to the collider
-        laserProjectile.getComponent(ColliderComponent.class).setShape(rotatedBox);
-
-        // Set physics body transform to adjusted spawn center position WITH ROTATION
         PhysicsComponent physics = laserProjectile.getComponent(PhysicsComponent.class);
-        if (physics != null && physics.getBody() != null) {
-            physics.setBodyType(BodyDef.BodyType.DynamicBody);
-
-            // Set body position AND rotation to match animation
-            physics.getBody().setTransform(adjustedSpawnPos, rotationRadians);
-
-            // Physics properties for the laser
-            physics.getBody().setGravityScale(0f);
-            physics.getBody().setBullet(true);
-            physics.getBody().setLinearDamping(0f);
-            physics.getBody().setAngularDamping(0f);
+        physics.setBodyType(BodyDef.BodyType.DynamicBody);
 
-            // Prevent rotation during flight
-            physics.getBody().setFixedRotation(true);
+        // Physics properties for the laser
+        physics.getBody().setGravityScale(0f);
+        physics.getBody().setBullet(true);
+        physics.getBody().setLinearDamping(0f);
+        physics.getBody().setAngularDamping(0f);
 
-            // Set velocity based on direction and speed (reduced from original)
-            Vector2 velocity = direction.cpy().nor().scl(speed * 0.4f);  // Reduce speed to 40% of original
-            physics.getBody().setLinearVelocity(velocity);
-        }
-
-        // Start shootEffect animation
-        animator.startAnimation("shootEffect");
-        animator.setLayer(3); // Render above most entities
+        // Prevent rotation during flight
+        physics.getBody().setFixedRotation(true);
 
         return laserProjectile;
     }
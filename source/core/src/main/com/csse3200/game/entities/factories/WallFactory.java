@@ -1,6 +1,5 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.components.minimap.MinimapComponent;
@@ -57,12 +56,12 @@ public class WallFactory {
    * @return Configured wall entity
    */
   public static Entity createTiledWall() {
-    Texture topTexture = ServiceLocator.getResourceService().getAsset("images/walltiles/WallTop.png", Texture.class);
-    Texture middleTexture = ServiceLocator.getResourceService().getAsset("images/walltiles/WallTile.png", Texture.class);
+    TextureRegion topTile = ServiceLocator.getResourceService().getRegion("images/walltiles/WallTop.png");
+    TextureRegion middleTile = ServiceLocator.getResourceService().getRegion("images/walltiles/WallTile.png");
 
     Entity wall =
         new Entity()
-            .addComponent(new TiledWallComponent(new TextureRegion(topTexture), new TextureRegion(middleTexture)))
+            .addComponent(new TiledWallComponent(topTile, middleTile))
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
     wall.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
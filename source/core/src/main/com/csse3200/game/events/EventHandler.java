@@ -5,9 +5,7 @@ import com.csse3200.game.events.listeners.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
+import java.util.Arrays;
 
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
@@ -17,16 +15,30 @@ import java.util.function.Consumer;
  * <p>Currently supports up to 3 arguments for an event. More can be added, but consider instead
  * passing a class with required fields.
  *
+ * <p>Event names are interned to {@link EventKey}s. Each handler keeps a small table of only the
+ * keys it has listeners for, found by comparing key ids, so a handler's size does not depend on how
+ * many events exist. Events triggered often should use the {@link EventKey} overloads directly; the
+ * String overloads resolve the key on each call.
+ *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  private static final int[] NO_KEYS = new int[0];
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final Array<EventListener>[] NO_LISTENERS = new Array[0];
+
+  /** Id of the key in each slot, so {@code listeners[i]} are the listeners of {@code keyIds[i]}. */
+  private int[] keyIds;
+  /** Listeners of each slot. Grown on demand, so most entities stay empty. */
+  private Array<EventListener>[] listeners;
+  private int slots = 0;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
-    listeners = new HashMap<>();
+    keyIds = NO_KEYS;
+    listeners = NO_LISTENERS;
   }
 
   /**
@@ -36,7 +48,7 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -47,7 +59,7 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -59,7 +71,7 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -72,7 +84,97 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param key interned event key
+   * @param listener function to call when event fires
+   */
+  public void addListener(EventKey key, EventListener0 listener) {
+    registerListener(key, listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param key interned event key
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(EventKey key, EventListener1<T> listener) {
+    registerListener(key, listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param key interned event key
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(EventKey key, EventListener2<T0, T1> listener) {
+    registerListener(key, listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param key interned event key
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(EventKey key, EventListener3<T0, T1, T2> listener) {
+    registerListener(key, listener);
+  }
+
+  /**
+   * Remove every listener for an event. Used to drop listeners added by other objects when an
+   * entity is reused from a pool, so they do not build up over its lifetime.
+   *
+   * @param eventName name of the event
+   */
+  public void removeListeners(String eventName) {
+    EventKey key = EventKey.find(eventName);
+    int slot = key == null ? -1 : findSlot(key.getId());
+    if (slot >= 0) {
+      listeners[slot] = null;
+    }
+  }
+
+  /**
+   * Remove a single listener from an event. The event's listeners are copied rather than changed
+   * in place, so a dispatch already in progress still notifies every listener it started with.
+   *
+   * @param eventName name of the event
+   * @param listener listener previously added to the event
+   */
+  public void removeListener(String eventName, EventListener listener) {
+    EventKey key = EventKey.find(eventName);
+    int slot = key == null ? -1 : findSlot(key.getId());
+    if (slot < 0 || listeners[slot] == null) {
+      return;
+    }
+    Array<EventListener> remaining = new Array<>(listeners[slot]);
+    if (remaining.removeValue(listener, true)) {
+      logger.debug("Removing listener {} from event {}", listener, key);
+      listeners[slot] = remaining.isEmpty() ? null : remaining;
+    }
+  }
+
+  /**
+   * Check whether any listeners are registered for an event.
+   *
+   * @param key interned event key
+   * @return true if triggering the event would notify at least one listener
+   */
+  public boolean hasListeners(EventKey key) {
+    return getListeners(key) != null;
   }
 
   /**
@@ -81,8 +183,10 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    EventKey key = EventKey.find(eventName);
+    if (key != null) {
+      trigger(key);
+    }
   }
 
   /**
@@ -92,11 +196,11 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    EventKey key = EventKey.find(eventName);
+    if (key != null) {
+      trigger(key, arg0);
+    }
   }
 
   /**
@@ -108,12 +212,11 @@ public class EventHandler {
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    EventKey key = EventKey.find(eventName);
+    if (key != null) {
+      trigger(key, arg0, arg1);
+    }
   }
 
   /**
@@ -127,35 +230,136 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    EventKey key = EventKey.find(eventName);
+    if (key != null) {
+      trigger(key, arg0, arg1, arg2);
+    }
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param key interned event key
+   */
+  public void trigger(EventKey key) {
+    Array<EventListener> eventListeners = getListeners(key);
     if (eventListeners == null) {
-      eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+      return;
+    }
+    logTrigger(key);
+    // Size is re-read each iteration so listeners added during dispatch are also notified
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener0) eventListeners.get(i)).handle();
+    }
+  }
+
+  /**
+   * Trigger an event with one argument
+   *
+   * @param key interned event key
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(EventKey key, T arg0) {
+    Array<EventListener> eventListeners = getListeners(key);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(key);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+    }
+  }
+
+  /**
+   * Trigger an event with two arguments
+   *
+   * @param key interned event key
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(EventKey key, T0 arg0, T1 arg1) {
+    Array<EventListener> eventListeners = getListeners(key);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(key);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param key interned event key
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1, T2> void trigger(EventKey key, T0 arg0, T1 arg1, T2 arg2) {
+    Array<EventListener> eventListeners = getListeners(key);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(key);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
     }
-    eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  private void registerListener(EventKey key, EventListener listener) {
+    logger.debug("Adding listener {} to event {}", listener, key);
+    int id = key.getId();
+    int slot = findSlot(id);
+    if (slot < 0) {
+      if (slots == keyIds.length) {
+        int capacity = Math.max(2, slots * 2);
+        keyIds = Arrays.copyOf(keyIds, capacity);
+        listeners = Arrays.copyOf(listeners, capacity);
+      }
+      slot = slots++;
+      keyIds[slot] = id;
+    }
+    Array<EventListener> eventListeners = listeners[slot];
+    if (eventListeners == null) {
+      eventListeners = new Array<>(1);
+      listeners[slot] = eventListeners;
     }
+    eventListeners.add(listener);
   }
 
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+  private Array<EventListener> getListeners(EventKey key) {
+    int slot = findSlot(key.getId());
+    return slot < 0 ? null : listeners[slot];
   }
 
+  /**
+   * Find the slot of a key. Handlers listen to few events, so a scan beats hashing.
+   *
+   * @param id key id
+   * @return slot index, or -1 if the key has no slot
+   */
+  private int findSlot(int id) {
+    int[] ids = keyIds;
+    for (int i = 0; i < slots; i++) {
+      if (ids[i] == id) {
+        return i;
+      }
+    }
+    return -1;
+  }
 
+  private static void logTrigger(EventKey key) {
+    logger.debug("Triggering event {}", key);
+  }
 }
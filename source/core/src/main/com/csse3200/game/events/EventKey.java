@@ -0,0 +1,67 @@
+package com.csse3200.game.events;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Interned event name. Each distinct event name is resolved once to a small integer id, which
+ * {@link EventHandler} compares to find listeners instead of hashing the name on every trigger.
+ *
+ * <p>Frequently fired events should keep their key in a constant:
+ *
+ * <pre>
+ * private static final EventKey COLLISION_START = EventKey.of("collisionStart");
+ * entity.getEvents().trigger(COLLISION_START, fixture, other);
+ * </pre>
+ */
+public final class EventKey {
+  private static final ObjectMap<String, EventKey> eventKeys = new ObjectMap<>();
+  private static int nextId = 0;
+
+  private final int id;
+  private final String name;
+
+  /**
+   * Get the key for an event name, creating it on first use.
+   *
+   * @param name name of the event
+   * @return interned key for the name
+   */
+  public static EventKey of(String name) {
+    EventKey key = eventKeys.get(name);
+    if (key == null) {
+      key = new EventKey(name);
+      eventKeys.put(name, key);
+    }
+    return key;
+  }
+
+  /**
+   * Get the key for an event name without creating one. A name that has never been interned cannot
+   * have any listeners, so triggering it can be skipped entirely.
+   *
+   * @param name name of the event
+   * @return interned key, or null if no key exists for the name
+   */
+  static EventKey find(String name) {
+    return eventKeys.get(name);
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  private EventKey(String name) {
+    this.name = name;
+    id = nextId;
+    nextId++;
+  }
+}
@@ -0,0 +1,344 @@
+package com.csse3200.game.files;
+
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.configs.LevelConfig;
+import com.csse3200.game.entities.configs.ParallaxConfig;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A level's config, asset list and parallax config, which the level compiler checks and writes to
+ * a single binary file at build time. Reading the binary form is a straight sequence of reads
+ * without any JSON parsing or reflection.
+ *
+ * <p>The format is a magic number and version, then each field in declaration order. Strings and
+ * boxed values are preceded by a flag saying whether they are present, and lists by their size.
+ * The version must be bumped whenever a config class gains or loses a field.
+ */
+public record CompiledLevel(LevelConfig config, LevelAssetsConfig assets, ParallaxConfig parallax) {
+  /** "LVL" followed by a format byte */
+  static final int MAGIC = 0x4C564C00;
+  static final int VERSION = 1;
+
+  /**
+   * Check the level for mistakes which would otherwise only show up when it is played: missing
+   * required fields, entities without a type, and a minimap or parallax texture which is not in the
+   * level's textures, so would not be loaded.
+   *
+   * @return a description of each problem found, empty if the level is valid
+   */
+  public List<String> validate() {
+    List<String> problems = new ArrayList<>();
+    if (config.name == null) problems.add("config: missing name");
+    checkPair(problems, "mapSize", config.mapSize);
+    checkPair(problems, "playerSpawn", config.playerSpawn);
+    if (config.mapSize != null && config.mapSize.length == 2
+        && (config.mapSize[0] <= 0 || config.mapSize[1] <= 0)) {
+      problems.add("config: mapSize must be positive");
+    }
+    if (config.walls == null) problems.add("config: walls must not be null");
+    if (config.entities == null) {
+      problems.add("config: missing entities");
+    } else {
+      for (int i = 0; i < config.entities.size(); i++) {
+        LevelConfig.E entity = config.entities.get(i);
+        if (entity == null || entity.type == null) {
+          problems.add("config: entity " + i + " has no type");
+        }
+      }
+    }
+
+    Set<String> textures = assets.textures == null ? Set.of() : new HashSet<>(assets.textures);
+    if (config.miniMap == null) {
+      problems.add("config: missing miniMap");
+    } else if (!textures.contains(config.miniMap)) {
+      problems.add("config: miniMap " + config.miniMap + " is not in the level's textures");
+    }
+    checkLayers(problems, "layers", parallax.layers, textures);
+    checkLayers(problems, "overlays", parallax.overlays, textures);
+    return problems;
+  }
+
+  /**
+   * Find asset paths which do not exist or are listed more than once. These do not stop a level
+   * from loading, but are most likely mistakes.
+   *
+   * @param assetExists returns whether an asset path exists
+   * @return a description of each problem found, empty if there are none
+   */
+  public List<String> findAssetProblems(Predicate<String> assetExists) {
+    List<String> problems = new ArrayList<>();
+    checkAssets(problems, "textures", assets.textures, assetExists);
+    checkAssets(problems, "atlases", assets.atlases, assetExists);
+    checkAssets(problems, "sounds", assets.sounds, assetExists);
+    checkAssets(problems, "music", assets.music, assetExists);
+    return problems;
+  }
+
+  private static void checkPair(List<String> problems, String name, int[] pair) {
+    if (pair == null || pair.length != 2) {
+      problems.add("config: " + name + " must have two values");
+    }
+  }
+
+  private static void checkAssets(List<String> problems, String name, List<String> paths,
+                                  Predicate<String> assetExists) {
+    if (paths == null) {
+      problems.add("assets: missing " + name);
+      return;
+    }
+    Set<String> seen = new HashSet<>();
+    for (String path : paths) {
+      if (path == null) {
+        problems.add("assets: null entry in " + name);
+      } else if (!seen.add(path)) {
+        problems.add("assets: " + path + " is listed twice in " + name);
+      } else if (!assetExists.test(path)) {
+        problems.add("assets: " + path + " does not exist");
+      }
+    }
+  }
+
+  private static void checkLayers(List<String> problems, String name,
+                                  List<ParallaxConfig.Layer> layers, Set<String> textures) {
+    if (layers == null) return;
+    for (ParallaxConfig.Layer layer : layers) {
+      if (layer != null && layer.texture != null && !textures.contains(layer.texture)) {
+        problems.add("parallax: " + name + " texture " + layer.texture
+            + " is not in the level's textures");
+      }
+    }
+  }
+
+  /**
+   * Write the level in binary form.
+   *
+   * @param out output to write to
+   * @throws IOException if writing fails
+   */
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+
+    writeString(out, config.name);
+    writeInts(out, config.mapSize);
+    writeInts(out, config.playerSpawn);
+    writeString(out, config.miniMap);
+    writeString(out, config.music);
+    out.writeFloat(config.walls.thickness);
+    out.writeInt(config.entities.size());
+    for (LevelConfig.E e : config.entities) {
+      writeEntity(out, e);
+    }
+
+    writeStrings(out, assets.textures);
+    writeStrings(out, assets.atlases);
+    writeStrings(out, assets.sounds);
+    writeStrings(out, assets.music);
+
+    writeLayers(out, parallax.layers);
+    writeLayers(out, parallax.overlays);
+  }
+
+  /**
+   * Read a level written by {@link #write(DataOutput)}.
+   *
+   * @param in input to read from
+   * @return the level
+   * @throws IOException if reading fails, or the input is not a compiled level of this version
+   */
+  public static CompiledLevel read(DataInput in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a compiled level");
+    }
+    int version = in.readInt();
+    if (version != VERSION) {
+      throw new IOException("Compiled level version " + version + ", expected " + VERSION);
+    }
+
+    LevelConfig config = new LevelConfig();
+    config.name = readString(in);
+    config.mapSize = readInts(in);
+    config.playerSpawn = readInts(in);
+    config.miniMap = readString(in);
+    config.music = readString(in);
+    config.walls.thickness = in.readFloat();
+    int entityCount = in.readInt();
+    List<LevelConfig.E> entities = new ArrayList<>(entityCount);
+    for (int i = 0; i < entityCount; i++) {
+      entities.add(readEntity(in));
+    }
+    config.entities = entities;
+
+    LevelAssetsConfig assets = new LevelAssetsConfig();
+    assets.textures = readStrings(in);
+    assets.atlases = readStrings(in);
+    assets.sounds = readStrings(in);
+    assets.music = readStrings(in);
+
+    ParallaxConfig parallax = new ParallaxConfig();
+    parallax.layers = readLayers(in);
+    parallax.overlays = readLayers(in);
+    return new CompiledLevel(config, assets, parallax);
+  }
+
+  private static void writeEntity(DataOutput out, LevelConfig.E e) throws IOException {
+    writeString(out, e.type);
+    writeString(out, e.subtype);
+    writeString(out, e.id);
+    writeString(out, e.linked);
+    writeString(out, e.target);
+    writeString(out, e.tooltip);
+    writeString(out, e.extra);
+    writeString(out, e.direction);
+    out.writeInt(e.x);
+    out.writeInt(e.y);
+    writeFloat(out, e.sx);
+    writeFloat(out, e.sy);
+    writeFloat(out, e.speed);
+    writeFloat(out, e.range);
+    writeFloat(out, e.rotation);
+    writeFloat(out, e.dx);
+    writeFloat(out, e.dy);
+    out.writeFloat(e.safeX);
+    out.writeFloat(e.safeY);
+    writeBoolean(out, e.centerX);
+    writeBoolean(out, e.centerY);
+    writeBoolean(out, e.isVisible);
+    out.writeInt(e.height);
+    out.writeInt(e.offset);
+  }
+
+  private static LevelConfig.E readEntity(DataInput in) throws IOException {
+    LevelConfig.E e = new LevelConfig.E();
+    e.type = readString(in);
+    e.subtype = readString(in);
+    e.id = readString(in);
+    e.linked = readString(in);
+    e.target = readString(in);
+    e.tooltip = readString(in);
+    e.extra = readString(in);
+    e.direction = readString(in);
+    e.x = in.readInt();
+    e.y = in.readInt();
+    e.sx = readFloat(in);
+    e.sy = readFloat(in);
+    e.speed = readFloat(in);
+    e.range = readFloat(in);
+    e.rotation = readFloat(in);
+    e.dx = readFloat(in);
+    e.dy = readFloat(in);
+    e.safeX = in.readFloat();
+    e.safeY = in.readFloat();
+    e.centerX = readBoolean(in);
+    e.centerY = readBoolean(in);
+    e.isVisible = readBoolean(in);
+    e.height = in.readInt();
+    e.offset = in.readInt();
+    return e;
+  }
+
+  private static void writeLayers(DataOutput out, List<ParallaxConfig.Layer> layers)
+      throws IOException {
+    out.writeInt(layers == null ? -1 : layers.size());
+    if (layers == null) return;
+    for (ParallaxConfig.Layer layer : layers) {
+      writeString(out, layer.texture);
+      out.writeFloat(layer.factor);
+      out.writeFloat(layer.offsetX);
+      out.writeFloat(layer.offsetY);
+      out.writeFloat(layer.scale);
+      out.writeFloat(layer.coverage);
+      out.writeBoolean(layer.tiled);
+    }
+  }
+
+  private static List<ParallaxConfig.Layer> readLayers(DataInput in) throws IOException {
+    int size = in.readInt();
+    if (size < 0) return null;
+    // Parallax layers are sorted in place when they are built, so the list must be mutable
+    List<ParallaxConfig.Layer> layers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ParallaxConfig.Layer layer = new ParallaxConfig.Layer();
+      layer.texture = readString(in);
+      layer.factor = in.readFloat();
+      layer.offsetX = in.readFloat();
+      layer.offsetY = in.readFloat();
+      layer.scale = in.readFloat();
+      layer.coverage = in.readFloat();
+      layer.tiled = in.readBoolean();
+      layers.add(layer);
+    }
+    return layers;
+  }
+
+  private static void writeStrings(DataOutput out, List<String> strings) throws IOException {
+    out.writeInt(strings == null ? -1 : strings.size());
+    if (strings == null) return;
+    for (String string : strings) {
+      writeString(out, string);
+    }
+  }
+
+  private static List<String> readStrings(DataInput in) throws IOException {
+    int size = in.readInt();
+    if (size < 0) return null;
+    List<String> strings = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      strings.add(readString(in));
+    }
+    return strings;
+  }
+
+  private static void writeInts(DataOutput out, int[] values) throws IOException {
+    out.writeInt(values == null ? -1 : values.length);
+    if (values == null) return;
+    for (int value : values) {
+      out.writeInt(value);
+    }
+  }
+
+  private static int[] readInts(DataInput in) throws IOException {
+    int size = in.readInt();
+    if (size < 0) return null;
+    int[] values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = in.readInt();
+    }
+    return values;
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) out.writeUTF(value);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeFloat(DataOutput out, Float value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) out.writeFloat(value);
+  }
+
+  private static Float readFloat(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readFloat() : null;
+  }
+
+  private static void writeBoolean(DataOutput out, Boolean value) throws IOException {
+    out.writeByte(value == null ? -1 : (value ? 1 : 0));
+  }
+
+  private static Boolean readBoolean(DataInput in) throws IOException {
+    byte value = in.readByte();
+    return value < 0 ? null : value == 1;
+  }
+}
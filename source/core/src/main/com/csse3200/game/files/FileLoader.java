@@ -6,15 +6,24 @@ import com.badlogic.gdx.utils.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Wrapper for reading Java objects from JSON files.
  *
  * <p>A generic method is provided already, but methods for reading specific classes can be added
  * for more control.
+ *
+ * <p>Config files which are read many times, such as level configs, can be read through {@link
+ * #readCachedClass(Class, String)}. The parsed object is kept and returned again until the file's
+ * modification time changes, so the JSON is only parsed once.
  */
 public class FileLoader {
   private static final Logger logger = LoggerFactory.getLogger(FileLoader.class);
   static final Json json = new Json();
+  private static final Map<String, CachedFile> cache = new HashMap<>();
 
   /**
    * Read generic Java classes from a JSON file. Properties in the JSON file will override class
@@ -62,6 +71,54 @@ public class FileLoader {
     return object;
   }
 
+  /**
+   * Read generic Java classes from an internal JSON file, reusing the object parsed the last time
+   * the file was read if it has not been modified since. The returned object is shared, so it must
+   * not be modified.
+   *
+   * @param type class type
+   * @param filename file to read from
+   * @param <T> Class type to read JSON into
+   * @return shared instance of class, may be null
+   */
+  public static <T> T readCachedClass(Class<T> type, String filename) {
+    return readCached(type, filename, file -> readClass(type, filename));
+  }
+
+  /**
+   * Read an internal file through the parsed file cache. Entries are keyed by type and path, and
+   * are parsed again when the file's modification time changes. Nothing is cached if the parser
+   * returns null.
+   *
+   * @param type class type
+   * @param filename file to read from
+   * @param parser reads the file, returning null on failure
+   * @param <T> Class type to read
+   * @return shared instance of class, may be null
+   */
+  public static <T> T readCached(Class<T> type, String filename, Function<FileHandle, T> parser) {
+    FileHandle file = Gdx.files.internal(filename);
+    String key = type.getName() + ':' + filename;
+    long lastModified = file.lastModified();
+    CachedFile cached = cache.get(key);
+    if (cached != null && cached.lastModified() == lastModified) {
+      return type.cast(cached.value());
+    }
+
+    T object = parser.apply(file);
+    if (object == null) {
+      cache.remove(key);
+    } else {
+      cache.put(key, new CachedFile(lastModified, object));
+    }
+    return object;
+  }
+
+  /** Forget all parsed files, so each is read again the next time it is needed. */
+  public static void clearCache() {
+    cache.clear();
+  }
+
   /**
    * Write generic Java classes to a JSON file.
    *
@@ -97,6 +154,8 @@ public class FileLoader {
     };
   }
 
+  private record CachedFile(long lastModified, Object value) {}
+
   public enum Location {
     CLASSPATH,
     INTERNAL,
@@ -0,0 +1,107 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.configs.LevelConfig;
+import com.csse3200.game.entities.configs.ParallaxConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Reads the config.json, assets.json and parallax.json of levels under levels/. If the level
+ * compiler has written the level to compiled/&lt;level&gt;.level, that is read instead of the JSON.
+ * Both forms go through the {@link FileLoader} cache, so a level is only read once unless its files
+ * change, and resets and repeated transitions reuse the parsed configs.
+ *
+ * <p>A compiled level is ignored if any of its JSON files has been modified since it was compiled,
+ * so edits show up without re-running the compiler. Configs are shared and must not be modified.
+ */
+public final class LevelFiles {
+  private static final Logger logger = LoggerFactory.getLogger(LevelFiles.class);
+  /** Directory under the assets the level compiler writes to */
+  public static final String COMPILED_DIR = "compiled";
+  public static final String COMPILED_EXTENSION = ".level";
+  private static final String[] SOURCE_FILES = {"config.json", "assets.json", "parallax.json"};
+
+  private LevelFiles() {}
+
+  /**
+   * @param configPath path to the level's config.json
+   * @return the level config, or null if it could not be read
+   */
+  public static LevelConfig readConfig(String configPath) {
+    CompiledLevel compiled = readCompiled(configPath);
+    return compiled != null
+        ? compiled.config()
+        : FileLoader.readCachedClass(LevelConfig.class, configPath);
+  }
+
+  /**
+   * @param assetsPath path to the level's assets.json
+   * @return the level's assets, or null if they could not be read
+   */
+  public static LevelAssetsConfig readAssets(String assetsPath) {
+    CompiledLevel compiled = readCompiled(assetsPath);
+    return compiled != null
+        ? compiled.assets()
+        : FileLoader.readCachedClass(LevelAssetsConfig.class, assetsPath);
+  }
+
+  /**
+   * @param parallaxPath path to the level's parallax.json
+   * @return the level's parallax config, or null if it could not be read
+   */
+  public static ParallaxConfig readParallax(String parallaxPath) {
+    CompiledLevel compiled = readCompiled(parallaxPath);
+    return compiled != null
+        ? compiled.parallax()
+        : FileLoader.readCachedClass(ParallaxConfig.class, parallaxPath);
+  }
+
+  /**
+   * Get the path the level compiler writes a level to.
+   *
+   * @param levelName level directory name, e.g. level-two
+   * @return path of the compiled level under the assets
+   */
+  public static String getCompiledPath(String levelName) {
+    return COMPILED_DIR + "/" + levelName + COMPILED_EXTENSION;
+  }
+
+  private static CompiledLevel readCompiled(String levelFilePath) {
+    int fileStart = levelFilePath.lastIndexOf('/');
+    if (fileStart < 0) return null;
+    int dirStart = levelFilePath.lastIndexOf('/', fileStart - 1);
+    String levelDir = levelFilePath.substring(0, fileStart);
+    String compiledPath = getCompiledPath(levelFilePath.substring(dirStart + 1, fileStart));
+
+    FileHandle compiledFile = Gdx.files.internal(compiledPath);
+    if (!compiledFile.exists() || isStale(compiledFile, levelDir)) {
+      return null;
+    }
+    return FileLoader.readCached(CompiledLevel.class, compiledPath, LevelFiles::parse);
+  }
+
+  private static boolean isStale(FileHandle compiledFile, String levelDir) {
+    long compiledTime = compiledFile.lastModified();
+    for (String source : SOURCE_FILES) {
+      if (Gdx.files.internal(levelDir + "/" + source).lastModified() > compiledTime) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static CompiledLevel parse(FileHandle file) {
+    try (DataInputStream in = new DataInputStream(file.read(8192))) {
+      return CompiledLevel.read(in);
+    } catch (IOException e) {
+      logger.error("Failed to read compiled level {}: {}", file.path(), e.getMessage());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,308 @@
+package com.csse3200.game.lighting;
+
+import box2dLight.ConeLight;
+import box2dLight.PositionalLight;
+import box2dLight.RayHandler;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.lighting.ConeLightComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+
+/**
+ * Keeps the cost of the ray handler down before it updates and renders each frame.
+ *
+ * <ul>
+ *   <li>Lights which cannot reach the camera view are switched off, so the ray handler skips them
+ *   entirely instead of updating them every frame.</li>
+ *   <li>Lights on static bodies are marked static, so their rays are only cast again when they are
+ *   moved or turned.</li>
+ *   <li>When frames take longer than {@link #TARGET_FRAME_TIME}, the ray count of every light and
+ *   the number of blur passes are lowered in steps, and raised again once frames are fast.</li>
+ * </ul>
+ *
+ * <p>Cone light components register themselves here when created, see
+ * {@link ConeLightComponent#create()}.
+ */
+public class LightManager {
+    private static final Logger logger = LoggerFactory.getLogger(LightManager.class);
+
+    /** Frame time the adaptive budget aims for, in seconds. */
+    static final float TARGET_FRAME_TIME = 1f / 60f;
+    /** Frames are slow once the average is this much over the target. */
+    private static final float SLOW_RATIO = 1.25f;
+    /** Frames are fast once the average is under this much of the target. */
+    private static final float FAST_RATIO = 1.05f;
+    /** Slow frames in a row before the budget is lowered. */
+    static final int FRAMES_TO_LOWER = 30;
+    /** Fast frames in a row before the budget is raised again. */
+    static final int FRAMES_TO_RAISE = 180;
+    /** Weight of the newest frame in the average frame time. */
+    private static final float SMOOTHING = 0.1f;
+    /** Frames longer than this, such as while loading, are counted as this long. */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    /** Share of each light's rays kept at each budget level. */
+    private static final float[] RAY_SCALES = {1f, 0.75f, 0.5f, 0.25f};
+    /** Blur passes at each budget level. */
+    private static final int[] BLUR_NUMS = {LightingDefaults.BLUR_NUM, 2, 1, 1};
+    /** Fewest rays a light is lowered to. */
+    static final int MIN_RAYS = 8;
+    /** Extra space around the view, so lights just off screen do not pop in. */
+    private static final float VIEW_MARGIN = 1f;
+
+    /*
+     * box2dlights only sets a light's ray count when it is built. Lowering it afterwards is safe, as
+     * the light's mesh keeps the size of its original count, so the setter is called directly.
+     */
+    private static Method setRayNum;
+    private static boolean setRayNumResolved = false;
+
+    private final RayHandler rayHandler;
+    private final Array<ConeLightComponent> lights = new Array<>(false, 32, ConeLightComponent.class);
+    private final Rectangle view = new Rectangle();
+
+    private boolean adaptive = true;
+    private int level = 0;
+    private float averageFrameTime = TARGET_FRAME_TIME;
+    private int slowFrames = 0;
+    private int fastFrames = 0;
+
+    private int activeCount = 0;
+    private int culledCount = 0;
+    private int staticCount = 0;
+    private int rayCount = 0;
+
+    /**
+     * @param rayHandler ray handler the managed lights are attached to
+     */
+    public LightManager(RayHandler rayHandler) {
+        this.rayHandler = rayHandler;
+    }
+
+    /**
+     * Manage a light until it is unregistered.
+     *
+     * @param light light component with a created light
+     */
+    public void register(ConeLightComponent light) {
+        if (!lights.contains(light, true)) {
+            lights.add(light);
+        }
+    }
+
+    /**
+     * Stop managing a light. It is not switched back on if it was culled.
+     *
+     * @param light light component
+     */
+    public void unregister(ConeLightComponent light) {
+        lights.removeValue(light, true);
+    }
+
+    /**
+     * Cull lights, mark static lights and apply the ray budget. Called once per frame before the
+     * ray handler updates.
+     *
+     * @param camera camera the lights are rendered with
+     * @param frameTime real time taken by the last frame in seconds, or 0 if unknown
+     */
+    public void update(Camera camera, float frameTime) {
+        if (adaptive && frameTime > 0f) {
+            updateBudget(Math.min(frameTime, MAX_FRAME_TIME));
+        }
+        setView(camera);
+
+        activeCount = 0;
+        culledCount = 0;
+        staticCount = 0;
+        rayCount = 0;
+        float scale = RAY_SCALES[level];
+        for (ConeLightComponent component : lights) {
+            ConeLight light = component.getLight();
+            if (light == null || !component.isActive()) {
+                continue;
+            }
+
+            boolean visible = isVisible(light);
+            component.setCulled(!visible);
+            if (!visible) {
+                culledCount++;
+                continue;
+            }
+
+            boolean isStatic = isOnStaticBody(component);
+            if (light.isStaticLight() != isStatic) {
+                light.setStaticLight(isStatic);
+            }
+            if (isStatic) {
+                staticCount++;
+            }
+
+            int rays = Math.max(Math.min(MIN_RAYS, component.getRays()),
+                Math.round(component.getRays() * scale));
+            if (light.getRayNum() != rays) {
+                setRays(light, rays);
+            }
+            activeCount++;
+            rayCount += rays;
+        }
+    }
+
+    private void updateBudget(float frameTime) {
+        averageFrameTime += (frameTime - averageFrameTime) * SMOOTHING;
+        if (averageFrameTime > TARGET_FRAME_TIME * SLOW_RATIO) {
+            fastFrames = 0;
+            if (++slowFrames >= FRAMES_TO_LOWER && level < RAY_SCALES.length - 1) {
+                setLevel(level + 1);
+            }
+        } else if (averageFrameTime < TARGET_FRAME_TIME * FAST_RATIO) {
+            slowFrames = 0;
+            if (++fastFrames >= FRAMES_TO_RAISE && level > 0) {
+                setLevel(level - 1);
+            }
+        } else {
+            slowFrames = 0;
+            fastFrames = 0;
+        }
+    }
+
+    private void setLevel(int level) {
+        logger.debug("Light budget level {} -> {}, average frame time {} ms",
+            this.level, level, averageFrameTime * 1000f);
+        if (BLUR_NUMS[level] != BLUR_NUMS[this.level]) {
+            rayHandler.setBlurNum(BLUR_NUMS[level]);
+        }
+        this.level = level;
+        slowFrames = 0;
+        fastFrames = 0;
+    }
+
+    private void setView(Camera camera) {
+        float zoom = camera instanceof OrthographicCamera orthographic ? orthographic.zoom : 1f;
+        float width = camera.viewportWidth * zoom + VIEW_MARGIN * 2;
+        float height = camera.viewportHeight * zoom + VIEW_MARGIN * 2;
+        view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+
+    private boolean isVisible(ConeLight light) {
+        float x = light.getX();
+        float y = light.getY();
+        float dx = x - MathUtils.clamp(x, view.x, view.x + view.width);
+        float dy = y - MathUtils.clamp(y, view.y, view.y + view.height);
+        float distance = light.getDistance();
+        return dx * dx + dy * dy <= distance * distance;
+    }
+
+    private static boolean isOnStaticBody(ConeLightComponent component) {
+        Body body = component.getLight().getBody();
+        if (body == null && component.getEntity() != null) {
+            PhysicsComponent physics = component.getEntity().getComponent(PhysicsComponent.class);
+            body = physics == null ? null : physics.getBody();
+        }
+        return body != null && body.getType() == BodyType.StaticBody;
+    }
+
+    private static void setRays(ConeLight light, int rays) {
+        if (!setRayNumResolved) {
+            setRayNumResolved = true;
+            try {
+                setRayNum = PositionalLight.class.getDeclaredMethod("setRayNum", int.class);
+                setRayNum.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Light ray counts cannot be changed, keeping them fixed", e);
+            }
+        }
+        if (setRayNum == null) {
+            return;
+        }
+        try {
+            setRayNum.invoke(light, rays);
+            // Re-aim the rays, which also recasts static lights
+            light.setDirection(light.getDirection());
+        } catch (ReflectiveOperationException e) {
+            logger.error("Failed to set {} rays on {}", rays, light, e);
+            setRayNum = null;
+        }
+    }
+
+    /**
+     * Turn the adaptive ray budget on or off. Turning it off restores full ray counts and blur.
+     *
+     * @param adaptive true to lower quality under frame time pressure
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        if (!adaptive && level != 0) {
+            setLevel(0);
+        }
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * @return budget level, from 0 for full quality up to the lowest quality
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return lights which are switched on and in view in the last update
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * @return lights which are switched on but were culled in the last update
+     */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /**
+     * @return lights in view which are on static bodies
+     */
+    public int getStaticCount() {
+        return staticCount;
+    }
+
+    /**
+     * @return rays cast by lights in view at the current budget
+     */
+    public int getRayCount() {
+        return rayCount;
+    }
+
+    /**
+     * @return registered lights, whether or not they are switched on
+     */
+    public int getLightCount() {
+        return lights.size;
+    }
+
+    /**
+     * @return one line summary for the debug overlay
+     */
+    public String getSummary() {
+        return String.format("Lights: %d culled: %d static: %d rays: %d (%d%%) blur: %d%n",
+            activeCount, culledCount, staticCount, rayCount,
+            Math.round(RAY_SCALES[level] * 100f), BLUR_NUMS[level]);
+    }
+
+    /** Forget every light. Called when the lighting engine is disposed. */
+    public void clear() {
+        lights.clear();
+    }
+}
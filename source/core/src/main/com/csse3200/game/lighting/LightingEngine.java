@@ -1,6 +1,7 @@
 package com.csse3200.game.lighting;
 
 import box2dLight.RayHandler;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.CameraComponent;
@@ -13,6 +14,7 @@ import com.csse3200.game.files.UserSettings;
 public class LightingEngine implements Disposable {
     private final RayHandler rayHandler;
     private final CameraComponent camera;
+    private final LightManager lightManager;
 
     private float ambientLight = UserSettings.get().getBrightnessValue();
 
@@ -30,6 +32,7 @@ public class LightingEngine implements Disposable {
         rayHandler.setAmbientLight(ambientLight);
         rayHandler.setBlur(true);
         rayHandler.setBlurNum(LightingDefaults.BLUR_NUM);
+        lightManager = new LightManager(rayHandler);
     }
 
     /**
@@ -41,12 +44,20 @@ public class LightingEngine implements Disposable {
     LightingEngine(RayHandler rayHandler, CameraComponent camera) {
         this.rayHandler = rayHandler;
         this.camera = camera;
+        this.lightManager = new LightManager(rayHandler);
     }
 
     public RayHandler getRayHandler() {
         return rayHandler;
     }
 
+    /**
+     * @return manager which culls lights and adapts their quality to the frame time
+     */
+    public LightManager getLightManager() {
+        return lightManager;
+    }
+
     public void setAmbientLight(float ambientLight) {
         this.ambientLight = ambientLight;
         rayHandler.setAmbientLight(ambientLight);
@@ -55,14 +66,18 @@ public class LightingEngine implements Disposable {
     /**
      * Render all lights registered with the ray handler to the screen. This also renders
      * a "shadow" over the entire screen which can be adjusted using the setAmbientLight function.
+     * Lights out of view are switched off first by the {@link LightManager}.
      */
     public void render() {
+        float frameTime = Gdx.graphics == null ? 0f : Gdx.graphics.getDeltaTime();
+        lightManager.update(camera.getCamera(), frameTime);
         rayHandler.setCombinedMatrix(camera.getProjectionMatrix());
         rayHandler.updateAndRender();
     }
 
     @Override
     public void dispose() {
+        lightManager.clear();
         rayHandler.dispose();
     }
 }
@@ -9,10 +9,12 @@ import java.util.Map;
 
 /**
  * A service to hold a map of the key-item pairs (id string, security camera entity) allowing
- * for global access. This is useful when registering a new enemy with the corresponding camera
+ * for global access. This is useful when registering a new enemy with the corresponding camera.
+ * It also owns the {@link VisionSystem} which checks what every camera can see.
  */
 public class SecurityCamRetrievalService implements Disposable {
     private final Map<String, Entity> cameraList;
+    private final VisionSystem visionSystem = new VisionSystem();
 
     public SecurityCamRetrievalService() {
         this.cameraList = new HashMap<>();
@@ -52,9 +54,17 @@ public class SecurityCamRetrievalService implements Disposable {
         return null;
     }
 
+    /**
+     * @return vision system shared by all cone detectors
+     */
+    public VisionSystem getVisionSystem() {
+        return visionSystem;
+    }
+
     @Override
     public void dispose() {
         // clear the map
         cameraList.clear();
+        visionSystem.clear();
     }
 }
@@ -0,0 +1,293 @@
+package com.csse3200.game.lighting;
+
+import box2dLight.ConeLight;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.lighting.ConeDetectorComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which cone detectors can see their target, for all detectors at once.
+ *
+ * <p>Each pass checks every registered detector in order of cost, stopping at the first test which
+ * fails:
+ * <ol>
+ *   <li>Broadphase: the target must be inside the square which bounds the light's distance.</li>
+ *   <li>Cone: the target must be within the light's distance and cone angle.</li>
+ *   <li>Occlusion: a raycast from the light to the target must not hit an occluder.</li>
+ * </ol>
+ * Only detectors whose cone contains their target cast a ray, so cameras far from the player cost
+ * a few comparisons per pass.
+ *
+ * <p>Passes are run by the detectors themselves. The first detector to update in a frame runs the
+ * pass for everyone, and the others read the result left for them. Frames are told apart by their
+ * frame id, so a detector which skips a frame, or updates twice in one, still reads that frame's
+ * pass. With a tick interval set, passes in between ticks keep the last results, so detection
+ * events can be up to one interval late.
+ */
+public class VisionSystem {
+    private final Array<Viewer> viewers = new Array<>(false, 16, Viewer.class);
+    private final Vector2 targetPos = new Vector2();
+    private final LongSupplier frames;
+    private long passFrame = -1;
+
+    private float interval = 0f;
+    private float elapsed = 0f;
+
+    private int passCount = 0;
+    private int rejectedCount = 0;
+    private int raycastCount = 0;
+
+    /**
+     * Detection state of one detector, owned by the vision system.
+     */
+    public static class Viewer {
+        private final ConeDetectorComponent detector;
+        // Kept per viewer, as the debug renderer holds on to them until it draws
+        private final Vector2 lightPos = new Vector2();
+        private final Vector2 targetPos = new Vector2();
+        private final RaycastHit hit = new RaycastHit();
+        private boolean evaluated = false;
+        private boolean detected = false;
+
+        private Viewer(ConeDetectorComponent detector) {
+            this.detector = detector;
+        }
+    }
+
+    public VisionSystem() {
+        this(() -> Gdx.graphics == null ? 0L : Gdx.graphics.getFrameId());
+    }
+
+    /**
+     * @param frames id of the current frame, which changes once per frame
+     */
+    VisionSystem(LongSupplier frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Add a detector to the passes.
+     *
+     * @param detector created detector
+     * @return handle used to read the detector's result
+     */
+    public Viewer register(ConeDetectorComponent detector) {
+        for (Viewer viewer : viewers) {
+            if (viewer.detector == detector) {
+                return viewer;
+            }
+        }
+        Viewer viewer = new Viewer(detector);
+        viewers.add(viewer);
+        return viewer;
+    }
+
+    /**
+     * Remove a detector from the passes.
+     *
+     * @param viewer handle returned when the detector was registered
+     */
+    public void unregister(Viewer viewer) {
+        viewers.removeValue(viewer, true);
+        viewer.evaluated = false;
+        viewer.detected = false;
+    }
+
+    /**
+     * Get whether a detector sees its target this frame, running a pass over every detector if none
+     * has been run this frame yet. Detectors registered after this frame's pass are checked alone.
+     *
+     * @param viewer handle returned when the detector was registered
+     * @return true if the target is inside the detector's cone and not hidden
+     */
+    public boolean isDetected(Viewer viewer) {
+        long frame = frames.getAsLong();
+        if (frame != passFrame) {
+            passFrame = frame;
+            runPass();
+        }
+        if (!viewer.evaluated) {
+            Entity target = viewer.detector.getTarget();
+            if (target != null) {
+                target.getCenterPosition(targetPos);
+            }
+            viewer.detected = detect(viewer, target, getEngine());
+            viewer.evaluated = true;
+        }
+        return viewer.detected;
+    }
+
+    private static PhysicsEngine getEngine() {
+        PhysicsService physics = ServiceLocator.getPhysicsService();
+        return physics == null ? null : physics.getPhysics();
+    }
+
+    private void runPass() {
+        passCount++;
+        boolean tick = true;
+        if (interval > 0f) {
+            GameTime time = ServiceLocator.getTimeSource();
+            elapsed += time == null ? 0f : Math.max(0f, time.getDeltaTime());
+            tick = elapsed >= interval;
+            if (tick) {
+                // Do not build up a backlog of ticks after a long frame
+                elapsed = Math.min(elapsed - interval, interval);
+            }
+        }
+
+        if (tick) {
+            rejectedCount = 0;
+            raycastCount = 0;
+        }
+
+        PhysicsEngine engine = getEngine();
+        Entity lastTarget = null;
+        for (Viewer viewer : viewers) {
+            if (tick || !viewer.evaluated) {
+                Entity target = viewer.detector.getTarget();
+                if (target != null && target != lastTarget) {
+                    target.getCenterPosition(targetPos);
+                    lastTarget = target;
+                }
+                viewer.detected = detect(viewer, target, engine);
+                viewer.evaluated = true;
+            }
+        }
+    }
+
+    private boolean detect(Viewer viewer, Entity target, PhysicsEngine engine) {
+        ConeDetectorComponent detector = viewer.detector;
+        if (target == null || detector.getEntity() == null) return false;
+        ConeLight light = detector.getConeLight().getLight();
+        if (light == null) return false;
+
+        detector.getEntity().getCenterPosition(viewer.lightPos);
+        viewer.targetPos.set(targetPos);
+        float toX = targetPos.x - viewer.lightPos.x;
+        float toY = targetPos.y - viewer.lightPos.y;
+        float distance = light.getDistance();
+
+        // Broadphase against the square around the light's reach
+        if (Math.abs(toX) > distance || Math.abs(toY) > distance) {
+            rejectedCount++;
+            return false;
+        }
+
+        // Cone test, within the light's radius and angle
+        if (toX * toX + toY * toY > distance * distance) {
+            return false;
+        }
+        float toAngle = (float) Math.atan2(toY, toX) * MathUtils.radiansToDegrees;
+        if (angleDiffDeg(toAngle, light.getDirection()) > light.getConeDegree()) {
+            return false;
+        }
+
+        // Line of sight, the target is hidden by anything on the occluder layers
+        if (engine == null) return false;
+        raycastCount++;
+        boolean blocked = engine.raycast(viewer.lightPos, viewer.targetPos,
+            detector.getOccluderMask(), viewer.hit);
+        if (detector.isDebug()) {
+            drawDebug(viewer, blocked);
+        }
+        return !blocked;
+    }
+
+    private static void drawDebug(Viewer viewer, boolean blocked) {
+        RenderService renderService = ServiceLocator.getRenderService();
+        DebugRenderer debug = renderService == null ? null : renderService.getDebug();
+        if (debug == null) return;
+        if (blocked) {
+            debug.drawLine(viewer.lightPos, viewer.hit.point); // will be clipped to first hit
+        } else {
+            debug.drawLine(viewer.lightPos, viewer.targetPos);
+        }
+    }
+
+    /**
+     * Helper method to calculate the difference of 2 angles.
+     *
+     * @param a angle 1
+     * @param b angle 2
+     * @return angle difference
+     */
+    private static float angleDiffDeg(float a, float b) {
+        float d = (a - b) % 360f;
+        // keep the range between (-180, 180)
+        if (d < -180f) d += 360f;
+        else if (d > 180f) d -= 360f;
+        return Math.abs(d);
+    }
+
+    /**
+     * Only re-check detectors at the given rate, keeping their results in between. Detectors added
+     * since the last check are always checked straight away.
+     *
+     * @param ticksPerSecond checks per second, or 0 to check every frame
+     */
+    public void setTickRate(float ticksPerSecond) {
+        interval = ticksPerSecond > 0f ? 1f / ticksPerSecond : 0f;
+        elapsed = 0f;
+    }
+
+    /**
+     * @return checks per second, or 0 if detectors are checked every frame
+     */
+    public float getTickRate() {
+        return interval > 0f ? 1f / interval : 0f;
+    }
+
+    /**
+     * @return registered detectors
+     */
+    public int getDetectorCount() {
+        return viewers.size;
+    }
+
+    /**
+     * @return passes run since the system was created
+     */
+    public int getPassCount() {
+        return passCount;
+    }
+
+    /**
+     * @return detectors rejected by the broadphase in the last pass
+     */
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return occlusion raycasts made in the last pass
+     */
+    public int getRaycastCount() {
+        return raycastCount;
+    }
+
+    /**
+     * @return one line summary for the debug overlay
+     */
+    public String getSummary() {
+        return String.format("Detectors: %d rejected: %d raycasts: %d%n",
+            viewers.size, rejectedCount, raycastCount);
+    }
+
+    /** Forget every detector. */
+    public void clear() {
+        viewers.clear();
+        passFrame = -1;
+    }
+}
@@ -12,4 +12,10 @@ public class BodyUserData {
    * The entity to which this body is attached
    */
   public Entity entity;
+
+  /** Registered contact component types on the entity, see {@link ContactInteractionRegistry} */
+  long contactMask;
+
+  /** Registry version the contact mask was computed for */
+  int contactMaskVersion = -1;
 }
@@ -0,0 +1,168 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+
+/**
+ * Registry of component interactions dispatched by {@link ObjectContactListener}.
+ *
+ * <p>An interaction declares the component type it is attached to (the target) and optionally the
+ * component type the other entity must have. Every registered type is given a bit, and each physics
+ * body caches a mask of the registered types its entity has. A contact between two entities whose
+ * masks contain no target type is rejected with a single mask test, so contacts between floors,
+ * walls and other plain colliders never look up components.
+ *
+ * <p>Interactions are checked in both directions and in registration order. The built-in
+ * interactions of {@link ObjectContactListener} are registered first, and components outside the
+ * physics package can add their own with {@link #register}.
+ */
+public final class ContactInteractionRegistry {
+  /** At most one bit per registered component type */
+  private static final int MAX_TYPES = Long.SIZE;
+
+  private static final Array<Class<? extends Component>> types = new Array<>();
+  private static final Array<Entry<?>> entries = new Array<>();
+  private static long targetMask = 0L;
+  private static int version = 0;
+
+  static {
+    ObjectContactListener.registerInteractions();
+  }
+
+  private ContactInteractionRegistry() {}
+
+  /**
+   * Called when an entity with the target component starts or stops touching an entity that
+   * matches the interaction.
+   *
+   * @param <T> target component type
+   */
+  @FunctionalInterface
+  public interface Interaction<T extends Component> {
+    /**
+     * @param target component on the entity the interaction is attached to
+     * @param other the other entity in the contact
+     * @param begin true when contact begins, false when it ends
+     */
+    void onContact(T target, Entity other, boolean begin);
+  }
+
+  /**
+   * Register an interaction. Interactions registered for the same types are all called, in the
+   * order they were registered.
+   *
+   * @param targetType component the interaction is attached to
+   * @param otherType component the other entity must have, or null to match any entity
+   * @param interaction callback to run on contact begin and end
+   * @param <T> target component type
+   */
+  public static <T extends Component> void register(
+      Class<T> targetType, Class<? extends Component> otherType, Interaction<T> interaction) {
+    long targetBit = bitOf(targetType);
+    long otherBit = otherType == null ? 0L : bitOf(otherType);
+    entries.add(new Entry<>(targetType, targetBit, otherBit, interaction));
+    targetMask |= targetBit;
+    version++;
+  }
+
+  /**
+   * Remove every interaction registered by other components, leaving only the built-in ones. Masks
+   * cached on physics bodies are recomputed on their next contact.
+   */
+  public static void reset() {
+    types.clear();
+    entries.clear();
+    targetMask = 0L;
+    version++;
+    ObjectContactListener.registerInteractions();
+  }
+
+  /**
+   * Get the number of registered interactions.
+   *
+   * @return interaction count
+   */
+  public static int getInteractionCount() {
+    return entries.size;
+  }
+
+  /**
+   * Get the mask of registered component types on a body's entity, computing it on first use.
+   *
+   * @param data body user data
+   * @return bit mask of registered component types present on the entity
+   */
+  static long getMask(BodyUserData data) {
+    if (data.contactMaskVersion != version) {
+      data.contactMask = computeMask(data.entity);
+      data.contactMaskVersion = version;
+    }
+    return data.contactMask;
+  }
+
+  /**
+   * Run all matching interactions for a contact, in both directions.
+   *
+   * @param a first body
+   * @param b second body
+   * @param begin true when contact begins, false when it ends
+   * @return true if the contact was checked against interactions, false if rejected by mask
+   */
+  static boolean dispatch(BodyUserData a, BodyUserData b, boolean begin) {
+    long maskA = getMask(a);
+    long maskB = getMask(b);
+    if (((maskA | maskB) & targetMask) == 0L) {
+      return false;
+    }
+
+    for (int i = 0; i < entries.size; i++) {
+      Entry<?> entry = entries.get(i);
+      if (entry.matches(maskA, maskB)) {
+        entry.run(a.entity, b.entity, begin);
+      }
+      if (entry.matches(maskB, maskA)) {
+        entry.run(b.entity, a.entity, begin);
+      }
+    }
+    return true;
+  }
+
+  private static long computeMask(Entity entity) {
+    long mask = 0L;
+    if (entity == null) {
+      return mask;
+    }
+    for (int i = 0; i < types.size; i++) {
+      if (entity.getComponent(types.get(i)) != null) {
+        mask |= 1L << i;
+      }
+    }
+    return mask;
+  }
+
+  private static long bitOf(Class<? extends Component> type) {
+    int index = types.indexOf(type, true);
+    if (index < 0) {
+      if (types.size == MAX_TYPES) {
+        throw new IllegalStateException(
+            "Cannot register more than " + MAX_TYPES + " contact component types");
+      }
+      types.add(type);
+      index = types.size - 1;
+    }
+    return 1L << index;
+  }
+
+  private record Entry<T extends Component>(
+      Class<T> targetType, long targetBit, long otherBit, Interaction<T> interaction) {
+
+    boolean matches(long targetMask, long otherMask) {
+      return (targetMask & targetBit) != 0L && (otherMask & otherBit) == otherBit;
+    }
+
+    void run(Entity target, Entity other, boolean begin) {
+      interaction.onContact(target.getComponent(targetType), other, begin);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.csse3200.game.components.obstacles.MoveableBoxComponent;
 import com.csse3200.game.components.obstacles.TrapComponent;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKey;
 import com.csse3200.game.physics.components.ColliderComponent;
 
 /**
@@ -23,8 +24,34 @@ import com.csse3200.game.physics.components.ColliderComponent;
  * ContactListener for detecting collisions between the player entity and specified objects in the
  * game such as buttons, boxes etc.
  * Triggers the push event when contact is made
+ *
+ * <p>Object interactions are looked up in {@link ContactInteractionRegistry}. The built-in
+ * interactions below are registered by the registry itself, and again whenever it is reset; other
+ * components can register their own without changing this listener.
  */
 public class ObjectContactListener implements ContactListener {
+    private static final EventKey COLLISION_START = EventKey.of("collisionStart");
+    private static final EventKey COLLISION_END = EventKey.of("collisionEnd");
+    private static final EventKey ON_COLLISION_START = EventKey.of("onCollisionStart");
+
+    /** Register the built-in interactions. Called by {@link ContactInteractionRegistry}. */
+    static void registerInteractions() {
+        ContactInteractionRegistry.register(
+                ButtonComponent.class, PlayerActions.class, ObjectContactListener::setPlayerInRangeOfButton);
+        ContactInteractionRegistry.register(
+                MoveableBoxComponent.class, PlayerActions.class, ObjectContactListener::setPlayerInRangeOfBox);
+        ContactInteractionRegistry.register(
+                BoxPressurePlateComponent.class, null, ObjectContactListener::setPlayerOnPressurePlate);
+        ContactInteractionRegistry.register(
+                CodexTerminalComponent.class, PlayerActions.class, ObjectContactListener::setPlayerInRangeOfTerminal);
+        ContactInteractionRegistry.register(
+                TrapComponent.class, PlayerActions.class, ObjectContactListener::setPlayerInRangeOfTrap);
+        ContactInteractionRegistry.register(
+                DeathZoneComponent.class, PlayerActions.class, ObjectContactListener::setPlayerInRangeOfDeathZone);
+        ContactInteractionRegistry.register(
+                ComputerTerminalComponent.class, PlayerActions.class,
+                ObjectContactListener::setPlayerInRangeOfComputerTerminal);
+    }
 
     /**
      * Called when two features begin to touch and checks if a player has collided with an object
@@ -36,95 +63,66 @@ public class ObjectContactListener implements ContactListener {
     @Override
     public void beginContact(Contact contact) {
         // First, trigger general collision events (for tooltips, collectables, etc.)
-        triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-        triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+        triggerEventOn(contact.getFixtureA(), COLLISION_START, contact.getFixtureB());
+        triggerEventOn(contact.getFixtureB(), COLLISION_START, contact.getFixtureA());
 
-        Entity a = getEntityFromFixture(contact.getFixtureA());
-        Entity b = getEntityFromFixture(contact.getFixtureB());
+        BodyUserData a = getUserData(contact.getFixtureA());
+        BodyUserData b = getUserData(contact.getFixtureB());
 
         if (a == null || b == null) return;
 
-        a.getEvents().trigger("onCollisionStart", b);
-        b.getEvents().trigger("onCollisionStart", a);
+        a.entity.getEvents().trigger(ON_COLLISION_START, b.entity);
+        b.entity.getEvents().trigger(ON_COLLISION_START, a.entity);
 
         // Set player in range
-        setPlayerInRangeOfButton(a, b, true);
-        setPlayerInRangeOfButton(b, a, true);
-
-        setPlayerInRangeOfBox(a, b, true);
-        setPlayerInRangeOfBox(b, a, true);
-
-        setPlayerOnPressurePlate(a, b, true);
-        setPlayerOnPressurePlate(b, a, true);
-
-        setPlayerInRangeOfTerminal(a, b);
-        setPlayerInRangeOfTerminal(b, a);
-
-        setPlayerInRangeOfTrap(a, b);
-        setPlayerInRangeOfTrap(b, a);
-
-        setPlayerInRangeOfDeathZone(a, b);
-        setPlayerInRangeOfDeathZone(b, a);
-
-        setPlayerInRangeOfComputerTerminal(a, b, true);
-        setPlayerInRangeOfComputerTerminal(b, a, true);
+        ContactInteractionRegistry.dispatch(a, b, true);
     }
 
     /**
-     * Retrieves the entity associated with a fixture
+     * Retrieves the body data of a fixture, if it belongs to an entity
      *
      * @param fixture physics fixture involved in the collision
      *
-     * @return associated entity, null if none found
+     * @return body data with an entity, null if none found
      */
-    private Entity getEntityFromFixture(Fixture fixture) {
+    private BodyUserData getUserData(Fixture fixture) {
         if (fixture == null
                 || fixture.getBody() == null
-                || fixture.getBody().getUserData() == null) {
+                || !(fixture.getBody().getUserData() instanceof BodyUserData data)
+                || data.entity == null) {
             return null;
         }
-        BodyUserData data = (BodyUserData) fixture.getBody().getUserData();
-        return data.entity;
+        return data;
     }
 
     /**
      * Sets whether player is in range of a button for an interaction.
      * This is triggered on collision begin and end
      *
-     * @param button entity for button component
+     * @param button button component
      * @param other entity for player component
      * @param inRange true if player in collision, false if they leave collision
      */
-    private void setPlayerInRangeOfButton(Entity button, Entity other, boolean inRange) {
-        ButtonComponent buttonComponent = button.getComponent(ButtonComponent.class);
-        PlayerActions player = other.getComponent(PlayerActions.class);
-
-        if(buttonComponent != null && player != null) {
-            ColliderComponent collider = inRange
-                    ? other.getComponent(ColliderComponent.class)
-                    : null;
-            buttonComponent.setPlayerInRange(collider);
-        }
+    private static void setPlayerInRangeOfButton(ButtonComponent button, Entity other, boolean inRange) {
+        ColliderComponent collider = inRange
+                ? other.getComponent(ColliderComponent.class)
+                : null;
+        button.setPlayerInRange(collider);
     }
 
     /**
      * Sets whether player is in range of a box for an interaction.
      * This is triggered on collision begin and end
      *
-     * @param box entity for box component
+     * @param box box component
      * @param other entity for player component
      * @param inRange true if player in collision, false if they leave collision
      */
-    private void setPlayerInRangeOfBox(Entity box, Entity other, boolean inRange) {
-        MoveableBoxComponent moveableBoxComponent = box.getComponent(MoveableBoxComponent.class);
-        PlayerActions player = other.getComponent(PlayerActions.class);
-
-        if (moveableBoxComponent != null && player != null) {
-            ColliderComponent collider = inRange
-                    ? other.getComponent(ColliderComponent.class)
-                    : null;
-            moveableBoxComponent.setPlayerInRange(collider);
-        }
+    private static void setPlayerInRangeOfBox(MoveableBoxComponent box, Entity other, boolean inRange) {
+        ColliderComponent collider = inRange
+                ? other.getComponent(ColliderComponent.class)
+                : null;
+        box.setPlayerInRange(collider);
     }
 
 
@@ -132,7 +130,7 @@ public class ObjectContactListener implements ContactListener {
      * Triggers events on entities involved in collisions.
      * This is used for tooltip system and other general collision events.
      */
-    private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+    private void triggerEventOn(Fixture fixture, EventKey evt, Fixture otherFixture) {
         BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
         if (userData != null && userData.entity != null) {
             userData.entity.getEvents().trigger(evt, fixture, otherFixture);
@@ -149,26 +147,16 @@ public class ObjectContactListener implements ContactListener {
     @Override
     public void endContact(Contact contact) {
         // First, trigger general collision events (for tooltips, collectables, etc.)
-        triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-        triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+        triggerEventOn(contact.getFixtureA(), COLLISION_END, contact.getFixtureB());
+        triggerEventOn(contact.getFixtureB(), COLLISION_END, contact.getFixtureA());
 
-        Entity a = getEntityFromFixture(contact.getFixtureA());
-        Entity b = getEntityFromFixture(contact.getFixtureB());
+        BodyUserData a = getUserData(contact.getFixtureA());
+        BodyUserData b = getUserData(contact.getFixtureB());
 
         if (a == null || b == null) return;
 
         // Check both direction of a collision
-        setPlayerInRangeOfButton(a, b, false);
-        setPlayerInRangeOfButton(b, a, false);
-
-        setPlayerOnPressurePlate(a, b, false);
-        setPlayerOnPressurePlate(b, a, false);
-
-        setPlayerInRangeOfBox(a, b, false);
-        setPlayerInRangeOfBox(b, a, false);
-
-        setPlayerInRangeOfComputerTerminal(a, b, false);
-        setPlayerInRangeOfComputerTerminal(b, a, false);
+        ContactInteractionRegistry.dispatch(a, b, false);
     }
 
     @Override
@@ -182,29 +170,21 @@ public class ObjectContactListener implements ContactListener {
     }
 
     /**
-     * Check if the colliding entities consist of a trap and a player, and if so calls the
-     * trap's damage function.
+     * Calls the trap's damage function when a player starts touching it.
      * In future, this method may be extended to apply to enemies or the player.
+     * @param trap the trap to call TrapComponent.damage on
      * @param colliding the colliding entity, expected to be a player.
-     * @param trap the entity on which to call TrapComponent.damage
+     * @param begin true if contact began
      */
-    private void setPlayerInRangeOfTrap(Entity colliding, Entity trap) {
-        PlayerActions player = colliding.getComponent(PlayerActions.class);
-        TrapComponent trapComponent = trap.getComponent(TrapComponent.class);
-
-        if (trapComponent != null && player != null) {
-            ColliderComponent collider = colliding.getComponent(ColliderComponent.class);
-            trapComponent.damage(collider);
+    private static void setPlayerInRangeOfTrap(TrapComponent trap, Entity colliding, boolean begin) {
+        if (begin) {
+            trap.damage(colliding.getComponent(ColliderComponent.class));
         }
     }
 
-    private void setPlayerInRangeOfDeathZone(Entity colliding, Entity deathZone) {
-        PlayerActions player = colliding.getComponent(PlayerActions.class);
-        DeathZoneComponent deathZoneComponent = deathZone.getComponent(DeathZoneComponent.class);
-
-        if (deathZoneComponent != null && player != null) {
-            ColliderComponent collider = colliding.getComponent(ColliderComponent.class);
-            deathZoneComponent.damage(collider);
+    private static void setPlayerInRangeOfDeathZone(DeathZoneComponent deathZone, Entity colliding, boolean begin) {
+        if (begin) {
+            deathZone.damage(colliding.getComponent(ColliderComponent.class));
         }
     }
 
@@ -213,36 +193,25 @@ public class ObjectContactListener implements ContactListener {
      * If the pressure plate has a BoxPressurePlateComponent (i.e. boxes should press it down) it calls
      *  setEntityOnPlate in BoxPressurePlateComponent
      *
-     * @param plate the pressure plate entity
+     * @param plate the pressure plate component
      * @param other the entity interacting with the plate (weighted box or player)
      * @param inRange whether the entity is currently in range (standing on top)
      */
-    private void setPlayerOnPressurePlate(Entity plate, Entity other, boolean inRange) {
-        BoxPressurePlateComponent plateComp = plate.getComponent(BoxPressurePlateComponent.class);
-        if (plateComp != null) {
-            plateComp.setEntityOnPlate(other, inRange);
-        }
+    private static void setPlayerOnPressurePlate(BoxPressurePlateComponent plate, Entity other, boolean inRange) {
+        plate.setEntityOnPlate(other, inRange);
     }
 
-    private void setPlayerInRangeOfTerminal(Entity colliding, Entity terminal) {
-        PlayerActions player = colliding.getComponent(PlayerActions.class);
-        CodexTerminalComponent terminalComponent = terminal.getComponent(CodexTerminalComponent.class);
-
-        if (player != null && terminalComponent != null) {
-            ColliderComponent collider = colliding.getComponent(ColliderComponent.class);
-            terminalComponent.setPlayerInRange(collider);
+    private static void setPlayerInRangeOfTerminal(CodexTerminalComponent terminal, Entity colliding, boolean begin) {
+        if (begin) {
+            terminal.setPlayerInRange(colliding.getComponent(ColliderComponent.class));
         }
     }
 
-    private void setPlayerInRangeOfComputerTerminal(Entity terminal, Entity other, boolean inRange) {
-        ComputerTerminalComponent comp = terminal.getComponent(ComputerTerminalComponent.class);
-        PlayerActions player = other.getComponent(PlayerActions.class);
-
-        if (comp != null && player != null) {
-            ColliderComponent collider = inRange
-                    ? other.getComponent(ColliderComponent.class)
-                    : null;
-            comp.setPlayerInRange(collider);
-        }
+    private static void setPlayerInRangeOfComputerTerminal(
+            ComputerTerminalComponent terminal, Entity other, boolean inRange) {
+        ColliderComponent collider = inRange
+                ? other.getComponent(ColliderComponent.class)
+                : null;
+        terminal.setPlayerInRange(collider);
     }
 }
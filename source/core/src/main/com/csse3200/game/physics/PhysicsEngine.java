@@ -5,6 +5,7 @@ import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.physics.raycast.RaycastQueryService;
 import com.csse3200.game.physics.raycast.SingleHitCallback;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -27,6 +28,8 @@ public class PhysicsEngine implements Disposable {
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final RaycastQueryService raycastQueries;
+  private boolean raycastCaching = true;
   private float accumulator;
 
   public PhysicsEngine() {
@@ -37,6 +40,7 @@ public class PhysicsEngine implements Disposable {
     this.world = world;
     world.setContactListener(new PhysicsContactListener());
     this.timeSource = timeSource;
+    this.raycastQueries = new RaycastQueryService(world);
   }
 
   public void update() {
@@ -53,6 +57,7 @@ public class PhysicsEngine implements Disposable {
       world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
       accumulator -= PHYSICS_TIMESTEP;
     }
+    raycastQueries.update();
   }
 
   public Body createBody(BodyDef bodyDef) {
@@ -62,9 +67,37 @@ public class PhysicsEngine implements Disposable {
 
   public void destroyBody(Body body) {
     logger.debug("Destroying physics body {}", body);
+    raycastQueries.forget(body);
     world.destroyBody(body);
   }
 
+  /**
+   * Add a fixture to a body. Fixtures should be created and destroyed through the engine rather
+   * than the body, so that cached raycasts which may have hit them are dropped.
+   *
+   * @param body body to attach the fixture to
+   * @param fixtureDef fixture definition
+   * @return the new fixture
+   */
+  public Fixture createFixture(Body body, FixtureDef fixtureDef) {
+    logger.debug("Creating physics fixture on {}", body);
+    raycastQueries.invalidateAll();
+    return body.createFixture(fixtureDef);
+  }
+
+  /**
+   * Remove a fixture from a body. Box2D pools destroyed fixtures, so any cached raycast which hit
+   * it is dropped before the fixture can be reused.
+   *
+   * @param body body the fixture is attached to
+   * @param fixture fixture to destroy
+   */
+  public void destroyFixture(Body body, Fixture fixture) {
+    logger.debug("Destroying physics fixture on {}", body);
+    raycastQueries.invalidateAll();
+    body.destroyFixture(fixture);
+  }
+
   public Joint createJoint(JointDef jointDef) {
     logger.debug("Creating physics joint {}", jointDef);
     return world.createJoint(jointDef);
@@ -79,6 +112,33 @@ public class PhysicsEngine implements Disposable {
     return world;
   }
 
+  /**
+   * Get the raycast query cache for this world. Closest-hit raycasts with the same end points and
+   * layer mask are answered from it until something near the ray moves.
+   *
+   * @return raycast query service
+   */
+  public RaycastQueryService getRaycastQueries() {
+    return raycastQueries;
+  }
+
+  /**
+   * Set whether {@link #raycast(Vector2, Vector2, short, RaycastHit)} answers from the raycast
+   * query cache. When disabled every call is cast directly against the world.
+   *
+   * @param enabled true to cache raycasts
+   */
+  public void setRaycastCaching(boolean enabled) {
+    raycastCaching = enabled;
+    if (!enabled) {
+      raycastQueries.invalidateAll();
+    }
+  }
+
+  public boolean isRaycastCaching() {
+    return raycastCaching;
+  }
+
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
    * colliders.
@@ -101,9 +161,28 @@ public class PhysicsEngine implements Disposable {
    * @param hit The hit of the closest collider will be stored in this.
    * @param layerMask The physics layer mask which specifies layers that can be hit. Other layers
    *     will be ignored.
-   * @return true if a collider was hit, false otherwise.
+   * @return true if a collider was hit, false otherwise. While raycast caching is enabled, the hit
+   *     point and normal are copied into the hit's own vectors, which are created if missing.
    */
   public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
+    if (raycastCaching) {
+      RaycastHit cached = raycastQueries.raycast(from, to, layerMask);
+      if (cached == null) {
+        return false;
+      }
+      // Copy rather than share the cached vectors, which are reused once the query is dropped
+      hit.fixture = cached.fixture;
+      if (hit.point == null) {
+        hit.point = new Vector2();
+      }
+      if (hit.normal == null) {
+        hit.normal = new Vector2();
+      }
+      hit.point.set(cached.point);
+      hit.normal.set(cached.normal);
+      return true;
+    }
+
     singleHitCallback.didHit = false;
     singleHitCallback.layerMask = layerMask;
     singleHitCallback.hit = hit;
@@ -31,8 +31,7 @@ public class ColliderComponent extends Component {
       fixtureDef.shape = makeBoundingBox();
     }
 
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
-    fixture = physBody.createFixture(fixtureDef);
+    fixture = entity.getComponent(PhysicsComponent.class).createFixture(fixtureDef);
   }
 
   /**
@@ -261,13 +260,19 @@ public class ColliderComponent extends Component {
     return fixture.getFilterData().categoryBits;
   }
 
+  /** Remove the collider's fixture from the body. Calling {@link #create()} adds it back. */
+  public void destroyFixture() {
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    if (fixture != null && physics.getBody().getFixtureList().contains(fixture, true)) {
+      physics.destroyFixture(fixture);
+    }
+    fixture = null;
+  }
+
   @Override
   public void dispose() {
     super.dispose();
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
-    if (physBody.getFixtureList().contains(fixture, true)) {
-      physBody.destroyFixture(fixture);
-    }
+    destroyFixture();
   }
 
   private Shape makeBoundingBox() {
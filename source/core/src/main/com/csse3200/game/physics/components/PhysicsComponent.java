@@ -4,6 +4,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentPriority;
 import com.csse3200.game.physics.BodyUserData;
@@ -66,6 +68,25 @@ public class PhysicsComponent extends Component {
     return body;
   }
 
+  /**
+   * Add a fixture to the body through the physics engine.
+   *
+   * @param fixtureDef fixture definition
+   * @return the new fixture
+   */
+  public Fixture createFixture(FixtureDef fixtureDef) {
+    return physics.createFixture(body, fixtureDef);
+  }
+
+  /**
+   * Remove a fixture from the body through the physics engine.
+   *
+   * @param fixture fixture attached to the body
+   */
+  public void destroyFixture(Fixture fixture) {
+    physics.destroyFixture(body, fixture);
+  }
+
   @Override
   public void create() {
     body.setTransform(entity.getPosition(), 0f);
@@ -94,6 +115,20 @@ public class PhysicsComponent extends Component {
     physics.destroyBody(body);
   }
 
+  /** Keep the body for reuse, but stop it moving and colliding. */
+  @Override
+  public void deactivate() {
+    body.setLinearVelocity(0f, 0f);
+    body.setAngularVelocity(0f);
+    body.setActive(false);
+  }
+
+  @Override
+  public void reactivate() {
+    body.setTransform(entity.getPosition(), 0f);
+    body.setActive(true);
+  }
+
   @Override
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
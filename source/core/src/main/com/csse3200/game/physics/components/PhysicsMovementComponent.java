@@ -15,6 +15,9 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   private PhysicsComponent physicsComponent;
   private Vector2 targetPosition;
   private boolean movementEnabled = true;
+  // Scratch vectors reused every update to avoid per-frame allocations
+  private final Vector2 direction = new Vector2();
+  private final Vector2 impulse = new Vector2();
 
   @Override
   public void create() {
@@ -79,12 +82,12 @@ public void setMaxSpeed(float speed){
   private void setToVelocity(Body body, Vector2 desiredVelocity) {
     // impulse force = (desired velocity - current velocity) * mass
     Vector2 velocity = body.getLinearVelocity();
-    Vector2 impulse = desiredVelocity.cpy().sub(velocity).scl(body.getMass());
+    impulse.set(desiredVelocity).sub(velocity).scl(body.getMass());
     body.applyLinearImpulse(impulse, body.getWorldCenter(), true);
   }
 
   private Vector2 getDirection() {
     // Move towards targetPosition based on our current position
-    return targetPosition.cpy().sub(entity.getPosition()).nor();
+    return direction.set(targetPosition).sub(entity.getX(), entity.getY()).nor();
   }
 }
@@ -1,7 +1,6 @@
 package com.csse3200.game.physics.components;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
@@ -15,7 +14,7 @@ public class StandingColliderComponent extends ColliderComponent {
 
     @Override
     public void create() {
-        Body body = entity.getComponent(PhysicsComponent.class).getBody();
+        PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
 
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(BOX_WIDTH, BOX_HEIGHT, OFFSET, 0f);
@@ -26,7 +25,7 @@ public class StandingColliderComponent extends ColliderComponent {
         def.isSensor = false; // active by default
         def.filter.categoryBits = PhysicsLayer.PLAYER;
 
-        fixture = body.createFixture(def);
+        fixture = physics.createFixture(def);
         fixture.setUserData("standing");
 
         shape.dispose();
@@ -0,0 +1,399 @@
+package com.csse3200.game.physics.raycast;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Memoises closest-hit raycasts so that components casting the same ray in a frame share one Box2D
+ * query, and rays that nothing has moved across are not recast every frame.
+ *
+ * <p>Queries are keyed by their exact end points and layer mask. A cached result stays valid until
+ * a body whose bounds overlap the ray's bounding box moves, changes type, is enabled or disabled, or
+ * gains or loses fixtures. Fixtures created or destroyed through the physics engine drop every
+ * result, as Box2D reuses destroyed fixtures. Results that were not queried during the previous
+ * frame are dropped, so rays following moving entities do not accumulate. Changes to a fixture's
+ * collision filter are not tracked, so those only show once something near the ray moves.
+ *
+ * <p>Results are pooled and owned by this service. They may be read until the next physics update
+ * but must not be modified or kept.
+ */
+public class RaycastQueryService {
+  /** Extra margin added to body bounds to cover shape skin and rounding */
+  private static final float BOUNDS_MARGIN = 0.1f;
+
+  private final World world;
+  private final SingleHitCallback callback = new SingleHitCallback();
+  private final RaycastHit callbackHit = new RaycastHit();
+
+  private final IntMap<Query> buckets = new IntMap<>();
+  private final Array<Query> queries = new Array<>(false, 64, Query.class);
+  private final Array<Query> freeQueries = new Array<>(false, 64, Query.class);
+
+  private final ObjectMap<Body, BodyState> bodyStates = new ObjectMap<>();
+  private final Array<Body> bodies = new Array<>(false, 64, Body.class);
+  private final FloatArray dirtyBounds = new FloatArray();
+  private final Vector2 vertex = new Vector2();
+
+  private long frame = 0;
+  private int queryCount = 0;
+  private int castCount = 0;
+
+  public RaycastQueryService(World world) {
+    this.world = world;
+  }
+
+  /**
+   * Cast a ray from one point to another, returning the closest collider in the given layers.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @return the hit of the closest collider, or null if nothing was hit. The hit is shared and only
+   *     valid until the next physics update.
+   */
+  public RaycastHit raycast(Vector2 from, Vector2 to, short layerMask) {
+    return raycast(from.x, from.y, to.x, to.y, layerMask);
+  }
+
+  /**
+   * Cast a ray from one point to another, returning the closest collider in the given layers.
+   *
+   * @param fromX x coordinate of the ray start
+   * @param fromY y coordinate of the ray start
+   * @param toX x coordinate of the ray end
+   * @param toY y coordinate of the ray end
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @return the hit of the closest collider, or null if nothing was hit. The hit is shared and only
+   *     valid until the next physics update.
+   */
+  public RaycastHit raycast(float fromX, float fromY, float toX, float toY, short layerMask) {
+    queryCount++;
+    int hash = hash(fromX, fromY, toX, toY, layerMask);
+    for (Query query = buckets.get(hash); query != null; query = query.next) {
+      if (query.matches(fromX, fromY, toX, toY, layerMask)) {
+        query.lastFrame = frame;
+        if (query.didHit && !query.hitBody.getFixtureList().contains(query.hit.fixture, true)) {
+          // The hit fixture was destroyed directly through its body since the last update
+          cast(query);
+        }
+        return query.didHit ? query.hit : null;
+      }
+    }
+
+    Query query = obtain();
+    query.set(fromX, fromY, toX, toY, layerMask);
+    query.hash = hash;
+    query.lastFrame = frame;
+    cast(query);
+    query.next = buckets.get(hash);
+    buckets.put(hash, query);
+    queries.add(query);
+    return query.didHit ? query.hit : null;
+  }
+
+  /**
+   * Called by the physics engine once per frame, after stepping the world if it was stepped. Drops
+   * results that were not used last frame and results whose rays crossed a body that changed since
+   * the last update. Bodies are checked even on frames without a step, as they can be moved,
+   * enabled or given fixtures by game code at any time.
+   */
+  public void update() {
+    frame++;
+    queryCount = 0;
+    castCount = 0;
+
+    dirtyBounds.clear();
+    collectDirtyBounds();
+
+    for (int i = queries.size - 1; i >= 0; i--) {
+      Query query = queries.items[i];
+      if (query.lastFrame < frame - 1 || overlapsDirty(query)) {
+        unlink(query);
+        queries.removeIndex(i);
+        freeQueries.add(query);
+      }
+    }
+  }
+
+  /** Drop every cached result, e.g. after a body or fixture is created or destroyed. */
+  public void invalidateAll() {
+    buckets.clear();
+    freeQueries.addAll(queries);
+    queries.clear();
+  }
+
+  /**
+   * Stop tracking a body which is about to be destroyed.
+   *
+   * @param body body being destroyed
+   */
+  public void forget(Body body) {
+    if (body != null) {
+      bodyStates.remove(body);
+    }
+    invalidateAll();
+  }
+
+  /**
+   * Get the number of raycasts requested since the last physics update.
+   *
+   * @return query count
+   */
+  public int getQueryCount() {
+    return queryCount;
+  }
+
+  /**
+   * Get the number of raycasts that reached Box2D since the last physics update. The remaining
+   * queries were answered from the cache.
+   *
+   * @return cast count
+   */
+  public int getCastCount() {
+    return castCount;
+  }
+
+  /**
+   * Get the number of results currently cached.
+   *
+   * @return cached result count
+   */
+  public int getCachedCount() {
+    return queries.size;
+  }
+
+  private void cast(Query query) {
+    castCount++;
+    callback.didHit = false;
+    callback.layerMask = query.layerMask;
+    callback.hit = callbackHit;
+    world.rayCast(callback, query.fromX, query.fromY, query.toX, query.toY);
+
+    query.didHit = callback.didHit;
+    if (query.didHit) {
+      // Box2D reuses the point and normal vectors between callbacks, so copy them out
+      query.hit.fixture = callbackHit.fixture;
+      query.hitBody = callbackHit.fixture.getBody();
+      query.hit.point.set(callbackHit.point);
+      query.hit.normal.set(callbackHit.normal);
+    } else {
+      query.hit.fixture = null;
+      query.hitBody = null;
+    }
+  }
+
+  /**
+   * Compare every body against its state at the previous update. Awake non-static bodies are
+   * treated as moving. The old and new bounds of any body that changed are recorded as dirty.
+   */
+  private void collectDirtyBounds() {
+    world.getBodies(bodies);
+    for (int i = 0; i < bodies.size; i++) {
+      Body body = bodies.items[i];
+      BodyState state = bodyStates.get(body);
+      if (state == null) {
+        state = new BodyState();
+        bodyStates.put(body, state);
+        state.capture(body);
+        addDirty(state);
+      } else if (state.changed(body)) {
+        addDirty(state);
+        state.capture(body);
+        addDirty(state);
+      }
+      state.seenFrame = frame;
+    }
+
+    // Bodies destroyed directly through the world are no longer listed
+    if (bodyStates.size > bodies.size) {
+      ObjectMap.Entries<Body, BodyState> entries = bodyStates.entries();
+      while (entries.hasNext()) {
+        ObjectMap.Entry<Body, BodyState> entry = entries.next();
+        if (entry.value.seenFrame != frame) {
+          addDirty(entry.value);
+          entries.remove();
+        }
+      }
+    }
+    bodies.clear();
+  }
+
+  private void addDirty(BodyState state) {
+    float extent = state.extent + BOUNDS_MARGIN;
+    dirtyBounds.add(state.x - extent, state.y - extent, state.x + extent, state.y + extent);
+  }
+
+  private boolean overlapsDirty(Query query) {
+    float[] bounds = dirtyBounds.items;
+    for (int i = 0; i < dirtyBounds.size; i += 4) {
+      if (query.minX <= bounds[i + 2]
+          && query.maxX >= bounds[i]
+          && query.minY <= bounds[i + 3]
+          && query.maxY >= bounds[i + 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Query obtain() {
+    return freeQueries.size > 0 ? freeQueries.pop() : new Query();
+  }
+
+  private void unlink(Query query) {
+    Query head = buckets.get(query.hash);
+    if (head == query) {
+      if (query.next == null) {
+        buckets.remove(query.hash);
+      } else {
+        buckets.put(query.hash, query.next);
+      }
+    } else {
+      Query prev = head;
+      while (prev != null && prev.next != query) {
+        prev = prev.next;
+      }
+      if (prev != null) {
+        prev.next = query.next;
+      }
+    }
+    query.next = null;
+  }
+
+  private static int hash(float fromX, float fromY, float toX, float toY, short layerMask) {
+    int hash = Float.floatToIntBits(fromX);
+    hash = 31 * hash + Float.floatToIntBits(fromY);
+    hash = 31 * hash + Float.floatToIntBits(toX);
+    hash = 31 * hash + Float.floatToIntBits(toY);
+    return 31 * hash + layerMask;
+  }
+
+  /**
+   * Largest distance from a body's origin to any point of its fixtures.
+   */
+  private float computeExtent(Body body) {
+    float extent = 0f;
+    Array<Fixture> fixtures = body.getFixtureList();
+    for (int i = 0; i < fixtures.size; i++) {
+      Shape shape = fixtures.get(i).getShape();
+      if (shape instanceof CircleShape circle) {
+        extent = Math.max(extent, circle.getPosition().len() + circle.getRadius());
+      } else if (shape instanceof PolygonShape polygon) {
+        for (int v = 0; v < polygon.getVertexCount(); v++) {
+          polygon.getVertex(v, vertex);
+          extent = Math.max(extent, vertex.len() + polygon.getRadius());
+        }
+      } else if (shape instanceof EdgeShape edge) {
+        edge.getVertex1(vertex);
+        extent = Math.max(extent, vertex.len());
+        edge.getVertex2(vertex);
+        extent = Math.max(extent, vertex.len());
+      } else if (shape instanceof ChainShape chain) {
+        for (int v = 0; v < chain.getVertexCount(); v++) {
+          chain.getVertex(v, vertex);
+          extent = Math.max(extent, vertex.len());
+        }
+      }
+    }
+    return extent;
+  }
+
+  /** Snapshot of the parts of a body that can change raycast results. */
+  private class BodyState {
+    float x;
+    float y;
+    float angle;
+    float extent;
+    boolean active;
+    boolean moving;
+    BodyType type;
+    int fixtureCount = -1;
+    long seenFrame;
+
+    void capture(Body body) {
+      Vector2 position = body.getPosition();
+      x = position.x;
+      y = position.y;
+      angle = body.getAngle();
+      active = body.isActive();
+      type = body.getType();
+      moving = type != BodyType.StaticBody && body.isAwake();
+      int fixtures = body.getFixtureList().size;
+      if (fixtures != fixtureCount) {
+        fixtureCount = fixtures;
+        extent = computeExtent(body);
+      }
+    }
+
+    boolean changed(Body body) {
+      if (moving) {
+        return true;
+      }
+      Vector2 position = body.getPosition();
+      return position.x != x
+          || position.y != y
+          || body.getAngle() != angle
+          || body.isActive() != active
+          || body.getType() != type
+          || (type != BodyType.StaticBody && body.isAwake())
+          || body.getFixtureList().size != fixtureCount;
+    }
+  }
+
+  /** A cached raycast and its result. */
+  private static class Query {
+    final RaycastHit hit = new RaycastHit();
+    /** Body of the hit fixture when it was cast, as Box2D keeps it on pooled fixtures */
+    Body hitBody;
+    float fromX;
+    float fromY;
+    float toX;
+    float toY;
+    short layerMask;
+    float minX;
+    float minY;
+    float maxX;
+    float maxY;
+    boolean didHit;
+    long lastFrame;
+    int hash;
+    Query next;
+
+    Query() {
+      hit.point = new Vector2();
+      hit.normal = new Vector2();
+    }
+
+    void set(float fromX, float fromY, float toX, float toY, short layerMask) {
+      this.fromX = fromX;
+      this.fromY = fromY;
+      this.toX = toX;
+      this.toY = toY;
+      this.layerMask = layerMask;
+      minX = Math.min(fromX, toX);
+      minY = Math.min(fromY, toY);
+      maxX = Math.max(fromX, toX);
+      maxY = Math.max(fromY, toY);
+    }
+
+    boolean matches(float fromX, float fromY, float toX, float toY, short layerMask) {
+      return this.fromX == fromX
+          && this.fromY == fromY
+          && this.toX == toX
+          && this.toY == toY
+          && this.layerMask == layerMask;
+    }
+  }
+}
@@ -1,11 +1,13 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
@@ -177,7 +179,10 @@ public class AnimationRenderComponent extends RenderComponent {
    * @param flip whether to flip the entity horizontally
    */
   public void setFlipX(boolean flip) {
-      this.flipX = flip;
+      if (this.flipX != flip) {
+          this.flipX = flip;
+          boundsChanged();
+      }
   }
 
   /**
@@ -187,7 +192,10 @@ public class AnimationRenderComponent extends RenderComponent {
    * @param rotation rotation in degrees
    */
   public void setRotation(float rotation) {
-    this.rotation = rotation;
+    if (this.rotation != rotation) {
+      this.rotation = rotation;
+      boundsChanged();
+    }
   }
 
   /**
@@ -203,6 +211,7 @@ public class AnimationRenderComponent extends RenderComponent {
       } else {
           origin.set(x, y);
       }
+      boundsChanged();
   }
 
   /**
@@ -225,6 +234,28 @@ public class AnimationRenderComponent extends RenderComponent {
     isPaused = paused;
   }
 
+  @Override
+  public Texture getBatchTexture() {
+    if (currentAnimation == null) {
+      return null;
+    }
+    return currentAnimation.getKeyFrame(animationPlayTime).getTexture();
+  }
+
+  /** Rotated or mirrored animations are bounded by the box around the quad as drawn. */
+  @Override
+  public boolean getBounds(Rectangle out) {
+    if (rotation == 0f && !flipX) {
+      return super.getBounds(out);
+    }
+    float w = Math.abs(entity.getScaleX());
+    float h = Math.abs(entity.getScaleY());
+    float originX = origin == null ? w / 2 : origin.x;
+    float originY = origin == null ? h / 2 : origin.y;
+    setRotatedBounds(out, originX, originY, w, h, flipX ? -1f : 1f, rotation);
+    return true;
+  }
+
   @Override
   protected void draw(SpriteBatch batch) {
     if (currentAnimation == null) {
@@ -232,10 +263,8 @@ public class AnimationRenderComponent extends RenderComponent {
     }
 
     TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-    Vector2 pos = entity.getPosition();
-    Vector2 scale = entity.getScale();
-    float w = Math.abs(scale.x);
-    float h = Math.abs(scale.y);
+    float w = Math.abs(entity.getScaleX());
+    float h = Math.abs(entity.getScaleY());
     float originX = w / 2;
     float originY = h / 2;
     if (origin != null) {
@@ -244,7 +273,7 @@ public class AnimationRenderComponent extends RenderComponent {
     }
     float sx = flipX ? -1f : 1f;
     float sy = 1f;
-    batch.draw(region, pos.x, pos.y, originX, originY, w, h, sx, sy, rotation);
+    batch.draw(region, entity.getX(), entity.getY(), originX, originY, w, h, sx, sy, rotation);
     if (!isPaused) {
       animationPlayTime += timeSource.getDeltaTime();
     }
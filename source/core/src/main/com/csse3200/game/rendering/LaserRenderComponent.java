@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.lasers.LaserEmitterComponent;
 import com.csse3200.game.components.lasers.LaserShowerComponent;
@@ -32,6 +33,17 @@ public class LaserRenderComponent extends RenderComponent {
     private LaserShowerComponent showerEmitter;
     private LaserEmitterComponent mainEmitter;
 
+    /**
+     * Beams can reach far outside the emitter entity, so lasers are never culled.
+     *
+     * @param out unused
+     * @return false
+     */
+    @Override
+    public boolean getBounds(Rectangle out) {
+        return false;
+    }
+
     @Override
     public void create() {
         super.create();
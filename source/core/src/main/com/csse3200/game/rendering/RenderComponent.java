@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -24,6 +26,16 @@ public abstract class RenderComponent extends Component implements Renderable, D
     ServiceLocator.getRenderService().unregister(this);
   }
 
+  @Override
+  public void deactivate() {
+    ServiceLocator.getRenderService().unregister(this);
+  }
+
+  @Override
+  public void reactivate() {
+    ServiceLocator.getRenderService().register(this);
+  }
+
   @Override
   public void render(SpriteBatch batch) {
     draw(batch);
@@ -53,10 +65,69 @@ public abstract class RenderComponent extends Component implements Renderable, D
     return this;
   }
 
+  /**
+   * Bounds default to the entity's position and scale, which covers what most components draw.
+   * A negative scale may be drawn either side of the position, so both sides are included.
+   * Components that draw outside their entity, or rotate what they draw, should override this and
+   * call {@link #boundsChanged()} when anything but the entity's position or scale changes it.
+   */
+  @Override
+  public boolean getBounds(Rectangle out) {
+    float width = entity.getScaleX();
+    float height = entity.getScaleY();
+    out.set(
+        width < 0 ? entity.getX() + width : entity.getX(),
+        height < 0 ? entity.getY() + height : entity.getY(),
+        width < 0 ? -2 * width : width,
+        height < 0 ? -2 * height : height);
+    return true;
+  }
+
+  /**
+   * Tell the render service that the bounds changed for a reason other than the entity moving or
+   * being rescaled, so this is not culled by its old bounds.
+   */
+  protected void boundsChanged() {
+    if (entity != null && ServiceLocator.getRenderService() != null) {
+      ServiceLocator.getRenderService().boundsChanged(this);
+    }
+  }
+
+  /**
+   * Set bounds to the box around a quad drawn at the entity's position, scaled and rotated about
+   * an origin the way {@link SpriteBatch} draws a rotated region.
+   *
+   * @param out rectangle to set
+   * @param originX x of the origin, relative to the entity's position
+   * @param originY y of the origin, relative to the entity's position
+   * @param width drawn width
+   * @param height drawn height
+   * @param scaleX horizontal scale about the origin, -1 when mirrored
+   * @param rotation rotation about the origin in degrees
+   */
+  protected void setRotatedBounds(Rectangle out, float originX, float originY, float width,
+      float height, float scaleX, float rotation) {
+    float cos = MathUtils.cosDeg(rotation);
+    float sin = MathUtils.sinDeg(rotation);
+    // Corners relative to the origin
+    float left = -originX * scaleX;
+    float right = (width - originX) * scaleX;
+    float bottom = -originY;
+    float top = height - originY;
+
+    float minX = Math.min(left * cos, right * cos) - Math.max(bottom * sin, top * sin);
+    float maxX = Math.max(left * cos, right * cos) - Math.min(bottom * sin, top * sin);
+    float minY = Math.min(left * sin, right * sin) + Math.min(bottom * cos, top * cos);
+    float maxY = Math.max(left * sin, right * sin) + Math.max(bottom * cos, top * cos);
+    float x = entity.getX() + originX;
+    float y = entity.getY() + originY;
+    out.set(x + minX, y + minY, maxX - minX, maxY - minY);
+  }
+
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getY();
   }
 
   /**
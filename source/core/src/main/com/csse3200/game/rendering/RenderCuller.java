@@ -0,0 +1,156 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.utils.SpatialGrid;
+
+/**
+ * Camera culling for the render service. Bounded renderables are kept in a uniform
+ * {@link SpatialGrid} over the level. An entry is only moved between cells after it is marked
+ * dirty, e.g. when its entity moves, and each frame only the cells under the camera view are
+ * visited to hand the on screen renderables to their layers.
+ */
+class RenderCuller {
+  /** Cell size in world units. A screen is roughly 20 x 11 units. */
+  private static final float CELL_SIZE = 4f;
+  /** Extra space around the view, so sprites drawn slightly outside their bounds do not pop. */
+  private static final float VIEW_MARGIN = 1f;
+  private static final float DEFAULT_WORLD_SIZE = 64f;
+
+  private SpatialGrid<RenderEntry> grid;
+  private int gridVersion = 0;
+  private final Rectangle view = new Rectangle();
+  private final Rectangle bounds = new Rectangle();
+  private final Array<RenderEntry> candidates = new Array<>(false, 64, RenderEntry.class);
+  private final Array<RenderEntry> dirty = new Array<>(false, 64, RenderEntry.class);
+  private int frame = 0;
+
+  RenderCuller() {
+    setWorldBounds(0f, 0f, DEFAULT_WORLD_SIZE, DEFAULT_WORLD_SIZE);
+  }
+
+  /**
+   * Resize the grid to cover the given world area. Entries must be refreshed to be re-inserted.
+   */
+  void setWorldBounds(float x, float y, float width, float height) {
+    grid = new SpatialGrid<>(x, y, width, height, CELL_SIZE);
+    gridVersion++;
+  }
+
+  /**
+   * Start a new culling frame using the camera's current view.
+   *
+   * @param camera camera the frame is rendered with
+   */
+  void beginFrame(Camera camera) {
+    frame++;
+    float zoom = camera instanceof OrthographicCamera orthographic ? orthographic.zoom : 1f;
+    float width = camera.viewportWidth * zoom + VIEW_MARGIN * 2;
+    float height = camera.viewportHeight * zoom + VIEW_MARGIN * 2;
+    view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+  }
+
+  /**
+   * Queue an entry's bounds to be refreshed at the start of the next frame.
+   *
+   * @param entry entry whose bounds changed
+   */
+  void markDirty(RenderEntry entry) {
+    if (!entry.boundsDirty) {
+      entry.boundsDirty = true;
+      dirty.add(entry);
+    }
+  }
+
+  /** Refresh the bounds of every entry marked dirty since the last call. */
+  void refreshDirty() {
+    RenderEntry[] items = dirty.items;
+    for (int i = 0; i < dirty.size; i++) {
+      RenderEntry entry = items[i];
+      // Entries removed since being marked are no longer dirty
+      if (entry.boundsDirty) {
+        entry.boundsDirty = false;
+        refresh(entry);
+      }
+    }
+    dirty.clear();
+  }
+
+  /**
+   * Update an entry's bounds and move it between grid cells if needed.
+   *
+   * @param entry entry to refresh
+   */
+  void refresh(RenderEntry entry) {
+    if (!entry.renderable.getBounds(bounds)) {
+      remove(entry);
+      entry.bounded = false;
+      entry.layer.setBounded(entry, false);
+      return;
+    }
+    entry.bounded = true;
+    entry.bounds.set(bounds);
+    entry.layer.setBounded(entry, true);
+
+    int minX = grid.cellX(bounds.x);
+    int minY = grid.cellY(bounds.y);
+    int maxX = grid.cellX(bounds.x + bounds.width);
+    int maxY = grid.cellY(bounds.y + bounds.height);
+    if (entry.gridVersion == gridVersion
+        && entry.minCellX == minX && entry.minCellY == minY
+        && entry.maxCellX == maxX && entry.maxCellY == maxY) {
+      return;
+    }
+    remove(entry);
+    grid.insert(entry, minX, minY, maxX, maxY);
+    entry.gridVersion = gridVersion;
+    entry.minCellX = minX;
+    entry.minCellY = minY;
+    entry.maxCellX = maxX;
+    entry.maxCellY = maxY;
+  }
+
+  /**
+   * Remove an entry from the grid, if it is in it.
+   *
+   * @param entry entry to remove
+   */
+  void remove(RenderEntry entry) {
+    if (entry.gridVersion == gridVersion) {
+      grid.remove(entry, entry.minCellX, entry.minCellY, entry.maxCellX, entry.maxCellY);
+    }
+    entry.gridVersion = -1;
+    entry.boundsDirty = false;
+  }
+
+  /**
+   * Hand every entry whose bounds overlap the view to its layer, to be drawn this frame. Only the
+   * grid cells under the view are visited.
+   */
+  void markVisible() {
+    candidates.clear();
+    grid.query(
+        grid.cellX(view.x), grid.cellY(view.y),
+        grid.cellX(view.x + view.width), grid.cellY(view.y + view.height),
+        candidates);
+    RenderEntry[] items = candidates.items;
+    for (int i = 0; i < candidates.size; i++) {
+      markVisible(items[i]);
+    }
+    candidates.clear();
+  }
+
+  /**
+   * Hand an entry to its layer if its bounds overlap the view and it has not been already.
+   *
+   * @param entry entry to check
+   */
+  void markVisible(RenderEntry entry) {
+    if (entry.bounded && entry.visibleFrame != frame && entry.bounds.overlaps(view)) {
+      entry.visibleFrame = frame;
+      entry.layer.addVisible(entry);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.csse3200.game.entities.Entity;
+
+/**
+ * Per-renderable bookkeeping kept by the {@link RenderService}: the cached Z index used for
+ * ordering, and the bounds and grid cells used for culling. Entries of entity components listen
+ * for their entity moving, so only renderables which moved have their bounds refreshed.
+ */
+class RenderEntry implements Entity.MoveListener {
+  final Renderable renderable;
+  final RenderLayer layer;
+  /** Order the renderable was added to its layer in, which breaks ties between equal Z indices. */
+  final int order;
+  final boolean zIndexStatic;
+  float zIndex;
+
+  /** Whether the renderable reported bounds. Unbounded renderables are never culled. */
+  boolean bounded = false;
+  final Rectangle bounds = new Rectangle();
+  /** Culling grid version the cell span below belongs to, or -1 if not in the grid. */
+  int gridVersion = -1;
+  int minCellX;
+  int minCellY;
+  int maxCellX;
+  int maxCellY;
+  /** Last culling frame in which the bounds overlapped the camera view. */
+  int visibleFrame = -1;
+  /** Index in the layer's unbounded entries, or -1 if bounded or not yet refreshed. */
+  int unboundedIndex = -1;
+  /** Whether the bounds are waiting to be refreshed at the start of the next frame. */
+  boolean boundsDirty = false;
+  /** Culler to tell when the entity moves, set while registered. */
+  RenderCuller culler;
+  /** Entity whose moves are listened to, or null if the renderable is not a component. */
+  Entity entity;
+  /** Texture group while the layer is being texture sorted. */
+  int textureGroup = -1;
+
+  RenderEntry(Renderable renderable, RenderLayer layer, int order) {
+    this.renderable = renderable;
+    this.layer = layer;
+    this.order = order;
+    zIndexStatic = renderable.isZIndexStatic();
+    zIndex = renderable.getZIndex();
+  }
+
+  @Override
+  public void entityMoved(Entity entity) {
+    if (culler != null) {
+      culler.markDirty(this);
+    }
+  }
+}
@@ -0,0 +1,314 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Comparator;
+
+/**
+ * The renderables of a single render layer, kept in rendering order. Each renderable's last seen Z
+ * index is cached so the layer is only re-sorted when a key actually changes, and the sort is an
+ * insertion sort since the order from the previous frame is almost always still close to correct.
+ * Renderables with a static Z index are never polled; they must report changes through
+ * {@link RenderService#zIndexChanged(Renderable)}.
+ *
+ * <p>While culling, the layer is handed its visible renderables by the {@link RenderCuller} and
+ * only draws those and its unbounded renderables, sorted by their cached Z index, so the cost of a
+ * frame follows what is on screen rather than the size of the layer.
+ *
+ * <p>With texture sorting, the visible renderables are grouped by {@link
+ * Renderable#getBatchTexture()} before drawing. Groups are drawn in the order their first
+ * renderable appears and keep Z order within the group, so each texture is switched to once per
+ * layer at the cost of Z order between renderables with different textures.
+ */
+class RenderLayer {
+  /** Z order, with ties drawn in the order the renderables were added */
+  private static final Comparator<RenderEntry> DRAW_ORDER = (a, b) -> {
+    int order = Float.compare(a.zIndex, b.zIndex);
+    return order != 0 ? order : Integer.compare(a.order, b.order);
+  };
+
+  private final Array<RenderEntry> entries;
+  /** Renderables without bounds, which are drawn whether or not they are on screen */
+  private final Array<RenderEntry> unbounded = new Array<>(false, 4, RenderEntry.class);
+  /** Renderables handed over by the culler as on screen this frame */
+  private final Array<RenderEntry> visible = new Array<>(false, 16, RenderEntry.class);
+  private final Array<RenderEntry> drawOrder = new Array<>(true, 16, RenderEntry.class);
+  private int nextOrder = 0;
+  private int dynamicCount = 0;
+  private boolean dirty = false;
+  private int sortCount = 0;
+  private boolean textureSorted = false;
+
+  // Scratch state for texture sorting, kept so that sorting does not allocate each frame
+  private final Array<RenderEntry> textureOrder = new Array<>(true, 16, RenderEntry.class);
+  private final ObjectIntMap<Texture> textureGroups = new ObjectIntMap<>();
+  private final IntArray groupOffsets = new IntArray();
+
+  RenderLayer(int capacity) {
+    entries = new Array<>(true, capacity, RenderEntry.class);
+  }
+
+  RenderEntry add(Renderable renderable) {
+    RenderEntry entry = new RenderEntry(renderable, this, nextOrder++);
+    entries.add(entry);
+    if (!entry.zIndexStatic) {
+      dynamicCount++;
+    }
+    dirty = true;
+    return entry;
+  }
+
+  /**
+   * Remove an entry from the layer.
+   *
+   * @param entry entry to remove
+   */
+  void remove(RenderEntry entry) {
+    // Removing an element keeps the remaining elements in order, so no re-sort is needed
+    if (!entries.removeValue(entry, true)) {
+      return;
+    }
+    if (!entry.zIndexStatic) {
+      dynamicCount--;
+    }
+    setBounded(entry, true);
+    visible.removeValue(entry, true);
+  }
+
+  /**
+   * Track whether an entry has bounds. Entries without bounds are drawn every frame while culling.
+   *
+   * @param entry entry in this layer
+   * @param bounded true if the entry reported bounds
+   */
+  void setBounded(RenderEntry entry, boolean bounded) {
+    if (!bounded && entry.unboundedIndex < 0) {
+      entry.unboundedIndex = unbounded.size;
+      unbounded.add(entry);
+    } else if (bounded && entry.unboundedIndex >= 0) {
+      // Swap the last entry into the removed slot
+      RenderEntry last = unbounded.pop();
+      if (last != entry) {
+        unbounded.set(entry.unboundedIndex, last);
+        last.unboundedIndex = entry.unboundedIndex;
+      }
+      entry.unboundedIndex = -1;
+    }
+  }
+
+  /**
+   * Draw an entry this frame while culling. Called by the culler.
+   *
+   * @param entry on screen entry in this layer
+   */
+  void addVisible(RenderEntry entry) {
+    visible.add(entry);
+  }
+
+  /** Forget the entries handed over for the previous frame. */
+  void clearVisible() {
+    visible.clear();
+  }
+
+  /** Force the layer to be re-sorted before it is next rendered. */
+  void markDirty() {
+    dirty = true;
+  }
+
+  boolean isStatic() {
+    return dynamicCount == 0;
+  }
+
+  /**
+   * Draw renderables grouped by texture instead of strictly in Z order.
+   *
+   * @param textureSorted true to group renderables by texture
+   */
+  void setTextureSorted(boolean textureSorted) {
+    this.textureSorted = textureSorted;
+  }
+
+  /** @return number of times this layer has been re-sorted */
+  int getSortCount() {
+    return sortCount;
+  }
+
+  Array<RenderEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Render the layer in order. Without culling the layer is re-sorted first only if a Z index has
+   * changed; with culling only the visible and unbounded renderables are sorted and drawn.
+   *
+   * @param batch batch to render to
+   * @param culling true to draw only what the culler handed over this frame
+   * @return number of renderables culled
+   */
+  int render(SpriteBatch batch, boolean culling) {
+    if (culling) {
+      return renderVisible(batch);
+    }
+    if (dynamicCount > 0) {
+      refreshZIndices();
+    }
+    if (dirty) {
+      insertionSort();
+      dirty = false;
+      sortCount++;
+    }
+    draw(batch, entries);
+    return 0;
+  }
+
+  /**
+   * Render the layer after a full sort, ignoring cached state. This is the behaviour from before
+   * incremental sorting was added.
+   *
+   * @param batch batch to render to
+   * @param culling true to draw only what the culler handed over this frame
+   * @return number of renderables culled
+   */
+  int renderFullSort(SpriteBatch batch, boolean culling) {
+    for (int i = 0; i < entries.size; i++) {
+      RenderEntry entry = entries.items[i];
+      entry.zIndex = entry.renderable.getZIndex();
+    }
+    entries.sort((a, b) -> Float.compare(a.zIndex, b.zIndex));
+    sortCount++;
+    if (culling) {
+      return renderVisible(batch);
+    }
+    draw(batch, entries);
+    return 0;
+  }
+
+  void clear() {
+    entries.clear();
+    unbounded.clear();
+    visible.clear();
+    drawOrder.clear();
+    textureOrder.clear();
+    textureGroups.clear();
+    dynamicCount = 0;
+    dirty = false;
+  }
+
+  /** Sort and draw the visible and unbounded entries, refreshing only their Z indices. */
+  private int renderVisible(SpriteBatch batch) {
+    drawOrder.addAll(visible);
+    drawOrder.addAll(unbounded);
+    RenderEntry[] items = drawOrder.items;
+    for (int i = 0; i < drawOrder.size; i++) {
+      RenderEntry entry = items[i];
+      if (!entry.zIndexStatic) {
+        float z = entry.renderable.getZIndex();
+        if (z != entry.zIndex) {
+          entry.zIndex = z;
+          // The full layer is out of order if culling is turned off
+          dirty = true;
+        }
+      }
+    }
+    drawOrder.sort(DRAW_ORDER);
+    draw(batch, drawOrder);
+    int culled = entries.size - drawOrder.size;
+    // Do not hold on to renderables which may be unregistered
+    drawOrder.clear();
+    return culled;
+  }
+
+  /**
+   * Draw entries which are already in Z order.
+   *
+   * @param batch batch to render to
+   * @param ordered entries to draw
+   */
+  private void draw(SpriteBatch batch, Array<RenderEntry> ordered) {
+    if (textureSorted) {
+      drawTextureSorted(batch, ordered);
+      return;
+    }
+    RenderEntry[] items = ordered.items;
+    for (int i = 0; i < ordered.size; i++) {
+      items[i].renderable.render(batch);
+    }
+  }
+
+  /** Counting sort of the entries by texture group, which keeps Z order within a group. */
+  private void drawTextureSorted(SpriteBatch batch, Array<RenderEntry> ordered) {
+    RenderEntry[] items = ordered.items;
+    int count = ordered.size;
+    int groups = 0;
+    textureGroups.clear();
+    groupOffsets.clear();
+    for (int i = 0; i < count; i++) {
+      RenderEntry entry = items[i];
+      Texture texture = entry.renderable.getBatchTexture();
+      // Renderables without a known texture each get a group of their own
+      int group = texture == null ? -1 : textureGroups.get(texture, -1);
+      if (group == -1) {
+        group = groups++;
+        groupOffsets.add(0);
+        if (texture != null) {
+          textureGroups.put(texture, group);
+        }
+      }
+      entry.textureGroup = group;
+      groupOffsets.incr(group, 1);
+    }
+
+    int offset = 0;
+    for (int group = 0; group < groups; group++) {
+      int size = groupOffsets.get(group);
+      groupOffsets.set(group, offset);
+      offset += size;
+    }
+    textureOrder.setSize(offset);
+    RenderEntry[] grouped = textureOrder.items;
+    for (int i = 0; i < count; i++) {
+      RenderEntry entry = items[i];
+      int index = groupOffsets.get(entry.textureGroup);
+      grouped[index] = entry;
+      groupOffsets.set(entry.textureGroup, index + 1);
+    }
+
+    for (int i = 0; i < offset; i++) {
+      grouped[i].renderable.render(batch);
+    }
+    // Do not hold on to renderables which may be unregistered
+    textureOrder.clear();
+  }
+
+  private void refreshZIndices() {
+    RenderEntry[] items = entries.items;
+    for (int i = 0; i < entries.size; i++) {
+      RenderEntry entry = items[i];
+      if (entry.zIndexStatic) {
+        continue;
+      }
+      float z = entry.renderable.getZIndex();
+      if (z != entry.zIndex) {
+        entry.zIndex = z;
+        dirty = true;
+      }
+    }
+  }
+
+  /** Stable insertion sort, linear when the layer is already (nearly) in order. */
+  private void insertionSort() {
+    RenderEntry[] items = entries.items;
+    for (int i = 1; i < entries.size; i++) {
+      RenderEntry entry = items[i];
+      int j = i - 1;
+      while (j >= 0 && items[j].zIndex > entry.zIndex) {
+        items[j + 1] = items[j];
+        j--;
+      }
+      items[j + 1] = entry;
+    }
+  }
+}
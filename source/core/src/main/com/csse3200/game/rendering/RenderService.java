@@ -1,14 +1,36 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.csse3200.game.components.Component;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
+ *
+ * <p>By default layers are sorted incrementally: a layer is only re-sorted when one of its
+ * renderables changes Z index, and layers made up only of static renderables are sorted once when
+ * their contents change. Incremental sorting can be turned off to sort every layer every frame.
+ *
+ * <p>Renderables that report bounds are also culled against the camera view. They are kept in a
+ * spatial grid over the level, and are only moved between its cells when their entity moves or
+ * they report a change through {@link #boundsChanged(Renderable)}. The renderer calls
+ * {@link #prepareFrame(Camera)} once per frame, which visits the cells under the camera to find
+ * the renderables on screen; only those and renderables without bounds are drawn that frame.
+ *
+ * <p>Texture sorting can be turned on to draw the renderables in each layer grouped by texture,
+ * which cuts texture switches and batch flushes but no longer guarantees Z order between
+ * renderables with different textures. The flushes each layer causes can be seen in the
+ * {@link RenderStats} set by the renderer.
+ *
+ * <p>Once a level is loaded, {@link #bakeStaticGeometry()} bakes the tiles of platforms, walls and
+ * floors which do not move into a {@link StaticGeometryCache}, so each region of them is drawn with
+ * a single call instead of tile by tile.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
@@ -20,21 +42,47 @@ public class RenderService implements Disposable {
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
+  private final SortedIntMap<RenderLayer> renderables =
       new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final IdentityMap<Renderable, RenderEntry> registered = new IdentityMap<>();
+  private boolean incrementalSorting = true;
+  private final RenderCuller culler = new RenderCuller();
+  private boolean cullingEnabled = true;
+  /** True between prepareFrame() calls with culling enabled. */
+  private boolean cullingActive = false;
+  private int submittedCount = 0;
+  private int culledCount = 0;
+  private boolean textureSorting = false;
+  private RenderStats stats;
+  private final StaticGeometryCache staticGeometry = new StaticGeometryCache(this);
 
   /**
-   * Register a new renderable.
+   * Register a new renderable. Registering a renderable which is already registered does nothing.
    *
    * @param renderable new renderable.
    */
   public void register(Renderable renderable) {
+    if (registered.containsKey(renderable)) {
+      return;
+    }
     int layerIndex = renderable.getLayer();
     if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+      RenderLayer layer = new RenderLayer(INITIAL_CAPACITY);
+      layer.setTextureSorted(textureSorting);
+      renderables.put(layerIndex, layer);
+    }
+    RenderLayer layer = renderables.get(layerIndex);
+    RenderEntry entry = layer.add(renderable);
+    registered.put(renderable, entry);
+    entry.culler = culler;
+    if (renderable instanceof Component component && component.getEntity() != null) {
+      entry.entity = component.getEntity();
+      entry.entity.addMoveListener(entry);
+    }
+    culler.refresh(entry);
+    if (cullingActive) {
+      culler.markVisible(entry);
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
   }
 
   /**
@@ -57,11 +105,7 @@ public class RenderService implements Disposable {
       if (layerKey < minLayer) continue;
       if (layerKey > maxLayer) break;
 
-      Array<Renderable> layer = renderables.getValueAt(i);
-      layer.sort();
-      for (Renderable renderable : layer) {
-        renderable.render(batch);
-      }
+      renderLayer(batch, layerKey, renderables.getValueAt(i));
     }
   }
 
@@ -82,26 +126,237 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
-    if (layer != null) {
-      layer.removeValue(renderable, true);
+    RenderEntry entry = registered.remove(renderable);
+    if (entry == null) {
+      return;
+    }
+    entry.layer.remove(entry);
+    culler.remove(entry);
+    entry.culler = null;
+    if (entry.entity != null) {
+      entry.entity.removeMoveListener(entry);
+    }
+  }
+
+  /**
+   * Report that a renderable's bounds have changed for a reason other than its entity moving or
+   * being rescaled, e.g. it was rotated. Renderables which are not entity components must report
+   * every change to their bounds, or they may be culled by their old bounds.
+   *
+   * @param renderable registered renderable whose bounds changed
+   */
+  public void boundsChanged(Renderable renderable) {
+    RenderEntry entry = registered.get(renderable);
+    if (entry != null) {
+      culler.markDirty(entry);
+    }
+  }
+
+  /**
+   * Prepare for rendering a frame with the given camera. Refreshes the bounds of renderables which
+   * moved since the last frame, hands the ones on screen to their layers, and resets the per-frame
+   * counters. Should be called only from the main renderer, once per frame before any layers are
+   * rendered.
+   *
+   * @param camera camera the frame is rendered with
+   */
+  public void prepareFrame(Camera camera) {
+    staticGeometry.prepare();
+    submittedCount = 0;
+    culledCount = 0;
+    culler.refreshDirty();
+    for (int i = 0; i < renderables.size(); i++) {
+      renderables.getValueAt(i).clearVisible();
+    }
+    cullingActive = cullingEnabled;
+    if (!cullingActive) {
+      return;
+    }
+    culler.beginFrame(camera);
+    culler.markVisible();
+  }
+
+  /**
+   * Set the world area covered by the culling grid, usually the level's map bounds. Renderables
+   * outside this area are still culled correctly, but less efficiently.
+   *
+   * @param x x of the bottom left corner
+   * @param y y of the bottom left corner
+   * @param width width in world units
+   * @param height height in world units
+   */
+  public void setWorldBounds(float x, float y, float width, float height) {
+    culler.setWorldBounds(x, y, width, height);
+    for (RenderEntry entry : registered.values()) {
+      culler.refresh(entry);
+    }
+  }
+
+  /**
+   * Bake every registered tiled component whose entity does not move into static geometry. Should
+   * be called once a level's entities have been spawned. Components which later move or are
+   * removed go back to drawing themselves.
+   *
+   * @return number of components baked
+   */
+  public int bakeStaticGeometry() {
+    Array<TiledRenderComponent> components = new Array<>(false, 64, TiledRenderComponent.class);
+    for (int i = 0; i < renderables.size(); i++) {
+      Array<RenderEntry> entries = renderables.getValueAt(i).getEntries();
+      for (int j = 0; j < entries.size; j++) {
+        if (entries.items[j].renderable instanceof TiledRenderComponent tiled && tiled.isStatic()) {
+          components.add(tiled);
+        }
+      }
+    }
+    return staticGeometry.bake(components);
+  }
+
+  /**
+   * Enable or disable baking static geometry. Disabling it returns every baked component to being
+   * drawn directly, and enabling it bakes the registered components again.
+   *
+   * @param enabled true to draw static tiles from baked geometry
+   */
+  public void setStaticGeometryEnabled(boolean enabled) {
+    staticGeometry.setEnabled(enabled);
+    if (enabled) {
+      bakeStaticGeometry();
+    }
+  }
+
+  public boolean isStaticGeometryEnabled() {
+    return staticGeometry.isEnabled();
+  }
+
+  /** @return one line summary of the baked static geometry for the debug overlay */
+  public String getStaticGeometrySummary() {
+    return staticGeometry.getSummary();
+  }
+
+  /**
+   * Enable or disable camera culling. Takes effect from the next call to prepareFrame().
+   *
+   * @param cullingEnabled true to skip renderables outside the camera view
+   */
+  public void setCullingEnabled(boolean cullingEnabled) {
+    this.cullingEnabled = cullingEnabled;
+  }
+
+  public boolean isCullingEnabled() {
+    return cullingEnabled;
+  }
+
+  /** @return number of renderables rendered since the last prepareFrame() */
+  public int getSubmittedCount() {
+    return submittedCount;
+  }
+
+  /** @return number of renderables culled since the last prepareFrame() */
+  public int getCulledCount() {
+    return culledCount;
+  }
+
+  /**
+   * Report that a renderable's Z index has changed. Only needed for renderables which return true
+   * from {@link Renderable#isZIndexStatic()}, since other renderables are checked every frame.
+   *
+   * @param renderable registered renderable whose Z index changed
+   */
+  public void zIndexChanged(Renderable renderable) {
+    RenderEntry entry = registered.get(renderable);
+    if (entry != null) {
+      // Sorting compares the cached Z index, so static renderables must refresh it here
+      entry.zIndex = renderable.getZIndex();
+      entry.layer.markDirty();
+    }
+  }
+
+  /**
+   * Enable or disable incremental sorting. When disabled, every layer is fully sorted every frame.
+   *
+   * @param incrementalSorting true to only re-sort layers whose order may have changed
+   */
+  public void setIncrementalSorting(boolean incrementalSorting) {
+    this.incrementalSorting = incrementalSorting;
+    if (incrementalSorting) {
+      // Cached Z indices may be stale after full sorting, so start from a clean sort
+      for (RenderLayer layer : renderables) {
+        layer.markDirty();
+      }
     }
   }
 
+  public boolean isIncrementalSorting() {
+    return incrementalSorting;
+  }
+
+  /**
+   * Enable or disable texture sorting. When enabled, renderables in each layer are drawn grouped by
+   * {@link Renderable#getBatchTexture()}, keeping Z order only within each group.
+   *
+   * @param textureSorting true to group renderables in a layer by texture
+   */
+  public void setTextureSorting(boolean textureSorting) {
+    this.textureSorting = textureSorting;
+    for (RenderLayer layer : renderables) {
+      layer.setTextureSorted(textureSorting);
+    }
+  }
+
+  public boolean isTextureSorting() {
+    return textureSorting;
+  }
+
+  /**
+   * Set the stats to count each layer's batch flushes in. Set by the renderer.
+   *
+   * @param stats render stats, or null to not count layers
+   */
+  public void setStats(RenderStats stats) {
+    this.stats = stats;
+  }
+
+  /** @return stats of the frames drawn by the renderer, or null if there is no renderer */
+  public RenderStats getStats() {
+    return stats;
+  }
+
+  /**
+   * Get the number of times a layer has been sorted. Useful for checking that static layers are not
+   * being re-sorted.
+   *
+   * @param layerIndex render layer
+   * @return number of sorts of the layer, or 0 if the layer does not exist
+   */
+  public int getSortCount(int layerIndex) {
+    RenderLayer layer = renderables.get(layerIndex);
+    return layer == null ? 0 : layer.getSortCount();
+  }
+
   /**
    * Trigger rendering on the given batch. This should be called only from the main renderer.
    *
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
-      // Sort into rendering order
-      layer.sort();
+    for (int i = 0; i < renderables.size(); i++) {
+      renderLayer(batch, renderables.getKeyAt(i), renderables.getValueAt(i));
+    }
+  }
 
-      for (Renderable renderable : layer) {
-        renderable.render(batch);
-      }
+  private void renderLayer(SpriteBatch batch, int layerKey, RenderLayer layer) {
+    if (stats != null) {
+      stats.beginLayer(layerKey);
+    }
+    int culled = incrementalSorting
+        ? layer.render(batch, cullingActive)
+        : layer.renderFullSort(batch, cullingActive);
+    if (stats != null) {
+      stats.endLayer();
     }
+    culledCount += culled;
+    submittedCount += layer.getEntries().size - culled;
   }
 
   public void setStage(Stage stage) {
@@ -138,6 +393,16 @@ public class RenderService implements Disposable {
 
   @Override
   public void dispose() {
+    staticGeometry.dispose();
+    for (RenderEntry entry : registered.values()) {
+      if (entry.entity != null) {
+        entry.entity.removeMoveListener(entry);
+      }
+    }
+    registered.clear();
+    for (RenderLayer layer : renderables) {
+      layer.clear();
+    }
     renderables.clear();
   }
 }
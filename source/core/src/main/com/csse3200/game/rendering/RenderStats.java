@@ -0,0 +1,279 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Counts the GPU submissions made while rendering a frame: batch flushes (render calls), the sprites
+ * and vertices they drew, texture switches and why each flush happened. Counts are kept for the
+ * whole frame, for each {@link Pass} of the renderer and for each render layer, plus the number of
+ * full-screen VFX passes.
+ *
+ * <p>Flushes are recorded by a {@link StatsSpriteBatch}, and the renderer and render service mark
+ * which pass and layer is being drawn. A flush is counted against the layer being drawn when it
+ * happens, so sprites left in the batch at the end of one layer are counted in the next layer's
+ * first flush, as it is that layer which broke the batch.
+ *
+ * <p>Counts are double buffered: the getters return the last complete frame, so they can be read
+ * at any point, including from the UI while the current frame is still being drawn.
+ */
+public class RenderStats {
+  /** Groups of draws made by the renderer, in the order they are drawn */
+  public enum Pass {
+    WORLD,
+    OVERLAY,
+    UI
+  }
+
+  /** Why the batch was flushed */
+  public enum FlushCause {
+    /** A sprite with a different texture was drawn */
+    TEXTURE_SWITCH,
+    /** The batch ran out of room for sprites */
+    BUFFER_FULL,
+    /** The projection, transform, shader or blending changed */
+    STATE_CHANGE,
+    /** Something called flush() itself */
+    EXPLICIT,
+    /** The batch was ended */
+    END,
+    /** A chunk of baked static geometry was drawn, outside the batch */
+    STATIC_GEOMETRY
+  }
+
+  private static final Pass[] PASSES = Pass.values();
+  private static final FlushCause[] CAUSES = FlushCause.values();
+  private static final int VERTICES_PER_SPRITE = 4;
+
+  private Frame current = new Frame();
+  private Frame last = new Frame();
+  private Counters passCounters;
+  private Counters layerCounters;
+
+  /** Finish the current frame, making its counts readable, and start counting a new one. */
+  public void beginFrame() {
+    Frame finished = current;
+    current = last;
+    last = finished;
+    current.clear();
+    passCounters = null;
+    layerCounters = null;
+  }
+
+  /**
+   * Start counting flushes against a pass.
+   *
+   * @param pass pass being drawn
+   */
+  public void beginPass(Pass pass) {
+    passCounters = current.passes[pass.ordinal()];
+  }
+
+  public void endPass() {
+    passCounters = null;
+    layerCounters = null;
+  }
+
+  /**
+   * Start counting flushes against a render layer.
+   *
+   * @param layer render layer being drawn
+   */
+  public void beginLayer(int layer) {
+    layerCounters = current.layers.get(layer);
+    if (layerCounters == null) {
+      layerCounters = new Counters();
+      current.layers.put(layer, layerCounters);
+    }
+  }
+
+  public void endLayer() {
+    layerCounters = null;
+  }
+
+  /**
+   * Record a flush of the batch which drew sprites.
+   *
+   * @param cause why the batch was flushed
+   * @param sprites number of sprites drawn by the flush
+   */
+  public void recordFlush(FlushCause cause, int sprites) {
+    current.total.addFlush(cause, sprites);
+    if (passCounters != null) {
+      passCounters.addFlush(cause, sprites);
+    }
+    if (layerCounters != null) {
+      layerCounters.addFlush(cause, sprites);
+    }
+  }
+
+  /** Record that the batch switched to drawing a different texture. */
+  public void recordTextureSwitch() {
+    current.total.textureSwitches++;
+    if (passCounters != null) {
+      passCounters.textureSwitches++;
+    }
+    if (layerCounters != null) {
+      layerCounters.textureSwitches++;
+    }
+  }
+
+  /**
+   * Record full-screen VFX passes, which draw outside the batch.
+   *
+   * @param passes number of passes
+   */
+  public void recordVfxPasses(int passes) {
+    current.vfxPasses += passes;
+  }
+
+  /** @return counts for the whole of the last frame */
+  public Counters getFrame() {
+    return last.total;
+  }
+
+  /**
+   * @param pass renderer pass
+   * @return counts for the pass in the last frame
+   */
+  public Counters getPass(Pass pass) {
+    return last.passes[pass.ordinal()];
+  }
+
+  /**
+   * @param layer render layer
+   * @return counts for the layer in the last frame, or null if it has never been drawn
+   */
+  public Counters getLayer(int layer) {
+    return last.layers.get(layer);
+  }
+
+  /** @return full-screen VFX passes in the last frame */
+  public int getVfxPasses() {
+    return last.vfxPasses;
+  }
+
+  /** @return short summary of the last frame for the debug overlay */
+  public String getSummary() {
+    Counters frame = last.total;
+    return String.format(Locale.ROOT,
+        "Draw calls: %d (world %d, overlay %d, ui %d)%nTexture switches: %d vertices: %d vfx: %d%n",
+        frame.renderCalls,
+        getPass(Pass.WORLD).renderCalls,
+        getPass(Pass.OVERLAY).renderCalls,
+        getPass(Pass.UI).renderCalls,
+        frame.textureSwitches,
+        frame.getVertices(),
+        last.vfxPasses);
+  }
+
+  /** @return counts for the last frame, broken down by pass and layer */
+  public String buildReport() {
+    StringBuilder report = new StringBuilder();
+    appendCounters(report, "Frame", last.total);
+    report.append(String.format(Locale.ROOT, "  VFX passes: %d%n", last.vfxPasses));
+    for (Pass pass : PASSES) {
+      appendCounters(report, "Pass " + pass.name().toLowerCase(Locale.ROOT), getPass(pass));
+    }
+
+    IntArray layers = last.layers.keys().toArray();
+    layers.sort();
+    for (int i = 0; i < layers.size; i++) {
+      Counters counters = last.layers.get(layers.get(i));
+      if (counters.renderCalls > 0 || counters.textureSwitches > 0) {
+        appendCounters(report, "Layer " + layers.get(i), counters);
+      }
+    }
+    return report.toString();
+  }
+
+  private static void appendCounters(StringBuilder report, String name, Counters counters) {
+    report.append(String.format(Locale.ROOT,
+        "%s: %d calls, %d sprites, %d vertices, %d texture switches%n",
+        name, counters.renderCalls, counters.sprites, counters.getVertices(),
+        counters.textureSwitches));
+    if (counters.renderCalls == 0) {
+      return;
+    }
+    report.append("  flushes:");
+    for (FlushCause cause : CAUSES) {
+      report.append(' ').append(cause.name().toLowerCase(Locale.ROOT))
+          .append('=').append(counters.getFlushes(cause));
+    }
+    report.append('\n');
+  }
+
+  /** Flush counts for a frame, pass or layer */
+  public static class Counters {
+    private int renderCalls;
+    private int sprites;
+    private int textureSwitches;
+    private final int[] flushes = new int[CAUSES.length];
+
+    /** @return number of flushes which drew something, matching SpriteBatch.renderCalls */
+    public int getRenderCalls() {
+      return renderCalls;
+    }
+
+    public int getSprites() {
+      return sprites;
+    }
+
+    public int getVertices() {
+      return sprites * VERTICES_PER_SPRITE;
+    }
+
+    public int getTextureSwitches() {
+      return textureSwitches;
+    }
+
+    /**
+     * @param cause flush cause
+     * @return number of flushes with the cause
+     */
+    public int getFlushes(FlushCause cause) {
+      return flushes[cause.ordinal()];
+    }
+
+    private void addFlush(FlushCause cause, int flushSprites) {
+      renderCalls++;
+      sprites += flushSprites;
+      flushes[cause.ordinal()]++;
+    }
+
+    private void clear() {
+      renderCalls = 0;
+      sprites = 0;
+      textureSwitches = 0;
+      Arrays.fill(flushes, 0);
+    }
+  }
+
+  private static class Frame {
+    private final Counters total = new Counters();
+    private final Counters[] passes = new Counters[PASSES.length];
+    /** Layer counters are kept between frames and zeroed, so counting does not allocate */
+    private final IntMap<Counters> layers = new IntMap<>();
+    private int vfxPasses;
+
+    private Frame() {
+      for (int i = 0; i < passes.length; i++) {
+        passes[i] = new Counters();
+      }
+    }
+
+    private void clear() {
+      total.clear();
+      for (Counters pass : passes) {
+        pass.clear();
+      }
+      for (Counters layer : layers.values()) {
+        layer.clear();
+      }
+      vfxPasses = 0;
+    }
+  }
+}
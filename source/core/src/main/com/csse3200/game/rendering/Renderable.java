@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -18,6 +20,35 @@ public interface Renderable extends Comparable<Renderable> {
    */
   float getZIndex();
 
+  /**
+   * Whether the Z index is constant. Static renderables are not polled for Z index changes each
+   * frame, so they must call {@link RenderService#zIndexChanged(Renderable)} if it does change.
+   * @return true if the Z index never changes on its own
+   */
+  default boolean isZIndexStatic() {
+    return false;
+  }
+
+  /**
+   * Get the world-space area this renderable draws in, used to cull it when it is off screen.
+   * Renderables that draw independently of the world (e.g. UI) or cannot cheaply bound what they
+   * draw should return false, and are then always rendered.
+   * @param out rectangle to write the bounds into
+   * @return true if out was set to the bounds, false if this renderable has no bounds
+   */
+  default boolean getBounds(Rectangle out) {
+    return false;
+  }
+
+  /**
+   * Get the texture this renderable draws with, so renderables sharing a texture can be drawn
+   * together when {@link RenderService#setTextureSorting(boolean) texture sorting} is on.
+   * @return texture drawn with, or null if unknown or more than one texture is used
+   */
+  default Texture getBatchTexture() {
+    return null;
+  }
+
   /**
    * Layer to be rendered in. Higher layers will be rendered on top of lower layers.
    * @return layer
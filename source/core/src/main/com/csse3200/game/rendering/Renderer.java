@@ -10,12 +10,17 @@ import com.crashinvaders.vfx.VfxManager;
 import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.lighting.LightingEngine;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.FrameProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Core rendering system for the game. Controls the game's camera and runs rendering on all
  * renderables each frame.
+ *
+ * <p>Each frame's draw calls are counted in a {@link RenderStats}, by pass and by render layer.
+ * Flushes are only counted when the batch is a {@link StatsSpriteBatch}, which the default
+ * renderer uses. Lighting draws with its own meshes and is not counted.
  */
 public class Renderer implements Disposable {
   private static final float GAME_SCREEN_WIDTH = 20f;
@@ -28,13 +33,15 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private RenderStats stats;
 
   /**
    * Create a new renderer with default settings
    * @param camera camera to render to
    */
   public Renderer(CameraComponent camera) {
-    SpriteBatch spriteBatch = new SpriteBatch();
+    RenderStats renderStats = new RenderStats();
+    SpriteBatch spriteBatch = new StatsSpriteBatch(renderStats);
     DebugRenderer debugRendererInstance = new DebugRenderer();
     debugRendererInstance.setActive(false);
 
@@ -44,7 +51,8 @@ public class Renderer implements Disposable {
         spriteBatch,
         new Stage(new ScreenViewport(), spriteBatch),
         ServiceLocator.getRenderService(),
-        debugRendererInstance);
+        debugRendererInstance,
+        renderStats);
   }
 
   /**
@@ -65,7 +73,10 @@ public class Renderer implements Disposable {
       Stage stage,
       RenderService renderService,
       DebugRenderer debugRenderer) {
-    init(camera, gameWidth, batch, stage, renderService, debugRenderer);
+    RenderStats renderStats = batch instanceof StatsSpriteBatch statsBatch
+        ? statsBatch.getStats()
+        : new RenderStats();
+    init(camera, gameWidth, batch, stage, renderService, debugRenderer, renderStats);
   }
 
   private void init(
@@ -74,7 +85,8 @@ public class Renderer implements Disposable {
       SpriteBatch batch,
       Stage stage,
       RenderService renderService,
-      DebugRenderer debugRenderer) {
+      DebugRenderer debugRenderer,
+      RenderStats stats) {
 
     this.camera = camera;
     this.gameWidth = gameWidth;
@@ -82,10 +94,12 @@ public class Renderer implements Disposable {
     this.stage = stage;
     this.renderService = renderService;
     this.debugRenderer = debugRenderer;
+    this.stats = stats;
 
     renderService.setStage(stage);
     renderService.setDebug(debugRenderer);
     renderService.setRenderer(this);
+    renderService.setStats(stats);
     resizeCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
   }
 
@@ -93,7 +107,15 @@ public class Renderer implements Disposable {
     return camera;
   }
 
+  /** @return draw call counts of the last frame rendered */
+  public RenderStats getStats() {
+    return stats;
+  }
+
   private void renderBatch(int maxValue) {
+    stats.beginFrame();
+    stats.beginPass(RenderStats.Pass.WORLD);
+    renderService.prepareFrame(camera.getCamera());
     batch.setProjectionMatrix(camera.getProjectionMatrix());
     Gdx.gl.glClearColor(44f/255f, 44f/255f, 47f/255f, 1);
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -111,11 +133,16 @@ public class Renderer implements Disposable {
       renderService.renderLayerRange(batch, Integer.MIN_VALUE, maxValue);
     }
     batch.end();
+    stats.endPass();
 
     if (vfxManager != null) {
       vfxManager.endInputCapture();
       vfxManager.applyEffects();
       vfxManager.renderToScreen();
+      if (!vfxManager.isDisabled()) {
+        // The chain's length is not exposed, so all of its effects are counted as one pass
+        stats.recordVfxPasses(vfxManager.anyEnabledEffects() ? 2 : 1);
+      }
     }
   }
 
@@ -123,8 +150,7 @@ public class Renderer implements Disposable {
   public void render() {
     renderBatch(Integer.MAX_VALUE);
     debugRenderer.render(camera.getProjectionMatrix());
-    stage.act();
-    stage.draw();
+    drawStage();
   }
 
   /** Render everything to the render service (using the lighting engine render flow)
@@ -132,20 +158,38 @@ public class Renderer implements Disposable {
    * @param lightingEngine The lighting engine used for rendering
    * */
   public void render(LightingEngine lightingEngine) {
+    FrameProfiler.begin(FrameProfiler.Phase.RENDER_WORLD);
     renderBatch(AFTER_LIGHTS_LAYER - 1);
+    FrameProfiler.end(FrameProfiler.Phase.RENDER_WORLD);
 
     if (lightingEngine != null) {
+      FrameProfiler.begin(FrameProfiler.Phase.LIGHTING);
       lightingEngine.render();
+      FrameProfiler.end(FrameProfiler.Phase.LIGHTING);
     }
 
     // draw after lights layer
+    FrameProfiler.begin(FrameProfiler.Phase.RENDER_OVERLAY);
+    stats.beginPass(RenderStats.Pass.OVERLAY);
     batch.begin();
     renderService.renderLayerRange(batch, AFTER_LIGHTS_LAYER, Integer.MAX_VALUE);
     batch.end();
+    stats.endPass();
+    FrameProfiler.end(FrameProfiler.Phase.RENDER_OVERLAY);
 
+    FrameProfiler.begin(FrameProfiler.Phase.DEBUG);
     debugRenderer.render(camera.getProjectionMatrix());
+    FrameProfiler.end(FrameProfiler.Phase.DEBUG);
+    FrameProfiler.begin(FrameProfiler.Phase.UI);
+    drawStage();
+    FrameProfiler.end(FrameProfiler.Phase.UI);
+  }
+
+  private void drawStage() {
+    stats.beginPass(RenderStats.Pass.UI);
     stage.act();
     stage.draw();
+    stats.endPass();
   }
 
   /**
@@ -0,0 +1,415 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.rendering.RenderStats.FlushCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tiles of level geometry which never moves, baked into {@link SpriteCache} meshes. Baked
+ * {@link TiledRenderComponent}s are taken out of the render service and their tiles are grouped
+ * into chunks, one per render layer and {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} region of the
+ * level. Each chunk is registered as a single renderable, so it is culled like any other and drawn
+ * with one cache draw.
+ *
+ * <p>Chunks are drawn before everything else in their layer, so level geometry stays behind the
+ * entities moving over it. Once a frame the baked components are checked, and any whose entity has
+ * moved or been resized go back to drawing themselves. Components which are disposed or
+ * deactivated leave the cache the same way. The chunks are rebuilt before the next frame is drawn.
+ *
+ * <p>If sprite caches cannot be created, nothing is baked and every component draws itself.
+ */
+class StaticGeometryCache implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(StaticGeometryCache.class);
+  /** Width and height of the region covered by a chunk, in world units. */
+  static final float CHUNK_SIZE = 16f;
+  /** Most sprites a sprite cache can hold when drawing with indices. */
+  static final int MAX_SPRITES = 8191;
+
+  private final RenderService renderService;
+  private final Array<Member> members = new Array<>(false, 64, Member.class);
+  private final Array<Chunk> chunks = new Array<>(false, 16, Chunk.class);
+  private final Array<SpriteCache> caches = new Array<>(false, 2, SpriteCache.class);
+  private final Rectangle bounds = new Rectangle();
+  private boolean enabled = true;
+  private boolean dirty = false;
+  private int rebuildCount = 0;
+  private int spriteCount = 0;
+
+  private int countedSprites = 0;
+  private final TiledRenderComponent.TileDrawer counter =
+      (region, x, y, width, height) -> countedSprites++;
+
+  /** A baked component, and the position and scale its tiles were baked with. */
+  static final class Member {
+    private final StaticGeometryCache owner;
+    private final TiledRenderComponent component;
+    private int index;
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+    private int sprites;
+
+    private Member(StaticGeometryCache owner, TiledRenderComponent component) {
+      this.owner = owner;
+      this.component = component;
+      Entity entity = component.getEntity();
+      x = entity.getX();
+      y = entity.getY();
+      width = entity.getScaleX();
+      height = entity.getScaleY();
+    }
+
+    /** Take the component out of the cache without drawing it again. */
+    void remove() {
+      owner.remove(this, false);
+    }
+
+    private boolean moved() {
+      Entity entity = component.getEntity();
+      return entity.getX() != x || entity.getY() != y
+          || entity.getScaleX() != width || entity.getScaleY() != height;
+    }
+  }
+
+  /** Baked tiles of one render layer in one region of the level. */
+  static final class Chunk implements Renderable {
+    private final StaticGeometryCache owner;
+    private final int layer;
+    private final Array<Member> members = new Array<>(false, 16, Member.class);
+    private final Rectangle bounds = new Rectangle();
+    private boolean hasBounds = false;
+    private int sprites = 0;
+    private SpriteCache cache;
+    private int cacheId;
+
+    private Chunk(StaticGeometryCache owner, int layer) {
+      this.owner = owner;
+      this.layer = layer;
+    }
+
+    private void add(Member member, Rectangle memberBounds) {
+      members.add(member);
+      sprites += member.sprites;
+      if (!hasBounds) {
+        bounds.set(memberBounds);
+        hasBounds = true;
+      } else {
+        bounds.merge(memberBounds);
+      }
+    }
+
+    private void bake(SpriteCache spriteCache) {
+      cache = spriteCache;
+      spriteCache.beginCache();
+      TiledRenderComponent.TileDrawer drawer = spriteCache::add;
+      for (int i = 0; i < members.size; i++) {
+        members.items[i].component.drawTiles(drawer);
+      }
+      cacheId = spriteCache.endCache();
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      boolean drawing = batch.isDrawing();
+      if (drawing) {
+        batch.end();
+      }
+      // The cache draws with its own shader and mesh, but blends like the batch would
+      if (batch.isBlendingEnabled()) {
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFuncSeparate(batch.getBlendSrcFunc(), batch.getBlendDstFunc(),
+            batch.getBlendSrcFuncAlpha(), batch.getBlendDstFuncAlpha());
+      } else {
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+      }
+      cache.setProjectionMatrix(batch.getProjectionMatrix());
+      cache.setTransformMatrix(batch.getTransformMatrix());
+      cache.begin();
+      cache.draw(cacheId);
+      cache.end();
+      if (drawing) {
+        batch.begin();
+      }
+
+      RenderStats stats = owner.renderService.getStats();
+      if (stats != null) {
+        stats.recordFlush(FlushCause.STATIC_GEOMETRY, sprites);
+      }
+    }
+
+    /** Chunks are drawn before anything else in their layer. */
+    @Override
+    public float getZIndex() {
+      return Float.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isZIndexStatic() {
+      return true;
+    }
+
+    @Override
+    public boolean getBounds(Rectangle out) {
+      out.set(bounds);
+      return true;
+    }
+
+    @Override
+    public Texture getBatchTexture() {
+      return null;
+    }
+
+    @Override
+    public int getLayer() {
+      return layer;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+
+    int getSpriteCount() {
+      return sprites;
+    }
+  }
+
+  StaticGeometryCache(RenderService renderService) {
+    this.renderService = renderService;
+  }
+
+  /**
+   * Bake components into the cache, taking them out of the render service. Components already
+   * baked are skipped.
+   *
+   * @param components components whose entities do not move
+   * @return number of components baked
+   */
+  int bake(Array<TiledRenderComponent> components) {
+    if (!enabled || Gdx.gl == null) {
+      return 0;
+    }
+    Array<Member> added = new Array<>(false, components.size, Member.class);
+    for (int i = 0; i < components.size; i++) {
+      TiledRenderComponent component = components.get(i);
+      if (component.baked != null) {
+        continue;
+      }
+      Member member = new Member(this, component);
+      member.index = members.size;
+      members.add(member);
+      component.baked = member;
+      renderService.unregister(component);
+      added.add(member);
+    }
+    if (added.isEmpty()) {
+      return 0;
+    }
+    rebuild();
+
+    // Some may have been too large to bake, or baking may have failed
+    int baked = 0;
+    for (int i = 0; i < added.size; i++) {
+      Member member = added.get(i);
+      if (member.component.baked == member) {
+        baked++;
+      }
+    }
+    return baked;
+  }
+
+  /**
+   * Let components whose entities have moved draw themselves again, and rebuild the chunks if any
+   * component has left the cache. Called by the render service once per frame.
+   */
+  void prepare() {
+    // Removing swaps the last member into the removed slot, so go backwards
+    for (int i = members.size - 1; i >= 0; i--) {
+      Member member = members.items[i];
+      if (member.moved()) {
+        remove(member, true);
+      }
+    }
+    if (dirty) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Turn baking on or off. Turning it off returns every baked component to the render service.
+   *
+   * @param enabled true to bake static geometry
+   */
+  void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      release();
+      while (members.size > 0) {
+        remove(members.peek(), true);
+      }
+      dirty = false;
+    }
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /** @return number of baked components */
+  int getMemberCount() {
+    return members.size;
+  }
+
+  /** @return chunks currently registered with the render service */
+  Array<Chunk> getChunks() {
+    return chunks;
+  }
+
+  /** @return number of times the chunks have been built */
+  int getRebuildCount() {
+    return rebuildCount;
+  }
+
+  /** @return one line summary for the debug overlay */
+  String getSummary() {
+    return String.format("Static geometry: %d baked, %d sprites in %d chunks%n",
+        members.size, spriteCount, chunks.size);
+  }
+
+  private void remove(Member member, boolean drawDirectly) {
+    if (member.component.baked != member) {
+      return;
+    }
+    Member last = members.pop();
+    if (last != member) {
+      members.set(member.index, last);
+      last.index = member.index;
+    }
+    member.component.baked = null;
+    dirty = true;
+    if (drawDirectly) {
+      renderService.register(member.component);
+    }
+  }
+
+  /** Rebuild every chunk from the baked components. */
+  private void rebuild() {
+    release();
+    dirty = false;
+    if (members.size == 0) {
+      return;
+    }
+    rebuildCount++;
+
+    LongMap<Chunk> regions = new LongMap<>();
+    Array<Chunk> built = new Array<>(false, 16, Chunk.class);
+    for (int i = 0; i < members.size; i++) {
+      Member member = members.items[i];
+      countedSprites = 0;
+      member.component.drawTiles(counter);
+      member.sprites = countedSprites;
+      member.component.getBounds(bounds);
+
+      int layer = member.component.getLayer();
+      int cellX = MathUtils.floor((bounds.x + bounds.width / 2) / CHUNK_SIZE);
+      int cellY = MathUtils.floor((bounds.y + bounds.height / 2) / CHUNK_SIZE);
+      long key = ((long) layer << 32) | ((cellX & 0xFFFFL) << 16) | (cellY & 0xFFFFL);
+      Chunk chunk = regions.get(key);
+      if (chunk == null) {
+        chunk = new Chunk(this, layer);
+        regions.put(key, chunk);
+        built.add(chunk);
+      }
+      chunk.add(member, bounds);
+    }
+
+    for (int i = built.size - 1; i >= 0; i--) {
+      Chunk chunk = built.get(i);
+      if (chunk.sprites > MAX_SPRITES) {
+        // Too many tiles for one cache draw, so these draw themselves
+        for (int j = 0; j < chunk.members.size; j++) {
+          remove(chunk.members.get(j), true);
+        }
+        built.removeIndex(i);
+      } else if (chunk.sprites == 0) {
+        built.removeIndex(i);
+      }
+    }
+
+    try {
+      // Fill each sprite cache with as many chunks as fit
+      int start = 0;
+      while (start < built.size) {
+        int end = start;
+        int sprites = 0;
+        while (end < built.size && sprites + built.get(end).sprites <= MAX_SPRITES) {
+          sprites += built.get(end).sprites;
+          end++;
+        }
+        SpriteCache cache = createCache(sprites);
+        caches.add(cache);
+        for (int i = start; i < end; i++) {
+          built.get(i).bake(cache);
+        }
+        start = end;
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Static geometry could not be baked, drawing tiles directly", e);
+      setEnabled(false);
+      return;
+    }
+
+    spriteCount = 0;
+    for (int i = 0; i < built.size; i++) {
+      Chunk chunk = built.get(i);
+      chunks.add(chunk);
+      spriteCount += chunk.sprites;
+      renderService.register(chunk);
+    }
+    // Removing the members of oversized chunks marked the cache dirty, but they are already left out
+    dirty = false;
+  }
+
+  /**
+   * @param sprites number of sprites the cache must hold
+   * @return new sprite cache
+   */
+  SpriteCache createCache(int sprites) {
+    return new SpriteCache(sprites, true);
+  }
+
+  /** Unregister the chunks and free their sprite caches. */
+  private void release() {
+    for (int i = 0; i < chunks.size; i++) {
+      renderService.unregister(chunks.get(i));
+    }
+    chunks.clear();
+    for (int i = 0; i < caches.size; i++) {
+      caches.get(i).dispose();
+    }
+    caches.clear();
+    spriteCount = 0;
+  }
+
+  @Override
+  public void dispose() {
+    release();
+    for (int i = 0; i < members.size; i++) {
+      members.items[i].component.baked = null;
+    }
+    members.clear();
+    dirty = false;
+  }
+}
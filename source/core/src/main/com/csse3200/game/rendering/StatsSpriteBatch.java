@@ -0,0 +1,127 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.csse3200.game.rendering.RenderStats.FlushCause;
+
+/**
+ * Sprite batch which records every flush in a {@link RenderStats}, with the number of sprites it
+ * drew and why it happened. The batch's own {@link #renderCalls} and {@link #maxSpritesInBatch}
+ * behave as they do in a plain SpriteBatch.
+ */
+public class StatsSpriteBatch extends SpriteBatch {
+  private static final int DEFAULT_SIZE = 1000;
+
+  private final RenderStats stats;
+  private final int size;
+  /** Cause of the flush about to happen, set around the SpriteBatch methods which flush. */
+  private FlushCause pendingCause = null;
+
+  /**
+   * @param stats stats to record flushes in
+   */
+  public StatsSpriteBatch(RenderStats stats) {
+    this(DEFAULT_SIZE, stats);
+  }
+
+  /**
+   * @param size max number of sprites in a single batch
+   * @param stats stats to record flushes in
+   */
+  public StatsSpriteBatch(int size, RenderStats stats) {
+    super(size);
+    this.size = size;
+    this.stats = stats;
+  }
+
+  public RenderStats getStats() {
+    return stats;
+  }
+
+  @Override
+  public void flush() {
+    int calls = renderCalls;
+    int maxSprites = maxSpritesInBatch;
+    // SpriteBatch only raises the max, so starting from 0 gives the sprites in this flush
+    maxSpritesInBatch = 0;
+    super.flush();
+    int sprites = maxSpritesInBatch;
+    maxSpritesInBatch = Math.max(maxSprites, sprites);
+
+    if (renderCalls != calls) {
+      FlushCause cause = pendingCause;
+      if (cause == null) {
+        cause = sprites == size ? FlushCause.BUFFER_FULL : FlushCause.EXPLICIT;
+      }
+      stats.recordFlush(cause, sprites);
+    }
+    pendingCause = null;
+  }
+
+  @Override
+  protected void switchTexture(Texture texture) {
+    stats.recordTextureSwitch();
+    pendingCause = FlushCause.TEXTURE_SWITCH;
+    super.switchTexture(texture);
+    pendingCause = null;
+  }
+
+  @Override
+  public void end() {
+    pendingCause = FlushCause.END;
+    super.end();
+    pendingCause = null;
+  }
+
+  @Override
+  public void setProjectionMatrix(Matrix4 projection) {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.setProjectionMatrix(projection);
+    pendingCause = null;
+  }
+
+  @Override
+  public void setTransformMatrix(Matrix4 transform) {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.setTransformMatrix(transform);
+    pendingCause = null;
+  }
+
+  @Override
+  public void setShader(ShaderProgram shader) {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.setShader(shader);
+    pendingCause = null;
+  }
+
+  @Override
+  public void setBlendFunctionSeparate(
+      int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.setBlendFunctionSeparate(srcFuncColor, dstFuncColor, srcFuncAlpha, dstFuncAlpha);
+    pendingCause = null;
+  }
+
+  @Override
+  public void setBlendFunction(int srcFunc, int dstFunc) {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.setBlendFunction(srcFunc, dstFunc);
+    pendingCause = null;
+  }
+
+  @Override
+  public void enableBlending() {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.enableBlending();
+    pendingCause = null;
+  }
+
+  @Override
+  public void disableBlending() {
+    pendingCause = FlushCause.STATE_CHANGE;
+    super.disableBlending();
+    pendingCause = null;
+  }
+}
@@ -2,34 +2,62 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 
-/** Render a static texture. */
+/**
+ * Render a static texture. If the texture was packed into a loaded atlas, it is drawn from the
+ * atlas page instead, so consecutive sprites share a texture and the batch does not flush. Packed
+ * textures given by path are drawn without loading their loose file at all.
+ */
 public class TextureRenderComponent extends RenderComponent {
   private Texture texture;
+  private TextureRegion packedRegion;
+  /** Path of the packed texture being drawn, whose loose file is loaded only if asked for */
+  private String packedPath;
   private float rotation = 0f;
   private Vector2 origin;
+  private final Vector2 originDraw = new Vector2();
 
   /**
    * @param texturePath Internal path of static texture to render.
    *                    Will be scaled to the entity's scale.
    */
   public TextureRenderComponent(String texturePath) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    setTexture(texturePath);
   }
 
   public void setTexture(String texture) {
-    this.texture = ServiceLocator.getResourceService().getAsset(texture, Texture.class);
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    this.packedRegion = resourceService.findPackedRegion(texture);
+    if (packedRegion != null) {
+      this.texture = null;
+      this.packedPath = texture;
+    } else {
+      this.texture = resourceService.getAsset(texture, Texture.class);
+      this.packedPath = null;
+    }
   }
 
   /**
-   * Returns the texture image path
+   * Returns the texture. A packed texture drawn from its atlas is queued to load loose when this is
+   * first called, and null is returned until it has loaded.
    *
-   * @return the image path
+   * @return the texture, or null if it is packed and not loaded loose yet
    */
   public Texture getTexture() {
-      return texture;
+    if (texture == null && packedPath != null) {
+      texture = ServiceLocator.getResourceService().getAsset(packedPath, Texture.class);
+    }
+    return texture;
+  }
+
+  @Override
+  public Texture getBatchTexture() {
+    return packedRegion != null ? packedRegion.getTexture() : texture;
   }
 
   /**
@@ -38,7 +66,10 @@ public class TextureRenderComponent extends RenderComponent {
    * @param rotation What to rotate by (0-360 degrees)
    */
   public void setRotation(float rotation) {
-    this.rotation = rotation;
+    if (this.rotation != rotation) {
+      this.rotation = rotation;
+      boundsChanged();
+    }
   }
 
   /**
@@ -51,39 +82,75 @@ public class TextureRenderComponent extends RenderComponent {
   public void setOrigin(float x, float y) {
     if (origin == null) origin = new Vector2(x, y);
     else origin.set(x, y);
+    boundsChanged();
   }
 
   /** @param texture Static texture to render. Will be scaled to the entity's scale. */
   public TextureRenderComponent(Texture texture) {
     this.texture = texture;
+    this.packedRegion = findPackedRegion(texture);
+  }
+
+  private static TextureRegion findPackedRegion(Texture texture) {
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (texture == null || resourceService == null) {
+      return null;
+    }
+    return resourceService.findPackedRegion(texture);
+  }
+
+  /** Rotated textures are bounded by the box around the rotated quad. */
+  @Override
+  public boolean getBounds(Rectangle out) {
+    if (rotation == 0f) {
+      return super.getBounds(out);
+    }
+    float width = entity.getScaleX();
+    float height = entity.getScaleY();
+    float originX = origin == null ? width / 2f : origin.x;
+    float originY = origin == null ? height / 2f : origin.y;
+    setRotatedBounds(out, originX, originY, width, height, 1f, rotation);
+    return true;
   }
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    if (packedRegion != null) {
+      entity.setScale(1f, (float) packedRegion.getRegionHeight() / packedRegion.getRegionWidth());
+    } else {
+      entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    }
   }
 
   @Override
   protected void draw(SpriteBatch batch) {
     if (!enabled) return;
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
+    float x = entity.getX();
+    float y = entity.getY();
+    float width = entity.getScaleX();
+    float height = entity.getScaleY();
 
-    Vector2 originDraw = new Vector2();
     if (origin == null) {
-      originDraw.set(scale.x / 2f, scale.y / 2f);
+      originDraw.set(width / 2f, height / 2f);
     } else {
       originDraw.set(origin);
     }
 
-    if (rotation == 0f) {
-      batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    if (packedRegion != null) {
+      batch.draw(packedRegion,
+              x, y,
+              originDraw.x, originDraw.y,
+              width, height,
+              1f, 1f,
+              rotation);
+    } else if (rotation == 0f) {
+      batch.draw(texture, x, y, width, height);
     } else {
 
       batch.draw(texture,
-              position.x, position.y,
+              x, y,
               originDraw.x, originDraw.y,
-              scale.x, scale.y,
+              width, height,
               1f, 1f,
               rotation,
               0, 0,
@@ -1,6 +1,5 @@
 package com.csse3200.game.rendering;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
@@ -9,7 +8,7 @@ import com.badlogic.gdx.math.Vector2;
  * A render component for dynamically tiling a floor texture with corners, edges, and middle tiles.
  * It handles corner tiles, edge tiles, and repeating middle tiles
  */
-public class TiledFloorComponent extends RenderComponent {
+public class TiledFloorComponent extends TiledRenderComponent {
     private final TextureRegion topLeftCorner;
     private final TextureRegion topRightCorner;
     private final TextureRegion bottomLeftCorner;
@@ -60,7 +59,7 @@ public class TiledFloorComponent extends RenderComponent {
     }
 
     @Override
-    protected void draw(SpriteBatch batch) {
+    protected void drawTiles(TileDrawer out) {
         final Vector2 position = entity.getPosition();
         final Vector2 scale = entity.getScale();
 
@@ -78,7 +77,7 @@ public class TiledFloorComponent extends RenderComponent {
 
         // Handle single tile case
         if (tilesX == 1 && tilesY == 1) {
-            batch.draw(middleTile, position.x, position.y, scale.x, scale.y);
+            out.draw(middleTile, position.x, position.y, scale.x, scale.y);
             return;
         }
 
@@ -89,7 +88,7 @@ public class TiledFloorComponent extends RenderComponent {
                 float drawY = position.y + y * actualTileHeight;
 
                 TextureRegion tileToDraw = getTileForPosition(x, y, tilesX, tilesY);
-                batch.draw(tileToDraw, drawX, drawY, actualTileWidth, actualTileHeight);
+                out.draw(tileToDraw, drawX, drawY, actualTileWidth, actualTileHeight);
             }
         }
     }
@@ -1,6 +1,5 @@
 package com.csse3200.game.rendering;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
@@ -9,7 +8,7 @@ import com.badlogic.gdx.math.Vector2;
  * A render component for ground floors that extend to the bottom of the screen.
  * Similar to TiledFloorComponent but without bottom edges.
  */
-public class TiledGroundFloorComponent extends RenderComponent {
+public class TiledGroundFloorComponent extends TiledRenderComponent {
     private final TextureRegion topLeftCorner;
     private final TextureRegion topRightCorner;
     private final TextureRegion topEdge;
@@ -34,7 +33,7 @@ public class TiledGroundFloorComponent extends RenderComponent {
     }
 
     @Override
-    protected void draw(SpriteBatch batch) {
+    protected void drawTiles(TileDrawer out) {
         final Vector2 position = entity.getPosition();
         final Vector2 scale = entity.getScale();
 
@@ -49,7 +48,7 @@ public class TiledGroundFloorComponent extends RenderComponent {
 
         // Handle single tile case
         if (tilesX == 1 && tilesY == 1) {
-            batch.draw(middleTile, position.x, position.y, scale.x, scale.y);
+            out.draw(middleTile, position.x, position.y, scale.x, scale.y);
             return;
         }
 
@@ -60,7 +59,7 @@ public class TiledGroundFloorComponent extends RenderComponent {
                 float drawY = position.y + y * actualTileHeight;
 
                 TextureRegion tileToDraw = getTileForPosition(x, y, tilesX, tilesY);
-                batch.draw(tileToDraw, drawX, drawY, actualTileWidth, actualTileHeight);
+                out.draw(tileToDraw, drawX, drawY, actualTileWidth, actualTileHeight);
             }
         }
     }
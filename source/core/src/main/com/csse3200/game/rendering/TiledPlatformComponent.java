@@ -1,6 +1,5 @@
 package com.csse3200.game.rendering;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
@@ -9,7 +8,7 @@ import com.badlogic.gdx.math.Vector2;
  * A render component for dynamically tiling a platform texture based on the entity's size.
  * It handles edge tiles, repeating middle tiles, and stretching for a perfect fit.
  */
-public class TiledPlatformComponent extends RenderComponent {
+public class TiledPlatformComponent extends TiledRenderComponent {
   private final TextureRegion leftEdge;
   private final TextureRegion middleTile;
   private final TextureRegion rightEdge;
@@ -43,7 +42,7 @@ public class TiledPlatformComponent extends RenderComponent {
   }
 
   @Override
-  protected void draw(SpriteBatch batch) {
+  protected void drawTiles(TileDrawer out) {
     Vector2 position = entity.getPosition();
     Vector2 scale = entity.getScale();
     float tileHeightWorld = scale.y;
@@ -54,8 +53,8 @@ public class TiledPlatformComponent extends RenderComponent {
 
     // Platform is narrower than two tiles.
     if (totalTilesToDraw < 2) {
-      batch.draw(leftEdgeHalf, position.x, position.y, scale.x / 2f, tileHeightWorld);
-      batch.draw(rightEdgeHalf, position.x + scale.x / 2f, position.y, scale.x / 2f, tileHeightWorld);
+      out.draw(leftEdgeHalf, position.x, position.y, scale.x / 2f, tileHeightWorld);
+      out.draw(rightEdgeHalf, position.x + scale.x / 2f, position.y, scale.x / 2f, tileHeightWorld);
       return;
     }
 
@@ -64,12 +63,12 @@ public class TiledPlatformComponent extends RenderComponent {
     int numMiddleTiles = totalTilesToDraw - 2;
 
     float currentX = position.x;
-    batch.draw(leftEdge, currentX, position.y, stretchedTileWidth, tileHeightWorld);
+    out.draw(leftEdge, currentX, position.y, stretchedTileWidth, tileHeightWorld);
     currentX += stretchedTileWidth;
     for (int i = 0; i < numMiddleTiles; i++) {
-      batch.draw(middleTile, currentX, position.y, stretchedTileWidth, tileHeightWorld);
+      out.draw(middleTile, currentX, position.y, stretchedTileWidth, tileHeightWorld);
       currentX += stretchedTileWidth;
     }
-    batch.draw(rightEdge, currentX, position.y, stretchedTileWidth, tileHeightWorld);
+    out.draw(rightEdge, currentX, position.y, stretchedTileWidth, tileHeightWorld);
   }
 }
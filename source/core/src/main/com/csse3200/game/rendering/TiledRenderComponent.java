@@ -0,0 +1,85 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.csse3200.game.physics.components.PhysicsComponent;
+
+/**
+ * A render component which draws its entity as a set of texture region tiles, such as platforms,
+ * walls and floors. The tiles only depend on the entity's position and scale, so when the entity
+ * does not move they can be baked into {@link StaticGeometryCache static geometry} and drawn with
+ * the rest of the level instead of tile by tile each frame.
+ */
+public abstract class TiledRenderComponent extends RenderComponent {
+  /** Receives each tile a component draws. */
+  @FunctionalInterface
+  public interface TileDrawer {
+    /**
+     * @param region tile texture
+     * @param x x of the bottom left corner in world units
+     * @param y y of the bottom left corner in world units
+     * @param width width in world units
+     * @param height height in world units
+     */
+    void draw(TextureRegion region, float x, float y, float width, float height);
+  }
+
+  /** Static geometry this component is baked into, or null if it is drawn directly. */
+  StaticGeometryCache.Member baked;
+  private SpriteBatch batch;
+  private final TileDrawer batchDrawer =
+      (region, x, y, width, height) -> batch.draw(region, x, y, width, height);
+
+  @Override
+  protected void draw(SpriteBatch batch) {
+    this.batch = batch;
+    drawTiles(batchDrawer);
+    this.batch = null;
+  }
+
+  /**
+   * Draw each tile for the entity's current position and scale.
+   *
+   * @param out drawer the tiles are given to
+   */
+  protected abstract void drawTiles(TileDrawer out);
+
+  /**
+   * Whether the entity is expected to stay still. Entities without physics, or with a static body,
+   * are; kinematic and dynamic bodies can move at any time.
+   *
+   * @return true if the tiles can be baked into static geometry
+   */
+  public boolean isStatic() {
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    return physics == null
+        || physics.getBody() == null
+        || physics.getBody().getType() == BodyType.StaticBody;
+  }
+
+  /**
+   * @return true if the tiles are drawn from static geometry rather than by this component
+   */
+  public boolean isBaked() {
+    return baked != null;
+  }
+
+  @Override
+  public void dispose() {
+    if (baked != null) {
+      baked.remove();
+    } else {
+      super.dispose();
+    }
+  }
+
+  @Override
+  public void deactivate() {
+    if (baked != null) {
+      baked.remove();
+    } else {
+      super.deactivate();
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package com.csse3200.game.rendering;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
@@ -8,7 +7,7 @@ import com.badlogic.gdx.math.Vector2;
 /**
  * A render component for dynamically tiling a wall texture vertically.
  */
-public class TiledWallComponent extends RenderComponent {
+public class TiledWallComponent extends TiledRenderComponent {
   private final TextureRegion topTile;
   private final TextureRegion middleTile;
   private final float tileAspectRatio;
@@ -29,7 +28,7 @@ public class TiledWallComponent extends RenderComponent {
   }
 
   @Override
-  protected void draw(SpriteBatch batch) {
+  protected void drawTiles(TileDrawer out) {
     Vector2 position = entity.getPosition();
     Vector2 scale = entity.getScale();
     float topTileWorldHeight = scale.x / topTileAspectRatio;
@@ -42,10 +41,10 @@ public class TiledWallComponent extends RenderComponent {
     float stretchedTileHeight = scale.y / totalTilesToDraw;
     for (int i = 0; i < totalTilesToDraw; i++) {
       float currentY = position.y + i * stretchedTileHeight;
-      batch.draw(middleTile, position.x, currentY, scale.x, stretchedTileHeight);
+      out.draw(middleTile, position.x, currentY, scale.x, stretchedTileHeight);
     }
 
     float topY = position.y + totalTilesToDraw * stretchedTileHeight;
-    batch.draw(topTile, position.x, topY, scale.x, topTileWorldHeight);
+    out.draw(topTile, position.x, topY, scale.x, topTileWorldHeight);
   }
 }
@@ -3,6 +3,7 @@ package com.csse3200.game.rendering.parallax;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.csse3200.game.rendering.RenderComponent;
 
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ public class ParallaxBackgroundComponent extends RenderComponent {
     private final Camera camera;
     private final float mapWidth;
     private final float mapHeight;
+    private final ParallaxCache cache = new ParallaxCache();
 
     /**
      * Creates a new parallax background component.
@@ -45,7 +47,7 @@ public class ParallaxBackgroundComponent extends RenderComponent {
      * @param factor The parallax factor (0.0 = static, 1.0 = moves with camera)
      */
     public void addLayer(Texture texture, float factor) {
-        layers.add(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight));
+        addLayer(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight));
     }
 
     /**
@@ -58,7 +60,7 @@ public class ParallaxBackgroundComponent extends RenderComponent {
      * @param offsetY Vertical offset in world units
      */
     public void addLayer(Texture texture, float factor, float offsetX, float offsetY) {
-        layers.add(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight, offsetX, offsetY));
+        addLayer(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight, offsetX, offsetY));
     }
 
     /**
@@ -73,7 +75,7 @@ public class ParallaxBackgroundComponent extends RenderComponent {
      * @param scaleY Vertical scale factor (1.0 = original size)
      */
     public void addLayer(Texture texture, float factor, float offsetX, float offsetY, float scaleX, float scaleY) {
-        layers.add(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
+        addLayer(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
             false, false, 0, 0, offsetX, offsetY, scaleX, scaleY));
     }
 
@@ -106,7 +108,7 @@ public class ParallaxBackgroundComponent extends RenderComponent {
      */
     public void addTiledLayer(Texture texture, float factor, boolean tileHorizontally, boolean tileVertically,
                               float tileWidth, float tileHeight, float offsetX, float offsetY) {
-        layers.add(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
+        addLayer(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
             tileHorizontally, tileVertically, tileWidth, tileHeight, offsetX, offsetY));
     }
 
@@ -127,21 +129,53 @@ public class ParallaxBackgroundComponent extends RenderComponent {
      */
     public void addTiledLayer(Texture texture, float factor, boolean tileHorizontally, boolean tileVertically,
                               float tileWidth, float tileHeight, float offsetX, float offsetY, float scaleX, float scaleY) {
-        layers.add(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
+        addLayer(new ParallaxLayer(texture, camera, factor, mapWidth, mapHeight,
             tileHorizontally, tileVertically, tileWidth, tileHeight, offsetX, offsetY, scaleX, scaleY));
     }
 
+    /**
+     * Adds a layer in front of the existing layers.
+     *
+     * @param layer The layer to add
+     */
+    private void addLayer(ParallaxLayer layer) {
+        layers.add(layer);
+        cache.addLayer(layer);
+    }
+
     /**
      * Renders all parallax layers in order from back to front.
+     * Neighbouring layers which scroll together are drawn from one cached image.
      * Called automatically by the rendering system.
      *
      * @param batch The sprite batch to use for rendering
      */
     @Override
     public void draw(SpriteBatch batch) {
-        for (ParallaxLayer layer : layers) {
-            layer.render(batch);
-        }
+        cache.draw(batch, camera);
+    }
+
+    /**
+     * Turns caching of layers which scroll together on or off.
+     * While off, every layer is drawn every frame.
+     *
+     * @param enabled Whether to cache layers
+     */
+    public void setCacheEnabled(boolean enabled) {
+        cache.setEnabled(enabled);
+    }
+
+    /**
+     * @return Number of times a cached image of layers has been redrawn
+     */
+    public int getCacheRedrawCount() {
+        return cache.getRedrawCount();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        cache.dispose();
     }
 
     /**
@@ -154,4 +188,15 @@ public class ParallaxBackgroundComponent extends RenderComponent {
     public int getLayer() {
         return Integer.MIN_VALUE;
     }
+
+    /**
+     * Parallax layers always cover the screen, so they are never culled.
+     *
+     * @param out unused
+     * @return false
+     */
+    @Override
+    public boolean getBounds(Rectangle out) {
+        return false;
+    }
 }
\ No newline at end of file
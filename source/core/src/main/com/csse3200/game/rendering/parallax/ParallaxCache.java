@@ -0,0 +1,311 @@
+package com.csse3200.game.rendering.parallax;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws parallax layers with as few full screen quads as possible.
+ *
+ * <p>Neighbouring layers which scroll at the same rate always move together, so they are composited
+ * into one framebuffer and drawn as a single quad. Tiled layers are cached the same way, so their
+ * tiles are drawn once rather than every frame. The framebuffer covers the screen plus a margin,
+ * and while the camera moves the cached image is shifted along with the layers. It is only redrawn
+ * once the layers have scrolled further than the margin, or the screen size changes.
+ *
+ * <p>A single stretched layer is already one quad, so it is drawn directly. If framebuffers are
+ * not available, every layer is drawn directly.
+ */
+class ParallaxCache implements Disposable {
+    private static final Logger logger = LoggerFactory.getLogger(ParallaxCache.class);
+    /** Default pixels the cached image can be shifted before it is redrawn */
+    static final int DEFAULT_MARGIN = 32;
+
+    private final List<Group> groups = new ArrayList<>();
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final IntBuffer intBuffer = BufferUtils.newIntBuffer(16);
+    private int margin = DEFAULT_MARGIN;
+    private boolean enabled = true;
+    private int redrawCount = 0;
+
+    /** Neighbouring layers which scroll at the same rate. */
+    static class Group {
+        private final List<ParallaxLayer> layers = new ArrayList<>();
+        private final float scrollRate;
+        private FrameBuffer frameBuffer;
+        private boolean valid = false;
+        /** Camera position and view size the cache was drawn with */
+        private float cameraX;
+        private float cameraY;
+        private float viewWidth;
+        private float viewHeight;
+
+        private Group(float scrollRate) {
+            this.scrollRate = scrollRate;
+        }
+
+        /**
+         * @return Whether the group is drawn through a framebuffer
+         */
+        boolean isCached() {
+            return layers.size() > 1 || layers.get(0).isTiled();
+        }
+
+        int getLayerCount() {
+            return layers.size();
+        }
+
+        private void dispose() {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+                frameBuffer = null;
+            }
+            valid = false;
+        }
+    }
+
+    /**
+     * Add a layer in front of the layers already added.
+     *
+     * @param layer Layer to add
+     */
+    void addLayer(ParallaxLayer layer) {
+        Group last = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+        if (last == null || last.scrollRate != layer.getScrollRate()) {
+            last = new Group(layer.getScrollRate());
+            groups.add(last);
+        }
+        last.layers.add(layer);
+        last.valid = false;
+    }
+
+    /**
+     * @return Layer groups, from back to front
+     */
+    List<Group> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Set how many pixels the cached image can be shifted before it is redrawn. Larger margins
+     * redraw less often but use larger framebuffers.
+     *
+     * @param pixels Margin around the screen, in pixels
+     */
+    void setMargin(int pixels) {
+        margin = Math.max(0, pixels);
+        invalidate();
+    }
+
+    /**
+     * @param enabled False to draw every layer directly each frame
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            dispose();
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Times a cached group was redrawn
+     */
+    int getRedrawCount() {
+        return redrawCount;
+    }
+
+    /**
+     * Draw every layer, from back to front. Must be called between batch begin and end.
+     *
+     * @param batch Batch drawing the world
+     * @param camera Camera the world is drawn with
+     */
+    void draw(SpriteBatch batch, Camera camera) {
+        for (Group group : groups) {
+            if (enabled && group.isCached() && prepare(group, batch, camera)) {
+                drawCached(group, batch, camera);
+            } else {
+                for (ParallaxLayer layer : group.layers) {
+                    layer.render(batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether the cached image can be shifted to where the layers are now, and if not, redraw
+     * it.
+     *
+     * @param shiftX Pixels the layers moved across the screen since the image was drawn
+     * @param shiftY Pixels the layers moved up the screen since the image was drawn
+     * @return Whether the cached image must be redrawn
+     */
+    boolean needsRedraw(Group group, float viewWidth, float viewHeight, float shiftX, float shiftY) {
+        return !group.valid
+            || group.viewWidth != viewWidth || group.viewHeight != viewHeight
+            || Math.abs(shiftX) > margin || Math.abs(shiftY) > margin;
+    }
+
+    /**
+     * Make sure the group's cached image can be drawn this frame.
+     *
+     * @return False if the group must be drawn directly
+     */
+    private boolean prepare(Group group, SpriteBatch batch, Camera camera) {
+        if (Gdx.graphics == null || Gdx.gl == null) {
+            return false;
+        }
+        int width = Gdx.graphics.getBackBufferWidth() + margin * 2;
+        int height = Gdx.graphics.getBackBufferHeight() + margin * 2;
+        if (width <= margin * 2 || height <= margin * 2) {
+            return false;
+        }
+
+        if (group.frameBuffer == null
+            || group.frameBuffer.getWidth() != width || group.frameBuffer.getHeight() != height) {
+            group.dispose();
+            try {
+                group.frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            } catch (RuntimeException e) {
+                logger.warn("Parallax framebuffers are unavailable, drawing layers directly", e);
+                setEnabled(false);
+                return false;
+            }
+            group.frameBuffer.getColorBufferTexture()
+                .setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        }
+
+        float viewWidth = getViewWidth(camera);
+        float viewHeight = getViewHeight(camera);
+        float pixelsPerUnitX = Gdx.graphics.getBackBufferWidth() / viewWidth;
+        float pixelsPerUnitY = Gdx.graphics.getBackBufferHeight() / viewHeight;
+        float shiftX = (camera.position.x - group.cameraX) * group.scrollRate * pixelsPerUnitX;
+        float shiftY = (camera.position.y - group.cameraY) * group.scrollRate * pixelsPerUnitY;
+        if (needsRedraw(group, viewWidth, viewHeight, shiftX, shiftY)) {
+            redraw(group, batch, camera, viewWidth, viewHeight);
+        }
+        return true;
+    }
+
+    /** Draw the group's layers into its framebuffer, as seen from the camera's current position. */
+    private void redraw(Group group, SpriteBatch batch, Camera camera, float viewWidth, float viewHeight) {
+        redrawCount++;
+        FrameBuffer frameBuffer = group.frameBuffer;
+        float marginWidth = margin * viewWidth / Gdx.graphics.getBackBufferWidth();
+        float marginHeight = margin * viewHeight / Gdx.graphics.getBackBufferHeight();
+
+        batch.flush();
+        savedProjection.set(batch.getProjectionMatrix());
+        int blendSrc = batch.getBlendSrcFunc();
+        int blendDst = batch.getBlendDstFunc();
+        int blendSrcAlpha = batch.getBlendSrcFuncAlpha();
+        int blendDstAlpha = batch.getBlendDstFuncAlpha();
+
+        // The world may already be drawn into another framebuffer (e.g. for screen effects), so
+        // return to whichever one was bound rather than the screen
+        intBuffer.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, intBuffer);
+        int previousFrameBuffer = intBuffer.get(0);
+        intBuffer.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, intBuffer);
+        int viewportX = intBuffer.get(0);
+        int viewportY = intBuffer.get(1);
+        int viewportWidth = intBuffer.get(2);
+        int viewportHeight = intBuffer.get(3);
+
+        frameBuffer.bind();
+        Gdx.gl.glViewport(0, 0, frameBuffer.getWidth(), frameBuffer.getHeight());
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        projection.setToOrtho2D(
+            camera.position.x - viewWidth / 2 - marginWidth,
+            camera.position.y - viewHeight / 2 - marginHeight,
+            viewWidth + marginWidth * 2,
+            viewHeight + marginHeight * 2);
+        batch.setProjectionMatrix(projection);
+        // Keep the alpha of layers drawn over each other, so the image blends like the layers would
+        batch.setBlendFunctionSeparate(
+            GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (ParallaxLayer layer : group.layers) {
+            layer.render(batch);
+        }
+        batch.flush();
+
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, previousFrameBuffer);
+        Gdx.gl.glViewport(viewportX, viewportY, viewportWidth, viewportHeight);
+        batch.setBlendFunctionSeparate(blendSrc, blendDst, blendSrcAlpha, blendDstAlpha);
+        batch.setProjectionMatrix(savedProjection);
+
+        group.cameraX = camera.position.x;
+        group.cameraY = camera.position.y;
+        group.viewWidth = viewWidth;
+        group.viewHeight = viewHeight;
+        group.valid = true;
+    }
+
+    /** Draw the group's cached image where its layers would be drawn now. */
+    private void drawCached(Group group, SpriteBatch batch, Camera camera) {
+        FrameBuffer frameBuffer = group.frameBuffer;
+        float marginWidth = margin * group.viewWidth / Gdx.graphics.getBackBufferWidth();
+        float marginHeight = margin * group.viewHeight / Gdx.graphics.getBackBufferHeight();
+        // The screen moved by the camera's movement, and the layers by the scroll rate of it
+        float moveX = (camera.position.x - group.cameraX) * (1f - group.scrollRate);
+        float moveY = (camera.position.y - group.cameraY) * (1f - group.scrollRate);
+        float x = group.cameraX - group.viewWidth / 2 - marginWidth + moveX;
+        float y = group.cameraY - group.viewHeight / 2 - marginHeight + moveY;
+
+        int blendSrc = batch.getBlendSrcFunc();
+        int blendDst = batch.getBlendDstFunc();
+        int blendSrcAlpha = batch.getBlendSrcFuncAlpha();
+        int blendDstAlpha = batch.getBlendDstFuncAlpha();
+        // The cached image has its alpha already applied
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.draw(frameBuffer.getColorBufferTexture(), x, y,
+            group.viewWidth + marginWidth * 2, group.viewHeight + marginHeight * 2,
+            0, 0, frameBuffer.getWidth(), frameBuffer.getHeight(), false, true);
+        batch.setBlendFunctionSeparate(blendSrc, blendDst, blendSrcAlpha, blendDstAlpha);
+    }
+
+    /** Redraw every cached group on the next frame. */
+    void invalidate() {
+        for (Group group : groups) {
+            group.valid = false;
+        }
+    }
+
+    private static float getViewWidth(Camera camera) {
+        float zoom = camera instanceof OrthographicCamera orthographic ? orthographic.zoom : 1f;
+        return camera.viewportWidth * zoom;
+    }
+
+    private static float getViewHeight(Camera camera) {
+        float zoom = camera instanceof OrthographicCamera orthographic ? orthographic.zoom : 1f;
+        return camera.viewportHeight * zoom;
+    }
+
+    @Override
+    public void dispose() {
+        for (Group group : groups) {
+            group.dispose();
+        }
+    }
+}
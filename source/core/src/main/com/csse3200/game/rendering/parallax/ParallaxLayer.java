@@ -114,6 +114,31 @@ public class ParallaxLayer {
         this.scaleY = scaleY > 0 ? scaleY : 1.0f;
     }
 
+    /**
+     * @return The parallax factor (0.0 = static, 1.0 = moves with camera)
+     */
+    public float getFactor() {
+        return factor;
+    }
+
+    /**
+     * @return Whether the texture is repeated rather than stretched
+     */
+    public boolean isTiled() {
+        return tileHorizontally || tileVertically;
+    }
+
+    /**
+     * Gets how far this layer moves across the screen for each world unit the camera moves.
+     * Stretched layers are placed relative to the camera and tiled layers relative to the world,
+     * so the same factor scrolls them at different rates. Layers with the same rate move together.
+     *
+     * @return Screen scroll per world unit of camera movement
+     */
+    public float getScrollRate() {
+        return isTiled() ? 1f + factor : factor;
+    }
+
     /**
      * Renders this parallax layer to the screen.
      * Calculates the appropriate position based on camera movement and parallax factor,
@@ -6,9 +6,11 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.crashinvaders.vfx.VfxManager;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.navigation.NavigationService;
 import com.csse3200.game.areas.*;
 import com.csse3200.game.areas.terrain.GridFactory;
 import com.csse3200.game.components.LeaderboardComponent;
@@ -43,6 +45,7 @@ import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.*;
 import com.csse3200.game.ui.cutscene.CutsceneArea;
 import com.csse3200.game.ui.terminal.TerminalService;
+import com.csse3200.game.utils.FrameProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.csse3200.game.achievements.AchievementService;
@@ -155,6 +158,9 @@ public class MainGameScreen extends ScreenAdapter {
     // Registering a new security camera service
     ServiceLocator.registerSecurityCamRetrievalService(new SecurityCamRetrievalService());
 
+    // Registering shared pathfinding for enemies chasing the player
+    ServiceLocator.registerNavigationService(new NavigationService(physicsEngine.getWorld()));
+
     loadAssets();
 
     gameTime = new GameTime();
@@ -165,6 +171,7 @@ public class MainGameScreen extends ScreenAdapter {
     gameAreaEnum = area;
     gameArea = getGameArea(area /* Areas.LEVEL_THREE */);
     gameArea.create();
+    prefetchNextLevel();
 
     // As some levels progress to the next level via doors and some via cutscenes ending, add both
     gameArea.getEvents().addListener("doorEntered", this::handleLeaderboardEntry);
@@ -322,6 +329,39 @@ public class MainGameScreen extends ScreenAdapter {
     };
   }
 
+  /**
+   * Get the asset manifest of a level area.
+   * @param area - Areas area.
+   * @return path to the level's assets.json, or null if the area is not a level.
+   */
+  public static String getAssetsPath(Areas area) {
+    return switch (area) {
+      case TUTORIAL -> TutorialGameArea.ASSETS_PATH;
+      case LEVEL_ONE -> LevelOneGameArea.ASSETS_PATH;
+      case LEVEL_TWO -> LevelTwoGameArea.ASSETS_PATH;
+      case LEVEL_THREE -> LevelThreeGameArea.ASSETS_PATH;
+      case BOSS_LEVEL -> BossLevelGameArea.ASSETS_PATH;
+      default -> null;
+    };
+  }
+
+  /**
+   * Start loading the assets of the next level in the background, skipping over any cutscenes
+   * before it, so they are resident by the time the player reaches it.
+   */
+  private void prefetchNextLevel() {
+    Areas next = gameAreaEnum;
+    String assetsPath = null;
+    while (assetsPath == null && next != Areas.END_GAME) {
+      next = getNextArea(next);
+      assetsPath = getAssetsPath(next);
+    }
+    if (assetsPath != null) {
+      logger.debug("Prefetching assets of {}", next);
+      BaseLevelGameArea.prefetchAssets(assetsPath);
+    }
+  }
+
   private void switchArea(Areas area, Entity player) {
     Runnable runnable = () -> switchAreaRunnable(area, player);
     if (gameArea instanceof CutsceneArea) {
@@ -343,6 +383,13 @@ public class MainGameScreen extends ScreenAdapter {
     public void switchAreaRunnable(Areas area, Entity player) {
         if (area == null) return;
 
+        // Retain the new level's assets before releasing the old level's, so only assets which
+        // differ between the two are loaded and unloaded. Usually the prefetch already holds them.
+        String assetsPath = getAssetsPath(area);
+        if (assetsPath != null) {
+            BaseLevelGameArea.prefetchAssets(assetsPath);
+        }
+
         // Dispose old area
         GameArea oldArea = gameArea;
         if (oldArea != null) {
@@ -376,6 +423,13 @@ public class MainGameScreen extends ScreenAdapter {
           gameArea.getEvents().addListener("cutsceneFinished",
               (Entity play) -> switchArea(getNextArea(gameAreaEnum), play));
           gameArea.getEvents().addListener("reset", this::onGameAreaReset);
+
+          // A new level has retained its own assets now, so the prefetch's can be released.
+          // Cutscenes keep the prefetch, which is already for the level after them.
+          if (assetsPath != null) {
+            ServiceLocator.getResourceService().releasePrefetchedAssets();
+          }
+          prefetchNextLevel();
         }
 
         Entity currentPlayer = gameArea.getPlayer();
@@ -427,12 +481,21 @@ public class MainGameScreen extends ScreenAdapter {
 
     @Override
     public void render(float delta) {
+        FrameProfiler.beginFrame();
         if (!paused) {
             // Update camera position to follow player
             updateCameraFollow();
 
+            FrameProfiler.begin(FrameProfiler.Phase.PHYSICS);
             physicsEngine.update();
+            FrameProfiler.end(FrameProfiler.Phase.PHYSICS);
+            FrameProfiler.begin(FrameProfiler.Phase.ENTITIES);
+            ServiceLocator.getNavigationService().update(gameArea.getPlayer());
+            Vector3 cameraPosition = renderer.getCamera().getCamera().position;
+            ServiceLocator.getEntityService().getUpdateScheduler()
+                .setFocus(cameraPosition.x, cameraPosition.y);
             ServiceLocator.getEntityService().update();
+            FrameProfiler.end(FrameProfiler.Phase.ENTITIES);
 
             Entity player = gameArea.getPlayer();
             if (player != null) {
@@ -463,6 +526,9 @@ public class MainGameScreen extends ScreenAdapter {
             }
         }
         renderer.render(lightingEngine);  // new render flow used to render lights in the game screen only.
+        // Load the next level's assets in whatever time the budget allows after drawing
+        ServiceLocator.getResourceService().updatePrefetch();
+        FrameProfiler.endFrame();
     }
 
   /**
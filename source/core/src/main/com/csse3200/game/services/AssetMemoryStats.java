@@ -0,0 +1,18 @@
+package com.csse3200.game.services;
+
+/**
+ * Number of resident assets of one type and an estimate of the memory they use.
+ *
+ * @param count number of loaded assets
+ * @param bytes estimated bytes used by the loaded assets
+ * @see ResourceService#getMemoryStats()
+ */
+public record AssetMemoryStats(int count, long bytes) {
+  /**
+   * @param other stats to add to these
+   * @return combined stats
+   */
+  public AssetMemoryStats add(AssetMemoryStats other) {
+    return new AssetMemoryStats(count + other.count, bytes + other.bytes);
+  }
+}
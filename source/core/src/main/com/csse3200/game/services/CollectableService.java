@@ -14,14 +14,20 @@ import java.util.stream.Collectors;
  */
 public final class CollectableService {
     private static Map<String, CollectablesConfig> byId;
+    private static CollectablesConfig[] loadedItems;
 
     private CollectableService() {}
 
-    /** Load configs from a JSON array file */
+    /**
+     * Load configs from a JSON array file. The file is only parsed again if it has changed, so
+     * this is cheap to call every time a game area is created.
+     */
     public static void load(String path) {
         CollectablesConfig[] items =
-                FileLoader.readClass(CollectablesConfig[].class, path);
+                FileLoader.readCachedClass(CollectablesConfig[].class, path);
+        if (items == loadedItems) return;
         byId = Arrays.stream(items).collect(Collectors.toMap(c -> c.id, Function.identity()));
+        loadedItems = items;
     }
 
     /** Get config by id (null if not found). */
@@ -0,0 +1,46 @@
+package com.csse3200.game.services;
+
+/**
+ * Game time which advances by a fixed step each tick instead of following the real clock. Used to
+ * run levels without a display, where ticks run as fast as possible but should behave as though
+ * each one took the same amount of time.
+ */
+public class FixedStepGameTime extends GameTime {
+  private final float step;
+  private long ticks = 0;
+
+  /**
+   * @param step simulated seconds per tick
+   */
+  public FixedStepGameTime(float step) {
+    if (step <= 0f) {
+      throw new IllegalArgumentException("Step must be positive");
+    }
+    this.step = step;
+  }
+
+  /** Advance time by one step. */
+  public void tick() {
+    ticks++;
+  }
+
+  public long getTicks() {
+    return ticks;
+  }
+
+  public float getStep() {
+    return step;
+  }
+
+  /** @return the fixed step, not affected by time scale. */
+  @Override
+  public float getRawDeltaTime() {
+    return step;
+  }
+
+  /** @return simulated time since the first tick in milliseconds */
+  @Override
+  public long getTime() {
+    return Math.round(ticks * (double) step * 1000.0);
+  }
+}
@@ -10,6 +10,7 @@ public class GameTime {
   private static Logger logger = LoggerFactory.getLogger(GameTime.class);
   private final long startTime;
   private float timeScale = 1f;
+  private float deltaOverride = -1f;
 
   public GameTime() {
     startTime = TimeUtils.millis();
@@ -26,9 +27,35 @@ public class GameTime {
     this.timeScale = timeScale;
   }
 
-  /** @return time passed since the last frame in seconds, scaled by time scale. */
+  public float getTimeScale() {
+    return timeScale;
+  }
+
+  /**
+   * @return time passed since the last frame in seconds, scaled by time scale. While a delta
+   *     override is set, that is returned instead.
+   */
   public float getDeltaTime() {
-    return Gdx.graphics.getDeltaTime() * timeScale;
+    if (deltaOverride >= 0f) {
+      return deltaOverride;
+    }
+    return getRawDeltaTime() * timeScale;
+  }
+
+  /**
+   * Report a different delta time until the override is cleared. Used by the
+   * {@link com.csse3200.game.entities.UpdateScheduler} to hand components which skipped frames the
+   * time which passed since their last update.
+   *
+   * @param delta scaled delta time in seconds
+   */
+  public void setDeltaOverride(float delta) {
+    deltaOverride = Math.max(0f, delta);
+  }
+
+  /** Go back to reporting the frame's delta time. */
+  public void clearDeltaOverride() {
+    deltaOverride = -1f;
   }
 
   /** @return time passed since the last frame in seconds, not affected by time scale. */
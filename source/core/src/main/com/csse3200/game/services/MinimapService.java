@@ -92,7 +92,7 @@ public class MinimapService implements Disposable {
    */
   public void trackEntity(Entity entity, Image marker) {
     trackedEntities.computeIfAbsent(entity, e -> {
-      minimapDisplay.addMarker(marker);
+      minimapDisplay.addMarker(entity, marker);
       return marker;
     });
   }
@@ -120,7 +120,7 @@ public class MinimapService implements Disposable {
     if (oldMarker != null) {
       minimapDisplay.removeMarker(oldMarker);
     }
-    minimapDisplay.addMarker(marker);
+    minimapDisplay.addMarker(entity, marker);
   }
 
   /**
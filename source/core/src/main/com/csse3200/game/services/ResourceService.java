@@ -3,12 +3,24 @@ package com.csse3200.game.services;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
@@ -16,7 +28,16 @@ import org.slf4j.LoggerFactory;
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  /** Milliseconds per frame spent loading prefetched assets by default */
+  public static final int DEFAULT_PREFETCH_BUDGET_MILLIS = 4;
   private final AssetManager assetManager;
+  private final Map<String, Class<?>> prefetchedAssets = new LinkedHashMap<>();
+  private final Map<String, Integer> retainedAssets = new HashMap<>();
+  private final Map<String, TextureRegion> packedRegions = new HashMap<>();
+  private final Array<TextureAtlas> loadedAtlases = new Array<>();
+  /** Packed textures queued loose by {@link #getAsset(String, Class)}, unloaded with their atlas */
+  private final Set<String> demandLoadedTextures = new HashSet<>();
+  private int prefetchBudgetMillis = DEFAULT_PREFETCH_BUDGET_MILLIS;
 
   public ResourceService() {
     this(new AssetManager());
@@ -32,17 +53,54 @@ public class ResourceService implements Disposable {
   }
 
   /**
-   * Load an asset from a file.
+   * Load an asset from a file. Textures packed into a loaded atlas are not loaded loose by the
+   * levels which use them. Asking for one as a {@link Texture} returns null and queues it to load
+   * with the next prefetch update, rather than stalling the frame; once loaded it stays until the
+   * atlas is unloaded. Use {@link #getRegion(String)} to draw packed textures.
    * @param filename Asset path
    * @param type     Class to load into
    * @param <T>      Type of class to load into
-   * @return Instance of class loaded from path
+   * @return Instance of class loaded from path, or null for a packed texture not yet loaded loose
    * @see AssetManager#get(String, Class)
    */
   public <T> T getAsset(String filename, Class<T> type) {
+    if (type == Texture.class && !assetManager.isLoaded(filename, type)
+        && findPackedRegion(filename) != null) {
+      queuePackedTexture(filename);
+      return null;
+    }
     return assetManager.get(filename, type);
   }
 
+  private void queuePackedTexture(String texturePath) {
+    if (demandLoadedTextures.add(texturePath)) {
+      logger.warn("Texture {} is only loaded in an atlas, queued it to load loose; use getRegion",
+          texturePath);
+      assetManager.load(texturePath, Texture.class);
+    }
+  }
+
+  /**
+   * Read the names of the regions in an atlas file without loading its pages. Packed atlases name
+   * their regions by the asset path of each texture, so these are the textures it holds.
+   *
+   * @param atlasPath asset path of the atlas
+   * @return region names, or an empty set if the atlas cannot be read
+   */
+  public Set<String> readRegionNames(String atlasPath) {
+    Set<String> names = new HashSet<>();
+    try {
+      FileHandle file = assetManager.getFileHandleResolver().resolve(atlasPath);
+      TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+      for (TextureAtlasData.Region region : data.getRegions()) {
+        names.add(region.name);
+      }
+    } catch (Exception e) {
+      logger.error("Could not read atlas {}", atlasPath);
+    }
+    return names;
+  }
+
   /**
    * Check if an asset has been loaded already
    * @param resourceName path of the asset
@@ -55,6 +113,59 @@ public class ResourceService implements Disposable {
     return assetManager.contains(resourceName, type);
   }
 
+  /**
+   * Find the region a texture was packed into, so it can be drawn from a shared atlas page
+   * instead of binding its own texture. Packed atlases name their regions by the asset path of
+   * the texture, e.g. images/box_blue.png; see the packLevelAtlases Gradle task.
+   *
+   * @param texturePath asset path of the texture
+   * @return region of a loaded atlas holding the texture, or null if it has not been packed
+   */
+  public TextureRegion findPackedRegion(String texturePath) {
+    // Lookups are cached until assets are queued or unloaded, which clear the cache
+    if (packedRegions.containsKey(texturePath)) {
+      return packedRegions.get(texturePath);
+    }
+    TextureRegion region = null;
+    assetManager.getAll(TextureAtlas.class, loadedAtlases);
+    for (TextureAtlas atlas : loadedAtlases) {
+      region = atlas.findRegion(texturePath);
+      if (region != null) {
+        break;
+      }
+    }
+    loadedAtlases.clear();
+    // A miss may be found once the queued assets finish loading, so only cache it when idle
+    if (region != null || assetManager.isFinished()) {
+      packedRegions.put(texturePath, region);
+    }
+    return region;
+  }
+
+  /**
+   * Get a loaded texture as a region, drawn from its packed atlas when there is one.
+   *
+   * @param texturePath asset path of the texture
+   * @return packed region of the texture, or a region covering the whole loose texture
+   * @see #findPackedRegion(String)
+   */
+  public TextureRegion getRegion(String texturePath) {
+    TextureRegion region = findPackedRegion(texturePath);
+    return region != null ? region : new TextureRegion(getAsset(texturePath, Texture.class));
+  }
+
+  /**
+   * Find the region a loaded texture was packed into.
+   *
+   * @param texture texture loaded by this service
+   * @return region of a loaded atlas holding the texture, or null if it has not been packed
+   * @see #findPackedRegion(String)
+   */
+  public TextureRegion findPackedRegion(Texture texture) {
+    String texturePath = assetManager.getAssetFileName(texture);
+    return texturePath == null ? null : findPackedRegion(texturePath);
+  }
+
   /**
    * Returns the loading completion progress as a percentage.
    *
@@ -102,6 +213,10 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    packedRegions.clear();
+    demandLoadedTextures.clear();
+    prefetchedAssets.clear();
+    retainedAssets.clear();
     assetManager.clear();
   }
 
@@ -114,6 +229,7 @@ public class ResourceService implements Disposable {
    */
   public <T> void loadAsset(String assetName, Class<T> type) {
     logger.debug("Loading {}: {}", type.getSimpleName(), assetName);
+    packedRegions.clear();
     try {
       assetManager.load(assetName, type);
     } catch (Exception e) {
@@ -171,7 +287,11 @@ public class ResourceService implements Disposable {
   }
 
   public void unloadAssets(String[] assetNames) {
+    packedRegions.clear();
     for (String assetName : assetNames) {
+      if (!demandLoadedTextures.isEmpty() && assetManager.isLoaded(assetName, TextureAtlas.class)) {
+        unloadDemandLoadedTextures(assetManager.get(assetName, TextureAtlas.class));
+      }
       logger.debug("Unloading {}", assetName);
       try {
         assetManager.unload(assetName);
@@ -181,8 +301,211 @@ public class ResourceService implements Disposable {
     }
   }
 
+  /** Unload the textures loaded on demand which were packed into an atlas being unloaded. */
+  private void unloadDemandLoadedTextures(TextureAtlas atlas) {
+    Iterator<String> textures = demandLoadedTextures.iterator();
+    while (textures.hasNext()) {
+      String texturePath = textures.next();
+      if (atlas.findRegion(texturePath) != null) {
+        logger.debug("Unloading packed texture {}", texturePath);
+        assetManager.unload(texturePath);
+        textures.remove();
+      }
+    }
+  }
+
+  /**
+   * Takes a counted reference to each asset, loading only those which are not already retained.
+   * Unlike {@link #loadAsset(String, Class)}, retaining an asset any number of times holds a single
+   * reference in the asset manager, so owners which share assets, like consecutive levels, can
+   * retain the next set before releasing the last and only the difference is loaded and unloaded.
+   * Call {@link #loadAll()} or {@link #loadForMillis(int)} to finish loading.
+   *
+   * @param assetNames list of asset names
+   * @param type       asset type
+   * @param <T>        type
+   * @return number of assets which were queued to be loaded
+   */
+  public <T> int retainAssets(String[] assetNames, Class<T> type) {
+    int loaded = 0;
+    for (String assetName : assetNames) {
+      int references = retainedAssets.getOrDefault(assetName, 0);
+      if (references == 0) {
+        loadAsset(assetName, type);
+        loaded++;
+      }
+      retainedAssets.put(assetName, references + 1);
+    }
+    logger.debug("Retained {} {} assets, {} were not resident",
+        assetNames.length, type.getSimpleName(), loaded);
+    return loaded;
+  }
+
+  /**
+   * Drops a reference taken by {@link #retainAssets(String[], Class)} to each asset, unloading
+   * those which are no longer retained by anything.
+   *
+   * @param assetNames list of asset names
+   * @return number of assets which were unloaded
+   */
+  public int releaseAssets(String[] assetNames) {
+    int unloaded = 0;
+    for (String assetName : assetNames) {
+      Integer references = retainedAssets.get(assetName);
+      if (references == null) {
+        logger.warn("Released {} which was not retained", assetName);
+      } else if (references > 1) {
+        retainedAssets.put(assetName, references - 1);
+      } else {
+        retainedAssets.remove(assetName);
+        unloadAssets(new String[] {assetName});
+        unloaded++;
+      }
+    }
+    logger.debug("Released {} assets, {} were unloaded", assetNames.length, unloaded);
+    return unloaded;
+  }
+
+  /**
+   * @param assetName asset name
+   * @return number of references held on the asset through {@link #retainAssets(String[], Class)}
+   */
+  public int getReferenceCount(String assetName) {
+    return retainedAssets.getOrDefault(assetName, 0);
+  }
+
+  /**
+   * Estimates the memory used by every loaded asset, grouped by asset type. Texture sizes are
+   * computed from their dimensions and pixel format, including the pages of texture atlases, which
+   * the asset manager loads as textures, so atlases themselves are counted with no bytes. Sounds
+   * and music are estimated by their file size.
+   *
+   * @return resident asset count and estimated bytes for each loaded asset type
+   */
+  public Map<Class<?>, AssetMemoryStats> getMemoryStats() {
+    Map<Class<?>, AssetMemoryStats> stats = new LinkedHashMap<>();
+    for (String assetName : assetManager.getAssetNames()) {
+      Class<?> type = assetManager.getAssetType(assetName);
+      if (type == null) {
+        continue;
+      }
+      long bytes = estimateBytes(assetName, type);
+      stats.merge(type, new AssetMemoryStats(1, bytes), AssetMemoryStats::add);
+    }
+    return stats;
+  }
+
+  private long estimateBytes(String assetName, Class<?> type) {
+    if (type == Texture.class) {
+      Texture texture = assetManager.get(assetName, Texture.class);
+      Pixmap.Format format = texture.getTextureData().getFormat();
+      return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(format);
+    }
+    if (type == Sound.class || type == Music.class) {
+      try {
+        return assetManager.getFileHandleResolver().resolve(assetName).length();
+      } catch (Exception e) {
+        return 0L;
+      }
+    }
+    return 0L;
+  }
+
+  private static int bytesPerPixel(Pixmap.Format format) {
+    if (format == null) {
+      return 4;
+    }
+    return switch (format) {
+      case Alpha, Intensity -> 1;
+      case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+      case RGB888 -> 3;
+      default -> 4;
+    };
+  }
+
+  /**
+   * Queues assets to be loaded in the background ahead of when they are needed, e.g. the next
+   * level's assets while the current level is played. The prefetch retains each asset itself, so
+   * it stays resident if an area using it is released before the area which needs it is created.
+   * Loading progresses by {@link #updatePrefetch()}.
+   *
+   * @param assetNames list of asset names
+   * @param type       asset type
+   * @param <T>        type
+   */
+  public <T> void prefetchAssets(String[] assetNames, Class<T> type) {
+    for (String assetName : assetNames) {
+      if (!prefetchedAssets.containsKey(assetName)) {
+        logger.debug("Prefetching {}: {}", type.getSimpleName(), assetName);
+        retainAssets(new String[] {assetName}, type);
+        prefetchedAssets.put(assetName, type);
+      }
+    }
+  }
+
+  /**
+   * Spend up to the prefetch budget loading queued assets. Call once per frame; does nothing if
+   * no assets have been prefetched or queued by {@link #getAsset(String, Class)}.
+   *
+   * @return true if all prefetched assets have finished loading
+   */
+  public boolean updatePrefetch() {
+    if ((prefetchedAssets.isEmpty() && demandLoadedTextures.isEmpty())
+        || assetManager.isFinished()) {
+      return true;
+    }
+    try {
+      return assetManager.update(prefetchBudgetMillis);
+    } catch (Exception e) {
+      logger.error(e.getMessage());
+    }
+    return assetManager.isFinished();
+  }
+
+  /**
+   * @return true if every prefetched asset is loaded or has failed to load
+   */
+  public boolean isPrefetchComplete() {
+    return prefetchedAssets.isEmpty() || assetManager.isFinished();
+  }
+
+  /**
+   * Releases the prefetch's reference to each prefetched asset, once the area which needed them
+   * has retained its own. Assets which nothing else retains are unloaded, and any still queued are
+   * removed from the queue.
+   */
+  public void releasePrefetchedAssets() {
+    if (prefetchedAssets.isEmpty()) {
+      return;
+    }
+    logger.debug("Releasing {} prefetched assets", prefetchedAssets.size());
+    releaseAssets(prefetchedAssets.keySet().toArray(new String[0]));
+    prefetchedAssets.clear();
+  }
+
+  /**
+   * Set the time spent loading prefetched assets each frame. Larger budgets finish prefetching
+   * sooner but take longer out of each frame.
+   *
+   * @param millis milliseconds per frame, at least 1
+   */
+  public void setPrefetchBudgetMillis(int millis) {
+    if (millis < 1) {
+      throw new IllegalArgumentException("Prefetch budget must be at least 1 ms, got " + millis);
+    }
+    prefetchBudgetMillis = millis;
+  }
+
+  public int getPrefetchBudgetMillis() {
+    return prefetchBudgetMillis;
+  }
+
   @Override
   public void dispose() {
+    packedRegions.clear();
+    demandLoadedTextures.clear();
+    prefetchedAssets.clear();
+    retainedAssets.clear();
     assetManager.clear();
   }
 }
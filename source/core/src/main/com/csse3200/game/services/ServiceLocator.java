@@ -1,6 +1,7 @@
 package com.csse3200.game.services;
 
 import com.crashinvaders.vfx.VfxManager;
+import com.csse3200.game.ai.navigation.NavigationService;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.lighting.LightingService;
@@ -33,6 +34,7 @@ public class ServiceLocator {
   private static VfxManager vfxService;
   private static CodexService codexService;
   private static ComputerTerminalService computerTerminalService;
+  private static NavigationService navigationService;
 
   private static MainGameScreen mainGameScreen;
 
@@ -80,6 +82,10 @@ public class ServiceLocator {
 
   public static ComputerTerminalService getComputerTerminalService() { return computerTerminalService; }
 
+  public static NavigationService getNavigationService() {
+    return navigationService;
+  }
+
   public static MainGameScreen getMainGameScreen() {
     return mainGameScreen;
   }
@@ -149,6 +155,11 @@ public class ServiceLocator {
     computerTerminalService = service;
   }
 
+  public static void registerNavigationService(NavigationService service) {
+    logger.debug("Registering navigation service {}", service);
+    navigationService = service;
+  }
+
   public static void clear() {
     entityService = null;
     renderService = null;
@@ -162,6 +173,7 @@ public class ServiceLocator {
     vfxService = null;
     codexService = null;
     computerTerminalService = null;
+    navigationService = null;
   }
 
   private ServiceLocator() {
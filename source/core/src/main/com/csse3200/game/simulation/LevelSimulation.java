@@ -0,0 +1,213 @@
+package com.csse3200.game.simulation;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.crashinvaders.vfx.VfxManager;
+import com.csse3200.game.ai.navigation.NavigationService;
+import com.csse3200.game.areas.*;
+import com.csse3200.game.areas.terrain.GridFactory;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.factories.RenderFactory;
+import com.csse3200.game.input.InputService;
+import com.csse3200.game.lighting.LightingEngine;
+import com.csse3200.game.lighting.LightingService;
+import com.csse3200.game.lighting.SecurityCamRetrievalService;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.services.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Runs a level without drawing it. The same services as {@link
+ * com.csse3200.game.screens.MainGameScreen} are registered and the level is built from its
+ * config files, then physics and entities are updated with a {@link FixedStepGameTime} as fast as
+ * the CPU allows. Nothing is rendered and there is no player input, so the player stands at the
+ * spawn point while everything else in the level runs.
+ *
+ * <p>A renderer, lighting engine and effects manager are still created because UI components,
+ * lights and level effects need them to exist, so libGDX must be running with a GL
+ * implementation, which may do nothing. The random seed is fixed and time only moves by whole
+ * steps, so two runs of the same level perform the same updates, apart from anything scheduled on
+ * libGDX's real-time {@code Timer}.
+ */
+public class LevelSimulation implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(LevelSimulation.class);
+  /** Simulated seconds per tick by default */
+  public static final float DEFAULT_STEP = 1f / 60f;
+  private static final long SEED = 3200L;
+  private static final String[] MAIN_GAME_TEXTURES = {
+      "images/playerstats/health.png", "images/playerstats/stamina.png"
+  };
+  private static final Map<String, Function<GridFactory, BaseLevelGameArea>> LEVELS =
+      new LinkedHashMap<>();
+
+  static {
+    LEVELS.put("tutorial", TutorialGameArea::new);
+    LEVELS.put("level-one", LevelOneGameArea::new);
+    LEVELS.put("level-two", LevelTwoGameArea::new);
+    LEVELS.put("level-three", LevelThreeGameArea::new);
+    LEVELS.put("boss-level", BossLevelGameArea::new);
+  }
+
+  private final String level;
+  private final FixedStepGameTime timeSource;
+  private PhysicsEngine physicsEngine;
+  private EntityService entityService;
+  private Renderer renderer;
+  private LightingEngine lightingEngine;
+  private BaseLevelGameArea gameArea;
+  private NavigationService navigationService;
+
+  /**
+   * @param level level directory name under levels/, e.g. level-two
+   */
+  public LevelSimulation(String level) {
+    this(level, DEFAULT_STEP);
+  }
+
+  /**
+   * @param level level directory name under levels/, e.g. level-two
+   * @param step simulated seconds per tick
+   */
+  public LevelSimulation(String level, float step) {
+    if (!LEVELS.containsKey(level)) {
+      throw new IllegalArgumentException(
+          "Unknown level " + level + ", expected one of " + getLevels());
+    }
+    this.level = level;
+    this.timeSource = new FixedStepGameTime(step);
+  }
+
+  /** @return names of the levels which can be simulated */
+  public static Set<String> getLevels() {
+    return Collections.unmodifiableSet(LEVELS.keySet());
+  }
+
+  /** Register the game services and build the level. */
+  public void create() {
+    logger.info("Creating simulation of {}", level);
+    MathUtils.random.setSeed(SEED);
+
+    ServiceLocator.registerTimeSource(timeSource);
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    physicsEngine = physicsService.getPhysics();
+
+    ServiceLocator.registerInputService(new InputService());
+    ServiceLocator.registerResourceService(new ResourceService());
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    ServiceLocator.registerRenderService(new RenderService());
+    ServiceLocator.registerVfxService(new VfxManager(Pixmap.Format.RGBA8888));
+    ServiceLocator.registerCodexService(new CodexService());
+    ServiceLocator.registerComputerTerminalService(new ComputerTerminalService());
+
+    renderer = RenderFactory.createRenderer();
+    LightingService lightingService =
+        new LightingService(renderer.getCamera(), physicsEngine.getWorld());
+    ServiceLocator.registerLightingService(lightingService);
+    lightingEngine = lightingService.getEngine();
+    ServiceLocator.registerSecurityCamRetrievalService(new SecurityCamRetrievalService());
+    navigationService = new NavigationService(physicsEngine.getWorld());
+    ServiceLocator.registerNavigationService(navigationService);
+
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    resourceService.loadTextures(MAIN_GAME_TEXTURES);
+    resourceService.loadAll();
+
+    gameArea = LEVELS.get(level).apply(new GridFactory());
+    gameArea.create();
+  }
+
+  /** Advance the level by one fixed step. */
+  public void tick() {
+    timeSource.tick();
+    physicsEngine.update();
+    navigationService.update(gameArea.getPlayer());
+    entityService.update();
+  }
+
+  /**
+   * Run a number of ticks and report how long they took.
+   *
+   * @param ticks number of ticks to run
+   * @return throughput, allocation and entity counts for the run
+   */
+  public SimulationReport run(long ticks) {
+    int startEntities = entityService.getEntities().size;
+    long startBytes = getAllocatedBytes();
+    long start = System.nanoTime();
+    for (long i = 0; i < ticks; i++) {
+      tick();
+    }
+    long elapsed = System.nanoTime() - start;
+    long endBytes = getAllocatedBytes();
+
+    return new SimulationReport(
+        level,
+        ticks,
+        elapsed,
+        startBytes < 0L || endBytes < 0L ? -1L : endBytes - startBytes,
+        startEntities,
+        entityService.getEntities().size,
+        physicsEngine.getWorld().getBodyCount());
+  }
+
+  public BaseLevelGameArea getGameArea() {
+    return gameArea;
+  }
+
+  public FixedStepGameTime getTimeSource() {
+    return timeSource;
+  }
+
+  @Override
+  public void dispose() {
+    logger.debug("Disposing simulation of {}", level);
+    if (gameArea != null) {
+      gameArea.dispose();
+    }
+    if (entityService != null) {
+      entityService.dispose();
+    }
+    if (lightingEngine != null) {
+      lightingEngine.dispose();
+    }
+    if (renderer != null) {
+      renderer.dispose();
+    }
+    if (ServiceLocator.getRenderService() != null) {
+      ServiceLocator.getRenderService().dispose();
+    }
+    if (ServiceLocator.getResourceService() != null) {
+      ServiceLocator.getResourceService().dispose();
+    }
+    if (ServiceLocator.getVfxService() != null) {
+      ServiceLocator.getVfxService().dispose();
+    }
+    ServiceLocator.clear();
+  }
+
+  /**
+   * @return bytes allocated by the current thread so far, or -1 if the JVM does not track them
+   */
+  private static long getAllocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+        && threads.isThreadAllocatedMemorySupported()
+        && threads.isThreadAllocatedMemoryEnabled()) {
+      return threads.getCurrentThreadAllocatedBytes();
+    }
+    return -1L;
+  }
+}
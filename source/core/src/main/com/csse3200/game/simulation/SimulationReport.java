@@ -0,0 +1,60 @@
+package com.csse3200.game.simulation;
+
+import java.util.Locale;
+
+/**
+ * Result of running a {@link LevelSimulation} for a number of ticks.
+ *
+ * @param level level directory name, e.g. level-two
+ * @param ticks number of ticks run
+ * @param elapsedNanos real time taken to run the ticks
+ * @param allocatedBytes bytes allocated by the simulation thread while running, or -1 if the JVM
+ *     does not report allocations
+ * @param startEntities registered entities before the first tick
+ * @param endEntities registered entities after the last tick
+ * @param bodies physics bodies after the last tick
+ */
+public record SimulationReport(
+    String level,
+    long ticks,
+    long elapsedNanos,
+    long allocatedBytes,
+    int startEntities,
+    int endEntities,
+    int bodies) {
+
+  public double getTicksPerSecond() {
+    return elapsedNanos == 0L ? 0.0 : ticks * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  /** @return bytes allocated per tick, or -1 if allocations are not reported */
+  public double getBytesPerTick() {
+    if (allocatedBytes < 0L || ticks == 0L) {
+      return -1.0;
+    }
+    return (double) allocatedBytes / ticks;
+  }
+
+  /** @return allocation rate in megabytes per second of real time, or -1 if not reported */
+  public double getAllocationRate() {
+    if (allocatedBytes < 0L || elapsedNanos == 0L) {
+      return -1.0;
+    }
+    return allocatedBytes / (1024.0 * 1024.0) / (elapsedNanos / 1_000_000_000.0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT,
+        "%s: %d ticks in %.2fs, %.1f ticks/s, %.0f B/tick, %.1f MB/s, entities %d -> %d, bodies %d",
+        level,
+        ticks,
+        elapsedNanos / 1_000_000_000.0,
+        getTicksPerSecond(),
+        getBytesPerTick(),
+        getAllocationRate(),
+        startEntities,
+        endEntities,
+        bodies);
+  }
+}
@@ -1,6 +1,7 @@
 package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.rendering.Renderable;
@@ -32,4 +33,16 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     return 1f;
   }
 
+  @Override
+  public boolean getBounds(Rectangle out) {
+    // UI is drawn in screen space, so it is never culled against the world camera
+    return false;
+  }
+
+  @Override
+  public boolean isZIndexStatic() {
+    // UI components draw at a fixed depth rather than following their entity's position
+    return true;
+  }
+
 }
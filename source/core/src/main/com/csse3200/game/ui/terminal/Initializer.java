@@ -189,6 +189,80 @@ public class Initializer {
       debug.setActive(globalThis.isTruthy(active));
     });
 
+    "--- Profiling ---";
+    setGlobal("FrameProfiler", .com.csse3200.game.utils.FrameProfiler);
+
+    "Toggle frame profiling. e.g. profile(true);";
+    setGlobal("profile", (active) {
+      FrameProfiler.setEnabled(globalThis.isTruthy(active));
+    });
+
+    "Print p50/p95/p99 frame timings. e.g. profileReport(20); for the 20 slowest components";
+    setGlobal("profileReport", (count) {
+      println(FrameProfiler.buildReport(count));
+    });
+
+    "Get a percentile in ms of a phase or component type by name. e.g. p95 is profilePercentile(name, 95);";
+    setGlobal("profilePercentile", (name, percent) {
+      return(FrameProfiler.getPercentileMillis(name, percent));
+    });
+
+    "Print draw calls, texture switches and flush causes of the last frame by pass and layer";
+    setGlobal("renderStats", () {
+      rs = renderService();
+      stats = rs.getStats();
+      println(stats.buildReport());
+    });
+
+    "Toggle drawing each render layer grouped by texture. e.g. textureSorting(true);";
+    setGlobal("textureSorting", (active) {
+      rs = renderService();
+      rs.setTextureSorting(globalThis.isTruthy(active));
+    });
+
+    "Toggle drawing platforms, walls and floors which never move from baked meshes. e.g. staticGeometry(false);";
+    setGlobal("staticGeometry", (active) {
+      rs = renderService();
+      rs.setStaticGeometryEnabled(globalThis.isTruthy(active));
+    });
+
+    "Print active, culled and static light counts and the current ray budget";
+    setGlobal("lightStats", () {
+      ls = ServiceLocator.getLightingService();
+      engine = ls.getEngine();
+      lm = engine.getLightManager();
+      println(lm.getSummary());
+    });
+
+    "Toggle lowering light rays and blur when frames are slow. e.g. adaptiveLights(false);";
+    setGlobal("adaptiveLights", (active) {
+      ls = ServiceLocator.getLightingService();
+      engine = ls.getEngine();
+      lm = engine.getLightManager();
+      lm.setAdaptive(globalThis.isTruthy(active));
+    });
+
+    "Only re-check what security cameras see this many times a second. e.g. visionTickRate(10.0); 0.0 checks every frame";
+    setGlobal("visionTickRate", (rate) {
+      cs = ServiceLocator.getSecurityCamRetrievalService();
+      vision = cs.getVisionSystem();
+      vision.setTickRate(rate);
+    });
+
+    "Toggle updating far away AI less often. e.g. updateLod(false);";
+    setGlobal("updateLod", (active) {
+      es = entityService();
+      scheduler = es.getUpdateScheduler();
+      scheduler.setEnabled(globalThis.isTruthy(active));
+    });
+
+    "Refresh moving minimap markers this many times a second. e.g. minimapRate(15.0); 0.0 refreshes every frame";
+    setGlobal("minimapRate", (rate) {
+      ms = ServiceLocator.getMinimapService();
+      display = ms.getDisplay();
+      display.setMarkerUpdateRate(rate);
+    });
+
     "--- Entity Manipulation ---";
     "Get a list of all registered entities";
     setGlobal("getEntities", () {
@@ -198,11 +272,8 @@ public class Initializer {
 
     "Get a single entity by its ID. e.g. getEntity(1);";
     setGlobal("getEntityById", (id) {
-      setGlobal(".id", id);
-      forEach(getEntities(), (entity) {
-        setGlobal(".entity", entity);
-        if (eql(entity.getId(), getGlobal(".id")), () { returnN(3, getGlobal(".entity")); });
-      });
+      es = entityService();
+      return(es.getEntity(id));
     });
 
     "--- Utilities ---";
@@ -281,6 +352,30 @@ public class Initializer {
       setTimescale(scale)   - Sets the game's time scale (1.0 is normal, 0.0 is paused).
                               This is kept even after the terminal is closed
 
+      --- Profiling ---
+      profile(active)       - Toggles frame profiling (truthy/falsy). Timings are shown
+                              in the debug overlay while enabled.
+      profileReport(count)  - Prints p50/p95/p99 ms for each frame phase and the count
+                              slowest component types.
+      profilePercentile(name, percent)
+                            - Returns a percentile in ms for a phase (e.g. physics)
+                              or component type (e.g. PlayerActions).
+      renderStats()         - Prints the last frame's draw calls, sprites, vertices, texture
+                              switches, flush causes and VFX passes by pass and layer.
+      textureSorting(active)- Toggles drawing each render layer grouped by texture (truthy/falsy).
+                              Fewer texture switches, but Z order is only kept per texture.
+      staticGeometry(active)- Toggles drawing platforms, walls and floors which never move from
+                              baked meshes, one draw call per region (truthy/falsy).
+      lightStats()          - Prints active, culled and static lights, rays cast and blur passes.
+      adaptiveLights(active)- Toggles lowering light rays and blur when frames are slow
+                              (truthy/falsy). Off restores full quality.
+      visionTickRate(rate)  - Re-checks what security cameras see rate times a second.
+                              e.g. visionTickRate(10.0); 0.0 checks every frame (default).
+      updateLod(active)     - Toggles updating far away AI every 4th or 16th frame, or not at
+                              all when very far (truthy/falsy).
+      minimapRate(rate)     - Refreshes moving minimap markers rate times a second.
+                              e.g. minimapRate(15.0); 0.0 refreshes every frame. Default 30.0.
+
       --- Entity Manipulation ---
       getPlayer()           - Finds and returns the player entity if it exists.
       getEntities()         - Returns an Array of all the game entities.
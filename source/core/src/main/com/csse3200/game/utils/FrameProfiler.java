@@ -0,0 +1,304 @@
+package com.csse3200.game.utils;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Records how long each part of a frame takes, and how long entity updates spend in each component
+ * type. Timings for the last {@link #HISTORY} frames are kept so percentiles can be reported in the
+ * debug overlay and from the terminal.
+ *
+ * <p>Profiling is off by default. While off, every call returns after checking a single flag.
+ * While on, recording a span does not allocate; new arrays are only created the first time a
+ * component type is seen.
+ */
+public final class FrameProfiler {
+  /** Number of frames of history kept for percentiles */
+  public static final int HISTORY = 300;
+  private static final int REPORT_INTERVAL = 30;
+  private static final int REPORT_COMPONENTS = 5;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  /** Parts of a frame which are timed separately */
+  public enum Phase {
+    FRAME,
+    PHYSICS,
+    ENTITIES,
+    RENDER_WORLD,
+    LIGHTING,
+    RENDER_OVERLAY,
+    DEBUG,
+    UI
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+  private static final long[] phaseStart = new long[PHASES.length];
+  private static final long[] phaseTotal = new long[PHASES.length];
+  private static final boolean[] phaseRan = new boolean[PHASES.length];
+  private static final LongRingBuffer[] phaseHistory = new LongRingBuffer[PHASES.length];
+
+  private static long[] componentTotal = new long[0];
+  private static boolean[] componentRan = new boolean[0];
+  private static LongRingBuffer[] componentHistory = new LongRingBuffer[0];
+  private static String[] componentNames = new String[0];
+
+  private static final long[] scratch = new long[HISTORY];
+  private static boolean enabled = false;
+  private static boolean frameOpen = false;
+  private static int framesSinceReport = REPORT_INTERVAL;
+  private static String report = "";
+
+  static {
+    for (int i = 0; i < PHASES.length; i++) {
+      phaseHistory[i] = new LongRingBuffer(HISTORY);
+    }
+  }
+
+  private FrameProfiler() {}
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turn profiling on or off. Turning it on clears previous history.
+   *
+   * @param enabled true to record timings
+   */
+  public static void setEnabled(boolean enabled) {
+    if (enabled && !FrameProfiler.enabled) {
+      clear();
+    }
+    FrameProfiler.enabled = enabled;
+    frameOpen = false;
+  }
+
+  /** Start timing a frame. Should be called once at the start of each game frame. */
+  public static void beginFrame() {
+    if (!enabled) {
+      return;
+    }
+    frameOpen = true;
+    begin(Phase.FRAME);
+  }
+
+  /** Finish timing a frame and add its timings to the history. */
+  public static void endFrame() {
+    if (!enabled || !frameOpen) {
+      return;
+    }
+    end(Phase.FRAME);
+    frameOpen = false;
+
+    for (int i = 0; i < PHASES.length; i++) {
+      if (phaseRan[i]) {
+        phaseHistory[i].add(phaseTotal[i]);
+      }
+      phaseTotal[i] = 0L;
+      phaseRan[i] = false;
+    }
+    for (int i = 0; i < componentTotal.length; i++) {
+      if (componentRan[i]) {
+        componentHistory[i].add(componentTotal[i]);
+      }
+      componentTotal[i] = 0L;
+      componentRan[i] = false;
+    }
+    framesSinceReport++;
+  }
+
+  /**
+   * Start timing a phase of the frame.
+   *
+   * @param phase phase to time
+   */
+  public static void begin(Phase phase) {
+    if (enabled) {
+      phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+  }
+
+  /**
+   * Stop timing a phase of the frame. A phase can run more than once a frame; the times are added.
+   *
+   * @param phase phase to time
+   */
+  public static void end(Phase phase) {
+    if (enabled) {
+      int i = phase.ordinal();
+      phaseTotal[i] += System.nanoTime() - phaseStart[i];
+      phaseRan[i] = true;
+    }
+  }
+
+  /**
+   * Add time spent updating a component. Called by entities while profiling is enabled.
+   *
+   * @param typeId the component's {@link ComponentType} id
+   * @param component the component which was updated
+   * @param nanos time taken in nanoseconds
+   */
+  public static void recordComponent(int typeId, Component component, long nanos) {
+    if (typeId >= componentTotal.length) {
+      growComponents(typeId + 1);
+    }
+    if (componentHistory[typeId] == null) {
+      componentHistory[typeId] = new LongRingBuffer(HISTORY);
+      componentNames[typeId] = component.getClass().getSimpleName();
+    }
+    componentTotal[typeId] += nanos;
+    componentRan[typeId] = true;
+  }
+
+  /**
+   * Get a percentile of a phase's time per frame.
+   *
+   * @param phase phase of the frame
+   * @param percent percentile between 0 and 100
+   * @return time in nanoseconds, or 0 if there is no history
+   */
+  public static long getPercentile(Phase phase, int percent) {
+    return phaseHistory[phase.ordinal()].percentile(percent, scratch);
+  }
+
+  /**
+   * Get a percentile of the time per frame spent updating components of a type.
+   *
+   * @param type component class
+   * @param percent percentile between 0 and 100
+   * @return time in nanoseconds, or 0 if there is no history
+   */
+  public static long getPercentile(Class<? extends Component> type, int percent) {
+    int typeId = ComponentType.getFrom(type).getId();
+    if (typeId >= componentHistory.length || componentHistory[typeId] == null) {
+      return 0L;
+    }
+    return componentHistory[typeId].percentile(percent, scratch);
+  }
+
+  /**
+   * Get a percentile in milliseconds by name, for use from the terminal.
+   *
+   * @param name a {@link Phase} name (any case) or a component class's simple name
+   * @param percent percentile between 0 and 100
+   * @return time in milliseconds, or -1 if nothing with the name has been recorded
+   */
+  public static double getPercentileMillis(String name, int percent) {
+    for (Phase phase : PHASES) {
+      if (phase.name().equalsIgnoreCase(name)) {
+        return getPercentile(phase, percent) / NANOS_PER_MILLI;
+      }
+    }
+    for (int i = 0; i < componentNames.length; i++) {
+      if (name.equals(componentNames[i])) {
+        return componentHistory[i].percentile(percent, scratch) / NANOS_PER_MILLI;
+      }
+    }
+    return -1.0;
+  }
+
+  /**
+   * Get a summary of p50/p95/p99 times for each phase and the slowest component types. The summary
+   * is only rebuilt every {@value #REPORT_INTERVAL} frames, so it is cheap to call every frame.
+   *
+   * @return summary text, empty if profiling is disabled
+   */
+  public static String getReport() {
+    if (!enabled) {
+      return "";
+    }
+    if (framesSinceReport >= REPORT_INTERVAL) {
+      report = buildReport(REPORT_COMPONENTS);
+      framesSinceReport = 0;
+    }
+    return report;
+  }
+
+  /**
+   * Build a full summary of phase and component timings.
+   *
+   * @param maxComponents number of component types to list, slowest p95 first
+   * @return summary text
+   */
+  public static String buildReport(int maxComponents) {
+    StringBuilder builder = new StringBuilder();
+    builder.append(String.format(Locale.ROOT, "%-16s %6s %6s %6s%n", "ms", "p50", "p95", "p99"));
+    for (Phase phase : PHASES) {
+      LongRingBuffer history = phaseHistory[phase.ordinal()];
+      if (history.size() > 0) {
+        appendRow(builder, phase.name().toLowerCase(Locale.ROOT), history);
+      }
+    }
+
+    int count = 0;
+    for (LongRingBuffer history : componentHistory) {
+      if (history != null && history.size() > 0) {
+        count++;
+      }
+    }
+    long[] p95 = new long[count];
+    int[] types = new int[count];
+    count = 0;
+    for (int i = 0; i < componentHistory.length; i++) {
+      if (componentHistory[i] != null && componentHistory[i].size() > 0) {
+        p95[count] = componentHistory[i].percentile(95, scratch);
+        types[count] = i;
+        count++;
+      }
+    }
+    // Selection of the slowest few types
+    for (int n = 0; n < Math.min(maxComponents, count); n++) {
+      int slowest = n;
+      for (int i = n + 1; i < count; i++) {
+        if (p95[i] > p95[slowest]) {
+          slowest = i;
+        }
+      }
+      long tmpTime = p95[n];
+      p95[n] = p95[slowest];
+      p95[slowest] = tmpTime;
+      int tmpType = types[n];
+      types[n] = types[slowest];
+      types[slowest] = tmpType;
+      appendRow(builder, componentNames[types[n]], componentHistory[types[n]]);
+    }
+    return builder.toString();
+  }
+
+  /** Clear all recorded timings. */
+  public static void clear() {
+    for (int i = 0; i < PHASES.length; i++) {
+      phaseHistory[i].clear();
+      phaseTotal[i] = 0L;
+      phaseRan[i] = false;
+    }
+    for (int i = 0; i < componentHistory.length; i++) {
+      if (componentHistory[i] != null) {
+        componentHistory[i].clear();
+      }
+      componentTotal[i] = 0L;
+      componentRan[i] = false;
+    }
+    framesSinceReport = REPORT_INTERVAL;
+    report = "";
+  }
+
+  private static void appendRow(StringBuilder builder, String name, LongRingBuffer history) {
+    builder.append(String.format(Locale.ROOT, "%-16.16s %6.2f %6.2f %6.2f%n",
+        name,
+        history.percentile(50, scratch) / NANOS_PER_MILLI,
+        history.percentile(95, scratch) / NANOS_PER_MILLI,
+        history.percentile(99, scratch) / NANOS_PER_MILLI));
+  }
+
+  private static void growComponents(int size) {
+    int newSize = Math.max(size, ComponentType.getTypeCount());
+    componentTotal = Arrays.copyOf(componentTotal, newSize);
+    componentRan = Arrays.copyOf(componentRan, newSize);
+    componentHistory = Arrays.copyOf(componentHistory, newSize);
+    componentNames = Arrays.copyOf(componentNames, newSize);
+  }
+}
@@ -0,0 +1,84 @@
+package com.csse3200.game.utils;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size buffer of the most recent long samples. Once full, each new sample replaces the
+ * oldest one. Adding samples never allocates.
+ */
+public class LongRingBuffer {
+  private final long[] samples;
+  private int size = 0;
+  private int next = 0;
+
+  /**
+   * @param capacity number of samples kept
+   */
+  public LongRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    samples = new long[capacity];
+  }
+
+  /**
+   * Add a sample, replacing the oldest one if the buffer is full.
+   *
+   * @param sample value to add
+   */
+  public void add(long sample) {
+    samples[next] = sample;
+    next = (next + 1) % samples.length;
+    if (size < samples.length) {
+      size++;
+    }
+  }
+
+  /**
+   * Get a sample by age.
+   *
+   * @param index 0 for the oldest sample kept, up to size - 1 for the newest
+   * @return sample value
+   */
+  public long get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index " + index + " out of range for size " + size);
+    }
+    return samples[(next - size + index + samples.length) % samples.length];
+  }
+
+  /** @return most recently added sample, or 0 if empty */
+  public long getLatest() {
+    return size == 0 ? 0L : samples[(next - 1 + samples.length) % samples.length];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return samples.length;
+  }
+
+  public void clear() {
+    size = 0;
+    next = 0;
+  }
+
+  /**
+   * Get a percentile of the samples using the nearest-rank method.
+   *
+   * @param percent percentile between 0 and 100, e.g. 95 for p95
+   * @param scratch array used for sorting, at least {@link #capacity()} long
+   * @return sample at the percentile, or 0 if empty
+   */
+  public long percentile(int percent, long[] scratch) {
+    if (size == 0) {
+      return 0L;
+    }
+    System.arraycopy(samples, 0, scratch, 0, size);
+    Arrays.sort(scratch, 0, size);
+    int rank = (int) Math.ceil(percent / 100.0 * size);
+    return scratch[Math.max(0, Math.min(size - 1, rank - 1))];
+  }
+}
@@ -0,0 +1,143 @@
+package com.csse3200.game.utils;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A uniform grid of square cells for broadphase spatial queries. Items are stored in every cell
+ * their bounds overlap. The caller keeps track of each item's cell span (from {@link #cellX} and
+ * {@link #cellY}) so it can be moved or removed without searching.
+ *
+ * <p>Coordinates outside the grid are clamped to the edge cells, so items and queries outside the
+ * expected area are still handled correctly, just less efficiently.
+ *
+ * @param <T> type of item stored
+ */
+public class SpatialGrid<T> {
+  private final float cellSize;
+  private final float originX;
+  private final float originY;
+  private final int columns;
+  private final int rows;
+  private final Array<T>[] cells;
+
+  /**
+   * Create a grid covering the given area.
+   *
+   * @param originX x of the bottom left corner of the grid
+   * @param originY y of the bottom left corner of the grid
+   * @param width width of the area covered
+   * @param height height of the area covered
+   * @param cellSize width and height of each cell
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public SpatialGrid(float originX, float originY, float width, float height, float cellSize) {
+    this.cellSize = cellSize;
+    this.originX = originX;
+    this.originY = originY;
+    columns = Math.max(1, MathUtils.ceil(width / cellSize));
+    rows = Math.max(1, MathUtils.ceil(height / cellSize));
+    cells = new Array[columns * rows];
+  }
+
+  /**
+   * @param x world x coordinate
+   * @return column of the cell containing x, clamped to the grid
+   */
+  public int cellX(float x) {
+    return MathUtils.clamp(MathUtils.floor((x - originX) / cellSize), 0, columns - 1);
+  }
+
+  /**
+   * @param y world y coordinate
+   * @return row of the cell containing y, clamped to the grid
+   */
+  public int cellY(float y) {
+    return MathUtils.clamp(MathUtils.floor((y - originY) / cellSize), 0, rows - 1);
+  }
+
+  /**
+   * Add an item to every cell in a span.
+   *
+   * @param item item to add
+   * @param minX first column
+   * @param minY first row
+   * @param maxX last column (inclusive)
+   * @param maxY last row (inclusive)
+   */
+  public void insert(T item, int minX, int minY, int maxX, int maxY) {
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        int index = y * columns + x;
+        Array<T> cell = cells[index];
+        if (cell == null) {
+          cell = new Array<>(false, 4);
+          cells[index] = cell;
+        }
+        cell.add(item);
+      }
+    }
+  }
+
+  /**
+   * Remove an item from every cell in a span. The span must match the one it was inserted with.
+   *
+   * @param item item to remove
+   * @param minX first column
+   * @param minY first row
+   * @param maxX last column (inclusive)
+   * @param maxY last row (inclusive)
+   */
+  public void remove(T item, int minX, int minY, int maxX, int maxY) {
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        Array<T> cell = cells[y * columns + x];
+        if (cell != null) {
+          cell.removeValue(item, true);
+        }
+      }
+    }
+  }
+
+  /**
+   * Collect the items in every cell of a span. Items spanning several cells are added once per
+   * cell, so callers that need unique results must filter duplicates.
+   *
+   * @param minX first column
+   * @param minY first row
+   * @param maxX last column (inclusive)
+   * @param maxY last row (inclusive)
+   * @param out array the items are appended to
+   */
+  public void query(int minX, int minY, int maxX, int maxY, Array<T> out) {
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        Array<T> cell = cells[y * columns + x];
+        if (cell != null) {
+          out.addAll(cell);
+        }
+      }
+    }
+  }
+
+  /** Remove all items from the grid. */
+  public void clear() {
+    for (Array<T> cell : cells) {
+      if (cell != null) {
+        cell.clear();
+      }
+    }
+  }
+
+  public float getCellSize() {
+    return cellSize;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+}
@@ -0,0 +1,134 @@
+package com.csse3200.game.ai.navigation;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.csse3200.game.areas.terrain.GridComponent;
+import com.csse3200.game.areas.terrain.GridComponent.GridOrientation;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.ColliderComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class NavigationServiceTest {
+  private static final float TILE_SIZE = 0.5f;
+
+  private NavigationService navigation;
+  private Entity player;
+
+  @BeforeEach
+  void beforeEach() {
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    navigation = new NavigationService(physicsService.getPhysics().getWorld());
+    player = new Entity();
+    // Centre at (8, 2)
+    player.setPosition(7.5f, 1.5f);
+  }
+
+  @Test
+  void shouldRouteAroundObstacles() {
+    // Wall from the bottom of the map up to y = 8, between the chaser and the player
+    createWall(4.5f, 0f, 0.5f, 8f);
+    navigation.setGrid(createGrid(20));
+    navigation.update(player);
+
+    assertTrue(navigation.isBlocked(9, 4));
+    assertFalse(navigation.isBlocked(9, 18));
+
+    Vector2 position = new Vector2(1.25f, 2.25f);
+    Vector2 waypoint = new Vector2();
+    float highest = position.y;
+    int steps = 0;
+    while (navigation.getWaypoint(position, waypoint) && steps < 100) {
+      position.set(waypoint);
+      highest = Math.max(highest, position.y);
+      steps++;
+    }
+
+    assertEquals(16, (int) (position.x / TILE_SIZE));
+    assertEquals(4, (int) (position.y / TILE_SIZE));
+    assertTrue(highest > 8f);
+  }
+
+  @Test
+  void shouldOnlyRebuildWhenTargetChangesTile() {
+    navigation.setGrid(createGrid(20));
+    for (int i = 0; i < 3; i++) {
+      navigation.update(player);
+    }
+    assertEquals(1, navigation.getBuildCount());
+
+    // Same tile
+    player.setPosition(7.6f, 1.6f);
+    navigation.update(player);
+    assertEquals(1, navigation.getBuildCount());
+
+    player.setPosition(6f, 1.5f);
+    navigation.update(player);
+    assertEquals(2, navigation.getBuildCount());
+  }
+
+  @Test
+  void shouldSpreadSearchOverTicks() {
+    navigation.setGrid(createGrid(100));
+    Vector2 from = new Vector2(40.25f, 40.25f);
+    Vector2 waypoint = new Vector2();
+
+    navigation.update(player);
+    assertTrue(navigation.isSearching());
+    assertEquals(NavigationService.EXPANSIONS_PER_TICK, navigation.getExpandedCount());
+    assertFalse(navigation.getWaypoint(from, waypoint));
+
+    int ticks = 1;
+    while (navigation.isSearching()) {
+      navigation.update(player);
+      ticks++;
+    }
+    assertTrue(ticks > 1);
+    assertTrue(navigation.getWaypoint(from, waypoint));
+    assertTrue(waypoint.dst(8f, 2f) < from.dst(8f, 2f));
+  }
+
+  @Test
+  void shouldNotGiveWaypointsOffGridOrOnTargetTile() {
+    navigation.setGrid(createGrid(20));
+    navigation.update(player);
+    Vector2 waypoint = new Vector2();
+
+    assertFalse(navigation.getWaypoint(new Vector2(-1f, 2f), waypoint));
+    assertFalse(navigation.getWaypoint(new Vector2(8.1f, 2.1f), waypoint));
+    assertTrue(navigation.getWaypoint(new Vector2(2f, 2f), waypoint));
+  }
+
+  @Test
+  void shouldIgnoreIsometricGrids() {
+    navigation.setGrid(new GridComponent(new GridPoint2(20, 20), GridOrientation.ISOMETRIC, TILE_SIZE));
+    navigation.update(player);
+
+    assertEquals(0, navigation.getBuildCount());
+    assertFalse(navigation.getWaypoint(new Vector2(2f, 2f), new Vector2()));
+  }
+
+  private static GridComponent createGrid(int size) {
+    return new GridComponent(new GridPoint2(size, size), GridOrientation.ORTHOGONAL, TILE_SIZE);
+  }
+
+  private static void createWall(float x, float y, float width, float height) {
+    Entity wall = new Entity()
+        .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+        .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+    wall.setScale(width, height);
+    wall.setPosition(x, y);
+    wall.create();
+  }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(GameExtension.class)
 class ComponentTypeTest {
@@ -32,6 +33,12 @@ class ComponentTypeTest {
     assertNotEquals(type2.getId(), type3.getId());
   }
 
+  @Test
+  void shouldCountAllTypes() {
+    ComponentType type = ComponentType.getFrom(TestComponent2.class);
+    assertTrue(type.getId() < ComponentType.getTypeCount());
+  }
+
   static class TestComponent1 extends Component {}
   static class TestComponent2 extends TestComponent1 {}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.entities.Entity;
@@ -21,6 +22,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -95,6 +97,27 @@ class ActionIndicatorComponentTest {
     verify(font, never()).draw(any(SpriteBatch.class), anyString(), anyFloat(), anyFloat(), anyFloat(), anyInt(), anyBoolean());
   }
 
+  @Test
+  void boundsShouldCoverKeyText() {
+    BitmapFont.BitmapFontData realData = new BitmapFont.BitmapFontData();
+    realData.lineHeight = 8f;
+    when(font.getData()).thenReturn(realData);
+    ActionIndicatorComponent component = new ActionIndicatorComponent("test.png", "PlayerJump");
+    Entity entity = new Entity().addComponent(component);
+    entity.setPosition(10f, 20f);
+    entity.setScale(2f, 1f);
+    setPrivateField(component, "font", font);
+
+    Rectangle bounds = new Rectangle();
+    assertTrue(component.getBounds(bounds));
+
+    // Text spans scale.x * 2 from pos.x - scale.x / 2, one scaled line below pos.y - 0.2f
+    assertEquals(9f, bounds.x, 0.0001f);
+    assertEquals(4f, bounds.width, 0.0001f);
+    assertEquals(20f - 0.2f - 8f * 2f / 40f, bounds.y, 0.0001f);
+    assertEquals(21f, bounds.y + bounds.height, 0.0001f);
+  }
+
   @Test
   void disposeShouldDisposeSkinResource() {
     Skin mockSkin = mock(Skin.class);
@@ -1,7 +1,6 @@
 package com.csse3200.game.components.boss;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
@@ -53,9 +52,7 @@ class BossSpawnerComponentTest {
         when(playerEntityMock.getComponent(PlayerActions.class)).thenReturn(mock(PlayerActions.class));
         when(playerEntityMock.getPosition()).thenReturn(new Vector2(0f, 0f));
 
-        Array<Entity> world = new Array<>();
-        world.add(playerEntityMock);
-        when(entityService.getEntities()).thenReturn(world);
+        when(entityService.getFirstEntityWith(PlayerActions.class)).thenReturn(playerEntityMock);
     }
 
     @AfterEach
@@ -144,7 +141,7 @@ class BossSpawnerComponentTest {
 
     @Test
     void handlesEmptyEntityService_gracefully() {
-        when(entityService.getEntities()).thenReturn(new Array<>());
+        when(entityService.getFirstEntityWith(PlayerActions.class)).thenReturn(null);
 
         List<Vector2> triggers = List.of(new Vector2(10f, 0f));
         spawner = new BossSpawnerComponent(triggers, 2f);
@@ -206,7 +203,7 @@ class BossSpawnerComponentTest {
         spawnedDrones.add(deadDrone);
         spawnedDrones.add(null);
 
-        when(entityService.getEntities()).thenReturn(new Array<>());
+        when(entityService.isRegistered(any())).thenReturn(false);
 
         var cleanupMethod = BossSpawnerComponent.class.getDeclaredMethod("cleanupDeadDrones");
         cleanupMethod.setAccessible(true);
@@ -335,9 +332,7 @@ class BossSpawnerComponentTest {
         Entity activeDrone = mock(Entity.class);
         spawnedDrones.add(activeDrone);
 
-        Array<Entity> worldEntities = new Array<>();
-        worldEntities.add(activeDrone);
-        when(entityService.getEntities()).thenReturn(worldEntities);
+        when(entityService.isRegistered(activeDrone)).thenReturn(true);
 
         // Call private method
         var countMethod = BossSpawnerComponent.class.getDeclaredMethod("getActiveDroneCount");
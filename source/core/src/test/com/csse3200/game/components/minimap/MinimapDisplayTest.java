@@ -0,0 +1,122 @@
+package com.csse3200.game.components.minimap;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.MinimapService;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class MinimapDisplayTest {
+  private static final float DISPLAY_SIZE = 220f;
+  private static final float VIEWPORT_HEIGHT = 11f;
+  /** Minimap pixels per world unit */
+  private static final float SCALE = DISPLAY_SIZE / VIEWPORT_HEIGHT;
+
+  private MinimapService minimapService;
+  private MinimapDisplay display;
+  private Texture texture;
+
+  @BeforeEach
+  void beforeEach() {
+    OrthographicCamera camera = new OrthographicCamera(20f, VIEWPORT_HEIGHT);
+    CameraComponent cameraComponent = mock(CameraComponent.class);
+    when(cameraComponent.getCamera()).thenReturn(camera);
+    Renderer renderer = mock(Renderer.class);
+    when(renderer.getCamera()).thenReturn(cameraComponent);
+    RenderService renderService = mock(RenderService.class);
+    when(renderService.getRenderer()).thenReturn(renderer);
+    when(renderService.getStage()).thenReturn(mock(Stage.class));
+    ServiceLocator.registerRenderService(renderService);
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+
+    GameTime time = mock(GameTime.class);
+    when(time.getDeltaTime()).thenReturn(0.01f);
+    ServiceLocator.registerTimeSource(time);
+
+    texture = mock(Texture.class);
+    minimapService = new MinimapService(texture, new Vector2(100f, 100f), new Vector2(0f, 0f));
+    ServiceLocator.registerMinimapService(minimapService);
+    display = new MinimapDisplay(DISPLAY_SIZE, new MinimapDisplay.MinimapOptions());
+    minimapService.setDisplay(display);
+    display.create();
+  }
+
+  @Test
+  void shouldOnlyPlaceStaticMarkersWhenMoved() {
+    Entity wall = new Entity();
+    wall.setPosition(10f, 5f);
+    Image marker = new Image(texture);
+    minimapService.trackEntity(wall, marker);
+
+    display.update();
+    assertEquals(10f * SCALE, marker.getX(), 0.001f);
+    assertEquals(5f * SCALE, marker.getY(), 0.001f);
+
+    // Left alone while the entity stays still
+    marker.setPosition(-1f, -1f);
+    display.update();
+    assertEquals(-1f, marker.getX());
+
+    wall.setPosition(20f, 5f);
+    display.update();
+    assertEquals(20f * SCALE, marker.getX(), 0.001f);
+  }
+
+  @Test
+  void shouldRefreshMovingMarkersAtRate() {
+    display.setMarkerUpdateRate(10f);
+    assertEquals(10f, display.getMarkerUpdateRate(), 0.001f);
+
+    Entity drone = new Entity().addComponent(new PhysicsComponent());
+    drone.setPosition(10f, 5f);
+    Image marker = new Image(texture);
+    minimapService.trackEntity(drone, marker);
+    display.update();
+    assertEquals(10f * SCALE, marker.getX(), 0.001f);
+
+    // Moved by physics, which does not announce the move
+    drone.setPosition(new Vector2(12f, 5f), false);
+    for (int i = 0; i < 5; i++) {
+      display.update();
+    }
+    assertEquals(10f * SCALE, marker.getX(), 0.001f);
+
+    for (int i = 0; i < 5; i++) {
+      display.update();
+    }
+    assertEquals(12f * SCALE, marker.getX(), 0.001f);
+  }
+
+  @Test
+  void shouldStopPlacingRemovedMarkers() {
+    Entity wall = new Entity();
+    Image marker = new Image(texture);
+    minimapService.trackEntity(wall, marker);
+    display.update();
+    minimapService.stopTracking(wall);
+
+    wall.setPosition(20f, 5f);
+    display.update();
+    assertEquals(0f, marker.getX());
+    assertNull(marker.getParent());
+    assertFalse(wall.getEvents().hasListeners(EventKey.of("setPosition")));
+  }
+}
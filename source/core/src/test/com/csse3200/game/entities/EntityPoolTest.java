@@ -0,0 +1,165 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class EntityPoolTest {
+  private EntityService entityService;
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+  }
+
+  @Test
+  void shouldReuseReleasedEntities() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 4);
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+    TestComponent component = entity.getComponent(TestComponent.class);
+
+    entity.release();
+    assertEquals(1, component.deactivated);
+    assertFalse(entityService.getEntities().contains(entity, true));
+    assertTrue(entity.isDeactivated());
+
+    Entity reused = pool.obtain();
+    assertSame(entity, reused);
+    entityService.register(reused);
+    assertEquals(1, component.created);
+    assertEquals(1, component.reactivated);
+    assertFalse(reused.isDeactivated());
+    assertEquals(1, pool.getCreated());
+  }
+
+  @Test
+  void shouldDeactivateBodies() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 4);
+    Entity entity = pool.obtain();
+    entity.setPosition(2f, 3f);
+    entityService.register(entity);
+    Body body = entity.getComponent(PhysicsComponent.class).getBody();
+    assertTrue(body.isActive());
+
+    entity.release();
+    assertFalse(body.isActive());
+
+    pool.obtain();
+    entity.setPosition(5f, 1f);
+    entityService.register(entity);
+    assertTrue(body.isActive());
+    assertEquals(5f, body.getPosition().x, 1e-6);
+    assertEquals(1f, body.getPosition().y, 1e-6);
+  }
+
+  @Test
+  void shouldIgnoreDoubleRelease() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 4);
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+
+    entity.release();
+    entity.release();
+    assertEquals(1, pool.getFree());
+    assertEquals(1, entity.getComponent(TestComponent.class).deactivated);
+  }
+
+  @Test
+  void shouldDisposeWhenFull() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 1);
+    Entity first = pool.obtain();
+    Entity second = pool.obtain();
+    entityService.register(first);
+    entityService.register(second);
+
+    first.release();
+    second.release();
+    assertEquals(1, pool.getFree());
+    assertEquals(0, first.getComponent(TestComponent.class).disposed);
+    assertEquals(1, second.getComponent(TestComponent.class).disposed);
+  }
+
+  @Test
+  void shouldDisposeEntitiesReleasedAfterPoolsCleared() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 4);
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+
+    entityService.clearPools();
+    assertTrue(pool.isClosed());
+    entity.release();
+    assertEquals(0, pool.getFree());
+    assertEquals(1, entity.getComponent(TestComponent.class).disposed);
+    assertFalse(entityService.getEntities().contains(entity, true));
+
+    entity.release();
+    assertEquals(1, entity.getComponent(TestComponent.class).disposed);
+  }
+
+  @Test
+  void shouldDisposePooledEntitiesWithService() {
+    EntityPool pool = entityService.getPool("test", EntityPoolTest::makeEntity, 4);
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+    entity.release();
+
+    entityService.dispose();
+    assertEquals(1, entity.getComponent(TestComponent.class).disposed);
+    assertEquals(0, pool.getFree());
+    assertNotSame(pool, entityService.getPool("test", EntityPoolTest::makeEntity, 4));
+  }
+
+  @Test
+  void shouldDisposeUnpooledEntitiesOnRelease() {
+    Entity entity = makeEntity();
+    entityService.register(entity);
+    entity.release();
+    assertEquals(1, entity.getComponent(TestComponent.class).disposed);
+    assertFalse(entity.isDeactivated());
+  }
+
+  private static Entity makeEntity() {
+    return new Entity()
+        .addComponent(new PhysicsComponent())
+        .addComponent(new TestComponent());
+  }
+
+  static class TestComponent extends Component {
+    int created = 0;
+    int deactivated = 0;
+    int reactivated = 0;
+    int disposed = 0;
+
+    @Override
+    public void create() {
+      created++;
+    }
+
+    @Override
+    public void deactivate() {
+      deactivated++;
+    }
+
+    @Override
+    public void reactivate() {
+      reactivated++;
+    }
+
+    @Override
+    public void dispose() {
+      disposed++;
+    }
+  }
+}
@@ -1,9 +1,12 @@
 package com.csse3200.game.entities;
 
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.IdentifierComponent;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -46,4 +49,67 @@ class EntityServiceTest {
     entityService.dispose();
     verify(entity).dispose();
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldCheckRegistration() {
+    EntityService entityService = new EntityService();
+    Entity entity = new Entity();
+    assertFalse(entityService.isRegistered(entity));
+    entityService.register(entity);
+    assertTrue(entityService.isRegistered(entity));
+    entityService.unregister(entity);
+    assertFalse(entityService.isRegistered(entity));
+    assertFalse(entityService.isRegistered(null));
+  }
+
+  @Test
+  void shouldGetEntityByIdentifier() {
+    EntityService entityService = new EntityService();
+    Entity button = new Entity().addComponent(new IdentifierComponent("button1"));
+    entityService.register(button);
+    entityService.register(new Entity());
+
+    assertSame(button, entityService.getEntityById("button1"));
+    assertSame(button, entityService.getEntity(button.getId()));
+    assertNull(entityService.getEntityById("missing"));
+
+    entityService.unregister(button);
+    assertNull(entityService.getEntityById("button1"));
+    assertNull(entityService.getEntity(button.getId()));
+  }
+
+  @Test
+  void shouldFallBackToDuplicateIdentifier() {
+    EntityService entityService = new EntityService();
+    Entity first = new Entity().addComponent(new IdentifierComponent("door"));
+    Entity second = new Entity().addComponent(new IdentifierComponent("door"));
+    entityService.register(first);
+    entityService.register(second);
+
+    assertSame(first, entityService.getEntityById("door"));
+    entityService.unregister(first);
+    assertSame(second, entityService.getEntityById("door"));
+  }
+
+  @Test
+  void shouldIndexEntitiesByComponentType() {
+    EntityService entityService = new EntityService();
+    Entity tagged = new Entity().addComponent(new TagComponent());
+    entityService.register(tagged);
+    entityService.register(new Entity());
+
+    assertEquals(1, entityService.getEntitiesWith(TagComponent.class).size);
+    assertSame(tagged, entityService.getFirstEntityWith(TagComponent.class));
+
+    Entity later = new Entity().addComponent(new TagComponent());
+    entityService.register(later);
+    assertTrue(entityService.getEntitiesWith(TagComponent.class).contains(later, true));
+
+    entityService.unregister(tagged);
+    entityService.unregister(later);
+    assertTrue(entityService.getEntitiesWith(TagComponent.class).isEmpty());
+    assertNull(entityService.getFirstEntityWith(TagComponent.class));
+  }
+
+  static class TagComponent extends Component {}
+}
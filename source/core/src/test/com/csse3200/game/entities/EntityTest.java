@@ -45,6 +45,45 @@ class EntityTest {
     assertEquals(new Vector2(-4f, -9f), entity.getCenterPosition());
   }
 
+  @Test
+  void shouldReadTransformWithoutCopying() {
+    Entity entity = new Entity();
+    entity.setPosition(3f, 4f);
+    entity.setScale(2f, 6f);
+    long copiesBefore = Entity.getVectorCopyCount();
+
+    Vector2 out = new Vector2();
+    assertSame(out, entity.getPosition(out));
+    assertEquals(new Vector2(3f, 4f), out);
+    assertEquals(new Vector2(2f, 6f), entity.getScale(out));
+    assertEquals(new Vector2(4f, 7f), entity.getCenterPosition(out));
+    assertEquals(3f, entity.getX());
+    assertEquals(4f, entity.getY());
+    assertEquals(2f, entity.getScaleX());
+    assertEquals(6f, entity.getScaleY());
+    assertEquals(4f, entity.getCenterX());
+    assertEquals(7f, entity.getCenterY());
+    assertEquals(copiesBefore, Entity.getVectorCopyCount());
+
+    entity.getPosition();
+    assertEquals(copiesBefore + 1, Entity.getVectorCopyCount());
+  }
+
+  @Test
+  void shouldNotAliasPositionArguments() {
+    Entity entity = new Entity();
+    Vector2 pos = new Vector2(1f, 2f);
+    entity.setPosition(pos, false);
+    pos.set(5f, 5f);
+    assertEquals(new Vector2(1f, 2f), entity.getPosition());
+
+    Vector2[] received = new Vector2[1];
+    entity.getEvents().addListener("setPosition", (Vector2 p) -> received[0] = p);
+    entity.setPosition(pos);
+    received[0].set(0f, 0f);
+    assertEquals(new Vector2(5f, 5f), entity.getPosition());
+  }
+
   @Test
   void shouldUpdateComponents() {
     Entity entity = new Entity();
@@ -118,6 +157,18 @@ class EntityTest {
     assertNull(component);
   }
 
+  @Test
+  void shouldNotGetRemovedComponent() {
+    Entity entity = new Entity();
+    TestComponent1 component = new TestComponent1();
+    entity.addComponent(component);
+    entity.removeComponent(component);
+    assertNull(entity.getComponent(TestComponent1.class));
+
+    entity.addComponent(component);
+    assertEquals(component, entity.getComponent(TestComponent1.class));
+  }
+
   @Test
   void shouldDisposeComponents() {
     Entity entity = new Entity();
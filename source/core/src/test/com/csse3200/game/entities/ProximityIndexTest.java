@@ -0,0 +1,103 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.GridComponent;
+import com.csse3200.game.areas.terrain.GridComponent.GridOrientation;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ProximityIndexTest {
+  private EntityService entityService;
+  private ProximityIndex index;
+  private final Array<Entity> found = new Array<>();
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    index = entityService.getProximityIndex();
+  }
+
+  @Test
+  void shouldFindEntitiesWithinRadius() {
+    Entity near = spawn(2f, 0f, new MarkerComponent());
+    Entity far = spawn(10f, 0f, new MarkerComponent());
+    spawn(1f, 1f, new OtherComponent());
+
+    index.queryRadius(MarkerComponent.class, 0f, 0.5f, 2.5f, found);
+    assertEquals(1, found.size);
+    assertSame(near, found.first());
+
+    found.clear();
+    index.queryRadius(null, 0f, 0.5f, 2.5f, found);
+    assertEquals(2, found.size);
+    assertFalse(found.contains(far, true));
+  }
+
+  @Test
+  void shouldFindEntitiesOverlappingArea() {
+    Entity tall = spawn(5f, 0f, new MarkerComponent());
+    tall.setScale(1f, 20f);
+    spawn(20f, 20f, new MarkerComponent());
+
+    // Spans several cells, but is only returned once
+    index.queryArea(MarkerComponent.class, 4f, 2f, 2f, 16f, found);
+    assertEquals(1, found.size);
+    assertSame(tall, found.first());
+  }
+
+  @Test
+  void shouldFollowMovingEntities() {
+    Entity entity = spawn(0f, 0f, new MarkerComponent());
+    entity.setPosition(30f, 30f);
+
+    assertEquals(0, index.queryRadius(MarkerComponent.class, 0f, 0f, 2f, found).size);
+    assertEquals(1, index.queryRadius(MarkerComponent.class, 30f, 30f, 2f, found).size);
+  }
+
+  @Test
+  void shouldForgetUnregisteredEntities() {
+    Entity first = spawn(0f, 0f, new MarkerComponent());
+    Entity second = spawn(1f, 0f, new MarkerComponent());
+    entityService.unregister(first);
+
+    assertEquals(1, index.size());
+    index.queryRadius(null, 0f, 0f, 4f, found);
+    assertEquals(1, found.size);
+    assertSame(second, found.first());
+
+    // No longer tracked once unregistered
+    first.setPosition(1f, 1f);
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  void shouldKeepEntitiesWhenGridChanges() {
+    Entity entity = spawn(70f, 50f, new MarkerComponent());
+    index.setGrid(new GridComponent(new GridPoint2(200, 200), GridOrientation.ORTHOGONAL, 0.5f));
+
+    assertEquals(1, index.queryRadius(MarkerComponent.class, 70f, 50f, 1f, found).size);
+    assertSame(entity, found.first());
+  }
+
+  private Entity spawn(float x, float y, Component component) {
+    Entity entity = new Entity().addComponent(component);
+    entity.setPosition(x, y);
+    entityService.register(entity);
+    return entity;
+  }
+
+  static class MarkerComponent extends Component {
+  }
+
+  static class OtherComponent extends Component {
+  }
+}
@@ -0,0 +1,164 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.UpdateScheduler.Tier;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.FixedStepGameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class UpdateSchedulerTest {
+  private static final float STEP = 0.01f;
+
+  private EntityService entityService;
+  private UpdateScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    ServiceLocator.registerTimeSource(new FixedStepGameTime(STEP));
+    scheduler = entityService.getUpdateScheduler();
+  }
+
+  @Test
+  void shouldPickTiersByDistance() {
+    scheduler.setFocus(0f, 0f);
+    assertEquals(Tier.FULL, scheduler.getTier(new Vector2(10f, 0f)));
+    assertEquals(Tier.QUARTER, scheduler.getTier(new Vector2(0f, 20f)));
+    assertEquals(Tier.SIXTEENTH, scheduler.getTier(new Vector2(-50f, 0f)));
+    assertEquals(Tier.SLEEP, scheduler.getTier(new Vector2(100f, 100f)));
+  }
+
+  @Test
+  void shouldUpdateEveryFrameWithoutFocus() {
+    CountingComponent component = register(200f, 0f, true);
+    runFrames(16);
+    assertEquals(16, component.updates);
+  }
+
+  @Test
+  void shouldUpdateFarEntitiesLessOftenWithAccumulatedDelta() {
+    scheduler.setFocus(0f, 0f);
+    CountingComponent quarter = register(20f, 0f, true);
+    CountingComponent sixteenth = register(50f, 0f, true);
+    CountingComponent near = register(1f, 0f, true);
+
+    runFrames(32);
+
+    assertEquals(8, quarter.updates);
+    assertEquals(2, sixteenth.updates);
+    assertEquals(32, near.updates);
+    // Apart from the first update, every update is handed the time since the last one
+    assertEquals(STEP * 4, quarter.deltas.peek(), 1e-5f);
+    assertEquals(STEP * 16, sixteenth.deltas.peek(), 1e-5f);
+    assertEquals(STEP, near.deltas.peek(), 1e-5f);
+    assertEquals(STEP * 32, quarter.totalDelta(), STEP * 4);
+  }
+
+  @Test
+  void shouldKeepPinnedComponentsAtFullRate() {
+    scheduler.setFocus(0f, 0f);
+    Entity entity = new Entity();
+    CountingComponent scheduled = new CountingComponent(true);
+    CountingComponent pinned = new CountingComponent(false);
+    entity.addComponent(scheduled).addComponent(new PinnedComponent(pinned));
+    entity.setPosition(20f, 0f);
+    entityService.register(entity);
+
+    runFrames(8);
+
+    assertEquals(2, scheduled.updates);
+    assertEquals(8, pinned.updates);
+    assertEquals(STEP, pinned.deltas.peek(), 1e-5f);
+  }
+
+  @Test
+  void shouldSleepWithoutHandingOverTime() {
+    scheduler.setFocus(0f, 0f);
+    CountingComponent component = register(200f, 0f, true);
+
+    runFrames(10);
+    assertEquals(0, component.updates);
+    assertEquals(1, scheduler.getTierCount(Tier.SLEEP));
+    assertEquals(1, scheduler.getSkippedCount());
+
+    component.getEntity().setPosition(0f, 0f);
+    runFrames(1);
+    assertEquals(1, component.updates);
+    assertEquals(STEP, component.deltas.peek(), 1e-5f);
+  }
+
+  @Test
+  void shouldUpdateEveryFrameWhenDisabled() {
+    scheduler.setFocus(0f, 0f);
+    scheduler.setEnabled(false);
+    CountingComponent component = register(50f, 0f, true);
+
+    runFrames(16);
+    assertEquals(16, component.updates);
+  }
+
+  @Test
+  void shouldRejectDecreasingDistances() {
+    assertThrows(IllegalArgumentException.class, () -> scheduler.setTierDistances(10f, 5f, 20f));
+  }
+
+  private CountingComponent register(float x, float y, boolean updateLod) {
+    CountingComponent component = new CountingComponent(updateLod);
+    Entity entity = new Entity().addComponent(component);
+    entity.setPosition(x, y);
+    entityService.register(entity);
+    return component;
+  }
+
+  private void runFrames(int frames) {
+    for (int i = 0; i < frames; i++) {
+      entityService.update();
+    }
+  }
+
+  static class CountingComponent extends Component {
+    int updates = 0;
+    final FloatArray deltas = new FloatArray();
+
+    CountingComponent(boolean updateLod) {
+      this.updateLod = updateLod;
+    }
+
+    @Override
+    public void update() {
+      updates++;
+      deltas.add(ServiceLocator.getTimeSource().getDeltaTime());
+    }
+
+    float totalDelta() {
+      float total = 0f;
+      for (int i = 0; i < deltas.size; i++) {
+        total += deltas.get(i);
+      }
+      return total;
+    }
+  }
+
+  /** Second component type, as an entity holds one component of each type. */
+  static class PinnedComponent extends Component {
+    private final CountingComponent counter;
+
+    PinnedComponent(CountingComponent counter) {
+      this.counter = counter;
+    }
+
+    @Override
+    public void update() {
+      counter.update();
+    }
+  }
+}
@@ -14,6 +14,7 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.AfterEach;
@@ -22,7 +23,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(GameExtension.class)
 class ProjectileFactoryTest {
@@ -91,6 +95,27 @@ class ProjectileFactoryTest {
         assertEquals(damage, bomb.getComponent(CombatStatsComponent.class).getBaseAttack());
     }
 
+    @Test
+    void createBomb_shouldReuseReleasedBombs() {
+        ServiceLocator.registerTimeSource(new GameTime());
+        Entity bomb = ProjectileFactory.createBomb(new Entity(), new Vector2(0, 10), new Vector2(5, 0), 1f, 2f, 10);
+        ServiceLocator.getEntityService().register(bomb);
+        bomb.release();
+        assertFalse(bomb.getComponent(PhysicsComponent.class).getBody().isActive());
+
+        Entity reused = ProjectileFactory.createBomb(new Entity(), new Vector2(4, 6), new Vector2(5, 0), 1f, 2f, 25);
+        assertSame(bomb, reused);
+        ServiceLocator.getEntityService().register(reused);
+
+        PhysicsComponent phys = reused.getComponent(PhysicsComponent.class);
+        assertTrue(phys.getBody().isActive());
+        assertEquals(3.75f, phys.getBody().getPosition().x, 1e-6);
+        assertEquals(5.75f, phys.getBody().getPosition().y, 1e-6);
+        assertEquals(25, reused.getComponent(CombatStatsComponent.class).getBaseAttack());
+        assertFalse(reused.getComponent(BombComponent.class).hasExploded());
+        assertEquals(PhysicsLayer.NPC, reused.getComponent(ColliderComponent.class).getLayer());
+    }
+
     @Test
     void createProjectile_shouldHaveCorrectComponents() {
         Entity projectile = ProjectileFactory.createProjectile(new Entity(), new Vector2(1, 0), 5f, 15);
@@ -9,7 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -92,4 +92,72 @@ class EventHandlerTest {
       handler.trigger("stringEvent", true);
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldShareListenersBetweenKeyAndName() {
+    EventKey key = EventKey.of("keyedEvent");
+    EventListener1<Integer> listener = (EventListener1<Integer>)mock(EventListener1.class);
+    handler.addListener("keyedEvent", listener);
+
+    handler.trigger(key, 1);
+    handler.trigger("keyedEvent", 2);
+    verify(listener).handle(1);
+    verify(listener).handle(2);
+  }
+
+  @Test
+  void shouldInternEventKeys() {
+    EventKey key = EventKey.of("internedEvent");
+    assertSame(key, EventKey.of("internedEvent"));
+    assertNotEquals(key.getId(), EventKey.of("otherInternedEvent").getId());
+    assertEquals("internedEvent", key.getName());
+  }
+
+  @Test
+  void shouldKeepListenersOfManyEvents() {
+    EventListener0[] listeners = new EventListener0[5];
+    for (int i = 0; i < listeners.length; i++) {
+      listeners[i] = mock(EventListener0.class);
+      handler.addListener("manyEvent" + i, listeners[i]);
+    }
+    handler.removeListeners("manyEvent1");
+    for (int i = 0; i < listeners.length; i++) {
+      handler.trigger("manyEvent" + i);
+    }
+    verify(listeners[0]).handle();
+    verify(listeners[1], never()).handle();
+    verify(listeners[4]).handle();
+  }
+
+  @Test
+  void shouldRemoveSingleListener() {
+    EventListener0 removed = mock(EventListener0.class);
+    EventListener0 kept = mock(EventListener0.class);
+    handler.addListener("singleRemoveEvent", removed);
+    handler.addListener("singleRemoveEvent", kept);
+    handler.removeListener("singleRemoveEvent", removed);
+    handler.trigger("singleRemoveEvent");
+    verify(removed, never()).handle();
+    verify(kept).handle();
+
+    handler.removeListener("singleRemoveEvent", kept);
+    assertFalse(handler.hasListeners(EventKey.of("singleRemoveEvent")));
+  }
+
+  @Test
+  void shouldReportListeners() {
+    EventKey key = EventKey.of("reportedEvent");
+    assertFalse(handler.hasListeners(key));
+    handler.addListener(key, () -> {});
+    assertTrue(handler.hasListeners(key));
+    assertFalse(new EventHandler().hasListeners(key));
+  }
+
+  @Test
+  void shouldNotifyListenersAddedDuringTrigger() {
+    EventListener0 late = mock(EventListener0.class);
+    handler.addListener("event", () -> handler.addListener("event", late));
+    handler.trigger("event");
+    verify(late).handle();
+  }
+}
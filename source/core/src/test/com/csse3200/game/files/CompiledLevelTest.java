@@ -0,0 +1,119 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.configs.LevelConfig;
+import com.csse3200.game.entities.configs.ParallaxConfig;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class CompiledLevelTest {
+  private static final String[] LEVELS = {
+      "tutorial", "level-one", "level-two", "level-three", "boss-level"
+  };
+
+  @Test
+  void shouldReadBackEveryLevel() throws IOException {
+    Json json = new Json();
+    for (String level : LEVELS) {
+      CompiledLevel original = readJson(level);
+      assertTrue(original.validate().isEmpty(), level + ": " + original.validate());
+
+      CompiledLevel read = roundTrip(original);
+      assertEquals(json.toJson(original.config()), json.toJson(read.config()), level);
+      assertEquals(json.toJson(original.assets()), json.toJson(read.assets()), level);
+      assertEquals(json.toJson(original.parallax()), json.toJson(read.parallax()), level);
+    }
+  }
+
+  @Test
+  void shouldKeepNullValues() throws IOException {
+    LevelConfig config = new LevelConfig();
+    config.name = "test";
+    config.mapSize = new int[] {10, 20};
+    LevelConfig.E entity = new LevelConfig.E();
+    entity.type = "box";
+    entity.sx = null;
+    entity.centerX = null;
+    entity.centerY = false;
+    config.entities = List.of(entity);
+    LevelAssetsConfig assets = new LevelAssetsConfig();
+    assets.textures = List.of("a.png");
+
+    CompiledLevel read = roundTrip(new CompiledLevel(config, assets, new ParallaxConfig()));
+    LevelConfig.E readEntity = read.config().entities.get(0);
+    assertEquals("box", readEntity.type);
+    assertNull(readEntity.subtype);
+    assertNull(readEntity.sx);
+    assertEquals(1f, readEntity.sy);
+    assertNull(readEntity.centerX);
+    assertFalse(readEntity.centerY);
+    assertNull(read.config().playerSpawn);
+    assertNull(read.assets().sounds);
+    assertEquals(List.of("a.png"), read.assets().textures);
+  }
+
+  @Test
+  void shouldReportInvalidLevels() {
+    LevelConfig config = new LevelConfig();
+    config.mapSize = new int[] {10};
+    config.miniMap = "missing.png";
+    config.entities = List.of(new LevelConfig.E());
+    LevelAssetsConfig assets = new LevelAssetsConfig();
+    assets.textures = List.of("a.png", "a.png");
+    assets.atlases = List.of();
+    assets.sounds = List.of("gone.mp3");
+    assets.music = List.of();
+    ParallaxConfig parallax = new ParallaxConfig();
+    ParallaxConfig.Layer layer = new ParallaxConfig.Layer();
+    layer.texture = "b.png";
+    parallax.layers.add(layer);
+
+    CompiledLevel level = new CompiledLevel(config, assets, parallax);
+    List<String> problems = level.validate();
+    assertEquals(List.of(
+        "config: missing name",
+        "config: mapSize must have two values",
+        "config: playerSpawn must have two values",
+        "config: entity 0 has no type",
+        "config: miniMap missing.png is not in the level's textures",
+        "parallax: layers texture b.png is not in the level's textures"), problems);
+
+    assertEquals(List.of(
+        "assets: a.png is listed twice in textures",
+        "assets: gone.mp3 does not exist"),
+        level.findAssetProblems(path -> path.endsWith(".png")));
+  }
+
+  @Test
+  void shouldRejectOtherFiles() {
+    byte[] bytes = {1, 2, 3, 4, 0, 0, 0, 1};
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    assertThrows(IOException.class, () -> CompiledLevel.read(in));
+  }
+
+  private static CompiledLevel readJson(String level) {
+    String dir = "levels/" + level + "/";
+    return new CompiledLevel(
+        FileLoader.readClass(LevelConfig.class, dir + "config.json"),
+        FileLoader.readClass(LevelAssetsConfig.class, dir + "assets.json"),
+        FileLoader.readClass(ParallaxConfig.class, dir + "parallax.json"));
+  }
+
+  private static CompiledLevel roundTrip(CompiledLevel level) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    level.write(new DataOutputStream(bytes));
+    return CompiledLevel.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+}
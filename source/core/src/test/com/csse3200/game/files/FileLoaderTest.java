@@ -45,4 +45,32 @@ class FileLoaderTest {
                   TestStats.class, "test/files/invalid.json");
         assertNull(test);
     }
+
+    @Test
+    void shouldReuseCachedClass() {
+        FileLoader.clearCache();
+        TestStats first = FileLoader.readCachedClass(TestStats.class, "test/files/valid.json");
+        TestStats second = FileLoader.readCachedClass(TestStats.class, "test/files/valid.json");
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(3, second.stat1);
+
+        FileLoader.clearCache();
+        assertNotSame(first, FileLoader.readCachedClass(TestStats.class, "test/files/valid.json"));
+    }
+
+    @Test
+    void shouldNotCacheFailedReads() {
+        FileLoader.clearCache();
+        int[] parses = {0};
+        assertNull(FileLoader.readCached(TestStats.class, "test/files/missing.json", file -> {
+            parses[0]++;
+            return null;
+        }));
+        assertNull(FileLoader.readCached(TestStats.class, "test/files/missing.json", file -> {
+            parses[0]++;
+            return null;
+        }));
+        assertEquals(2, parses[0]);
+    }
 }
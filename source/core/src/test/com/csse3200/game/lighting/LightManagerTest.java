@@ -0,0 +1,182 @@
+package com.csse3200.game.lighting;
+
+import box2dLight.ConeLight;
+import box2dLight.RayHandler;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.csse3200.game.components.lighting.ConeLightComponent;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class LightManagerTest {
+    private static final float SLOW_FRAME = 1f / 20f;
+    private static final float FAST_FRAME = 1f / 60f;
+
+    private RayHandler rayHandler;
+    private LightManager manager;
+    private OrthographicCamera camera;
+
+    @BeforeEach
+    void setUp() {
+        rayHandler = mock(RayHandler.class);
+        manager = new LightManager(rayHandler);
+        camera = new OrthographicCamera(20f, 12f);
+        camera.position.set(0f, 0f, 0f);
+    }
+
+    @Test
+    void shouldCullLightsOutOfView() {
+        ConeLightComponent near = mockLight(2f, 2f, 5f, 128);
+        ConeLightComponent far = mockLight(60f, 60f, 5f, 128);
+        manager.register(near);
+        manager.register(far);
+
+        manager.update(camera, 0f);
+
+        verify(near).setCulled(false);
+        verify(far).setCulled(true);
+        assertEquals(1, manager.getActiveCount());
+        assertEquals(1, manager.getCulledCount());
+    }
+
+    @Test
+    void shouldKeepLightsReachingIntoView() {
+        // Centre is off screen, but the light reaches the view
+        ConeLightComponent light = mockLight(15f, 0f, 6f, 128);
+        manager.register(light);
+
+        manager.update(camera, 0f);
+
+        verify(light).setCulled(false);
+        assertEquals(1, manager.getActiveCount());
+    }
+
+    @Test
+    void shouldSkipInactiveAndUnregisteredLights() {
+        ConeLightComponent inactive = mockLight(0f, 0f, 5f, 128);
+        when(inactive.isActive()).thenReturn(false);
+        ConeLightComponent removed = mockLight(0f, 0f, 5f, 128);
+        manager.register(inactive);
+        manager.register(removed);
+        manager.unregister(removed);
+
+        manager.update(camera, 0f);
+
+        verify(inactive, never()).setCulled(anyBoolean());
+        verify(removed, never()).setCulled(anyBoolean());
+        assertEquals(0, manager.getActiveCount());
+        assertEquals(1, manager.getLightCount());
+    }
+
+    @Test
+    void shouldMarkLightsOnStaticBodiesStatic() {
+        ConeLightComponent onStatic = mockLight(0f, 0f, 5f, 128);
+        Body staticBody = mock(Body.class);
+        when(staticBody.getType()).thenReturn(BodyType.StaticBody);
+        when(onStatic.getLight().getBody()).thenReturn(staticBody);
+
+        ConeLightComponent onDynamic = mockLight(1f, 0f, 5f, 128);
+        Body dynamicBody = mock(Body.class);
+        when(dynamicBody.getType()).thenReturn(BodyType.DynamicBody);
+        when(onDynamic.getLight().getBody()).thenReturn(dynamicBody);
+
+        manager.register(onStatic);
+        manager.register(onDynamic);
+        manager.update(camera, 0f);
+
+        verify(onStatic.getLight()).setStaticLight(true);
+        verify(onDynamic.getLight(), never()).setStaticLight(anyBoolean());
+        assertEquals(1, manager.getStaticCount());
+    }
+
+    @Test
+    void shouldLowerBudgetWhenFramesAreSlow() {
+        ConeLightComponent light = mockLight(0f, 0f, 5f, 128);
+        manager.register(light);
+
+        manager.update(camera, FAST_FRAME);
+        assertEquals(0, manager.getLevel());
+        assertEquals(128, manager.getRayCount());
+
+        runFrames(LightManager.FRAMES_TO_LOWER + 10, SLOW_FRAME);
+
+        assertEquals(1, manager.getLevel());
+        assertEquals(96, manager.getRayCount());
+        verify(rayHandler).setBlurNum(2);
+        verify(light.getLight(), atLeastOnce()).setDirection(anyFloat());
+    }
+
+    @Test
+    void shouldNotLowerRaysBelowMinimum() {
+        ConeLightComponent light = mockLight(0f, 0f, 5f, 16);
+        manager.register(light);
+
+        runFrames(LightManager.FRAMES_TO_LOWER * 10, SLOW_FRAME);
+
+        assertEquals(3, manager.getLevel());
+        assertEquals(LightManager.MIN_RAYS, manager.getRayCount());
+    }
+
+    @Test
+    void shouldRaiseBudgetWhenFramesAreFastAgain() {
+        manager.register(mockLight(0f, 0f, 5f, 128));
+        runFrames(LightManager.FRAMES_TO_LOWER + 10, SLOW_FRAME);
+        assertEquals(1, manager.getLevel());
+
+        runFrames(LightManager.FRAMES_TO_RAISE + 60, FAST_FRAME);
+
+        assertEquals(0, manager.getLevel());
+        assertEquals(128, manager.getRayCount());
+        verify(rayHandler).setBlurNum(LightingDefaults.BLUR_NUM);
+    }
+
+    @Test
+    void shouldRestoreBudgetWhenNotAdaptive() {
+        runFrames(LightManager.FRAMES_TO_LOWER * 10, SLOW_FRAME);
+        assertTrue(manager.getLevel() > 0);
+
+        manager.setAdaptive(false);
+        assertEquals(0, manager.getLevel());
+        runFrames(LightManager.FRAMES_TO_LOWER * 10, SLOW_FRAME);
+        assertEquals(0, manager.getLevel());
+    }
+
+    @Test
+    void shouldNotTouchRayHandlerAtFullBudget() {
+        manager.register(mockLight(0f, 0f, 5f, 128));
+        runFrames(LightManager.FRAMES_TO_RAISE * 2, FAST_FRAME);
+        verify(rayHandler, never()).setBlurNum(anyInt());
+    }
+
+    private void runFrames(int frames, float frameTime) {
+        for (int i = 0; i < frames; i++) {
+            manager.update(camera, frameTime);
+        }
+    }
+
+    /**
+     * Light component whose light reports a ray count, so changes from the manager are kept.
+     */
+    private static ConeLightComponent mockLight(float x, float y, float distance, int rays) {
+        ConeLight light = mock(ConeLight.class);
+        when(light.getX()).thenReturn(x);
+        when(light.getY()).thenReturn(y);
+        when(light.getDistance()).thenReturn(distance);
+        when(light.getRayNum()).thenReturn(rays);
+
+        ConeLightComponent component = mock(ConeLightComponent.class);
+        when(component.getLight()).thenReturn(light);
+        when(component.isActive()).thenReturn(true);
+        when(component.getRays()).thenReturn(rays);
+        return component;
+    }
+}
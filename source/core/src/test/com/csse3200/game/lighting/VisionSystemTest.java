@@ -0,0 +1,165 @@
+package com.csse3200.game.lighting;
+
+import box2dLight.ConeLight;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.components.lighting.ConeDetectorComponent;
+import com.csse3200.game.components.lighting.ConeLightComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class VisionSystemTest {
+    private PhysicsEngine physics;
+    private VisionSystem vision;
+    private Entity target;
+    private long frame;
+
+    @BeforeEach
+    void setUp() {
+        physics = mock(PhysicsEngine.class);
+        ServiceLocator.registerPhysicsService(new PhysicsService(physics));
+        frame = 0;
+        vision = new VisionSystem(() -> frame);
+        target = new Entity();
+        target.setPosition(2f, 0f);
+    }
+
+    @Test
+    void shouldCheckAllDetectorsInOnePass() {
+        VisionSystem.Viewer first = vision.register(mockDetector(0f, 0f, 0f));
+        VisionSystem.Viewer second = vision.register(mockDetector(4f, 0f, 180f));
+
+        assertTrue(vision.isDetected(first));
+        assertTrue(vision.isDetected(second));
+        assertEquals(1, vision.getPassCount());
+        verify(physics, times(2)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+
+        frame++;
+        assertTrue(vision.isDetected(second));
+        assertTrue(vision.isDetected(first));
+        assertEquals(2, vision.getPassCount());
+    }
+
+    @Test
+    void shouldReadFreshResultsAfterSkippedFrame() {
+        VisionSystem.Viewer first = vision.register(mockDetector(0f, 0f, 0f));
+        VisionSystem.Viewer second = vision.register(mockDetector(4f, 0f, 180f));
+        assertTrue(vision.isDetected(first));
+        assertTrue(vision.isDetected(second));
+
+        // The first detector does not update this frame
+        frame++;
+        assertTrue(vision.isDetected(second));
+
+        frame++;
+        target.setPosition(-20f, 0f);
+        assertFalse(vision.isDetected(first));
+        assertFalse(vision.isDetected(second));
+        // Reading twice in a frame does not run another pass
+        assertFalse(vision.isDetected(first));
+        assertEquals(3, vision.getPassCount());
+    }
+
+    @Test
+    void shouldRejectFarTargetsWithoutRaycast() {
+        VisionSystem.Viewer far = vision.register(mockDetector(40f, 40f, 0f));
+
+        assertFalse(vision.isDetected(far));
+        assertEquals(1, vision.getRejectedCount());
+        assertEquals(0, vision.getRaycastCount());
+        verifyNoInteractions(physics);
+    }
+
+    @Test
+    void shouldOnlyRaycastWhenConeContainsTarget() {
+        // In range, but facing away from the target
+        VisionSystem.Viewer away = vision.register(mockDetector(0f, 0f, 180f));
+        // In the square around the light but outside its radius
+        VisionSystem.Viewer corner = vision.register(mockDetector(-2.5f, -3.5f, 45f));
+
+        assertFalse(vision.isDetected(away));
+        assertFalse(vision.isDetected(corner));
+        assertEquals(0, vision.getRejectedCount());
+        verifyNoInteractions(physics);
+    }
+
+    @Test
+    void shouldNotDetectOccludedTargets() {
+        when(physics.raycast(any(Vector2.class), any(Vector2.class), eq(PhysicsLayer.OBSTACLE), any()))
+            .thenReturn(true);
+        VisionSystem.Viewer viewer = vision.register(mockDetector(0f, 0f, 0f));
+
+        assertFalse(vision.isDetected(viewer));
+        assertEquals(1, vision.getRaycastCount());
+    }
+
+    @Test
+    void shouldKeepResultsBetweenTicks() {
+        GameTime time = mock(GameTime.class);
+        when(time.getDeltaTime()).thenReturn(0.04f);
+        ServiceLocator.registerTimeSource(time);
+        vision.setTickRate(10f);
+        assertEquals(10f, vision.getTickRate(), 0.001f);
+
+        VisionSystem.Viewer viewer = vision.register(mockDetector(0f, 0f, 0f));
+        // New detectors are checked straight away
+        assertTrue(vision.isDetected(viewer));
+
+        target.setPosition(-20f, 0f);
+        frame++;
+        assertTrue(vision.isDetected(viewer));
+        frame++;
+        assertFalse(vision.isDetected(viewer));
+        verify(physics, times(1)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+    }
+
+    @Test
+    void shouldStopCheckingUnregisteredDetectors() {
+        ConeDetectorComponent detector = mockDetector(0f, 0f, 0f);
+        VisionSystem.Viewer viewer = vision.register(detector);
+        assertSame(viewer, vision.register(detector));
+        vision.unregister(viewer);
+
+        assertEquals(0, vision.getDetectorCount());
+        VisionSystem.Viewer other = vision.register(mockDetector(40f, 40f, 0f));
+        vision.isDetected(other);
+        verifyNoInteractions(physics);
+    }
+
+    /**
+     * Detector on an entity at the given position, with a 5 unit light facing the given direction
+     * and a 30 degree cone. The target starts 2 units to the right of the origin.
+     */
+    private ConeDetectorComponent mockDetector(float x, float y, float directionDeg) {
+        Entity entity = new Entity();
+        entity.setPosition(x, y);
+
+        ConeLight light = mock(ConeLight.class);
+        when(light.getDistance()).thenReturn(5f);
+        when(light.getDirection()).thenReturn(directionDeg);
+        when(light.getConeDegree()).thenReturn(30f);
+        ConeLightComponent lightComponent = mock(ConeLightComponent.class);
+        when(lightComponent.getLight()).thenReturn(light);
+
+        ConeDetectorComponent detector = mock(ConeDetectorComponent.class);
+        when(detector.getEntity()).thenReturn(entity);
+        when(detector.getTarget()).thenReturn(target);
+        when(detector.getConeLight()).thenReturn(lightComponent);
+        when(detector.getOccluderMask()).thenReturn(PhysicsLayer.OBSTACLE);
+        return detector;
+    }
+}
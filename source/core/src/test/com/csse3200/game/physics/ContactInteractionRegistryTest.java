@@ -0,0 +1,120 @@
+package com.csse3200.game.physics;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ContactInteractionRegistryTest {
+  private final List<String> calls = new ArrayList<>();
+  private int builtInCount;
+
+  @BeforeEach
+  void beforeEach() {
+    builtInCount = ContactInteractionRegistry.getInteractionCount();
+    ContactInteractionRegistry.register(
+        TargetComponent.class,
+        OtherComponent.class,
+        (target, other, begin) -> calls.add(target.name + ">" + other.getId() + ":" + begin));
+    ContactInteractionRegistry.register(
+        AnyComponent.class, null, (target, other, begin) -> calls.add("any:" + begin));
+  }
+
+  @AfterEach
+  void afterEach() {
+    ContactInteractionRegistry.reset();
+  }
+
+  @Test
+  void shouldDispatchInBothDirections() {
+    BodyUserData target = userData(new TargetComponent("t"));
+    BodyUserData other = userData(new OtherComponent());
+
+    assertTrue(ContactInteractionRegistry.dispatch(other, target, true));
+    assertTrue(ContactInteractionRegistry.dispatch(target, other, false));
+    assertEquals(
+        List.of("t>" + other.entity.getId() + ":true", "t>" + other.entity.getId() + ":false"),
+        calls);
+  }
+
+  @Test
+  void shouldRequireOtherComponent() {
+    BodyUserData target = userData(new TargetComponent("t"));
+    BodyUserData plain = userData(new PlainComponent());
+
+    assertTrue(ContactInteractionRegistry.dispatch(target, plain, true));
+    assertTrue(calls.isEmpty());
+  }
+
+  @Test
+  void shouldMatchAnyOtherEntity() {
+    BodyUserData any = userData(new AnyComponent());
+    BodyUserData plain = userData(new PlainComponent());
+
+    ContactInteractionRegistry.dispatch(plain, any, true);
+    assertEquals(List.of("any:true"), calls);
+  }
+
+  @Test
+  void shouldRejectUninterestedContacts() {
+    BodyUserData plain = userData(new PlainComponent());
+    BodyUserData other = userData(new OtherComponent());
+
+    assertEquals(0L, ContactInteractionRegistry.getMask(plain));
+    assertNotEquals(0L, ContactInteractionRegistry.getMask(other));
+    assertFalse(ContactInteractionRegistry.dispatch(plain, other, true));
+    assertTrue(calls.isEmpty());
+  }
+
+  @Test
+  void shouldRecomputeMaskAfterRegistering() {
+    BodyUserData late = userData(new LateComponent());
+    assertEquals(0L, ContactInteractionRegistry.getMask(late));
+
+    ContactInteractionRegistry.register(LateComponent.class, null, (target, other, begin) -> {});
+    assertNotEquals(0L, ContactInteractionRegistry.getMask(late));
+  }
+
+  @Test
+  void resetShouldKeepOnlyBuiltInInteractions() {
+    BodyUserData any = userData(new AnyComponent());
+    assertNotEquals(0L, ContactInteractionRegistry.getMask(any));
+
+    ContactInteractionRegistry.reset();
+    assertEquals(builtInCount, ContactInteractionRegistry.getInteractionCount());
+    assertTrue(builtInCount > 0);
+    assertEquals(0L, ContactInteractionRegistry.getMask(any));
+  }
+
+  private static BodyUserData userData(Component component) {
+    Entity entity = new Entity().addComponent(component);
+    BodyUserData data = new BodyUserData();
+    data.entity = entity;
+    return data;
+  }
+
+  static class TargetComponent extends Component {
+    final String name;
+
+    TargetComponent(String name) {
+      this.name = name;
+    }
+  }
+
+  static class OtherComponent extends Component {}
+
+  static class AnyComponent extends Component {}
+
+  static class PlainComponent extends Component {}
+
+  static class LateComponent extends Component {}
+}
@@ -1,13 +1,19 @@
 package com.csse3200.game.physics;
 
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.services.GameTime;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
@@ -55,6 +61,46 @@ class PhysicsEngineTest {
     verify(world).destroyBody(body);
   }
 
+  @Test
+  void shouldDropCachedRaycastsWhenFixturesChange() {
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    Body body = mock(Body.class);
+    Fixture fixture = mock(Fixture.class);
+    FixtureDef fixtureDef = new FixtureDef();
+    when(body.createFixture(fixtureDef)).thenReturn(fixture);
+    engine.getRaycastQueries().raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+
+    assertSame(fixture, engine.createFixture(body, fixtureDef));
+    assertEquals(0, engine.getRaycastQueries().getCachedCount());
+
+    engine.getRaycastQueries().raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    engine.destroyFixture(body, fixture);
+    verify(body).destroyFixture(fixture);
+    assertEquals(0, engine.getRaycastQueries().getCachedCount());
+  }
+
+  @Test
+  void shouldCopyCachedRaycastHits() {
+    World realWorld = new World(Vector2.Zero, true);
+    PhysicsEngine engine = new PhysicsEngine(realWorld, gameTime);
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.position.set(5f, 0f);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(0.5f, 0.5f);
+    realWorld.createBody(bodyDef).createFixture(shape, 1f);
+    shape.dispose();
+
+    RaycastHit hit = new RaycastHit();
+    assertTrue(engine.raycast(Vector2.Zero, new Vector2(10f, 0f), hit));
+    RaycastHit cached = engine.getRaycastQueries().raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    assertNotSame(cached.point, hit.point);
+    assertNotSame(cached.normal, hit.normal);
+
+    hit.point.set(0f, 0f);
+    assertEquals(4.5f, cached.point.x, 0.01f);
+    realWorld.dispose();
+  }
+
   @Test
   void shouldCreateJoint() {
     PhysicsEngine engine = new PhysicsEngine(world, gameTime);
@@ -0,0 +1,142 @@
+package com.csse3200.game.physics.raycast;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsLayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class RaycastQueryServiceTest {
+  private World world;
+  private RaycastQueryService queries;
+
+  @BeforeEach
+  void beforeEach() {
+    world = new World(Vector2.Zero, true);
+    queries = new RaycastQueryService(world);
+  }
+
+  @AfterEach
+  void afterEach() {
+    world.dispose();
+  }
+
+  @Test
+  void shouldShareDuplicateQueries() {
+    createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+
+    RaycastHit first = queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    RaycastHit second = queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    assertNotNull(first);
+    assertSame(first, second);
+    assertEquals(4.5f, first.point.x, 0.01f);
+    assertNull(queries.raycast(0f, 2f, 10f, 2f, PhysicsLayer.ALL));
+
+    assertEquals(3, queries.getQueryCount());
+    assertEquals(2, queries.getCastCount());
+  }
+
+  @Test
+  void shouldKeepStaticRaysBetweenSteps() {
+    createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+    queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+
+    step();
+    assertNotNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+    step();
+    assertNotNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+    assertEquals(0, queries.getCastCount());
+  }
+
+  @Test
+  void shouldRecastWhenBodyNearRayMoves() {
+    createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+    Body moving = createBox(BodyDef.BodyType.DynamicBody, 3f, 10f);
+    step();
+    assertEquals(4.5f, queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL).point.x, 0.01f);
+
+    // A moving body far from the ray does not invalidate it
+    moving.setLinearVelocity(0f, 1f);
+    step();
+    queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    assertEquals(0, queries.getCastCount());
+
+    moving.setTransform(3f, 0f, 0f);
+    step();
+    assertEquals(2.5f, queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL).point.x, 0.01f);
+    assertEquals(1, queries.getCastCount());
+  }
+
+  @Test
+  void shouldRecastWhenStaticBodyChanges() {
+    Body box = createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+    step();
+    assertNotNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+
+    box.setActive(false);
+    step();
+    assertNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+  }
+
+  @Test
+  void shouldRecastWhenBodyMovesWithoutStep() {
+    Body box = createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+    queries.update();
+    assertNotNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+
+    box.setTransform(5f, 10f, 0f);
+    queries.update();
+    assertNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+  }
+
+  @Test
+  void shouldRecastWhenHitFixtureDestroyed() {
+    Body box = createBox(BodyDef.BodyType.StaticBody, 5f, 0f);
+    queries.update();
+    RaycastHit hit = queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    assertNotNull(hit);
+
+    // Destroyed during the frame, after the update has run
+    box.destroyFixture(hit.fixture);
+    assertNull(queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL));
+    assertEquals(2, queries.getCastCount());
+  }
+
+  @Test
+  void shouldDropUnusedQueries() {
+    queries.raycast(0f, 0f, 10f, 0f, PhysicsLayer.ALL);
+    assertEquals(1, queries.getCachedCount());
+
+    queries.update();
+    assertEquals(1, queries.getCachedCount());
+    queries.update();
+    assertEquals(0, queries.getCachedCount());
+  }
+
+  private void step() {
+    world.step(0.016f, 6, 2);
+    queries.update();
+  }
+
+  private Body createBox(BodyDef.BodyType type, float x, float y) {
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.type = type;
+    bodyDef.position.set(x, y);
+    bodyDef.gravityScale = 0f;
+    Body body = world.createBody(bodyDef);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(0.5f, 0.5f);
+    body.createFixture(shape, 1f);
+    shape.dispose();
+    return body;
+  }
+}
@@ -1,12 +1,20 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -45,8 +53,8 @@ class RenderServiceTest {
     // Same layer, renderable2 is in front
     when(renderable1.getLayer()).thenReturn(1);
     when(renderable2.getLayer()).thenReturn(1);
-    when(renderable1.compareTo(any())).thenReturn(1);
-    when(renderable2.compareTo(any())).thenReturn(-1);
+    when(renderable1.getZIndex()).thenReturn(1f);
+    when(renderable2.getZIndex()).thenReturn(-1f);
 
     renderService.register(renderable1);
     renderService.register(renderable2);
@@ -66,8 +74,8 @@ class RenderServiceTest {
 
     when(renderable1.getLayer()).thenReturn(1);
     when(renderable2.getLayer()).thenReturn(2);
-    when(renderable1.compareTo(any())).thenReturn(1);
-    when(renderable2.compareTo(any())).thenReturn(-1);
+    when(renderable1.getZIndex()).thenReturn(1f);
+    when(renderable2.getZIndex()).thenReturn(-1f);
 
     renderService.register(renderable1);
     renderService.register(renderable2);
@@ -77,4 +85,292 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldOnlyResortWhenZIndexChanges() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    TestRenderable back = new TestRenderable(0f, false);
+    TestRenderable front = new TestRenderable(1f, false);
+    renderService.register(front);
+    renderService.register(back);
+
+    renderService.render(spriteBatch);
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getSortCount(1));
+
+    back.z = 2f;
+    InOrder inOrder = Mockito.inOrder(back.batchSpy, front.batchSpy);
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getSortCount(1));
+    inOrder.verify(front.batchSpy).run();
+    inOrder.verify(back.batchSpy).run();
+  }
+
+  @Test
+  void shouldNotResortStaticLayer() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    TestRenderable first = new TestRenderable(1f, true);
+    TestRenderable second = new TestRenderable(0f, true);
+    renderService.register(first);
+    renderService.register(second);
+
+    renderService.render(spriteBatch);
+    first.z = -1f;
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getSortCount(1));
+
+    renderService.zIndexChanged(first);
+    InOrder inOrder = Mockito.inOrder(first.batchSpy, second.batchSpy);
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getSortCount(1));
+    inOrder.verify(first.batchSpy).run();
+    inOrder.verify(second.batchSpy).run();
+  }
+
+  @Test
+  void shouldSortEveryFrameWhenNotIncremental() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    renderService.setIncrementalSorting(false);
+    renderService.register(new TestRenderable(0f, false));
+
+    renderService.render(spriteBatch);
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getSortCount(1));
+  }
+
+  @Test
+  void shouldCullOffScreenRenderables() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    OrthographicCamera camera = new OrthographicCamera(20f, 10f);
+    camera.position.set(10f, 5f, 0f);
+
+    TestRenderable onScreen = new TestRenderable(0f, false);
+    onScreen.bounds = new Rectangle(5f, 5f, 1f, 1f);
+    TestRenderable offScreen = new TestRenderable(0f, false);
+    offScreen.bounds = new Rectangle(50f, 5f, 1f, 1f);
+    TestRenderable unbounded = new TestRenderable(0f, false);
+    renderService.register(onScreen);
+    renderService.register(offScreen);
+    renderService.register(unbounded);
+
+    renderService.prepareFrame(camera);
+    renderService.render(spriteBatch);
+    verify(onScreen.batchSpy).run();
+    verify(offScreen.batchSpy, never()).run();
+    verify(unbounded.batchSpy).run();
+    assertEquals(2, renderService.getSubmittedCount());
+    assertEquals(1, renderService.getCulledCount());
+
+    offScreen.bounds.setPosition(12f, 2f);
+    renderService.boundsChanged(offScreen);
+    renderService.prepareFrame(camera);
+    renderService.render(spriteBatch);
+    verify(offScreen.batchSpy).run();
+    assertEquals(0, renderService.getCulledCount());
+  }
+
+  @Test
+  void shouldOnlyRefreshBoundsWhenChanged() {
+    RenderService renderService = new RenderService();
+    TestRenderable renderable = spy(new TestRenderable(0f, false));
+    renderable.bounds = new Rectangle(5f, 5f, 1f, 1f);
+    renderService.register(renderable);
+    OrthographicCamera camera = new OrthographicCamera(20f, 10f);
+
+    renderService.prepareFrame(camera);
+    renderService.prepareFrame(camera);
+    verify(renderable, times(1)).getBounds(any());
+
+    renderService.boundsChanged(renderable);
+    renderService.prepareFrame(camera);
+    verify(renderable, times(2)).getBounds(any());
+  }
+
+  @Test
+  void shouldRefreshBoundsWhenEntityMoves() {
+    RenderService renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    OrthographicCamera camera = new OrthographicCamera(20f, 10f);
+    camera.position.set(10f, 5f, 0f);
+    RenderComponent component = spy(RenderComponent.class);
+    Entity entity = new Entity().addComponent(component);
+    entity.setPosition(50f, 5f);
+    entity.create();
+
+    renderService.prepareFrame(camera);
+    renderService.render(spriteBatch);
+    verify(component, never()).draw(spriteBatch);
+
+    // Physics moves entities without triggering the setPosition event
+    entity.setPosition(new Vector2(5f, 5f), false);
+    renderService.prepareFrame(camera);
+    renderService.render(spriteBatch);
+    verify(component).draw(spriteBatch);
+
+    component.dispose();
+    entity.setPosition(50f, 5f);
+    renderService.prepareFrame(camera);
+    assertEquals(0, renderService.getCulledCount());
+  }
+
+  @Test
+  void shouldNotCullWhenDisabled() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    renderService.setCullingEnabled(false);
+    TestRenderable offScreen = new TestRenderable(0f, false);
+    offScreen.bounds = new Rectangle(500f, 500f, 1f, 1f);
+    renderService.register(offScreen);
+
+    renderService.prepareFrame(new OrthographicCamera(20f, 10f));
+    renderService.render(spriteBatch);
+    verify(offScreen.batchSpy).run();
+  }
+
+  @Test
+  void shouldGroupByTextureWhenTextureSorting() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture textureA = mock(Texture.class);
+    Texture textureB = mock(Texture.class);
+    TestRenderable a1 = new TestRenderable(0f, true, textureA);
+    TestRenderable b1 = new TestRenderable(1f, true, textureB);
+    TestRenderable a2 = new TestRenderable(2f, true, textureA);
+    TestRenderable unknown = new TestRenderable(3f, true, null);
+    TestRenderable b2 = new TestRenderable(4f, true, textureB);
+    renderService.register(b2);
+    renderService.register(unknown);
+    renderService.register(a2);
+    renderService.register(b1);
+    renderService.register(a1);
+
+    renderService.setTextureSorting(true);
+    InOrder inOrder = Mockito.inOrder(
+        a1.batchSpy, a2.batchSpy, b1.batchSpy, b2.batchSpy, unknown.batchSpy);
+    renderService.render(spriteBatch);
+    inOrder.verify(a1.batchSpy).run();
+    inOrder.verify(a2.batchSpy).run();
+    inOrder.verify(b1.batchSpy).run();
+    inOrder.verify(b2.batchSpy).run();
+    inOrder.verify(unknown.batchSpy).run();
+
+    renderService.setTextureSorting(false);
+    inOrder = Mockito.inOrder(
+        a1.batchSpy, a2.batchSpy, b1.batchSpy, b2.batchSpy, unknown.batchSpy);
+    renderService.render(spriteBatch);
+    inOrder.verify(a1.batchSpy).run();
+    inOrder.verify(b1.batchSpy).run();
+    inOrder.verify(a2.batchSpy).run();
+    inOrder.verify(unknown.batchSpy).run();
+    inOrder.verify(b2.batchSpy).run();
+  }
+
+  @Test
+  void shouldNotTextureSortCulledRenderables() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture texture = mock(Texture.class);
+    TestRenderable onScreen = new TestRenderable(0f, false, texture);
+    onScreen.bounds = new Rectangle(0f, 0f, 1f, 1f);
+    TestRenderable offScreen = new TestRenderable(1f, false, texture);
+    offScreen.bounds = new Rectangle(500f, 500f, 1f, 1f);
+    renderService.register(onScreen);
+    renderService.register(offScreen);
+    renderService.setTextureSorting(true);
+
+    renderService.prepareFrame(new OrthographicCamera(20f, 10f));
+    renderService.render(spriteBatch);
+    verify(onScreen.batchSpy).run();
+    verify(offScreen.batchSpy, never()).run();
+    assertEquals(1, renderService.getCulledCount());
+  }
+
+  @Test
+  void shouldCountFlushesAgainstLayers() {
+    RenderService renderService = new RenderService();
+    RenderStats stats = new RenderStats();
+    renderService.setStats(stats);
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable flushing = mock(Renderable.class);
+    when(flushing.getLayer()).thenReturn(2);
+    doAnswer(invocation -> {
+      stats.recordTextureSwitch();
+      stats.recordFlush(RenderStats.FlushCause.EXPLICIT, 3);
+      return null;
+    }).when(flushing).render(spriteBatch);
+    renderService.register(flushing);
+    renderService.register(new TestRenderable(0f, true, null));
+
+    stats.beginFrame();
+    renderService.render(spriteBatch);
+    stats.beginFrame();
+
+    assertEquals(1, stats.getLayer(2).getRenderCalls());
+    assertEquals(12, stats.getLayer(2).getVertices());
+    assertEquals(1, stats.getLayer(2).getTextureSwitches());
+    assertEquals(0, stats.getLayer(1).getRenderCalls());
+    assertNull(stats.getLayer(3));
+  }
+
+  private static class TestRenderable implements Renderable {
+    private final Runnable batchSpy = mock(Runnable.class);
+    private final boolean zIndexStatic;
+    private float z;
+    private final Texture texture;
+    private Rectangle bounds;
+
+    TestRenderable(float z, boolean zIndexStatic) {
+      this(z, zIndexStatic, null);
+    }
+
+    TestRenderable(float z, boolean zIndexStatic, Texture texture) {
+      this.z = z;
+      this.zIndexStatic = zIndexStatic;
+      this.texture = texture;
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      batchSpy.run();
+    }
+
+    @Override
+    public float getZIndex() {
+      return z;
+    }
+
+    @Override
+    public boolean isZIndexStatic() {
+      return zIndexStatic;
+    }
+
+    @Override
+    public boolean getBounds(Rectangle out) {
+      if (bounds == null) {
+        return false;
+      }
+      out.set(bounds);
+      return true;
+    }
+
+    @Override
+    public Texture getBatchTexture() {
+      return texture;
+    }
+
+    @Override
+    public int getLayer() {
+      return 1;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+  }
 }
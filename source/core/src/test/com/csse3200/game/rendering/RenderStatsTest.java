@@ -0,0 +1,76 @@
+package com.csse3200.game.rendering;
+
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.rendering.RenderStats.FlushCause;
+import com.csse3200.game.rendering.RenderStats.Pass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(GameExtension.class)
+class RenderStatsTest {
+  @Test
+  void shouldCountByPassAndLayer() {
+    RenderStats stats = new RenderStats();
+    stats.beginFrame();
+    stats.beginPass(Pass.WORLD);
+    stats.beginLayer(1);
+    stats.recordTextureSwitch();
+    stats.recordFlush(FlushCause.TEXTURE_SWITCH, 10);
+    stats.endLayer();
+    stats.recordFlush(FlushCause.END, 2);
+    stats.endPass();
+    stats.beginPass(Pass.UI);
+    stats.recordFlush(FlushCause.STATE_CHANGE, 5);
+    stats.endPass();
+    stats.recordVfxPasses(2);
+    stats.beginFrame();
+
+    RenderStats.Counters frame = stats.getFrame();
+    assertEquals(3, frame.getRenderCalls());
+    assertEquals(17, frame.getSprites());
+    assertEquals(68, frame.getVertices());
+    assertEquals(1, frame.getTextureSwitches());
+    assertEquals(1, frame.getFlushes(FlushCause.END));
+    assertEquals(2, stats.getPass(Pass.WORLD).getRenderCalls());
+    assertEquals(0, stats.getPass(Pass.OVERLAY).getRenderCalls());
+    assertEquals(1, stats.getPass(Pass.UI).getFlushes(FlushCause.STATE_CHANGE));
+    assertEquals(1, stats.getLayer(1).getRenderCalls());
+    assertEquals(10, stats.getLayer(1).getSprites());
+    assertEquals(2, stats.getVfxPasses());
+  }
+
+  @Test
+  void shouldOnlyReportCompleteFrames() {
+    RenderStats stats = new RenderStats();
+    stats.beginFrame();
+    stats.recordFlush(FlushCause.EXPLICIT, 1);
+    assertEquals(0, stats.getFrame().getRenderCalls());
+
+    stats.beginFrame();
+    stats.recordFlush(FlushCause.EXPLICIT, 1);
+    stats.recordFlush(FlushCause.EXPLICIT, 1);
+    assertEquals(1, stats.getFrame().getRenderCalls());
+
+    stats.beginFrame();
+    assertEquals(2, stats.getFrame().getRenderCalls());
+  }
+
+  @Test
+  void shouldReportLayers() {
+    RenderStats stats = new RenderStats();
+    stats.beginFrame();
+    stats.beginPass(Pass.OVERLAY);
+    stats.beginLayer(5);
+    stats.recordFlush(FlushCause.BUFFER_FULL, 1000);
+    stats.endPass();
+    stats.beginFrame();
+
+    String report = stats.buildReport();
+    assertTrue(report.contains("Layer 5: 1 calls, 1000 sprites, 4000 vertices"));
+    assertTrue(report.contains("buffer_full=1"));
+    assertTrue(stats.getSummary().contains("overlay 1"));
+  }
+}
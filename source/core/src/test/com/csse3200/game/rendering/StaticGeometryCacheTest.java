@@ -0,0 +1,135 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class StaticGeometryCacheTest {
+  private RenderService renderService;
+  private SpriteCache spriteCache;
+  private StaticGeometryCache cache;
+  private SpriteBatch batch;
+
+  @BeforeEach
+  void beforeEach() {
+    renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+    spriteCache = mock(SpriteCache.class);
+    cache = new StaticGeometryCache(renderService) {
+      @Override
+      SpriteCache createCache(int sprites) {
+        return spriteCache;
+      }
+    };
+    batch = mock(SpriteBatch.class);
+  }
+
+  @Test
+  void shouldBakeOneChunkPerRegion() {
+    TestTiles near = spawn(1f, 1f, 3);
+    TestTiles nearby = spawn(4f, 2f, 2);
+    TestTiles far = spawn(40f, 1f, 4);
+
+    assertEquals(3, cache.bake(Array.with(near, nearby, far)));
+    assertTrue(near.isBaked());
+    assertEquals(2, cache.getChunks().size);
+    verify(spriteCache, times(9)).add(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+
+    renderService.render(batch);
+    verify(spriteCache, times(2)).draw(anyInt());
+    verify(batch, never()).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+
+  @Test
+  void shouldDrawMovedComponentsDirectly() {
+    TestTiles still = spawn(1f, 1f, 3);
+    TestTiles moving = spawn(40f, 1f, 2);
+    cache.bake(Array.with(still, moving));
+
+    moving.getEntity().setPosition(41f, 1f);
+    cache.prepare();
+
+    assertTrue(still.isBaked());
+    assertFalse(moving.isBaked());
+    assertEquals(1, cache.getChunks().size);
+    assertEquals(2, cache.getRebuildCount());
+    renderService.render(batch);
+    verify(batch, times(2)).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+
+  @Test
+  void shouldDropDisposedComponents() {
+    TestTiles kept = spawn(1f, 1f, 3);
+    TestTiles disposed = spawn(2f, 1f, 2);
+    cache.bake(Array.with(kept, disposed));
+
+    disposed.dispose();
+    assertEquals(1, cache.getMemberCount());
+    cache.prepare();
+
+    assertEquals(1, cache.getChunks().size);
+    assertEquals(3, cache.getChunks().first().getSpriteCount());
+    renderService.render(batch);
+    verify(batch, never()).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+
+  @Test
+  void shouldLeaveOversizedChunksToDrawDirectly() {
+    TestTiles huge = spawn(1f, 1f, StaticGeometryCache.MAX_SPRITES + 1);
+    TestTiles small = spawn(40f, 1f, 2);
+
+    assertEquals(1, cache.bake(Array.with(huge, small)));
+    assertFalse(huge.isBaked());
+    assertTrue(small.isBaked());
+    assertEquals(1, cache.getChunks().size);
+  }
+
+  @Test
+  void shouldDrawDirectlyWithoutSpriteCaches() {
+    // Sprite caches cannot compile their shader with the mocked GL
+    TestTiles tiles = spawn(1f, 1f, 3);
+
+    assertEquals(0, renderService.bakeStaticGeometry());
+    assertFalse(tiles.isBaked());
+    assertFalse(renderService.isStaticGeometryEnabled());
+    renderService.render(batch);
+    verify(batch, times(3)).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+
+  private TestTiles spawn(float x, float y, int tiles) {
+    TestTiles component = new TestTiles(tiles);
+    Entity entity = new Entity().addComponent(component);
+    entity.setPosition(x, y);
+    entity.create();
+    return component;
+  }
+
+  /** Draws a row of one unit tiles from the entity's position. */
+  static class TestTiles extends TiledRenderComponent {
+    private final TextureRegion region = new TextureRegion();
+    private final int tiles;
+
+    TestTiles(int tiles) {
+      this.tiles = tiles;
+    }
+
+    @Override
+    protected void drawTiles(TileDrawer out) {
+      for (int i = 0; i < tiles; i++) {
+        out.draw(region, entity.getX() + i, entity.getY(), 1f, 1f);
+      }
+    }
+  }
+}
@@ -2,14 +2,20 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,12 +28,54 @@ class TextureRenderComponentTest {
 
   @Test
   void shouldDrawTexture() {
-    when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-    when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+    when(entity.getX()).thenReturn(2f);
+    when(entity.getY()).thenReturn(2f);
+    when(entity.getScaleX()).thenReturn(1f);
+    when(entity.getScaleY()).thenReturn(1f);
     TextureRenderComponent component = new TextureRenderComponent(texture);
     component.setEntity(entity);
     component.render(spriteBatch);
 
     verify(spriteBatch).draw(texture, 2f, 2f, 1f, 1f);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldBoundRotatedTexture() {
+    Entity laser = new Entity();
+    laser.setPosition(0f, 0f);
+    laser.setScale(4f, 1.3f);
+    TextureRenderComponent component = new TextureRenderComponent(texture);
+    component.setEntity(laser);
+    component.setRotation(90f);
+
+    Rectangle bounds = new Rectangle();
+    assertTrue(component.getBounds(bounds));
+    assertEquals(1.35f, bounds.x, 0.001f);
+    assertEquals(-1.35f, bounds.y, 0.001f);
+    assertEquals(1.3f, bounds.width, 0.001f);
+    assertEquals(4f, bounds.height, 0.001f);
+  }
+
+  @Test
+  void shouldDrawPackedRegion() {
+    ResourceService resourceService = new ResourceService();
+    ServiceLocator.registerResourceService(resourceService);
+    resourceService.loadTextureAtlases(new String[] {"test/files/packed.atlas"});
+    resourceService.loadAll();
+
+    when(entity.getX()).thenReturn(2f);
+    when(entity.getY()).thenReturn(2f);
+    when(entity.getScaleX()).thenReturn(1f);
+    when(entity.getScaleY()).thenReturn(1f);
+    TextureRenderComponent component = new TextureRenderComponent("test/files/heart.png");
+    component.setEntity(entity);
+    component.render(spriteBatch);
+
+    TextureRegion region = resourceService.findPackedRegion("test/files/heart.png");
+    verify(spriteBatch).draw(region, 2f, 2f, 0.5f, 0.5f, 1f, 1f, 1f, 1f, 0f);
+    // The loose texture is not needed to draw from the atlas
+    assertFalse(resourceService.containsAsset("test/files/heart.png", Texture.class));
+    resourceService.dispose();
+    ServiceLocator.clear();
+  }
+}
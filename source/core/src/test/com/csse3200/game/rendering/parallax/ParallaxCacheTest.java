@@ -0,0 +1,81 @@
+package com.csse3200.game.rendering.parallax;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class ParallaxCacheTest {
+    private Texture texture;
+    private OrthographicCamera camera;
+    private ParallaxCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(32);
+        when(texture.getHeight()).thenReturn(32);
+        camera = new OrthographicCamera(20f, 12f);
+        cache = new ParallaxCache();
+    }
+
+    @Test
+    void shouldGroupNeighbouringLayersWithSameScrollRate() {
+        cache.addLayer(stretched(0.2f));
+        cache.addLayer(stretched(0.2f));
+        cache.addLayer(stretched(0.5f));
+        // A tiled layer with factor -0.5 scrolls like a stretched layer with factor 0.5
+        cache.addLayer(tiled(-0.5f));
+        cache.addLayer(stretched(0.2f));
+
+        List<ParallaxCache.Group> groups = cache.getGroups();
+        assertEquals(3, groups.size());
+        assertEquals(2, groups.get(0).getLayerCount());
+        assertEquals(2, groups.get(1).getLayerCount());
+        assertEquals(1, groups.get(2).getLayerCount());
+    }
+
+    @Test
+    void shouldOnlyCacheGroupsWithSeveralQuads() {
+        cache.addLayer(stretched(0.2f));
+        cache.addLayer(tiled(0.4f));
+        cache.addLayer(stretched(0.6f));
+        cache.addLayer(stretched(0.6f));
+
+        List<ParallaxCache.Group> groups = cache.getGroups();
+        assertFalse(groups.get(0).isCached());
+        assertTrue(groups.get(1).isCached());
+        assertTrue(groups.get(2).isCached());
+    }
+
+    @Test
+    void shouldDrawLayersDirectlyWithoutFramebuffers() {
+        SpriteBatch batch = mock(SpriteBatch.class);
+        cache.addLayer(stretched(0.2f));
+        cache.addLayer(stretched(0.2f));
+        cache.addLayer(stretched(0.5f));
+
+        cache.draw(batch, camera);
+
+        verify(batch, times(3)).draw(eq(texture), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+        assertEquals(0, cache.getRedrawCount());
+    }
+
+    private ParallaxLayer stretched(float factor) {
+        return new ParallaxLayer(texture, camera, factor, 100f, 20f);
+    }
+
+    private ParallaxLayer tiled(float factor) {
+        return new ParallaxLayer(texture, camera, factor, 100f, 20f, true, false, 1f, 1f, 0f, 0f);
+    }
+}
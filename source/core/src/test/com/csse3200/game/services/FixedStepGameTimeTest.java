@@ -0,0 +1,38 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class FixedStepGameTimeTest {
+  @Test
+  void shouldAdvanceByWholeSteps() {
+    FixedStepGameTime time = new FixedStepGameTime(0.02f);
+    assertEquals(0L, time.getTime());
+
+    for (int i = 0; i < 50; i++) {
+      time.tick();
+    }
+    assertEquals(50L, time.getTicks());
+    assertEquals(1000L, time.getTime());
+    assertEquals(400L, time.getTimeSince(600L));
+  }
+
+  @Test
+  void shouldScaleDelta() {
+    FixedStepGameTime time = new FixedStepGameTime(0.02f);
+    assertEquals(0.02f, time.getDeltaTime());
+
+    time.setTimeScale(0f);
+    assertEquals(0f, time.getDeltaTime());
+    assertEquals(0.02f, time.getRawDeltaTime());
+  }
+
+  @Test
+  void shouldRejectNonPositiveStep() {
+    assertThrows(IllegalArgumentException.class, () -> new FixedStepGameTime(0f));
+  }
+}
@@ -40,7 +40,7 @@ class MinimapServiceTest {
 
     assertEquals(newMarker, minimapService.getTrackedEntities().get(entity));
     verify(mockMinimapDisplay).removeMarker(oldMarker);
-    verify(mockMinimapDisplay).addMarker(newMarker);
+    verify(mockMinimapDisplay).addMarker(entity, newMarker);
   }
 
   @Test
@@ -65,7 +65,7 @@ class MinimapServiceTest {
 
     assertEquals(1, minimapService.getTrackedEntities().size());
     assertEquals(marker1, minimapService.getTrackedEntities().get(entity));
-    verify(mockMinimapDisplay, times(1)).addMarker(any(Image.class));
+    verify(mockMinimapDisplay, times(1)).addMarker(any(Entity.class), any(Image.class));
   }
 
   @Test
@@ -77,7 +77,7 @@ class MinimapServiceTest {
 
     assertTrue(minimapService.getTrackedEntities().containsKey(entity));
     assertEquals(marker, minimapService.getTrackedEntities().get(entity));
-    verify(mockMinimapDisplay).addMarker(marker);
+    verify(mockMinimapDisplay).addMarker(entity, marker);
 
     minimapService.stopTracking(entity);
 
@@ -5,12 +5,20 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
@@ -144,4 +152,178 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
   }
 
+  @Test
+  void updatePrefetchShouldLoadPrefetchedAssets() {
+    String texture1 = "test/files/tree.png";
+    String texture2 = "test/files/heart.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    assertTrue(resourceService.isPrefetchComplete());
+    resourceService.prefetchAssets(new String[] {texture1, texture2}, Texture.class);
+    assertFalse(resourceService.isPrefetchComplete());
+
+    while (!resourceService.updatePrefetch()) {
+      ;
+    }
+
+    verify(assetManager, atLeastOnce()).update(ResourceService.DEFAULT_PREFETCH_BUDGET_MILLIS);
+    assertTrue(resourceService.isPrefetchComplete());
+    assertTrue(resourceService.containsAsset(texture1, Texture.class));
+    assertTrue(resourceService.containsAsset(texture2, Texture.class));
+  }
+
+  @Test
+  void releasePrefetchedAssetsShouldOnlyUnloadUnusedAssets() {
+    String kept = "test/files/tree.png";
+    String unused = "test/files/heart.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.prefetchAssets(new String[] {kept, unused}, Texture.class);
+    resourceService.loadAll();
+    resourceService.loadTextures(new String[] {kept});
+    resourceService.loadAll();
+    resourceService.releasePrefetchedAssets();
+
+    assertTrue(resourceService.containsAsset(kept, Texture.class));
+    assertFalse(resourceService.containsAsset(unused, Texture.class));
+    assertTrue(resourceService.isPrefetchComplete());
+  }
+
+  @Test
+  void prefetchedAssetsShouldSurviveUnloadByPreviousUser() {
+    String texture = "test/files/tree.png";
+    String[] textures = {texture};
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadTextures(textures);
+    resourceService.loadAll();
+    resourceService.prefetchAssets(textures, Texture.class);
+    resourceService.loadAll();
+    resourceService.unloadAssets(textures);
+
+    assertTrue(resourceService.containsAsset(texture, Texture.class));
+  }
+
+  @Test
+  void shouldRejectInvalidPrefetchBudget() {
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.setPrefetchBudgetMillis(8);
+    assertEquals(8, resourceService.getPrefetchBudgetMillis());
+    assertThrows(IllegalArgumentException.class, () -> resourceService.setPrefetchBudgetMillis(0));
+  }
+
+  @Test
+  void retainedAssetsShouldLoadOnceAndUnloadOnLastRelease() {
+    String shared = "test/files/tree.png";
+    String[] oldLevel = {shared, "test/files/heart.png"};
+    String[] newLevel = {shared};
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    assertEquals(2, resourceService.retainAssets(oldLevel, Texture.class));
+    resourceService.loadAll();
+    assertEquals(0, resourceService.retainAssets(newLevel, Texture.class));
+    assertEquals(2, resourceService.getReferenceCount(shared));
+    verify(assetManager, times(1)).load(shared, Texture.class);
+
+    assertEquals(1, resourceService.releaseAssets(oldLevel));
+    assertTrue(resourceService.containsAsset(shared, Texture.class));
+    assertFalse(resourceService.containsAsset("test/files/heart.png", Texture.class));
+
+    assertEquals(1, resourceService.releaseAssets(newLevel));
+    assertEquals(0, resourceService.getReferenceCount(shared));
+    assertFalse(resourceService.containsAsset(shared, Texture.class));
+  }
+
+  @Test
+  void getMemoryStatsShouldGroupByType() {
+    String texture1 = "test/files/tree.png";
+    String texture2 = "test/files/heart.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {texture1, texture2});
+    resourceService.loadAll();
+
+    Map<Class<?>, AssetMemoryStats> stats = resourceService.getMemoryStats();
+    Texture tree = resourceService.getAsset(texture1, Texture.class);
+    Texture heart = resourceService.getAsset(texture2, Texture.class);
+
+    assertEquals(2, stats.get(Texture.class).count());
+    assertTrue(stats.get(Texture.class).bytes()
+        >= (long) tree.getWidth() * tree.getHeight() + (long) heart.getWidth() * heart.getHeight());
+    assertFalse(stats.containsKey(Sound.class));
+  }
+
+  @Test
+  void shouldFindPackedRegionsInLoadedAtlases() {
+    String atlas = "test/files/packed.atlas";
+    String packed = "test/files/heart.png";
+    String loose = "test/files/tree.png";
+
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.loadTextures(new String[] {packed});
+    resourceService.loadAll();
+    assertNull(resourceService.findPackedRegion(packed));
+
+    resourceService.loadTextureAtlases(new String[] {atlas});
+    resourceService.loadAll();
+    TextureRegion region = resourceService.findPackedRegion(packed);
+    assertNotNull(region);
+    assertEquals(500, region.getRegionWidth());
+    assertSame(region,
+        resourceService.findPackedRegion(resourceService.getAsset(packed, Texture.class)));
+    assertNull(resourceService.findPackedRegion(loose));
+
+    resourceService.unloadAssets(new String[] {atlas});
+    assertNull(resourceService.findPackedRegion(packed));
+  }
+
+  @Test
+  void shouldFindPackedRegionsOnceQueuedAtlasLoads() {
+    String atlas = "test/files/packed.atlas";
+    String packed = "test/files/heart.png";
+
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.loadTextureAtlases(new String[] {atlas});
+    assertNull(resourceService.findPackedRegion(packed));
+
+    resourceService.loadAll();
+    assertNotNull(resourceService.findPackedRegion(packed));
+  }
+
+  @Test
+  void shouldLoadPackedTexturesOnlyWhenAskedFor() {
+    String atlas = "test/files/packed.atlas";
+    String packed = "test/files/heart.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    assertEquals(Set.of(packed), resourceService.readRegionNames(atlas));
+
+    resourceService.loadTextureAtlases(new String[] {atlas});
+    resourceService.loadAll();
+    assertNotNull(resourceService.getRegion(packed));
+    assertFalse(assetManager.isLoaded(packed, Texture.class));
+
+    // Asking for the loose texture queues it rather than blocking
+    assertNull(resourceService.getAsset(packed, Texture.class));
+    assertNull(resourceService.getAsset(packed, Texture.class));
+    verify(assetManager, never()).finishLoadingAsset(anyString());
+    verify(assetManager, times(1)).load(packed, Texture.class);
+
+    resourceService.loadAll();
+    assertNotNull(resourceService.getAsset(packed, Texture.class));
+    assertTrue(assetManager.isLoaded(packed, Texture.class));
+
+    resourceService.unloadAssets(new String[] {atlas});
+    assertFalse(assetManager.isLoaded(packed, Texture.class));
+  }
 }
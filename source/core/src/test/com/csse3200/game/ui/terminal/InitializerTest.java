@@ -11,6 +11,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.screens.MainGameScreen;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.FrameProfiler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -123,6 +124,22 @@ class InitializerTest {
     assertNotNull(console);
   }
 
+  @Test
+  void shouldGetEntityById() {
+    when(mockEntityService.getEntity(7)).thenReturn(player);
+    assertSame(player, shell.eval("getEntityById(7);"));
+    assertNull(shell.eval("getEntityById(8);"));
+  }
+
+  @Test
+  void shouldToggleProfiler() {
+    shell.eval("profile(true);");
+    assertTrue(FrameProfiler.isEnabled());
+    assertEquals(-1.0, shell.eval("profilePercentile(\"missing\", 95);"));
+    shell.eval("profile(false);");
+    assertFalse(FrameProfiler.isEnabled());
+  }
+
   @Test
   void shouldDefineTrueFalseConstants() {
     assertEquals(true, shell.eval("true;"));
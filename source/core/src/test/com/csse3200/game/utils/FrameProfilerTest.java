@@ -0,0 +1,67 @@
+package com.csse3200.game.utils;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class FrameProfilerTest {
+  @AfterEach
+  void afterEach() {
+    FrameProfiler.setEnabled(false);
+  }
+
+  @Test
+  void shouldNotRecordWhenDisabled() {
+    FrameProfiler.setEnabled(true);
+    FrameProfiler.setEnabled(false);
+    FrameProfiler.beginFrame();
+    FrameProfiler.begin(FrameProfiler.Phase.PHYSICS);
+    FrameProfiler.end(FrameProfiler.Phase.PHYSICS);
+    FrameProfiler.endFrame();
+
+    assertEquals(0, FrameProfiler.getPercentile(FrameProfiler.Phase.PHYSICS, 50));
+    assertEquals("", FrameProfiler.getReport());
+  }
+
+  @Test
+  void shouldRecordPhasesAndComponents() throws InterruptedException {
+    FrameProfiler.setEnabled(true);
+    Entity entity = new Entity().addComponent(new SlowComponent());
+    entity.create();
+
+    for (int i = 0; i < 3; i++) {
+      FrameProfiler.beginFrame();
+      FrameProfiler.begin(FrameProfiler.Phase.ENTITIES);
+      entity.update();
+      FrameProfiler.end(FrameProfiler.Phase.ENTITIES);
+      FrameProfiler.endFrame();
+    }
+
+    long componentTime = FrameProfiler.getPercentile(SlowComponent.class, 50);
+    assertTrue(componentTime >= 1_000_000L, "component update should take at least 1ms");
+    assertTrue(FrameProfiler.getPercentile(FrameProfiler.Phase.ENTITIES, 50) >= componentTime);
+    assertTrue(FrameProfiler.getPercentile(FrameProfiler.Phase.FRAME, 99) >= componentTime);
+    assertEquals(0, FrameProfiler.getPercentile(FrameProfiler.Phase.PHYSICS, 50));
+
+    assertTrue(FrameProfiler.getPercentileMillis("entities", 95) >= 1.0);
+    assertTrue(FrameProfiler.getPercentileMillis("SlowComponent", 95) >= 1.0);
+    assertEquals(-1.0, FrameProfiler.getPercentileMillis("missing", 95));
+    assertTrue(FrameProfiler.getReport().contains("SlowComponent"));
+  }
+
+  static class SlowComponent extends Component {
+    @Override
+    public void update() {
+      long end = System.nanoTime() + 1_000_000L;
+      while (System.nanoTime() < end) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
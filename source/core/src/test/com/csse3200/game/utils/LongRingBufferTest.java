@@ -0,0 +1,45 @@
+package com.csse3200.game.utils;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class LongRingBufferTest {
+  @Test
+  void shouldKeepMostRecentSamples() {
+    LongRingBuffer buffer = new LongRingBuffer(3);
+    buffer.add(1);
+    buffer.add(2);
+    assertEquals(2, buffer.size());
+    assertEquals(1, buffer.get(0));
+    assertEquals(2, buffer.getLatest());
+
+    buffer.add(3);
+    buffer.add(4);
+    assertEquals(3, buffer.size());
+    assertEquals(2, buffer.get(0));
+    assertEquals(4, buffer.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+  }
+
+  @Test
+  void shouldComputePercentiles() {
+    LongRingBuffer buffer = new LongRingBuffer(100);
+    long[] scratch = new long[100];
+    assertEquals(0, buffer.percentile(50, scratch));
+
+    for (int i = 100; i >= 1; i--) {
+      buffer.add(i);
+    }
+    assertEquals(50, buffer.percentile(50, scratch));
+    assertEquals(95, buffer.percentile(95, scratch));
+    assertEquals(99, buffer.percentile(99, scratch));
+    assertEquals(100, buffer.percentile(100, scratch));
+    assertEquals(1, buffer.percentile(0, scratch));
+    // Sorting uses the scratch array, not the samples
+    assertEquals(1, buffer.getLatest());
+  }
+}
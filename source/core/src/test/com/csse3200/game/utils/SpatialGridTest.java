@@ -0,0 +1,46 @@
+package com.csse3200.game.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class SpatialGridTest {
+  @Test
+  void shouldClampCells() {
+    SpatialGrid<String> grid = new SpatialGrid<>(0f, 0f, 10f, 8f, 2f);
+    assertEquals(5, grid.getColumns());
+    assertEquals(4, grid.getRows());
+    assertEquals(0, grid.cellX(-5f));
+    assertEquals(2, grid.cellX(5f));
+    assertEquals(4, grid.cellX(100f));
+    assertEquals(3, grid.cellY(7.9f));
+  }
+
+  @Test
+  void shouldQueryInsertedItems() {
+    SpatialGrid<String> grid = new SpatialGrid<>(0f, 0f, 10f, 10f, 2f);
+    grid.insert("near", 0, 0, 1, 0);
+    grid.insert("far", 4, 4, 4, 4);
+
+    Array<String> out = new Array<>();
+    grid.query(0, 0, 1, 1, out);
+    assertEquals(2, out.size);
+    assertTrue(out.contains("near", false));
+    assertFalse(out.contains("far", false));
+  }
+
+  @Test
+  void shouldRemoveItems() {
+    SpatialGrid<String> grid = new SpatialGrid<>(0f, 0f, 10f, 10f, 2f);
+    grid.insert("item", 1, 1, 2, 2);
+    grid.remove("item", 1, 1, 2, 2);
+
+    Array<String> out = new Array<>();
+    grid.query(0, 0, 4, 4, out);
+    assertEquals(0, out.size);
+  }
+}
@@ -0,0 +1,78 @@
+package com.csse3200.game.desktop;
+
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.configs.LevelConfig;
+import com.csse3200.game.entities.configs.ParallaxConfig;
+import com.csse3200.game.files.CompiledLevel;
+import com.csse3200.game.files.LevelFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Checks each level's config.json, assets.json and parallax.json and writes them to a single binary
+ * file under core/assets/compiled, which the game reads instead of parsing the JSON. A level with
+ * errors, such as a missing field or a parallax texture which is not loaded, fails the build.
+ * Missing or duplicated asset files are only warned about, as the game loads the level without them.
+ *
+ * <p>Run from the source directory, which the compileLevels Gradle task does.
+ */
+public class CompileLevels {
+	static Logger logger = LoggerFactory.getLogger(CompileLevels.class);
+
+	public static void main(String[] args) throws IOException {
+		Path assets = Paths.get("").toAbsolutePath().resolve("core/assets");
+		Path output = assets.resolve(LevelFiles.COMPILED_DIR);
+		Files.createDirectories(output);
+
+		int failed = 0;
+		try (Stream<Path> levels = Files.list(assets.resolve("levels"))) {
+			for (Path level : levels.sorted().toList()) {
+				if (Files.exists(level.resolve("config.json")) && !compile(assets, level)) {
+					failed++;
+				}
+			}
+		}
+		if (failed > 0) {
+			logger.error("{} level(s) failed to compile", failed);
+			System.exit(1);
+		}
+	}
+
+	private static boolean compile(Path assets, Path level) throws IOException {
+		String name = level.getFileName().toString();
+		Json json = new Json();
+		CompiledLevel compiled = new CompiledLevel(
+				json.fromJson(LevelConfig.class, Files.readString(level.resolve("config.json"))),
+				json.fromJson(LevelAssetsConfig.class, Files.readString(level.resolve("assets.json"))),
+				json.fromJson(ParallaxConfig.class, Files.readString(level.resolve("parallax.json"))));
+
+		for (String warning : compiled.findAssetProblems(path -> Files.isRegularFile(assets.resolve(path)))) {
+			logger.warn("{}: {}", name, warning);
+		}
+		List<String> problems = compiled.validate();
+		if (!problems.isEmpty()) {
+			for (String problem : problems) {
+				logger.error("{}: {}", name, problem);
+			}
+			return false;
+		}
+
+		Path file = assets.resolve(LevelFiles.getCompiledPath(name));
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(file)))) {
+			compiled.write(out);
+		}
+		logger.info("Compiled {} -> {} ({} bytes)", name, file, Files.size(file));
+		return true;
+	}
+}
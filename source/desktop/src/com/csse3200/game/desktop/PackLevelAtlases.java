@@ -0,0 +1,145 @@
+package com.csse3200.game.desktop;
+
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Packs the loose textures listed in each level's assets.json into page atlases under
+ * core/assets/packed, one atlas per level named after its directory. Regions are named by the
+ * texture's asset path, e.g. images/box_blue.png, so the game can find the packed region for a
+ * texture it was asked to draw. Textures larger than {@link #MAX_SPRITE_SIZE} are left loose, as
+ * they are backgrounds and maps which are drawn on their own anyway. So are the level's parallax
+ * layers and minimap, which are drawn as whole textures and never from an atlas.
+ *
+ * <p>Run from the source directory, which the packLevelAtlases Gradle task does.
+ */
+public class PackLevelAtlases {
+	static Logger logger = LoggerFactory.getLogger(PackLevelAtlases.class);
+	/** Largest width or height of a texture which is packed */
+	static final int MAX_SPRITE_SIZE = 1024;
+	static final String OUTPUT_DIR = "packed";
+
+	public static void main(String[] args) throws IOException {
+		Path assets = Paths.get("").toAbsolutePath().resolve("core/assets");
+		Path output = assets.resolve(OUTPUT_DIR);
+		Files.createDirectories(output);
+
+		try (Stream<Path> levels = Files.list(assets.resolve("levels"))) {
+			for (Path level : levels.sorted().toList()) {
+				Path manifest = level.resolve("assets.json");
+				if (Files.exists(manifest)) {
+					pack(assets, manifest, output, level.getFileName().toString());
+				}
+			}
+		}
+	}
+
+	private static void pack(Path assets, Path manifest, Path output, String packName)
+			throws IOException {
+		JsonValue textures = new JsonReader().parse(Files.readString(manifest)).get("textures");
+		Set<String> names = new LinkedHashSet<>();
+		for (JsonValue texture = textures == null ? null : textures.child;
+				 texture != null; texture = texture.next) {
+			names.add(texture.asString());
+		}
+		for (String name : findStandaloneTextures(manifest.getParent())) {
+			if (names.remove(name)) {
+				logger.info("{}: leaving {} loose, drawn as a whole texture", packName, name);
+			}
+		}
+
+		deletePack(output, packName);
+		TexturePacker packer = new TexturePacker(createSettings());
+		int packed = 0;
+		for (String name : names) {
+			File file = assets.resolve(name).toFile();
+			BufferedImage image = file.isFile() ? ImageIO.read(file) : null;
+			if (image == null) {
+				logger.warn("{}: skipping {}, not a readable image", packName, name);
+			} else if (image.getWidth() > MAX_SPRITE_SIZE || image.getHeight() > MAX_SPRITE_SIZE) {
+				logger.info("{}: leaving {} loose, {}x{}", packName, name, image.getWidth(), image.getHeight());
+			} else {
+				packer.addImage(image, name);
+				packed++;
+			}
+		}
+		if (packed == 0) {
+			logger.info("{}: nothing to pack", packName);
+			return;
+		}
+		packer.pack(output.toFile(), packName);
+		logger.info("Packed {} of {} textures -> {}/{}.atlas", packed, names.size(), output, packName);
+	}
+
+	/**
+	 * Find the textures a level draws as whole textures rather than regions: parallax layers, which
+	 * repeat, and the minimap.
+	 */
+	private static Set<String> findStandaloneTextures(Path level) throws IOException {
+		Set<String> names = new LinkedHashSet<>();
+		Path parallax = level.resolve("parallax.json");
+		if (Files.exists(parallax)) {
+			JsonValue layers = new JsonReader().parse(Files.readString(parallax)).get("layers");
+			for (JsonValue layer = layers == null ? null : layers.child;
+					 layer != null; layer = layer.next) {
+				if (layer.has("texture")) {
+					names.add(layer.getString("texture"));
+				}
+			}
+		}
+		Path config = level.resolve("config.json");
+		if (Files.exists(config)) {
+			JsonValue levelConfig = new JsonReader().parse(Files.readString(config));
+			String miniMap = levelConfig.getString("miniMap", null);
+			if (miniMap != null) {
+				names.add(miniMap);
+			}
+		}
+		return names;
+	}
+
+	private static TexturePacker.Settings createSettings() {
+		TexturePacker.Settings s = new TexturePacker.Settings();
+		// Regions must keep their full size, as they are drawn in place of the loose textures
+		s.stripWhitespaceX = false;
+		s.stripWhitespaceY = false;
+		s.duplicatePadding = true; // Copy edge pixels for padding to reduce sampling bleeding
+		s.edgePadding      = true;
+		s.paddingX         = 2;
+		s.paddingY         = 2;
+		s.maxWidth         = 2048;
+		s.maxHeight        = 2048;
+		s.flattenPaths     = false; // Region names are the full asset paths
+		s.useIndexes       = false;
+		s.silent           = true;
+		return s;
+	}
+
+	/** The packer appends to an existing atlas, so remove the previous one and its pages first. */
+	private static void deletePack(Path output, String packName) throws IOException {
+		try (Stream<Path> files = Files.list(output)) {
+			for (Path file : files.toList()) {
+				String fileName = file.getFileName().toString();
+				if (fileName.equals(packName + ".atlas")
+						|| fileName.matches(Pattern.quote(packName) + "\\d*\\.png")) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+}